@@ -2,12 +2,14 @@ package com.germogli.backend.authentication.infrastructure.crud;
 
 import com.germogli.backend.authentication.infrastructure.entity.PasswordResetToken;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.Optional;
 
 public interface PasswordResetTokenRepository extends JpaRepository<PasswordResetToken, String> {
     Optional<PasswordResetToken> findByToken(String token);
-    void deleteByExpirationDateBefore(LocalDateTime now);
+    @Transactional
+    long deleteByExpirationDateBefore(LocalDateTime now);
     //void deleteByExpirationDateBefore(LocalDateTime nowMinusTwoMinutes);
 }
\ No newline at end of file
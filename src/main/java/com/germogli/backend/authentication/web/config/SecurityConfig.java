@@ -59,13 +59,15 @@ public class SecurityConfig {
                 "Origin",
                 "Access-Control-Request-Method",
                 "Access-Control-Request-Headers",
-                "Cookie"  // ✅ IMPORTANTE para cookies JWT
+                "Cookie",  // ✅ IMPORTANTE para cookies JWT
+                "X-Device-Key"  // ✅ Clave de API de dispositivos IoT
         ));
 
         // ✅ HEADERS EXPUESTOS (que el cliente puede leer)
         configuration.setExposedHeaders(Arrays.asList(
                 "Set-Cookie",
-                "Authorization"
+                "Authorization",
+                "Retry-After"
         ));
 
         // ✅ PERMITIR CREDENCIALES (cookies, headers de autorización)
@@ -92,6 +94,7 @@ public class SecurityConfig {
                         .requestMatchers("/ws/**").permitAll() // ✅ IMPORTANTE: Permitir handshake WebSocket
                         .requestMatchers("/readings/device/**").permitAll()
                         .requestMatchers("/readings/batch").permitAll()
+                        .requestMatchers("/device-ws").permitAll() // Dispositivos IoT: se autentican con su clave de API
 
                         //Permite acceso a recursos estáticos
                         .requestMatchers("/testing/**").permitAll()
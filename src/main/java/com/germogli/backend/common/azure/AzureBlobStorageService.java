@@ -2,7 +2,12 @@ package com.germogli.backend.common.azure;
 
 import com.azure.storage.blob.BlobClient;
 import com.azure.storage.blob.BlobContainerClient;
+import com.azure.core.util.Context;
 import com.azure.storage.blob.BlobServiceClient;
+import com.azure.storage.blob.models.BlobProperties;
+import com.azure.storage.blob.models.BlobRange;
+import com.azure.storage.blob.models.BlobRequestConditions;
+import com.azure.storage.blob.models.BlobStorageException;
 import com.azure.storage.blob.sas.BlobSasPermission;
 import com.azure.storage.blob.sas.BlobServiceSasSignatureValues;
 import com.azure.storage.blob.specialized.BlockBlobClient;
@@ -13,13 +18,18 @@ import org.springframework.stereotype.Service;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
+import java.time.Instant;
 import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Base64;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Servicio para gestionar archivos en Azure Blob Storage.
@@ -31,15 +41,47 @@ public class AzureBlobStorageService {
     @Autowired
     private BlobServiceClient blobServiceClient;
 
+    // Duración de las ventanas de firma: dentro de una misma ventana se genera siempre la misma URL SAS
+    private static final long SAS_WINDOW_SECONDS = 60 * 60;
+
+    // Map estructura: "contenedor/blob|expiración" -> URL SAS ya generada para esa ventana
+    private final Map<String, String> sasUrlCache = new ConcurrentHashMap<>();
+
+    // Inicio de la última ventana en la que se limpiaron las URLs vencidas
+    private volatile long lastSweptWindow;
+
     /**
      * Genera un token SAS para un archivo específico.
+     * La expiración se alinea a ventanas fijas de una hora: toda petición dentro de la misma ventana
+     * obtiene exactamente la misma URL, que sigue siendo válida al menos expirationMinutes después
+     * del final de la ventana. Así las respuestas que incluyen estas URLs son cacheables.
      *
      * @param containerName      Nombre del contenedor
      * @param blobName           Nombre del blob
-     * @param expirationMinutes  Tiempo de expiración del token en minutos
+     * @param expirationMinutes  Tiempo mínimo de validez del token en minutos
      * @return URL firmada para acceso temporal
      */
     public String generateSasToken(String containerName, String blobName, int expirationMinutes) {
+        long windowStart = currentWindowStart();
+        OffsetDateTime expirationTime = OffsetDateTime.ofInstant(
+                Instant.ofEpochSecond(windowStart + SAS_WINDOW_SECONDS + expirationMinutes * 60L), ZoneOffset.UTC);
+        String cacheKey = containerName + "/" + blobName + "|" + expirationTime.toEpochSecond();
+
+        sweepExpiredSasUrls(windowStart);
+        String cached = sasUrlCache.get(cacheKey);
+        if (cached != null) {
+            return cached;
+        }
+
+        String url = signBlobUrl(containerName, blobName, expirationTime);
+        if (!url.isEmpty()) {
+            sasUrlCache.put(cacheKey, url);
+        }
+        return url;
+    }
+
+    // Firma la URL de un blob con la expiración indicada
+    private String signBlobUrl(String containerName, String blobName, OffsetDateTime expirationTime) {
         try {
             // Obtener el cliente del contenedor
             BlobContainerClient containerClient = blobServiceClient.getBlobContainerClient(containerName);
@@ -65,9 +107,6 @@ public class AzureBlobStorageService {
             BlobSasPermission sasPermission = new BlobSasPermission()
                     .setReadPermission(true);
 
-            // Calcular tiempo de expiración
-            OffsetDateTime expirationTime = OffsetDateTime.now().plusMinutes(expirationMinutes);
-
             // Generar valores para la firma SAS
             BlobServiceSasSignatureValues sasSignatureValues = new BlobServiceSasSignatureValues(expirationTime, sasPermission)
                     .setProtocol(SasProtocol.HTTPS_HTTP);
@@ -88,6 +127,21 @@ public class AzureBlobStorageService {
         }
     }
 
+    private long currentWindowStart() {
+        long now = Instant.now().getEpochSecond();
+        return now - Math.floorMod(now, SAS_WINDOW_SECONDS);
+    }
+
+    // Elimina las URLs ya vencidas una vez por ventana
+    private void sweepExpiredSasUrls(long windowStart) {
+        if (lastSweptWindow == windowStart) {
+            return;
+        }
+        lastSweptWindow = windowStart;
+        long now = Instant.now().getEpochSecond();
+        sasUrlCache.keySet().removeIf(key -> Long.parseLong(key.substring(key.lastIndexOf('|') + 1)) <= now);
+    }
+
     /**
      * Sube un archivo a un contenedor en Azure Blob Storage.
      *
@@ -140,6 +194,9 @@ public class AzureBlobStorageService {
         BlobClient blobClient = containerClient.getBlobClient(blobName);
         // Elimina el archivo (blob)
         blobClient.delete();
+        // Descarta las URLs SAS que apuntaban al archivo eliminado
+        String prefix = containerName + "/" + blobName + "|";
+        sasUrlCache.keySet().removeIf(key -> key.startsWith(prefix));
     }
 
     /**
@@ -240,4 +297,49 @@ public class AzureBlobStorageService {
 
         return url;
     }
+
+    /**
+     * Obtiene las propiedades de un blob (tamaño, tipo de contenido, ETag y fecha de modificación).
+     *
+     * @param containerName Nombre del contenedor.
+     * @param blobName      Nombre del blob.
+     * @return Propiedades del blob o null si no existe.
+     */
+    public BlobProperties getBlobProperties(String containerName, String blobName) {
+        try {
+            return blobServiceClient.getBlobContainerClient(containerName)
+                    .getBlobClient(blobName)
+                    .getProperties();
+        } catch (BlobStorageException e) {
+            if (e.getStatusCode() == 404) {
+                return null;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Descarga un rango de bytes de un blob escribiéndolo directamente en el flujo de salida,
+     * sin cargar el archivo completo en memoria.
+     *
+     * @param containerName Nombre del contenedor.
+     * @param blobName      Nombre del blob.
+     * @param offset        Posición inicial del rango.
+     * @param count         Cantidad de bytes a descargar.
+     * @param ifMatchEtag   ETag esperado; si el blob cambió entre la consulta y la descarga, Azure rechaza la petición.
+     * @param outputStream  Flujo de salida donde se escriben los bytes.
+     */
+    public void downloadRange(String containerName, String blobName, long offset, long count,
+                              String ifMatchEtag, OutputStream outputStream) {
+        blobServiceClient.getBlobContainerClient(containerName)
+                .getBlobClient(blobName)
+                .downloadStreamWithResponse(
+                        outputStream,
+                        new BlobRange(offset, count),
+                        null,
+                        new BlobRequestConditions().setIfMatch(ifMatchEtag),
+                        false,
+                        null,
+                        Context.NONE);
+    }
 }
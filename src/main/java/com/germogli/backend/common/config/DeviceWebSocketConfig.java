@@ -0,0 +1,32 @@
+package com.germogli.backend.common.config;
+
+import com.germogli.backend.common.security.DeviceHandshakeInterceptor;
+import com.germogli.backend.monitoring.device.infrastructure.websocket.DeviceWebSocketHandler;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.socket.config.annotation.EnableWebSocket;
+import org.springframework.web.socket.config.annotation.WebSocketConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketHandlerRegistry;
+
+/**
+ * Configuración del endpoint WebSocket de dispositivos IoT.
+ * Es independiente del endpoint STOMP /ws de los usuarios (WebSocketConfig): usa WebSocket sin SockJS ni STOMP,
+ * con tramas binarias, para que un dispositivo mantenga una sola conexión abierta en lugar de una solicitud HTTP por envío.
+ * Los dispositivos deben enviar datos o pings antes de que venza el tiempo de inactividad del contenedor (2 minutos).
+ */
+@Configuration
+@EnableWebSocket
+@RequiredArgsConstructor
+public class DeviceWebSocketConfig implements WebSocketConfigurer {
+
+    private final DeviceWebSocketHandler deviceWebSocketHandler;
+    private final DeviceHandshakeInterceptor deviceHandshakeInterceptor;
+
+    @Override
+    public void registerWebSocketHandlers(WebSocketHandlerRegistry registry) {
+        // Los dispositivos no envían Origin; la autenticación la hace el interceptor con la clave de API
+        registry.addHandler(deviceWebSocketHandler, "/device-ws")
+                .addInterceptors(deviceHandshakeInterceptor)
+                .setAllowedOriginPatterns("*");
+    }
+}
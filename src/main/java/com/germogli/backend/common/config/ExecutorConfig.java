@@ -0,0 +1,66 @@
+package com.germogli.backend.common.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Configuración de los ejecutores de tareas de la aplicación.
+ */
+@Configuration
+public class ExecutorConfig {
+
+    /**
+     * Ejecutor acotado para armar en paralelo los paquetes de contenido de los módulos educativos.
+     * Si la cola se llena, la tarea se ejecuta en el hilo que la envía en lugar de rechazarse.
+     *
+     * @return Ejecutor con un máximo de 8 hilos y una cola de 100 tareas.
+     */
+    @Bean(name = "educationBundleExecutor")
+    public ThreadPoolTaskExecutor educationBundleExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(4);
+        executor.setMaxPoolSize(8);
+        executor.setQueueCapacity(100);
+        executor.setThreadNamePrefix("education-bundle-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Ejecutor para los trabajos de importación masiva de contenido educativo.
+     * Admite pocos trabajos simultáneos; si la cola está llena, la importación se rechaza.
+     *
+     * @return Ejecutor con un máximo de 2 hilos y una cola de 4 trabajos.
+     */
+    @Bean(name = "educationImportExecutor")
+    public ThreadPoolTaskExecutor educationImportExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(2);
+        executor.setQueueCapacity(4);
+        executor.setThreadNamePrefix("education-import-");
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Ejecutor para subir en paralelo a Azure los archivos de una importación masiva.
+     *
+     * @return Ejecutor con 4 hilos; si la cola se llena, sube el hilo que lee el archivo ZIP.
+     */
+    @Bean(name = "educationUploadExecutor")
+    public ThreadPoolTaskExecutor educationUploadExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(4);
+        executor.setMaxPoolSize(4);
+        executor.setQueueCapacity(16);
+        executor.setThreadNamePrefix("education-upload-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.initialize();
+        return executor;
+    }
+}
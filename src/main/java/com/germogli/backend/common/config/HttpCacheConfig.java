@@ -0,0 +1,52 @@
+package com.germogli.backend.common.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.filter.ShallowEtagHeaderFilter;
+
+import java.io.IOException;
+
+/**
+ * Configuración de caché HTTP para los listados de guías y publicaciones.
+ * Como las URLs SAS incluidas en estas respuestas son estables dentro de cada ventana de firma,
+ * dos peticiones iguales producen el mismo cuerpo: el filtro calcula un ETag sobre la respuesta
+ * y devuelve 304 cuando el cliente (o un intermediario) ya tiene esa misma versión.
+ */
+@Configuration
+public class HttpCacheConfig {
+
+    /**
+     * Registra el filtro de ETag para los listados de guías y publicaciones.
+     *
+     * @return Registro del filtro.
+     */
+    @Bean
+    public FilterRegistrationBean<ShallowEtagHeaderFilter> listingEtagFilter() {
+        FilterRegistrationBean<ShallowEtagHeaderFilter> registration =
+                new FilterRegistrationBean<>(new RevalidatingEtagFilter());
+        registration.addUrlPatterns("/guides", "/guides/*", "/posts", "/posts/*");
+        registration.setName("listingEtagFilter");
+        return registration;
+    }
+
+    /**
+     * Filtro de ETag que además marca las respuestas GET como cacheables solo en el cliente
+     * y con revalidación obligatoria, evitando que se sirvan listados desactualizados.
+     */
+    static class RevalidatingEtagFilter extends ShallowEtagHeaderFilter {
+        @Override
+        protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+                throws ServletException, IOException {
+            if ("GET".equals(request.getMethod())) {
+                response.setHeader(HttpHeaders.CACHE_CONTROL, "private, no-cache");
+            }
+            super.doFilterInternal(request, response, filterChain);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.germogli.backend.common.config;
+
+import com.germogli.backend.common.scheduler.lock.JobLockProvider;
+import com.germogli.backend.common.scheduler.lock.JpaJobLockProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * Configuración del bloqueo distribuido de las tareas programadas.
+ */
+@Configuration
+public class JobLockConfig {
+
+    /**
+     * Bloqueo respaldado por la tabla scheduled_job_locks.
+     * Para usar otro backend (Redis, etc.), registrar su JobLockProvider como @Primary.
+     *
+     * @param transactionManager Administrador de transacciones de la base de datos principal.
+     * @return Proveedor de bloqueos por base de datos.
+     */
+    @Bean
+    public JobLockProvider jobLockProvider(PlatformTransactionManager transactionManager) {
+        return new JpaJobLockProvider(transactionManager);
+    }
+}
@@ -1,5 +1,6 @@
 package com.germogli.backend.common.config;
 
+import com.germogli.backend.common.security.CropTopicSubscriptionInterceptor;
 import com.germogli.backend.common.security.WebSocketHandshakeInterceptor;
 import com.germogli.backend.common.security.WebSocketSessionSecurityInterceptor;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -27,6 +28,9 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
     @Autowired
     private WebSocketHandshakeInterceptor handshakeInterceptor;
 
+    @Autowired
+    private CropTopicSubscriptionInterceptor cropTopicSubscriptionInterceptor;
+
     @Override
     public void configureMessageBroker(MessageBrokerRegistry registry) {
         // Configurar broker de mensajes con heartbeat optimizado
@@ -64,6 +68,9 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
         // ✅ USAR el nuevo interceptor de sesión
         registration.interceptors(sessionSecurityInterceptor);
 
+        // Autorización de suscripciones a las lecturas en vivo de cada cultivo
+        registration.interceptors(cropTopicSubscriptionInterceptor);
+
         // Configurar pool de hilos para mejor rendimiento
         registration.taskExecutor()
                 .corePoolSize(4)
@@ -0,0 +1,11 @@
+package com.germogli.backend.common.exception;
+
+/**
+ * Excepción personalizada para indicar que un dispositivo no presentó credenciales válidas.
+ * Se traduce en una respuesta 401.
+ */
+public class DeviceAuthenticationException extends RuntimeException {
+    public DeviceAuthenticationException(String message) {
+        super(message);
+    }
+}
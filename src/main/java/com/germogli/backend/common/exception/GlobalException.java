@@ -1,6 +1,7 @@
 package com.germogli.backend.common.exception;
 
 import com.germogli.backend.community.application.dto.common.ApiResponseDTO;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
@@ -83,6 +84,34 @@ public class GlobalException {
                 HttpStatus.FORBIDDEN);
     }
 
+    @ExceptionHandler(InvalidPayloadException.class)
+    public ResponseEntity<ApiResponseDTO<String>> handleInvalidPayloadException(InvalidPayloadException ex) {
+        return new ResponseEntity<>(
+                ApiResponseDTO.<String>builder().message(ex.getMessage()).data(null).build(),
+                HttpStatus.BAD_REQUEST);
+    }
+
+    @ExceptionHandler(DeviceAuthenticationException.class)
+    public ResponseEntity<ApiResponseDTO<String>> handleDeviceAuthenticationException(DeviceAuthenticationException ex) {
+        return new ResponseEntity<>(
+                ApiResponseDTO.<String>builder().message(ex.getMessage()).data(null).build(),
+                HttpStatus.UNAUTHORIZED);
+    }
+
+    @ExceptionHandler(RateLimitExceededException.class)
+    public ResponseEntity<ApiResponseDTO<String>> handleRateLimitExceededException(RateLimitExceededException ex) {
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(ApiResponseDTO.<String>builder().message(ex.getMessage()).data(null).build());
+    }
+
+    @ExceptionHandler(RequestInProgressException.class)
+    public ResponseEntity<ApiResponseDTO<String>> handleRequestInProgressException(RequestInProgressException ex) {
+        return new ResponseEntity<>(
+                ApiResponseDTO.<String>builder().message(ex.getMessage()).data(null).build(),
+                HttpStatus.CONFLICT);
+    }
+
     @ExceptionHandler(RoleNotAllowedException.class)
     public ResponseEntity<String> handleRoleNotAllowedException(RoleNotAllowedException ex) {
         return ResponseEntity.status(HttpStatus.FORBIDDEN).body(ex.getMessage());
@@ -0,0 +1,11 @@
+package com.germogli.backend.common.exception;
+
+/**
+ * Excepción personalizada para indicar que el cuerpo de una solicitud no tiene un formato válido.
+ * Se traduce en una respuesta 400.
+ */
+public class InvalidPayloadException extends RuntimeException {
+    public InvalidPayloadException(String message) {
+        super(message);
+    }
+}
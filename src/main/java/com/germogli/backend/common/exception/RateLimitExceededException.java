@@ -0,0 +1,18 @@
+package com.germogli.backend.common.exception;
+
+import lombok.Getter;
+
+/**
+ * Excepción personalizada para indicar que se superó el límite de solicitudes.
+ * Se traduce en una respuesta 429 con la cabecera Retry-After.
+ */
+@Getter
+public class RateLimitExceededException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public RateLimitExceededException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
@@ -0,0 +1,11 @@
+package com.germogli.backend.common.exception;
+
+/**
+ * Excepción personalizada para indicar que una solicitud idéntica todavía se está procesando.
+ * Se traduce en una respuesta 409; el cliente debe reintentar más tarde.
+ */
+public class RequestInProgressException extends RuntimeException {
+    public RequestInProgressException(String message) {
+        super(message);
+    }
+}
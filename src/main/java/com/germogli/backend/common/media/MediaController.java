@@ -0,0 +1,68 @@
+package com.germogli.backend.common.media;
+
+import com.germogli.backend.community.post.domain.service.PostDomainService;
+import com.germogli.backend.education.guides.domain.service.GuideDomainService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * Controlador REST para servir los archivos de guías y publicaciones a través del backend.
+ * A diferencia de las URLs SAS, estas URLs son estables, por lo que el navegador puede
+ * cachear el archivo y reanudar o paginar descargas con peticiones parciales.
+ */
+@RestController
+@RequestMapping("/media")
+@RequiredArgsConstructor
+@PreAuthorize("isAuthenticated()")
+public class MediaController {
+
+    private final MediaStreamingService mediaStreamingService;
+    private final GuideDomainService guideDomainService;
+    private final PostDomainService postDomainService;
+
+    /**
+     * Sirve el PDF de una guía.
+     *
+     * @param guideId     ID de la guía.
+     * @param range       Cabecera Range (opcional).
+     * @param ifNoneMatch Cabecera If-None-Match (opcional).
+     * @param ifRange     Cabecera If-Range (opcional).
+     * @return Contenido del PDF (completo o parcial) o 304 si no cambió.
+     */
+    @GetMapping("/guides/{guideId}")
+    public ResponseEntity<StreamingResponseBody> getGuidePdf(
+            @PathVariable Integer guideId,
+            @RequestHeader(value = HttpHeaders.RANGE, required = false) String range,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.IF_RANGE, required = false) String ifRange) {
+        String blobName = guideDomainService.getGuidePdfBlobName(guideId);
+        return mediaStreamingService.stream("pdfs-educativos", blobName, range, ifNoneMatch, ifRange);
+    }
+
+    /**
+     * Sirve el contenido multimedia de una publicación.
+     *
+     * @param postId      ID de la publicación.
+     * @param range       Cabecera Range (opcional).
+     * @param ifNoneMatch Cabecera If-None-Match (opcional).
+     * @param ifRange     Cabecera If-Range (opcional).
+     * @return Contenido multimedia (completo o parcial) o 304 si no cambió.
+     */
+    @GetMapping("/posts/{postId}")
+    public ResponseEntity<StreamingResponseBody> getPostMedia(
+            @PathVariable Integer postId,
+            @RequestHeader(value = HttpHeaders.RANGE, required = false) String range,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.IF_RANGE, required = false) String ifRange) {
+        String blobName = postDomainService.getPostMediaBlobName(postId);
+        return mediaStreamingService.stream("publicaciones", blobName, range, ifNoneMatch, ifRange);
+    }
+}
@@ -0,0 +1,166 @@
+package com.germogli.backend.common.media;
+
+import com.azure.storage.blob.models.BlobProperties;
+import com.germogli.backend.common.azure.AzureBlobStorageService;
+import com.germogli.backend.common.exception.ResourceNotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.Duration;
+
+/**
+ * Servicio para servir archivos de Azure Blob Storage a través del backend.
+ * Soporta peticiones parciales (Range / If-Range) y condicionales (If-None-Match),
+ * usa el ETag del blob como ETag HTTP (estable mientras el archivo no cambie)
+ * y copia los bytes del blob directamente a la respuesta sin cargarlos en memoria.
+ */
+@Service
+@RequiredArgsConstructor
+public class MediaStreamingService {
+
+    // Los archivos pueden reemplazarse con el mismo nombre, por eso se revalidan con el ETag pasado un día
+    private static final CacheControl CACHE_CONTROL = CacheControl.maxAge(Duration.ofDays(1)).cachePrivate();
+
+    private final AzureBlobStorageService azureBlobStorageService;
+
+    /**
+     * Construye la respuesta HTTP para un blob, completa o parcial según las cabeceras recibidas.
+     *
+     * @param containerName Nombre del contenedor.
+     * @param blobName      Nombre del blob.
+     * @param rangeHeader   Cabecera Range (opcional).
+     * @param ifNoneMatch   Cabecera If-None-Match (opcional).
+     * @param ifRange       Cabecera If-Range (opcional).
+     * @return Respuesta 200, 206, 304 o 416 con el contenido del blob en streaming.
+     * @throws ResourceNotFoundException si el blob no existe.
+     */
+    public ResponseEntity<StreamingResponseBody> stream(String containerName, String blobName,
+                                                        String rangeHeader, String ifNoneMatch, String ifRange) {
+        BlobProperties properties = azureBlobStorageService.getBlobProperties(containerName, blobName);
+        if (properties == null) {
+            throw new ResourceNotFoundException("Archivo no encontrado: " + blobName);
+        }
+
+        String blobEtag = properties.getETag();
+        String etag = quote(blobEtag);
+        long size = properties.getBlobSize();
+        MediaType contentType = resolveContentType(properties.getContentType(), blobName);
+
+        if (matchesAny(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .cacheControl(CACHE_CONTROL)
+                    .build();
+        }
+
+        // If-Range: solo se respeta el rango si el cliente tiene la misma versión del archivo.
+        // Las peticiones con varios rangos se atienden con el archivo completo, como permite el estándar.
+        boolean rangeAllowed = rangeHeader != null
+                && !rangeHeader.contains(",")
+                && (ifRange == null || etag.equals(stripWeak(ifRange.trim())));
+        long[] range = rangeAllowed ? parseRange(rangeHeader, size) : null;
+
+        if (rangeAllowed && range == null) {
+            return ResponseEntity.status(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE)
+                    .header(HttpHeaders.CONTENT_RANGE, "bytes */" + size)
+                    .build();
+        }
+
+        long start = range != null ? range[0] : 0;
+        long length = range != null ? range[1] - range[0] + 1 : size;
+        StreamingResponseBody body = outputStream -> {
+            if (length > 0) {
+                azureBlobStorageService.downloadRange(containerName, blobName, start, length, blobEtag, outputStream);
+            }
+        };
+
+        ResponseEntity.BodyBuilder builder = ResponseEntity.status(range != null ? HttpStatus.PARTIAL_CONTENT : HttpStatus.OK)
+                .eTag(etag)
+                .cacheControl(CACHE_CONTROL)
+                .contentType(contentType)
+                .contentLength(length)
+                .header(HttpHeaders.ACCEPT_RANGES, "bytes");
+        if (properties.getLastModified() != null) {
+            builder.lastModified(properties.getLastModified().toInstant());
+        }
+        if (range != null) {
+            builder.header(HttpHeaders.CONTENT_RANGE, "bytes " + range[0] + "-" + range[1] + "/" + size);
+        }
+        return builder.body(body);
+    }
+
+    /**
+     * Interpreta una cabecera Range de un único rango ("bytes=a-b", "bytes=a-" o "bytes=-n").
+     *
+     * @return Arreglo {inicio, fin} inclusivo, o null si no es satisfacible.
+     */
+    private long[] parseRange(String rangeHeader, long size) {
+        String header = rangeHeader.trim();
+        if (!header.startsWith("bytes=") || size == 0) {
+            return null;
+        }
+        String spec = header.substring("bytes=".length()).trim();
+
+        int dash = spec.indexOf('-');
+        if (dash < 0) {
+            return null;
+        }
+        try {
+            String startPart = spec.substring(0, dash).trim();
+            String endPart = spec.substring(dash + 1).trim();
+            long start;
+            long end;
+            if (startPart.isEmpty()) {
+                // Sufijo: últimos N bytes
+                long suffix = Long.parseLong(endPart);
+                if (suffix <= 0) {
+                    return null;
+                }
+                start = Math.max(0, size - suffix);
+                end = size - 1;
+            } else {
+                start = Long.parseLong(startPart);
+                end = endPart.isEmpty() ? size - 1 : Math.min(Long.parseLong(endPart), size - 1);
+            }
+            return start <= end && start < size ? new long[]{start, end} : null;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private MediaType resolveContentType(String storedContentType, String blobName) {
+        if (storedContentType != null && !storedContentType.isBlank()
+                && !MediaType.APPLICATION_OCTET_STREAM_VALUE.equals(storedContentType)) {
+            return MediaType.parseMediaType(storedContentType);
+        }
+        return MediaTypeFactory.getMediaType(blobName).orElse(MediaType.APPLICATION_OCTET_STREAM);
+    }
+
+    private boolean matchesAny(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String value = stripWeak(candidate.trim());
+            if (value.equals("*") || value.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private String stripWeak(String etag) {
+        return etag.startsWith("W/") ? etag.substring(2) : etag;
+    }
+
+    private String quote(String etag) {
+        return etag.startsWith("\"") ? etag : "\"" + etag + "\"";
+    }
+}
@@ -0,0 +1,36 @@
+package com.germogli.backend.common.scheduler;
+
+import com.germogli.backend.monitoring.anomaly.domain.service.AnomalyDetectionService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Tarea programada que guarda el estado de los modelos de detección de anomalías.
+ * Cada nodo guarda los modelos que mantiene en memoria, por lo que no usa bloqueo distribuido.
+ * El intervalo se configura con monitoring.anomaly.checkpoint-interval-ms (por defecto, 5 minutos).
+ */
+@Slf4j
+@Component
+public class AnomalyModelCheckpointTask {
+
+    private final AnomalyDetectionService anomalyDetectionService;
+
+    public AnomalyModelCheckpointTask(AnomalyDetectionService anomalyDetectionService) {
+        this.anomalyDetectionService = anomalyDetectionService;
+    }
+
+    /**
+     * Guarda los modelos que cambiaron desde el último punto de control.
+     */
+    @Scheduled(fixedDelayString = "${monitoring.anomaly.checkpoint-interval-ms:300000}",
+            initialDelayString = "${monitoring.anomaly.checkpoint-interval-ms:300000}")
+    public void checkpointModels() {
+        try {
+            int saved = anomalyDetectionService.checkpoint();
+            log.debug("Modelos de anomalías guardados: {}", saved);
+        } catch (Exception e) {
+            log.error("Error al guardar los modelos de anomalías", e);
+        }
+    }
+}
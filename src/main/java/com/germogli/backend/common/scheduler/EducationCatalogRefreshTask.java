@@ -0,0 +1,33 @@
+package com.germogli.backend.common.scheduler;
+
+import com.germogli.backend.education.infrastructure.cache.EducationCatalogCache;
+import com.germogli.backend.education.tag.infrastructure.cache.TagDictionaryCache;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Tarea programada que reconstruye el catálogo educativo y el diccionario de etiquetas en memoria.
+ * Carga el catálogo al iniciar la aplicación y luego lo refresca cada 5 minutos para recoger
+ * cambios realizados por otras instancias; si el contenido no cambió se conserva la versión actual.
+ */
+@Component
+public class EducationCatalogRefreshTask {
+
+    private final EducationCatalogCache educationCatalogCache;
+    private final TagDictionaryCache tagDictionaryCache;
+
+    public EducationCatalogRefreshTask(EducationCatalogCache educationCatalogCache,
+                                       TagDictionaryCache tagDictionaryCache) {
+        this.educationCatalogCache = educationCatalogCache;
+        this.tagDictionaryCache = tagDictionaryCache;
+    }
+
+    /**
+     * Reconstruye y publica el catálogo educativo.
+     */
+    @Scheduled(initialDelay = 0, fixedDelay = 300000) // Al iniciar y luego cada 5 minutos
+    public void refreshCatalog() {
+        tagDictionaryCache.invalidate();
+        educationCatalogCache.refresh();
+    }
+}
@@ -1,29 +1,34 @@
 package com.germogli.backend.common.scheduler;
 
 import com.germogli.backend.authentication.infrastructure.crud.PasswordResetTokenRepository;
+import com.germogli.backend.common.scheduler.lock.ScheduledJobRunner;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 
 @Component
 public class PasswordResetTokenCleanupTask {
 
     private final PasswordResetTokenRepository tokenRepository;
+    private final ScheduledJobRunner jobRunner;
 
-    public PasswordResetTokenCleanupTask(PasswordResetTokenRepository tokenRepository) {
+    public PasswordResetTokenCleanupTask(PasswordResetTokenRepository tokenRepository, ScheduledJobRunner jobRunner) {
         this.tokenRepository = tokenRepository;
+        this.jobRunner = jobRunner;
     }
 
     /**
      * Tarea programada para eliminar los tokens expirados.
      * Se ejecuta cada hora y elimina todos los tokens cuya fecha de expiración sea anterior al momento actual.
+     * Con varias réplicas, solo el nodo que obtiene el bloqueo realiza el barrido.
      */
     @Scheduled(cron = "0 0 * * * *") // Cada hora a la hora en punto
-    @Transactional
     public void removeExpiredTokens() {
-        LocalDateTime now = LocalDateTime.now();
-        tokenRepository.deleteByExpirationDateBefore(now);
+        jobRunner.runLocked("password-reset-token-cleanup", Duration.ofMinutes(10), Duration.ofMinutes(1), () -> {
+            LocalDateTime now = LocalDateTime.now();
+            return tokenRepository.deleteByExpirationDateBefore(now);
+        });
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,28 @@
+package com.germogli.backend.common.scheduler;
+
+import com.germogli.backend.community.post.domain.service.PostDomainService;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Tarea programada que sincroniza las publicaciones con el índice de búsqueda.
+ * Realiza la carga inicial al arrancar y luego cada 30 minutos recoge los cambios
+ * hechos por otras instancias; las actualizaciones locales se indexan en el momento.
+ */
+@Component
+public class PostSearchIndexTask {
+
+    private final PostDomainService postDomainService;
+
+    public PostSearchIndexTask(PostDomainService postDomainService) {
+        this.postDomainService = postDomainService;
+    }
+
+    /**
+     * Sincroniza las publicaciones en el índice de búsqueda.
+     */
+    @Scheduled(initialDelay = 0, fixedDelay = 1800000) // Al iniciar y luego cada 30 minutos
+    public void syncPosts() {
+        postDomainService.rebuildSearchIndex();
+    }
+}
@@ -0,0 +1,28 @@
+package com.germogli.backend.common.scheduler;
+
+import com.germogli.backend.community.reaction.domain.service.ReactionDomainService;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Tarea programada para reconciliar los contadores de reacciones en memoria.
+ * Se ejecuta al iniciar la aplicación (carga inicial) y luego cada 10 minutos,
+ * reemplazando los contadores con los totales reales de la base de datos.
+ */
+@Component
+public class ReactionCountReconciliationTask {
+
+    private final ReactionDomainService reactionDomainService;
+
+    public ReactionCountReconciliationTask(ReactionDomainService reactionDomainService) {
+        this.reactionDomainService = reactionDomainService;
+    }
+
+    /**
+     * Recalcula los contadores de reacciones por publicación y tipo.
+     */
+    @Scheduled(initialDelay = 0, fixedDelay = 600000) // Al iniciar y luego cada 10 minutos
+    public void reconcileReactionCounts() {
+        reactionDomainService.reconcileReactionCounts();
+    }
+}
@@ -0,0 +1,34 @@
+package com.germogli.backend.common.scheduler;
+
+import com.germogli.backend.common.scheduler.lock.ScheduledJobRunner;
+import com.germogli.backend.monitoring.retention.domain.service.ReadingRetentionService;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Tarea programada que aplica la política de retención de lecturas de sensores.
+ * Se ejecuta fuera del horario de uso (por defecto, 03:30) y se configura con
+ * monitoring.readings.retention.cron. Con varias réplicas, solo el nodo que obtiene el bloqueo la ejecuta.
+ */
+@Component
+public class ReadingRetentionTask {
+
+    private final ReadingRetentionService readingRetentionService;
+    private final ScheduledJobRunner jobRunner;
+
+    public ReadingRetentionTask(ReadingRetentionService readingRetentionService, ScheduledJobRunner jobRunner) {
+        this.readingRetentionService = readingRetentionService;
+        this.jobRunner = jobRunner;
+    }
+
+    /**
+     * Resume, archiva y elimina las lecturas que superan la retención de su cultivo.
+     */
+    @Scheduled(cron = "${monitoring.readings.retention.cron:0 30 3 * * *}")
+    public void applyRetention() {
+        jobRunner.runLocked("reading-retention", Duration.ofHours(3), Duration.ofMinutes(1),
+                readingRetentionService::applyRetention);
+    }
+}
@@ -0,0 +1,28 @@
+package com.germogli.backend.common.scheduler;
+
+import com.germogli.backend.monitoring.reading.infrastructure.messaging.ReadingStreamPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Tarea programada que publica las lecturas en vivo acumuladas de cada cultivo.
+ * El intervalo define la frecuencia máxima de mensajes por cultivo y se configura con
+ * monitoring.readings.stream.publish-interval-ms (por defecto, un segundo).
+ */
+@Component
+public class ReadingStreamFlushTask {
+
+    private final ReadingStreamPublisher readingStreamPublisher;
+
+    public ReadingStreamFlushTask(ReadingStreamPublisher readingStreamPublisher) {
+        this.readingStreamPublisher = readingStreamPublisher;
+    }
+
+    /**
+     * Publica las lecturas pendientes.
+     */
+    @Scheduled(fixedDelayString = "${monitoring.readings.stream.publish-interval-ms:1000}")
+    public void flushReadings() {
+        readingStreamPublisher.flush();
+    }
+}
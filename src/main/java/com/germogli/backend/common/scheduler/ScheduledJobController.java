@@ -0,0 +1,38 @@
+package com.germogli.backend.common.scheduler;
+
+import com.germogli.backend.common.scheduler.lock.ScheduledJobMetrics;
+import com.germogli.backend.community.application.dto.common.ApiResponseDTO;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * Controlador REST para consultar las métricas de las tareas programadas del clúster.
+ * Solo accesible para administradores.
+ */
+@RestController
+@RequestMapping("/admin/scheduled-jobs")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ADMINISTRADOR')")
+public class ScheduledJobController {
+
+    private final ScheduledJobMetrics metrics;
+
+    /**
+     * Endpoint para obtener las métricas de ejecución de las tareas programadas.
+     *
+     * @return Respuesta API con la duración, filas afectadas y último éxito de cada tarea.
+     */
+    @GetMapping
+    public ResponseEntity<ApiResponseDTO<List<ScheduledJobMetrics.JobStats>>> getJobMetrics() {
+        return ResponseEntity.ok(ApiResponseDTO.<List<ScheduledJobMetrics.JobStats>>builder()
+                .message("Métricas de tareas programadas recuperadas correctamente")
+                .data(metrics.snapshot())
+                .build());
+    }
+}
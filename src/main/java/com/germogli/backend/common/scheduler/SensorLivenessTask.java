@@ -0,0 +1,37 @@
+package com.germogli.backend.common.scheduler;
+
+import com.germogli.backend.monitoring.liveness.domain.service.SensorLivenessService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Tarea programada que avanza la rueda de temporizadores de actividad de sensores.
+ * Cada nodo sigue los sensores de las lecturas que recibe, por lo que no usa bloqueo distribuido.
+ * El intervalo se configura con monitoring.liveness.tick-ms (por defecto, un segundo).
+ */
+@Slf4j
+@Component
+public class SensorLivenessTask {
+
+    private final SensorLivenessService sensorLivenessService;
+
+    public SensorLivenessTask(SensorLivenessService sensorLivenessService) {
+        this.sensorLivenessService = sensorLivenessService;
+    }
+
+    /**
+     * Genera las alertas de los sensores que quedaron en silencio o se recuperaron.
+     */
+    @Scheduled(fixedDelayString = "${monitoring.liveness.tick-ms:1000}")
+    public void checkSilentSensors() {
+        try {
+            int silenced = sensorLivenessService.tick();
+            if (silenced > 0) {
+                log.debug("Sensores sin lecturas detectados: {}", silenced);
+            }
+        } catch (Exception e) {
+            log.error("Error al verificar la actividad de los sensores", e);
+        }
+    }
+}
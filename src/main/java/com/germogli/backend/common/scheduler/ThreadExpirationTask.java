@@ -1,36 +1,88 @@
 package com.germogli.backend.common.scheduler;
 
+import com.germogli.backend.common.notification.application.service.NotificationService;
+import com.germogli.backend.common.scheduler.lock.ScheduledJobRunner;
+import com.germogli.backend.community.thread.domain.model.ThreadDomain;
 import com.germogli.backend.community.thread.domain.service.ThreadDomainService;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 /**
  * Tarea programada para eliminar hilos expirados.
- * Esta tarea se ejecuta una vez al día y elimina aquellos hilos
- * cuyo campo creationDate más 2 días sea anterior a la fecha actual.
+ * Elimina los hilos cuyo campo creationDate más 2 días sea anterior a la fecha actual.
+ * Consulta solo los hilos expirados (por índice de fecha) y los elimina en lotes
+ * acotados, cada uno en su propia transacción, para evitar bloqueos prolongados.
+ * Con varias réplicas, solo el nodo que obtiene el bloqueo realiza el barrido.
  */
+@Slf4j
 @Component
 public class ThreadExpirationTask {
 
+    // Días de vida de un hilo antes de expirar
+    private static final int THREAD_LIFETIME_DAYS = 2;
+    // Hilos eliminados por transacción
+    private static final int CHUNK_SIZE = 100;
+    // Límite de lotes por ejecución; el resto se procesa en la siguiente
+    private static final int MAX_CHUNKS_PER_RUN = 50;
+
     private final ThreadDomainService threadDomainService;
+    private final NotificationService notificationService;
+    private final ScheduledJobRunner jobRunner;
 
-    public ThreadExpirationTask(ThreadDomainService threadDomainService) {
+    public ThreadExpirationTask(ThreadDomainService threadDomainService,
+                                NotificationService notificationService,
+                                ScheduledJobRunner jobRunner) {
         this.threadDomainService = threadDomainService;
+        this.notificationService = notificationService;
+        this.jobRunner = jobRunner;
     }
 
     /**
-     * Ejecuta la tarea una vez al día a medianoche.
-     * Se eliminan los hilos que tengan más de 2 días de creación.
+     * Ejecuta la tarea cada 15 minutos.
+     * Al finalizar, envía una única notificación por propietario con el total de hilos eliminados.
+     * Los lotes ya confirmados se notifican aunque un lote posterior falle.
      */
-    @Scheduled(cron = "0 0 0 * * *") // Ejecuta cada día a medianoche
-    @Transactional
+    @Scheduled(cron = "0 */15 * * * *") // Cada 15 minutos
     public void removeExpiredThreads() {
-        LocalDateTime now = LocalDateTime.now();
-        threadDomainService.getAllThreads().stream()
-                .filter(thread -> thread.getCreationDate().plusDays(2).isBefore(now))
-                .forEach(thread -> threadDomainService.deleteThreadAsSystem(thread.getId()));
+        jobRunner.runLocked("thread-expiration", Duration.ofMinutes(14), Duration.ofMinutes(1), this::expireThreads);
+    }
+
+    private long expireThreads() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(THREAD_LIFETIME_DAYS);
+        Map<Integer, Integer> deletedByOwner = new HashMap<>();
+        long totalDeleted = 0;
+
+        try {
+            for (int chunk = 0; chunk < MAX_CHUNKS_PER_RUN; chunk++) {
+                List<ThreadDomain> deleted = threadDomainService.deleteExpiredThreadChunk(cutoff, CHUNK_SIZE);
+                deleted.forEach(thread -> deletedByOwner.merge(thread.getUserId(), 1, Integer::sum));
+                totalDeleted += deleted.size();
+                if (deleted.size() < CHUNK_SIZE) {
+                    break;
+                }
+            }
+        } finally {
+            // Cada lote se confirma en su propia transacción: sus hilos ya no existen aunque falle el siguiente
+            deletedByOwner.forEach(this::notifyOwner);
+        }
+        return totalDeleted;
+    }
+
+    private void notifyOwner(Integer ownerId, Integer count) {
+        String message = count == 1
+                ? "Uno de tus hilos ha expirado y fue eliminado por el sistema"
+                : count + " de tus hilos han expirado y fueron eliminados por el sistema";
+        try {
+            notificationService.sendNotification(ownerId, message, "thread");
+        } catch (Exception e) {
+            log.error("Error al notificar la expiración de hilos al usuario {}", ownerId, e);
+        }
     }
 }
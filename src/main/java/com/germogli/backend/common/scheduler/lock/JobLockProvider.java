@@ -0,0 +1,64 @@
+package com.germogli.backend.common.scheduler.lock;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Abstracción del mecanismo de bloqueo distribuido para tareas programadas.
+ * Permite reemplazar el backend (base de datos, Redis, etc.) registrando otro bean.
+ * El mismo backend guarda el resultado de la última ejecución de cada tarea, para que las métricas
+ * sean las del clúster y no las del nodo que atiende la consulta.
+ */
+public interface JobLockProvider {
+
+    /**
+     * Intenta adquirir el bloqueo de una tarea.
+     *
+     * @param jobName       Nombre único de la tarea
+     * @param lockAtMostFor Duración máxima del bloqueo (protege ante caídas del nodo)
+     * @return Bloqueo adquirido, o vacío si otro nodo lo mantiene (el intento se cuenta como ejecución omitida)
+     */
+    Optional<JobLock> tryAcquire(String jobName, Duration lockAtMostFor);
+
+    /**
+     * Obtiene las métricas de ejecución guardadas de todas las tareas.
+     *
+     * @return Lista de métricas por tarea
+     */
+    List<ScheduledJobMetrics.JobStats> findStats();
+
+    /**
+     * Bloqueo adquirido sobre una tarea.
+     */
+    interface JobLock {
+
+        /**
+         * Guarda el resultado de la ejecución y libera el bloqueo, manteniéndolo como mínimo hasta la duración
+         * indicada desde su adquisición.
+         *
+         * @param lockAtLeastFor Duración mínima del bloqueo
+         * @param result         Resultado de la ejecución
+         */
+        void release(Duration lockAtLeastFor, JobResult result);
+    }
+
+    /**
+     * Resultado de una ejecución de una tarea.
+     *
+     * @param success      true si la tarea terminó sin errores
+     * @param durationMs   Duración en milisegundos
+     * @param rowsAffected Filas afectadas (0 si falló)
+     * @param error        Mensaje de error (null si terminó sin errores)
+     */
+    record JobResult(boolean success, long durationMs, long rowsAffected, String error) {
+
+        public static JobResult success(long durationMs, long rowsAffected) {
+            return new JobResult(true, durationMs, rowsAffected, null);
+        }
+
+        public static JobResult failure(long durationMs, String error) {
+            return new JobResult(false, durationMs, 0, error);
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package com.germogli.backend.common.scheduler.lock;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.net.InetAddress;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Implementación de JobLockProvider respaldada por la tabla scheduled_job_locks.
+ * El bloqueo se adquiere con un UPDATE condicional (solo si el lease anterior expiró),
+ * de modo que únicamente un nodo del clúster obtiene cada ejecución.
+ * Al liberarlo guarda en la misma fila la duración, las filas afectadas y el resultado de la ejecución,
+ * y cada intento que no obtiene el bloqueo suma una ejecución omitida.
+ * Se registra como bean en JobLockConfig.
+ */
+@Slf4j
+public class JpaJobLockProvider implements JobLockProvider {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final TransactionTemplate transactionTemplate;
+    private final String nodeId;
+
+    public JpaJobLockProvider(PlatformTransactionManager transactionManager) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.nodeId = resolveHostName() + ":" + UUID.randomUUID();
+    }
+
+    @Override
+    public Optional<JobLock> tryAcquire(String jobName, Duration lockAtMostFor) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime lockedUntil = now.plus(lockAtMostFor);
+
+        try {
+            Boolean acquired = transactionTemplate.execute(status -> {
+                int updated = entityManager.createQuery(
+                        "UPDATE ScheduledJobLockEntity l SET l.lockedUntil = :lockedUntil, l.lockedAt = :now, " +
+                                "l.lockedBy = :nodeId WHERE l.name = :name AND l.lockedUntil <= :now")
+                        .setParameter("lockedUntil", lockedUntil)
+                        .setParameter("now", now)
+                        .setParameter("nodeId", nodeId)
+                        .setParameter("name", jobName)
+                        .executeUpdate();
+                if (updated > 0) {
+                    return true;
+                }
+                if (entityManager.find(ScheduledJobLockEntity.class, jobName) != null) {
+                    return false;
+                }
+                // Primera ejecución de la tarea: crear la fila (si otro nodo la crea a la vez, falla por clave duplicada)
+                entityManager.persist(ScheduledJobLockEntity.builder()
+                        .name(jobName)
+                        .lockedUntil(lockedUntil)
+                        .lockedAt(now)
+                        .lockedBy(nodeId)
+                        .build());
+                entityManager.flush();
+                return true;
+            });
+            if (Boolean.TRUE.equals(acquired)) {
+                return Optional.of((lockAtLeastFor, result) -> release(jobName, now, lockAtLeastFor, result));
+            }
+        } catch (RuntimeException e) {
+            log.debug("No se pudo adquirir el bloqueo de la tarea {}: {}", jobName, e.getMessage());
+        }
+        recordSkipped(jobName);
+        return Optional.empty();
+    }
+
+    @Override
+    public List<ScheduledJobMetrics.JobStats> findStats() {
+        return transactionTemplate.execute(status -> entityManager.createQuery(
+                        "SELECT l FROM ScheduledJobLockEntity l ORDER BY l.name", ScheduledJobLockEntity.class)
+                .getResultStream()
+                .map(JpaJobLockProvider::toStats)
+                .toList());
+    }
+
+    private void release(String jobName, LocalDateTime lockedAt, Duration lockAtLeastFor, JobResult result) {
+        LocalDateTime minimumUntil = lockedAt.plus(lockAtLeastFor);
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime unlockAt = minimumUntil.isAfter(now) ? minimumUntil : now;
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                // Las métricas se guardan aunque el lease haya vencido y otro nodo tenga el bloqueo
+                recordResult(jobName, now, result);
+                entityManager.createQuery(
+                        "UPDATE ScheduledJobLockEntity l SET l.lockedUntil = :unlockAt " +
+                                "WHERE l.name = :name AND l.lockedBy = :nodeId")
+                        .setParameter("unlockAt", unlockAt)
+                        .setParameter("name", jobName)
+                        .setParameter("nodeId", nodeId)
+                        .executeUpdate();
+            });
+        } catch (RuntimeException e) {
+            // El bloqueo expirará por sí solo al alcanzar lockAtMostFor
+            log.warn("No se pudo liberar el bloqueo de la tarea {}: {}", jobName, e.getMessage());
+        }
+    }
+
+    private void recordSkipped(String jobName) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> entityManager.createQuery(
+                            "UPDATE ScheduledJobLockEntity l SET l.skipped = COALESCE(l.skipped, 0) + 1 WHERE l.name = :name")
+                    .setParameter("name", jobName)
+                    .executeUpdate());
+        } catch (RuntimeException e) {
+            log.debug("No se pudo registrar la ejecución omitida de la tarea {}: {}", jobName, e.getMessage());
+        }
+    }
+
+    private void recordResult(String jobName, LocalDateTime now, JobResult result) {
+        if (result.success()) {
+            entityManager.createQuery(
+                    "UPDATE ScheduledJobLockEntity l SET l.runs = COALESCE(l.runs, 0) + 1, " +
+                            "l.lastDurationMs = :durationMs, l.lastRowsAffected = :rows, " +
+                            "l.totalRowsAffected = COALESCE(l.totalRowsAffected, 0) + :rows, " +
+                            "l.lastSuccess = :now, l.lastRunBy = :nodeId WHERE l.name = :name")
+                    .setParameter("durationMs", result.durationMs())
+                    .setParameter("rows", result.rowsAffected())
+                    .setParameter("now", now)
+                    .setParameter("nodeId", nodeId)
+                    .setParameter("name", jobName)
+                    .executeUpdate();
+        } else {
+            String error = result.error();
+            if (error != null && error.length() > MAX_ERROR_LENGTH) {
+                error = error.substring(0, MAX_ERROR_LENGTH);
+            }
+            entityManager.createQuery(
+                    "UPDATE ScheduledJobLockEntity l SET l.runs = COALESCE(l.runs, 0) + 1, " +
+                            "l.failures = COALESCE(l.failures, 0) + 1, l.lastDurationMs = :durationMs, " +
+                            "l.lastFailure = :now, l.lastError = :error, l.lastRunBy = :nodeId WHERE l.name = :name")
+                    .setParameter("durationMs", result.durationMs())
+                    .setParameter("now", now)
+                    .setParameter("error", error)
+                    .setParameter("nodeId", nodeId)
+                    .setParameter("name", jobName)
+                    .executeUpdate();
+        }
+    }
+
+    private static ScheduledJobMetrics.JobStats toStats(ScheduledJobLockEntity entity) {
+        return ScheduledJobMetrics.JobStats.builder()
+                .jobName(entity.getName())
+                .runs(valueOrZero(entity.getRuns()))
+                .failures(valueOrZero(entity.getFailures()))
+                .skipped(valueOrZero(entity.getSkipped()))
+                .lastDurationMs(valueOrZero(entity.getLastDurationMs()))
+                .lastRowsAffected(valueOrZero(entity.getLastRowsAffected()))
+                .totalRowsAffected(valueOrZero(entity.getTotalRowsAffected()))
+                .lastSuccess(entity.getLastSuccess())
+                .lastFailure(entity.getLastFailure())
+                .lastError(entity.getLastError())
+                .lastRunBy(entity.getLastRunBy())
+                .lockedUntil(entity.getLockedUntil())
+                .build();
+    }
+
+    private static long valueOrZero(Long value) {
+        return value != null ? value : 0;
+    }
+
+    private static String resolveHostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            return "unknown-host";
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.germogli.backend.common.scheduler.lock;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entidad JPA que representa el bloqueo (lease) de una tarea programada.
+ * Mapea la tabla scheduled_job_locks. Una fila por tarea, que también guarda el resultado
+ * de la última ejecución en cualquier nodo (las columnas de métricas son nulas hasta la primera).
+ */
+@Data
+@SuperBuilder
+@NoArgsConstructor(force = true, access = AccessLevel.PROTECTED)
+@Entity(name = "ScheduledJobLockEntity")
+@Table(name = "scheduled_job_locks")
+public class ScheduledJobLockEntity {
+
+    @Id
+    @Column(name = "job_name", length = 64)
+    private String name;
+
+    @Column(name = "locked_until", nullable = false)
+    private LocalDateTime lockedUntil;
+
+    @Column(name = "locked_at", nullable = false)
+    private LocalDateTime lockedAt;
+
+    @Column(name = "locked_by", nullable = false, length = 255)
+    private String lockedBy;
+
+    @Column(name = "runs")
+    private Long runs;
+
+    @Column(name = "failures")
+    private Long failures;
+
+    @Column(name = "skipped")
+    private Long skipped;
+
+    @Column(name = "last_duration_ms")
+    private Long lastDurationMs;
+
+    @Column(name = "last_rows_affected")
+    private Long lastRowsAffected;
+
+    @Column(name = "total_rows_affected")
+    private Long totalRowsAffected;
+
+    @Column(name = "last_success")
+    private LocalDateTime lastSuccess;
+
+    @Column(name = "last_failure")
+    private LocalDateTime lastFailure;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Column(name = "last_run_by", length = 255)
+    private String lastRunBy;
+}
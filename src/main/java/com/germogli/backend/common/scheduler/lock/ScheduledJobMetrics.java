@@ -0,0 +1,51 @@
+package com.germogli.backend.common.scheduler.lock;
+
+import lombok.Builder;
+import lombok.Data;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Métricas de ejecución de las tareas programadas.
+ * La duración, las filas afectadas, el resultado de la última ejecución y las ejecuciones omitidas se guardan
+ * con el bloqueo de cada tarea (JobLockProvider), por lo que son las mismas en todos los nodos.
+ */
+@Component
+@RequiredArgsConstructor
+public class ScheduledJobMetrics {
+
+    private final JobLockProvider lockProvider;
+
+    /**
+     * Obtiene las métricas de todas las tareas.
+     *
+     * @return Lista de métricas por tarea
+     */
+    public List<JobStats> snapshot() {
+        return lockProvider.findStats();
+    }
+
+    /**
+     * Métricas acumuladas de una tarea en todo el clúster.
+     * skipped cuenta los intentos de cualquier nodo que no obtuvieron el bloqueo.
+     */
+    @Data
+    @Builder
+    public static class JobStats {
+        private String jobName;
+        private long runs;
+        private long failures;
+        private long skipped;
+        private long lastDurationMs;
+        private long lastRowsAffected;
+        private long totalRowsAffected;
+        private LocalDateTime lastSuccess;
+        private LocalDateTime lastFailure;
+        private String lastError;
+        private String lastRunBy;
+        private LocalDateTime lockedUntil;
+    }
+}
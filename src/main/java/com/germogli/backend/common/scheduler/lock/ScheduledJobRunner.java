@@ -0,0 +1,56 @@
+package com.germogli.backend.common.scheduler.lock;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.LongSupplier;
+
+/**
+ * Ejecuta tareas programadas con bloqueo distribuido y registro de métricas.
+ * Garantiza que, con varias réplicas, solo un nodo ejecute cada barrido. El resultado de cada ejecución
+ * se guarda al liberar el bloqueo (ver JobLockProvider).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ScheduledJobRunner {
+
+    private final JobLockProvider lockProvider;
+
+    /**
+     * Ejecuta la tarea si se obtiene su bloqueo; en caso contrario la omite.
+     *
+     * @param jobName        Nombre único de la tarea
+     * @param lockAtMostFor  Duración máxima del bloqueo (si el nodo cae, el bloqueo expira)
+     * @param lockAtLeastFor Duración mínima del bloqueo (evita ejecuciones repetidas por desfase de relojes)
+     * @param job            Tarea a ejecutar; devuelve la cantidad de filas afectadas
+     */
+    public void runLocked(String jobName, Duration lockAtMostFor, Duration lockAtLeastFor, LongSupplier job) {
+        Optional<JobLockProvider.JobLock> lock = lockProvider.tryAcquire(jobName, lockAtMostFor);
+        if (lock.isEmpty()) {
+            log.debug("Tarea {} omitida: otro nodo mantiene el bloqueo", jobName);
+            return;
+        }
+
+        long start = System.nanoTime();
+        JobLockProvider.JobResult result = null;
+        try {
+            long rowsAffected = job.getAsLong();
+            long durationMs = (System.nanoTime() - start) / 1_000_000;
+            result = JobLockProvider.JobResult.success(durationMs, rowsAffected);
+            log.info("Tarea {} completada en {} ms ({} filas afectadas)", jobName, durationMs, rowsAffected);
+        } catch (RuntimeException e) {
+            long durationMs = (System.nanoTime() - start) / 1_000_000;
+            result = JobLockProvider.JobResult.failure(durationMs, e.getMessage());
+            log.error("Error en la tarea {} tras {} ms", jobName, durationMs, e);
+        } finally {
+            if (result == null) {
+                result = JobLockProvider.JobResult.failure((System.nanoTime() - start) / 1_000_000, "Ejecución interrumpida");
+            }
+            lock.get().release(lockAtLeastFor, result);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.germogli.backend.common.search;
+
+import com.germogli.backend.community.application.dto.common.ApiResponseDTO;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Set;
+
+/**
+ * Controlador REST para la búsqueda de texto completo sobre módulos, guías, videos, artículos y publicaciones.
+ */
+@RestController
+@RequestMapping("/search")
+@RequiredArgsConstructor
+@PreAuthorize("isAuthenticated()")
+public class SearchController {
+
+    private static final int MAX_PAGE_SIZE = 50;
+
+    private final SearchIndex searchIndex;
+
+    /**
+     * Busca contenido por texto.
+     *
+     * @param q     Texto a buscar.
+     * @param types Tipos a incluir (module, guide, video, article, post); todos si se omite.
+     * @param page  Número de página (desde 0).
+     * @param size  Tamaño de página (máximo 50).
+     * @return Respuesta API con la página de resultados ordenados por relevancia.
+     */
+    @GetMapping
+    public ResponseEntity<ApiResponseDTO<SearchPageDTO>> search(
+            @RequestParam String q,
+            @RequestParam(required = false) Set<String> types,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size) {
+        int safePage = Math.max(0, page);
+        int safeSize = Math.min(Math.max(1, size), MAX_PAGE_SIZE);
+        return ResponseEntity.ok(ApiResponseDTO.<SearchPageDTO>builder()
+                .message("Búsqueda realizada correctamente")
+                .data(searchIndex.search(q, types, safePage, safeSize))
+                .build());
+    }
+}
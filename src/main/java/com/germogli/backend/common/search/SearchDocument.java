@@ -0,0 +1,26 @@
+package com.germogli.backend.common.search;
+
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * Documento indexable por el buscador de texto completo.
+ * Cada documento se identifica por su tipo (module, guide, video, article, post) y su ID.
+ */
+@Data
+@Builder
+public class SearchDocument {
+    private String type;
+    private Integer id;
+    private String title;
+    private String body;
+
+    /**
+     * Clave única del documento dentro del índice.
+     *
+     * @return Clave con formato "tipo:id".
+     */
+    public String key() {
+        return type + ":" + id;
+    }
+}
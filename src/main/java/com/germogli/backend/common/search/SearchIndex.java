@@ -0,0 +1,317 @@
+package com.germogli.backend.common.search;
+
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Índice invertido de texto completo en memoria para contenido educativo y de la comunidad.
+ * Normaliza el texto (minúsculas, sin tildes), descarta palabras vacías y puntúa con BM25,
+ * dando más peso a los términos del título. El último término de la consulta se expande por prefijo
+ * para permitir búsquedas mientras se escribe.
+ * Los servicios de dominio lo mantienen actualizado en sus operaciones de creación, actualización y eliminación.
+ */
+@Component
+public class SearchIndex {
+
+    // Parámetros de BM25
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    // Peso de una aparición en el título respecto a una en el cuerpo
+    private static final int TITLE_BOOST = 3;
+    private static final int MIN_TOKEN_LENGTH = 2;
+    private static final int MIN_PREFIX_LENGTH = 3;
+    private static final int SNIPPET_LENGTH = 160;
+
+    private static final Set<String> STOP_WORDS = Set.of(
+            "de", "la", "el", "en", "y", "a", "los", "las", "del", "un", "una", "unos", "unas",
+            "por", "con", "para", "es", "al", "lo", "se", "que", "su", "sus", "o", "como", "mas",
+            "the", "and", "of", "to", "in", "is");
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // Map estructura: término -> (clave de documento -> frecuencia ponderada)
+    private final TreeMap<String, Map<String, Integer>> postings = new TreeMap<>();
+
+    // Map estructura: clave de documento -> documento indexado
+    private final Map<String, IndexedDocument> documents = new HashMap<>();
+
+    private long totalLength;
+
+    /**
+     * Indexa un documento, reemplazando la versión anterior si existía.
+     *
+     * @param document Documento a indexar.
+     */
+    public void index(SearchDocument document) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(document.key());
+            addInternal(document);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Elimina un documento del índice.
+     *
+     * @param type Tipo del documento.
+     * @param id   ID del documento.
+     */
+    public void remove(String type, Integer id) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(type + ":" + id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Sincroniza todos los documentos de un tipo con la lista recibida:
+     * elimina los que ya no existen y reindexa solo los nuevos o modificados.
+     *
+     * @param type      Tipo de documento.
+     * @param current   Documentos vigentes de ese tipo.
+     */
+    public void syncType(String type, Collection<SearchDocument> current) {
+        lock.writeLock().lock();
+        try {
+            Set<String> currentKeys = new HashSet<>();
+            for (SearchDocument document : current) {
+                currentKeys.add(document.key());
+                IndexedDocument existing = documents.get(document.key());
+                if (existing == null || !existing.document.equals(document)) {
+                    removeInternal(document.key());
+                    addInternal(document);
+                }
+            }
+
+            List<String> stale = new ArrayList<>();
+            for (IndexedDocument indexed : documents.values()) {
+                if (indexed.document.getType().equals(type) && !currentKeys.contains(indexed.document.key())) {
+                    stale.add(indexed.document.key());
+                }
+            }
+            stale.forEach(this::removeInternal);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Busca documentos que coincidan con la consulta.
+     *
+     * @param query Texto a buscar.
+     * @param types Tipos a incluir (vacío o null para todos).
+     * @param page  Número de página (desde 0).
+     * @param size  Tamaño de página.
+     * @return Página de resultados ordenados por relevancia.
+     */
+    public SearchPageDTO search(String query, Set<String> types, int page, int size) {
+        List<String> terms = analyze(query == null ? "" : query);
+
+        lock.readLock().lock();
+        try {
+            Map<String, Double> scores = new HashMap<>();
+            Set<String> matchedTerms = new LinkedHashSet<>();
+            double avgLength = documents.isEmpty() ? 1.0 : (double) totalLength / documents.size();
+
+            for (int i = 0; i < terms.size(); i++) {
+                String term = terms.get(i);
+                boolean expand = i == terms.size() - 1 && term.length() >= MIN_PREFIX_LENGTH;
+                for (Map.Entry<String, Map<String, Integer>> entry : matchingPostings(term, expand).entrySet()) {
+                    matchedTerms.add(entry.getKey());
+                    double idf = idf(entry.getValue().size());
+                    for (Map.Entry<String, Integer> posting : entry.getValue().entrySet()) {
+                        IndexedDocument doc = documents.get(posting.getKey());
+                        if (types != null && !types.isEmpty() && !types.contains(doc.document.getType())) {
+                            continue;
+                        }
+                        double tf = posting.getValue();
+                        double norm = K1 * (1 - B + B * doc.length / avgLength);
+                        scores.merge(posting.getKey(), idf * tf * (K1 + 1) / (tf + norm), Double::sum);
+                    }
+                }
+            }
+
+            List<Map.Entry<String, Double>> ranked = new ArrayList<>(scores.entrySet());
+            ranked.sort(Map.Entry.<String, Double>comparingByValue(Comparator.reverseOrder())
+                    .thenComparing(Map.Entry.comparingByKey()));
+
+            // En long: una página muy grande no debe desbordar el desplazamiento
+            int from = (int) Math.min((long) page * size, ranked.size());
+            int to = Math.min(from + size, ranked.size());
+            List<SearchResultDTO> results = new ArrayList<>(to - from);
+            for (Map.Entry<String, Double> hit : ranked.subList(from, to)) {
+                SearchDocument document = documents.get(hit.getKey()).document;
+                results.add(SearchResultDTO.builder()
+                        .type(document.getType())
+                        .id(document.getId())
+                        .title(document.getTitle())
+                        .snippet(highlight(document, matchedTerms))
+                        .score(hit.getValue())
+                        .build());
+            }
+
+            return SearchPageDTO.builder()
+                    .query(query)
+                    .page(page)
+                    .size(size)
+                    .totalResults(ranked.size())
+                    .results(results)
+                    .build();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Map<String, Map<String, Integer>> matchingPostings(String term, boolean expandPrefix) {
+        if (!expandPrefix) {
+            Map<String, Integer> exact = postings.get(term);
+            return exact == null ? Map.of() : Map.of(term, exact);
+        }
+        return postings.subMap(term, term + Character.MAX_VALUE);
+    }
+
+    private double idf(int documentFrequency) {
+        int n = documents.size();
+        return Math.log(1 + (n - documentFrequency + 0.5) / (documentFrequency + 0.5));
+    }
+
+    private void addInternal(SearchDocument document) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        List<String> titleTerms = analyze(document.getTitle());
+        List<String> bodyTerms = analyze(document.getBody());
+        titleTerms.forEach(term -> frequencies.merge(term, TITLE_BOOST, Integer::sum));
+        bodyTerms.forEach(term -> frequencies.merge(term, 1, Integer::sum));
+
+        String key = document.key();
+        frequencies.forEach((term, tf) -> postings.computeIfAbsent(term, k -> new HashMap<>()).put(key, tf));
+
+        int length = titleTerms.size() + bodyTerms.size();
+        documents.put(key, new IndexedDocument(document, frequencies.keySet(), length));
+        totalLength += length;
+    }
+
+    private void removeInternal(String key) {
+        IndexedDocument existing = documents.remove(key);
+        if (existing == null) {
+            return;
+        }
+        for (String term : existing.terms) {
+            Map<String, Integer> docs = postings.get(term);
+            if (docs != null) {
+                docs.remove(key);
+                if (docs.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+        totalLength -= existing.length;
+    }
+
+    // Genera un fragmento del cuerpo (o del título) alrededor de la primera coincidencia, con HTML escapado
+    private String highlight(SearchDocument document, Set<String> matchedTerms) {
+        String text = document.getBody() != null && !document.getBody().isBlank() ? document.getBody() : document.getTitle();
+        if (text == null) {
+            return "";
+        }
+        String folded = fold(text);
+
+        List<int[]> spans = new ArrayList<>();
+        int i = 0;
+        while (i < folded.length()) {
+            if (!Character.isLetterOrDigit(folded.charAt(i))) {
+                i++;
+                continue;
+            }
+            int start = i;
+            while (i < folded.length() && Character.isLetterOrDigit(folded.charAt(i))) {
+                i++;
+            }
+            if (matchedTerms.contains(folded.substring(start, i))) {
+                spans.add(new int[]{start, i});
+            }
+        }
+
+        int windowStart = 0;
+        if (!spans.isEmpty()) {
+            windowStart = Math.max(0, spans.get(0)[0] - SNIPPET_LENGTH / 4);
+        }
+        int windowEnd = Math.min(text.length(), windowStart + SNIPPET_LENGTH);
+
+        StringBuilder snippet = new StringBuilder();
+        if (windowStart > 0) {
+            snippet.append("…");
+        }
+        int cursor = windowStart;
+        for (int[] span : spans) {
+            if (span[0] < windowStart || span[1] > windowEnd) {
+                continue;
+            }
+            snippet.append(escapeHtml(text.substring(cursor, span[0])))
+                    .append("<em>")
+                    .append(escapeHtml(text.substring(span[0], span[1])))
+                    .append("</em>");
+            cursor = span[1];
+        }
+        snippet.append(escapeHtml(text.substring(cursor, windowEnd)));
+        if (windowEnd < text.length()) {
+            snippet.append("…");
+        }
+        return snippet.toString();
+    }
+
+    // Separa el texto en términos normalizados, descartando palabras vacías y tokens muy cortos
+    private static List<String> analyze(String text) {
+        List<String> terms = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return terms;
+        }
+        for (String token : fold(text).split("[^\\p{L}\\p{N}]+")) {
+            if (token.length() >= MIN_TOKEN_LENGTH && !STOP_WORDS.contains(token)) {
+                terms.add(token);
+            }
+        }
+        return terms;
+    }
+
+    // Pasa a minúsculas y quita tildes conservando la longitud del texto (para ubicar coincidencias en el original)
+    private static String fold(String text) {
+        StringBuilder folded = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c < 128) {
+                folded.append(Character.toLowerCase(c));
+            } else {
+                String decomposed = Normalizer.normalize(String.valueOf(c), Normalizer.Form.NFD);
+                folded.append(Character.toLowerCase(decomposed.charAt(0)));
+            }
+        }
+        return folded.toString();
+    }
+
+    private static String escapeHtml(String text) {
+        return text.replace("&", "&amp;")
+                .replace("<", "&lt;")
+                .replace(">", "&gt;")
+                .replace("\"", "&quot;")
+                .replace("'", "&#39;");
+    }
+
+    private record IndexedDocument(SearchDocument document, Set<String> terms, int length) {
+    }
+}
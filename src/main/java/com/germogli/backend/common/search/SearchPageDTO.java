@@ -0,0 +1,23 @@
+package com.germogli.backend.common.search;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO con una página de resultados de búsqueda.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SearchPageDTO {
+    private String query;
+    private int page;
+    private int size;
+    private long totalResults;
+    private List<SearchResultDTO> results;
+}
@@ -0,0 +1,22 @@
+package com.germogli.backend.common.search;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO con un resultado de búsqueda.
+ * El fragmento viene con HTML escapado y los términos encontrados marcados con &lt;em&gt;.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SearchResultDTO {
+    private String type;
+    private Integer id;
+    private String title;
+    private String snippet;
+    private double score;
+}
@@ -0,0 +1,73 @@
+package com.germogli.backend.common.security;
+
+import com.germogli.backend.authentication.domain.repository.UserDomainRepository;
+import com.germogli.backend.monitoring.crop.domain.repository.CropDomainRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+
+import java.security.Principal;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Interceptor de canal WebSocket que restringe las suscripciones a /topic/crop/{cropId}/readings
+ * al propietario del cultivo o a un administrador.
+ * El broker simple no valida destinos, por lo que sin esta verificación cualquier sesión
+ * podría escuchar las lecturas de un cultivo ajeno.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CropTopicSubscriptionInterceptor implements ChannelInterceptor {
+
+    private static final Pattern CROP_READINGS_TOPIC = Pattern.compile("^/topic/crop/(\\d+)/readings$");
+
+    private final CropDomainRepository cropRepository;
+    private final UserDomainRepository userRepository;
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null || !StompCommand.SUBSCRIBE.equals(accessor.getCommand()) || accessor.getDestination() == null) {
+            return message;
+        }
+
+        Matcher matcher = CROP_READINGS_TOPIC.matcher(accessor.getDestination());
+        if (!matcher.matches()) {
+            return message;
+        }
+
+        Integer cropId = Integer.valueOf(matcher.group(1));
+        if (!canSubscribe(accessor.getUser(), cropId)) {
+            log.warn("Suscripción rechazada a las lecturas del cultivo {}", cropId);
+            throw new AccessDeniedException("No tiene permisos para acceder a las lecturas de este cultivo");
+        }
+        return message;
+    }
+
+    private boolean canSubscribe(Principal principal, Integer cropId) {
+        if (!(principal instanceof Authentication auth) || !auth.isAuthenticated()) {
+            return false;
+        }
+
+        boolean isAdmin = auth.getAuthorities().stream()
+                .anyMatch(authority -> "ROLE_ADMINISTRADOR".equals(authority.getAuthority()));
+        if (isAdmin) {
+            return true;
+        }
+
+        return cropRepository.findById(cropId)
+                .flatMap(crop -> userRepository.findByUsername(auth.getName())
+                        .map(user -> crop.getUserId().equals(user.getId())))
+                .orElse(false);
+    }
+}
@@ -0,0 +1,73 @@
+package com.germogli.backend.common.security;
+
+import com.germogli.backend.common.exception.DeviceAuthenticationException;
+import com.germogli.backend.common.exception.RateLimitExceededException;
+import com.germogli.backend.monitoring.device.domain.service.DeviceIngestionGuard;
+import com.germogli.backend.monitoring.device.infrastructure.security.DeviceCredentialCache.DeviceCredential;
+import com.germogli.backend.monitoring.device.infrastructure.websocket.DeviceWebSocketHandler;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.server.HandshakeInterceptor;
+
+import java.util.Map;
+
+/**
+ * Interceptor de handshake de la conexión WebSocket de dispositivos (/device-ws).
+ * El dispositivo se identifica con las cabeceras X-Device-Id y X-Device-Key; si no son válidas
+ * el handshake se rechaza con 401 (o 429 si superó el límite de conexiones) y no se abre la conexión.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DeviceHandshakeInterceptor implements HandshakeInterceptor {
+
+    public static final String DEVICE_ID_HEADER = "X-Device-Id";
+
+    private final DeviceIngestionGuard deviceIngestionGuard;
+
+    @Override
+    public boolean beforeHandshake(ServerHttpRequest request,
+                                   ServerHttpResponse response,
+                                   WebSocketHandler wsHandler,
+                                   Map<String, Object> attributes) {
+        String apiKey = request.getHeaders().getFirst(DeviceIngestionGuard.API_KEY_HEADER);
+        try {
+            Integer deviceId = parseDeviceId(request.getHeaders().getFirst(DEVICE_ID_HEADER));
+            DeviceCredential credential = deviceIngestionGuard.authorizeConnection(deviceId, apiKey);
+            attributes.put(DeviceWebSocketHandler.DEVICE_ID_ATTRIBUTE, credential.deviceId());
+            attributes.put(DeviceWebSocketHandler.CROP_ID_ATTRIBUTE, credential.cropId());
+            attributes.put(DeviceWebSocketHandler.API_KEY_ATTRIBUTE, apiKey);
+            return true;
+        } catch (DeviceAuthenticationException e) {
+            log.debug("Handshake de dispositivo rechazado desde {}: {}", request.getRemoteAddress(), e.getMessage());
+            response.setStatusCode(HttpStatus.UNAUTHORIZED);
+            return false;
+        } catch (RateLimitExceededException e) {
+            response.setStatusCode(HttpStatus.TOO_MANY_REQUESTS);
+            response.getHeaders().set(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()));
+            return false;
+        }
+    }
+
+    @Override
+    public void afterHandshake(ServerHttpRequest request,
+                               ServerHttpResponse response,
+                               WebSocketHandler wsHandler,
+                               Exception exception) {
+        // No se requiere acción después del handshake
+    }
+
+    private Integer parseDeviceId(String value) {
+        try {
+            return value != null ? Integer.valueOf(value.trim()) : null;
+        } catch (NumberFormatException e) {
+            throw new DeviceAuthenticationException("ID de dispositivo no válido");
+        }
+    }
+}
@@ -4,8 +4,10 @@
     import com.germogli.backend.authentication.domain.repository.UserDomainRepository;
     import com.germogli.backend.common.exception.ResourceNotFoundException;
     import com.germogli.backend.community.group.domain.repository.GroupDomainRepository;
+    import com.germogli.backend.community.group.infrastructure.cache.GroupMembershipCache;
     import com.germogli.backend.community.post.domain.model.PostDomain;
     import com.germogli.backend.community.post.domain.repository.PostDomainRepository;
+    import com.germogli.backend.community.post.infrastructure.cache.PostOwnerCache;
     import com.germogli.backend.community.thread.domain.repository.ThreadDomainRepository;
     import lombok.RequiredArgsConstructor;
     import org.springframework.security.core.context.SecurityContextHolder;
@@ -24,6 +26,8 @@
         private final PostDomainRepository postRepository;
         private final GroupDomainRepository groupRepository;
         private final ThreadDomainRepository threadRepository;
+        private final PostOwnerCache postOwnerCache;
+        private final GroupMembershipCache groupMembershipCache;
 
         /**
          * Obtiene el usuario autenticado actual desde el contexto de seguridad.
@@ -72,6 +76,27 @@
             return postRepository.findOwnerIdByPostId(postId);
         }
 
+        /**
+         * Valida que una publicación exista y obtiene su propietario en una sola consulta.
+         * El resultado se guarda en caché, ya que el autor de una publicación no cambia.
+         *
+         * @param postId Identificador de la publicación.
+         * @return ID del usuario propietario de la publicación.
+         * @throws ResourceNotFoundException si la publicación no existe.
+         */
+        public Integer getOwnerIdOfExistingPost(Integer postId) {
+            Integer ownerId = postOwnerCache.getOwnerId(postId);
+            if (ownerId != null) {
+                return ownerId;
+            }
+            ownerId = postRepository.findOwnerIdByPostId(postId);
+            if (ownerId == null) {
+                throw new ResourceNotFoundException("Publicación no encontrada con id: " + postId);
+            }
+            postOwnerCache.put(postId, ownerId);
+            return ownerId;
+        }
+
         /**
          * Valida que un grupo exista en el sistema.
          * @param groupId Identificador del grupo
@@ -84,13 +109,14 @@
         }
         /**
          * Verifica si un usuario pertenece a un grupo.
+         * La consulta se resuelve desde el índice de membresías en memoria.
          *
          * @param userId ID del usuario
          * @param groupId ID del grupo
          * @return true si el usuario pertenece al grupo, false en caso contrario
          */
         public boolean isUserInGroup(Integer userId, Integer groupId) {
-            return groupRepository.isUserInGroup(userId, groupId);
+            return groupMembershipCache.isMember(userId, groupId);
         }
 
         /**
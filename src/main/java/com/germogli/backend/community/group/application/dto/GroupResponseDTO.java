@@ -15,4 +15,5 @@ public class GroupResponseDTO {
     private String name;
     private String description;
     private LocalDateTime creationDate;
+    private Integer memberCount;
 }
@@ -2,6 +2,7 @@ package com.germogli.backend.community.group.domain.repository;
 
 import com.germogli.backend.community.group.domain.model.GroupDomain;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -16,4 +17,6 @@ public interface GroupDomainRepository {
     List<GroupDomain> findGroupsByUserId(Integer userId);
     boolean isUserInGroup(Integer userId, Integer groupId);
     void leaveGroup(Integer userId, Integer groupId);
+    List<Integer> findGroupIdsByUserId(Integer userId);
+    Map<Integer, Long> countMembersByGroup();
 }
@@ -11,6 +11,7 @@ import com.germogli.backend.community.group.domain.repository.GroupDomainReposit
 import com.germogli.backend.community.group.application.dto.CreateGroupRequestDTO;
 import com.germogli.backend.community.group.application.dto.GroupResponseDTO;
 import com.germogli.backend.community.group.application.dto.UpdateGroupRequestDTO;
+import com.germogli.backend.community.group.infrastructure.cache.GroupMembershipCache;
 import com.germogli.backend.community.group.infrastructure.crud.UserGroupCrudRepository;
 import com.germogli.backend.community.group.infrastructure.entity.UserGroupEntity;
 import com.germogli.backend.community.group.infrastructure.entity.UserGroupId;
@@ -19,6 +20,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 /**
@@ -33,6 +35,7 @@ public class GroupDomainService {
     private final NotificationService notificationService;
     private final CommunitySharedService sharedService;
     private final UserGroupCrudRepository userGroupCrudRepository;
+    private final GroupMembershipCache membershipCache;
 
     /**
      * Permite al usuario autenticado unirse a un grupo.
@@ -42,29 +45,29 @@ public class GroupDomainService {
     @Transactional
     public void joinGroup(Integer groupId) {
         // Verificar que el grupo existe
-        GroupDomain group = groupRepository.findById(groupId)
-                .orElseThrow(() -> new ResourceNotFoundException("Grupo no encontrado con id: " + groupId));
+        GroupDomain group = getGroupById(groupId);
 
         // Obtener el usuario autenticado
         var currentUser = sharedService.getAuthenticatedUser();
 
+        // Si ya existe la membresía, se puede omitir la inserción
+        if (membershipCache.isMember(currentUser.getId(), groupId)) {
+            return;
+        }
+
         // Crear la clave compuesta para la relación
         UserGroupId userGroupId = UserGroupId.builder()
                 .userId(currentUser.getId())
                 .groupId(groupId)
                 .build();
 
-        // Si ya existe la membresía, se puede omitir la inserción
-        if (userGroupCrudRepository.existsById(userGroupId)) {
-            return;
-        }
-
         // Crear y persistir la relación
         UserGroupEntity membership = UserGroupEntity.builder()
                 .id(userGroupId)
                 .build();
 
         userGroupCrudRepository.save(membership);
+        membershipCache.addMembership(currentUser.getId(), groupId);
 
         // Notificar al usuario que se ha unido correctamente al grupo
         String message = "Te has unido correctamente al grupo: " + group.getName();
@@ -106,6 +109,7 @@ public class GroupDomainService {
                 .build();
         var currentUser = sharedService.getAuthenticatedUser();
         GroupDomain savedGroup = groupRepository.save(group);
+        membershipCache.invalidateGroups();
         notificationService.sendNotification(currentUser.getId(),
                 "Se ha creado un nuevo grupo: " + request.getName(),
                 "group");
@@ -113,25 +117,28 @@ public class GroupDomainService {
     }
 
     /**
-     * Obtiene un grupo por su ID.
+     * Obtiene un grupo por su ID desde la caché de grupos.
      *
      * @param id Identificador del grupo.
      * @return Grupo encontrado.
      * @throws ResourceNotFoundException si el grupo no existe.
      */
     public GroupDomain getGroupById(Integer id) {
-        return groupRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Grupo no encontrado con id: " + id));
+        GroupDomain group = membershipCache.getGroup(id);
+        if (group == null) {
+            throw new ResourceNotFoundException("Grupo no encontrado con id: " + id);
+        }
+        return group;
     }
 
     /**
-     * Obtiene la lista de todos los grupos.
+     * Obtiene la lista de todos los grupos desde la caché de grupos.
      *
      * @return Lista de grupos.
      * @throws ResourceNotFoundException si no hay grupos disponibles.
      */
     public List<GroupDomain> getAllGroups() {
-        List<GroupDomain> groups = groupRepository.findAll();
+        List<GroupDomain> groups = membershipCache.getAllGroups();
         if (groups.isEmpty()) {
             throw new ResourceNotFoundException("No hay grupos disponibles.");
         }
@@ -153,6 +160,7 @@ public class GroupDomainService {
         existingGroup.setName(request.getName());
         existingGroup.setDescription(request.getDescription());
         GroupDomain updatedGroup = groupRepository.save(existingGroup);
+        membershipCache.invalidateGroups();
         notificationService.sendNotification(sharedService.getAuthenticatedUser().getId(),
                 "El grupo " + request.getName() + " ha sido actualizado",
                 "group");
@@ -172,6 +180,7 @@ public class GroupDomainService {
             throw new ResourceNotFoundException("Grupo no encontrado con id: " + id);
         }
         groupRepository.deleteById(id);
+        membershipCache.evictGroup(id);
         notificationService.sendNotification(sharedService.getAuthenticatedUser().getId(),
                 "Se ha eliminado un grupo",
                 "group");
@@ -189,12 +198,14 @@ public class GroupDomainService {
                 .name(group.getName())
                 .description(group.getDescription())
                 .creationDate(group.getCreationDate())
+                .memberCount(membershipCache.getMemberCount(group.getId()))
                 .build();
     }
 
     /**
      * Obtiene todos los grupos a los que un usuario se ha unido.
      * Si no se proporciona ID, usa el usuario autenticado actual.
+     * Se resuelve desde el índice de membresías y la caché de grupos.
      *
      * @param userId ID del usuario o null para usar el usuario autenticado
      * @return Lista de grupos a los que pertenece el usuario
@@ -206,7 +217,10 @@ public class GroupDomainService {
             targetUserId = sharedService.getAuthenticatedUser().getId();
         }
 
-        return groupRepository.findGroupsByUserId(targetUserId);
+        return membershipCache.getGroupIds(targetUserId).stream()
+                .map(membershipCache::getGroup)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
     }
     /**
      * Permite al usuario autenticado abandonar un grupo.
@@ -217,29 +231,20 @@ public class GroupDomainService {
      */
     @Transactional
     public void leaveGroup(Integer groupId) {
-        // Verificar que el grupo existe utilizando el servicio compartido
-        sharedService.validateGroupExists(groupId);
+        // Verificar que el grupo existe y obtenerlo para el nombre de la notificación
+        GroupDomain group = getGroupById(groupId);
 
         // Obtener el usuario autenticado desde el servicio compartido
         Integer currentUserId = sharedService.getAuthenticatedUser().getId();
 
-        // Crear la clave compuesta para verificar la membresía
-        UserGroupId userGroupId = UserGroupId.builder()
-                .userId(currentUserId)
-                .groupId(groupId)
-                .build();
-
         // Verificar que el usuario es miembro del grupo
-        if (!userGroupCrudRepository.existsById(userGroupId)) {
+        if (!membershipCache.isMember(currentUserId, groupId)) {
             throw new CustomForbiddenException("No es miembro del grupo que intenta abandonar");
         }
 
-        // Obtiene el objeto de grupo para obtener su nombre para la notificación
-        GroupDomain group = groupRepository.findById(groupId)
-                .orElseThrow(() -> new ResourceNotFoundException("Grupo no encontrado con id: " + groupId));
-
         // Eliminar la relación - utilizando el repositorio del dominio
         groupRepository.leaveGroup(currentUserId, groupId);
+        membershipCache.removeMembership(currentUserId, groupId);
 
         // Notificar al usuario que ha abandonado el grupo
         String message = "Has abandonado el grupo: " + group.getName();
@@ -0,0 +1,260 @@
+package com.germogli.backend.community.group.infrastructure.cache;
+
+import com.germogli.backend.community.group.domain.model.GroupDomain;
+import com.germogli.backend.community.group.domain.repository.GroupDomainRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Índice en memoria de membresías de grupos.
+ * Mantiene, cargados de forma perezosa:
+ * - usuario -> conjunto de IDs de grupo (acotado a MAX_USERS usuarios),
+ * - grupo -> cantidad de miembros,
+ * - grupo -> datos del grupo.
+ * Se actualiza en las operaciones de unirse/abandonar/eliminar para evitar
+ * consultas a la base de datos en cada verificación de pertenencia.
+ * Los cambios se aplican después de confirmar la transacción que los guardó, y cada entrada vence a los
+ * cache-ttl-seconds: así los cambios hechos en otros nodos se reflejan, como máximo, tras ese tiempo.
+ */
+@Component
+public class GroupMembershipCache {
+
+    // Capacidad máxima de usuarios con membresías en caché
+    private static final int MAX_USERS = 50_000;
+
+    private record Cached<T>(T value, long expiresAtNanos) {
+
+        boolean isExpired(long now) {
+            return now - expiresAtNanos >= 0;
+        }
+    }
+
+    private final GroupDomainRepository groupRepository;
+    private final long ttlNanos;
+
+    // Map estructura: userId -> Set<groupId> (conjuntos inmutables, se reemplazan al modificarse)
+    private final Map<Integer, Cached<Set<Integer>>> userGroups = new ConcurrentHashMap<>();
+
+    // Map estructura: groupId -> cantidad de miembros (null hasta la primera carga)
+    private volatile Cached<Map<Integer, AtomicInteger>> memberCounts;
+
+    // Map estructura: groupId -> grupo (null hasta la primera carga o tras una invalidación)
+    private volatile Cached<Map<Integer, GroupDomain>> groups;
+
+    public GroupMembershipCache(GroupDomainRepository groupRepository,
+                                @Value("${community.groups.cache-ttl-seconds:60}") long ttlSeconds) {
+        this.groupRepository = groupRepository;
+        this.ttlNanos = TimeUnit.SECONDS.toNanos(ttlSeconds);
+    }
+
+    /**
+     * Verifica si un usuario pertenece a un grupo.
+     *
+     * @param userId  ID del usuario
+     * @param groupId ID del grupo
+     * @return true si el usuario es miembro del grupo
+     */
+    public boolean isMember(Integer userId, Integer groupId) {
+        return getGroupIds(userId).contains(groupId);
+    }
+
+    /**
+     * Obtiene los IDs de los grupos a los que pertenece un usuario.
+     * La carga se hace dentro de compute: un cambio confirmado mientras se consulta la base de datos espera a que
+     * termine la carga y se aplica sobre ella, en lugar de perderse.
+     *
+     * @param userId ID del usuario
+     * @return Conjunto inmutable de IDs de grupo
+     */
+    public Set<Integer> getGroupIds(Integer userId) {
+        long now = System.nanoTime();
+        Cached<Set<Integer>> cached = userGroups.get(userId);
+        if (cached != null && !cached.isExpired(now)) {
+            return cached.value();
+        }
+        if (cached == null) {
+            trim(now);
+        }
+        return userGroups.compute(userId, (id, current) -> current != null && !current.isExpired(System.nanoTime())
+                ? current
+                : new Cached<>(Set.copyOf(groupRepository.findGroupIdsByUserId(id)), System.nanoTime() + ttlNanos))
+                .value();
+    }
+
+    /**
+     * Obtiene la cantidad de miembros de un grupo.
+     *
+     * @param groupId ID del grupo
+     * @return Cantidad de miembros
+     */
+    public int getMemberCount(Integer groupId) {
+        AtomicInteger count = loadMemberCounts().get(groupId);
+        return count != null ? count.get() : 0;
+    }
+
+    /**
+     * Obtiene un grupo por su ID desde la caché.
+     *
+     * @param groupId ID del grupo
+     * @return Grupo o null si no existe
+     */
+    public GroupDomain getGroup(Integer groupId) {
+        return loadGroups().get(groupId);
+    }
+
+    /**
+     * Obtiene todos los grupos desde la caché.
+     *
+     * @return Lista de grupos
+     */
+    public List<GroupDomain> getAllGroups() {
+        return List.copyOf(loadGroups().values());
+    }
+
+    /**
+     * Registra la membresía de un usuario en un grupo cuando se confirme la transacción actual.
+     *
+     * @param userId  ID del usuario
+     * @param groupId ID del grupo
+     */
+    public void addMembership(Integer userId, Integer groupId) {
+        afterCommit(() -> {
+            userGroups.computeIfPresent(userId, (id, cached) -> withGroup(cached, groupId, true));
+            Cached<Map<Integer, AtomicInteger>> counts = memberCounts;
+            if (counts != null) {
+                counts.value().computeIfAbsent(groupId, k -> new AtomicInteger()).incrementAndGet();
+            }
+        });
+    }
+
+    /**
+     * Elimina la membresía de un usuario en un grupo cuando se confirme la transacción actual.
+     *
+     * @param userId  ID del usuario
+     * @param groupId ID del grupo
+     */
+    public void removeMembership(Integer userId, Integer groupId) {
+        afterCommit(() -> {
+            userGroups.computeIfPresent(userId, (id, cached) -> withGroup(cached, groupId, false));
+            Cached<Map<Integer, AtomicInteger>> counts = memberCounts;
+            if (counts != null) {
+                AtomicInteger count = counts.value().get(groupId);
+                if (count != null) {
+                    count.updateAndGet(value -> Math.max(0, value - 1));
+                }
+            }
+        });
+    }
+
+    /**
+     * Elimina toda la información de un grupo eliminado.
+     *
+     * @param groupId ID del grupo
+     */
+    public void evictGroup(Integer groupId) {
+        afterCommit(() -> {
+            userGroups.replaceAll((userId, cached) -> withGroup(cached, groupId, false));
+            Cached<Map<Integer, AtomicInteger>> counts = memberCounts;
+            if (counts != null) {
+                counts.value().remove(groupId);
+            }
+            groups = null;
+        });
+    }
+
+    /**
+     * Invalida los datos de los grupos para que se recarguen en el próximo acceso.
+     * Se usa al crear o actualizar un grupo.
+     */
+    public void invalidateGroups() {
+        afterCommit(() -> groups = null);
+    }
+
+    private Cached<Set<Integer>> withGroup(Cached<Set<Integer>> cached, Integer groupId, boolean member) {
+        if (cached.value().contains(groupId) == member) {
+            return cached;
+        }
+        Set<Integer> updated = new HashSet<>(cached.value());
+        if (member) {
+            updated.add(groupId);
+        } else {
+            updated.remove(groupId);
+        }
+        return new Cached<>(Collections.unmodifiableSet(updated), cached.expiresAtNanos());
+    }
+
+    /**
+     * Libera lugar antes de agregar un usuario: primero las entradas vencidas y, si no alcanza, cualquiera.
+     */
+    private void trim(long now) {
+        if (userGroups.size() < MAX_USERS) {
+            return;
+        }
+        userGroups.values().removeIf(cached -> cached.isExpired(now));
+        Iterator<Integer> iterator = userGroups.keySet().iterator();
+        while (userGroups.size() >= MAX_USERS && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private Map<Integer, AtomicInteger> loadMemberCounts() {
+        Cached<Map<Integer, AtomicInteger>> counts = memberCounts;
+        if (counts == null || counts.isExpired(System.nanoTime())) {
+            synchronized (this) {
+                counts = memberCounts;
+                if (counts == null || counts.isExpired(System.nanoTime())) {
+                    Map<Integer, AtomicInteger> loaded = new ConcurrentHashMap<>();
+                    for (Map.Entry<Integer, Long> entry : groupRepository.countMembersByGroup().entrySet()) {
+                        loaded.put(entry.getKey(), new AtomicInteger(entry.getValue().intValue()));
+                    }
+                    counts = new Cached<>(loaded, System.nanoTime() + ttlNanos);
+                    memberCounts = counts;
+                }
+            }
+        }
+        return counts.value();
+    }
+
+    private Map<Integer, GroupDomain> loadGroups() {
+        Cached<Map<Integer, GroupDomain>> current = groups;
+        if (current == null || current.isExpired(System.nanoTime())) {
+            synchronized (this) {
+                current = groups;
+                if (current == null || current.isExpired(System.nanoTime())) {
+                    Map<Integer, GroupDomain> loaded = new LinkedHashMap<>();
+                    groupRepository.findAll().forEach(group -> loaded.put(group.getId(), group));
+                    current = new Cached<>(Collections.unmodifiableMap(loaded), System.nanoTime() + ttlNanos);
+                    groups = current;
+                }
+            }
+        }
+        return current.value();
+    }
+}
@@ -10,7 +10,9 @@ import jakarta.persistence.StoredProcedureQuery;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -138,4 +140,31 @@ public class GroupRepository implements GroupDomainRepository {
         query.setParameter("p_group_id", groupId);
         query.execute();
     }
+
+    /**
+     * Obtiene los IDs de los grupos a los que pertenece un usuario.
+     */
+    @Override
+    public List<Integer> findGroupIdsByUserId(Integer userId) {
+        return entityManager.createQuery(
+                "SELECT ug.id.groupId FROM UserGroupEntity ug WHERE ug.id.userId = :userId", Integer.class)
+                .setParameter("userId", userId)
+                .getResultList();
+    }
+
+    /**
+     * Cuenta los miembros de cada grupo.
+     */
+    @Override
+    public Map<Integer, Long> countMembersByGroup() {
+        List<Object[]> rows = entityManager.createQuery(
+                "SELECT ug.id.groupId, COUNT(ug) FROM UserGroupEntity ug GROUP BY ug.id.groupId", Object[].class)
+                .getResultList();
+
+        Map<Integer, Long> result = new HashMap<>();
+        for (Object[] row : rows) {
+            result.put((Integer) row[0], ((Number) row[1]).longValue());
+        }
+        return result;
+    }
 }
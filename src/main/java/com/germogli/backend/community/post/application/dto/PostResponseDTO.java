@@ -1,6 +1,7 @@
 package com.germogli.backend.community.post.application.dto;
 
 import java.time.LocalDateTime;
+import java.util.Map;
 import lombok.Builder;
 import lombok.Data;
 
@@ -18,4 +19,5 @@ public class PostResponseDTO {
     private LocalDateTime postDate;
     private Integer groupId;
     private Integer threadId;
+    private Map<String, Long> reactionCounts;
 }
@@ -8,16 +8,22 @@ import com.germogli.backend.common.azure.AzureBlobStorageService;
 import com.germogli.backend.common.exception.CustomForbiddenException;
 import com.germogli.backend.common.exception.ResourceNotFoundException;
 import com.germogli.backend.common.notification.application.service.NotificationService;
+import com.germogli.backend.common.search.SearchDocument;
+import com.germogli.backend.common.search.SearchIndex;
 import com.germogli.backend.community.post.domain.model.PostDomain;
 import com.germogli.backend.community.post.domain.repository.PostDomainRepository;
 import com.germogli.backend.community.post.application.dto.CreatePostRequestDTO;
 import com.germogli.backend.community.post.application.dto.PostResponseDTO;
 import com.germogli.backend.community.post.application.dto.UpdatePostRequestDTO;
+import com.germogli.backend.community.post.infrastructure.cache.PostOwnerCache;
+import com.germogli.backend.community.reaction.infrastructure.cache.ReactionCounterCache;
 import com.germogli.backend.community.domain.service.CommunitySharedService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.ByteArrayInputStream;
@@ -40,6 +46,9 @@ public class PostDomainService {
     private final CommunitySharedService sharedService;
     private final NotificationService notificationService;
     private final AzureBlobStorageService azureBlobStorageService;
+    private final ReactionCounterCache reactionCounterCache;
+    private final PostOwnerCache postOwnerCache;
+    private final SearchIndex searchIndex;
 
     /**
      * Crea una nueva publicación.
@@ -257,6 +266,7 @@ public class PostDomainService {
         existingPost.setPostDate(LocalDateTime.now());
 
         PostDomain updatedPost = postRepository.save(existingPost);
+        afterCommit(() -> searchIndex.index(toSearchDocument(updatedPost)));
 
         // Notificaciones
         UserDomain currentUser = sharedService.getAuthenticatedUser();
@@ -304,6 +314,9 @@ public class PostDomainService {
         }
 
         postRepository.deleteById(id);
+        reactionCounterCache.evictPost(id);
+        postOwnerCache.evict(id);
+        afterCommit(() -> searchIndex.remove("post", id));
         notificationService.sendNotification(
                 post.getUserId(),
                 "Tu publicación ha sido eliminada.",
@@ -311,6 +324,22 @@ public class PostDomainService {
         );
     }
 
+    /**
+     * Obtiene el nombre del blob del contenido multimedia de una publicación, para servirlo a través del backend.
+     *
+     * @param postId ID de la publicación.
+     * @return Nombre del blob dentro del contenedor "publicaciones".
+     * @throws ResourceNotFoundException si la publicación no existe o no tiene multimedia almacenado en Azure.
+     */
+    public String getPostMediaBlobName(Integer postId) {
+        PostDomain post = getPostById(postId);
+        String url = post.getMultimediaContent();
+        if (url == null || !url.contains("blob.core.windows.net/publicaciones")) {
+            throw new ResourceNotFoundException("La publicación no tiene contenido multimedia almacenado.");
+        }
+        return extractBlobNameFromUrl(url);
+    }
+
     /**
      * Método auxiliar para extraer el nombre del blob a partir de la URL.
      * Se asume que la URL tiene el formato:
@@ -379,6 +408,7 @@ public class PostDomainService {
                 .postDate(post.getPostDate())
                 .groupId(post.getGroupId())
                 .threadId(post.getThreadId())
+                .reactionCounts(reactionCounterCache.getCounts(post.getId()))
                 .build();
     }
 
@@ -406,7 +436,42 @@ public class PostDomainService {
                 .postDate(LocalDateTime.now())
                 .build();
 
-        return postRepository.save(post);
+        PostDomain savedPost = postRepository.save(post);
+        afterCommit(() -> searchIndex.index(toSearchDocument(savedPost)));
+        return savedPost;
+    }
+
+    /**
+     * Reconstruye las publicaciones en el índice de búsqueda a partir de la base de datos.
+     * Solo se reindexan las publicaciones nuevas, modificadas o eliminadas.
+     */
+    public void rebuildSearchIndex() {
+        searchIndex.syncType("post", postRepository.findAll().stream()
+                .map(this::toSearchDocument)
+                .collect(Collectors.toList()));
+    }
+
+    // Actualiza el índice solo si la transacción confirma, para que un rollback no deje publicaciones buscables
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    // Convierte una publicación en un documento del índice de búsqueda
+    private SearchDocument toSearchDocument(PostDomain post) {
+        return SearchDocument.builder()
+                .type("post")
+                .id(post.getId())
+                .body(post.getContent())
+                .build();
     }
 
     // Método para subir archivos grandes usando técnica de bloques
@@ -0,0 +1,55 @@
+package com.germogli.backend.community.post.infrastructure.cache;
+
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Caché del propietario de cada publicación.
+ * El autor de un post no cambia, por lo que la asociación postId -> userId
+ * puede mantenerse en memoria hasta que la publicación se elimine.
+ * Tamaño acotado con política LRU.
+ */
+@Component
+public class PostOwnerCache {
+
+    // Capacidad máxima de publicaciones en caché
+    private static final int MAX_CACHE_SIZE = 10_000;
+
+    private final Map<Integer, Integer> owners = new LinkedHashMap<>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Integer, Integer> eldest) {
+            return size() > MAX_CACHE_SIZE;
+        }
+    };
+
+    /**
+     * Obtiene el propietario de una publicación si está en caché.
+     *
+     * @param postId ID de la publicación
+     * @return ID del propietario o null si no está en caché
+     */
+    public synchronized Integer getOwnerId(Integer postId) {
+        return owners.get(postId);
+    }
+
+    /**
+     * Registra el propietario de una publicación.
+     *
+     * @param postId  ID de la publicación
+     * @param ownerId ID del propietario
+     */
+    public synchronized void put(Integer postId, Integer ownerId) {
+        owners.put(postId, ownerId);
+    }
+
+    /**
+     * Elimina una publicación del caché.
+     *
+     * @param postId ID de la publicación
+     */
+    public synchronized void evict(Integer postId) {
+        owners.remove(postId);
+    }
+}
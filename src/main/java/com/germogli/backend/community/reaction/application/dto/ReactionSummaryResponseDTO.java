@@ -0,0 +1,17 @@
+package com.germogli.backend.community.reaction.application.dto;
+
+import java.util.Map;
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * DTO de respuesta con el resumen de reacciones de una publicación.
+ * Contiene la cantidad de reacciones por tipo y el total.
+ */
+@Data
+@Builder
+public class ReactionSummaryResponseDTO {
+    private Integer postId;
+    private Map<String, Long> counts;
+    private Long total;
+}
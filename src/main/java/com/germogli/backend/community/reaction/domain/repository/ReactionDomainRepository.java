@@ -2,6 +2,7 @@ package com.germogli.backend.community.reaction.domain.repository;
 
 import com.germogli.backend.community.reaction.domain.model.ReactionDomain;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -12,4 +13,6 @@ public interface ReactionDomainRepository {
     Optional<ReactionDomain> findById(Integer id);
     List<ReactionDomain> findAll();
     void deleteById(Integer id);
+    Optional<ReactionDomain> findByPostIdAndUserId(Integer postId, Integer userId);
+    Map<Integer, Map<String, Long>> countByPostAndType();
 }
@@ -2,23 +2,28 @@ package com.germogli.backend.community.reaction.domain.service;
 
 import com.germogli.backend.authentication.domain.model.UserDomain;
 import com.germogli.backend.common.exception.ResourceNotFoundException;
-import com.germogli.backend.common.notification.application.service.NotificationService;
 import com.germogli.backend.community.domain.service.CommunitySharedService;
 import com.germogli.backend.community.reaction.application.dto.CreateReactionRequestDTO;
 import com.germogli.backend.community.reaction.application.dto.ReactionResponseDTO;
+import com.germogli.backend.community.reaction.application.dto.ReactionSummaryResponseDTO;
 import com.germogli.backend.community.reaction.domain.model.ReactionDomain;
 import com.germogli.backend.community.reaction.domain.repository.ReactionDomainRepository;
+import com.germogli.backend.community.reaction.infrastructure.cache.ReactionCounterCache;
+import com.germogli.backend.community.reaction.infrastructure.messaging.ReactionNotificationCoalescer;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 /**
  * Servicio de dominio para la gestión de reacciones en publicaciones.
  * Contiene la lógica para crear, obtener, listar y eliminar reacciones.
- * Gestiona notificaciones en tiempo real y validaciones de permisos.
+ * Gestiona notificaciones agrupadas y validaciones de permisos.
  */
 @Service
 @RequiredArgsConstructor
@@ -26,20 +31,30 @@ public class ReactionDomainService {
 
     private final ReactionDomainRepository reactionRepository;
     private final CommunitySharedService sharedService;
-    private final NotificationService notificationService;
+    private final ReactionCounterCache reactionCounterCache;
+    private final ReactionNotificationCoalescer notificationCoalescer;
 
     /**
-     * Crea una nueva reacción sobre una publicación.
-     * Valida la existencia de la publicación y notifica al dueño si corresponde.
+     * Crea o actualiza la reacción del usuario autenticado sobre una publicación.
+     * La operación es idempotente: si el usuario ya reaccionó con el mismo tipo se devuelve
+     * la reacción existente, y si reaccionó con otro tipo se actualiza en lugar de duplicarla.
+     * La restricción única (post_id, user_id) impide que dos solicitudes concurrentes inserten ambas:
+     * la que pierde aplica su tipo sobre la reacción ya guardada.
+     * La notificación al dueño se agrupa por ventana de tiempo.
      *
      * @param request DTO con los datos para crear la reacción.
-     * @return Reacción creada.
+     * @return Reacción creada, actualizada o existente.
      */
     public ReactionDomain createReaction(CreateReactionRequestDTO request) {
         UserDomain currentUser = sharedService.getAuthenticatedUser();
 
-        // Validar existencia del post
-        sharedService.validatePostExists(request.getPostId());
+        // Validar existencia del post y obtener su dueño en una sola consulta (cacheada)
+        Integer postOwnerId = sharedService.getOwnerIdOfExistingPost(request.getPostId());
+
+        Optional<ReactionDomain> existing = reactionRepository.findByPostIdAndUserId(request.getPostId(), currentUser.getId());
+        if (existing.isPresent()) {
+            return changeReactionType(existing.get(), request.getReactionType());
+        }
 
         // Construir y persistir la reacción
         ReactionDomain reaction = ReactionDomain.builder()
@@ -48,22 +63,61 @@ public class ReactionDomainService {
                 .reactionType(request.getReactionType())
                 .build();
 
-        ReactionDomain savedReaction = reactionRepository.save(reaction);
-
-        // Obtener el dueño del post y notificar si no es el mismo que reaccionó
-        Integer postOwnerId = sharedService.getOwnerIdOfPost(request.getPostId());
+        ReactionDomain savedReaction;
+        try {
+            savedReaction = reactionRepository.save(reaction);
+        } catch (DataIntegrityViolationException e) {
+            // Otra solicitud del mismo usuario insertó primero; esa ya contó la reacción y notificó al dueño
+            return reactionRepository.findByPostIdAndUserId(request.getPostId(), currentUser.getId())
+                    .map(winner -> changeReactionType(winner, request.getReactionType()))
+                    .orElseThrow(() -> e);
+        }
+        reactionCounterCache.increment(savedReaction.getPostId(), savedReaction.getReactionType());
 
+        // Registrar la notificación agrupada si quien reacciona no es el dueño del post
         if (!postOwnerId.equals(currentUser.getId())) {
-            notificationService.sendNotification(
-                    postOwnerId,
-                    "Tu publicación recibió una nueva reacción",
-                    "reaction"
-            );
+            notificationCoalescer.record(postOwnerId, request.getPostId(), currentUser.getId());
         }
 
         return savedReaction;
     }
 
+    /**
+     * Alterna la reacción del usuario autenticado sobre una publicación.
+     * Si ya existe una reacción del mismo tipo se elimina; en caso contrario se crea o actualiza.
+     *
+     * @param request DTO con los datos de la reacción.
+     * @return Reacción resultante, o vacío si la reacción fue retirada.
+     */
+    public Optional<ReactionDomain> toggleReaction(CreateReactionRequestDTO request) {
+        UserDomain currentUser = sharedService.getAuthenticatedUser();
+
+        Optional<ReactionDomain> existing = reactionRepository.findByPostIdAndUserId(request.getPostId(), currentUser.getId());
+        if (existing.isPresent() && existing.get().getReactionType().equals(request.getReactionType())) {
+            ReactionDomain reaction = existing.get();
+            reactionRepository.deleteById(reaction.getId());
+            reactionCounterCache.decrement(reaction.getPostId(), reaction.getReactionType());
+            return Optional.empty();
+        }
+
+        return Optional.of(createReaction(request));
+    }
+
+    // Método auxiliar para cambiar el tipo de una reacción existente sin duplicarla
+    private ReactionDomain changeReactionType(ReactionDomain reaction, String reactionType) {
+        if (reaction.getReactionType().equals(reactionType)) {
+            return reaction;
+        }
+
+        String previousType = reaction.getReactionType();
+        reaction.setReactionType(reactionType);
+        ReactionDomain updatedReaction = reactionRepository.save(reaction);
+
+        reactionCounterCache.decrement(reaction.getPostId(), previousType);
+        reactionCounterCache.increment(reaction.getPostId(), reactionType);
+        return updatedReaction;
+    }
+
     /**
      * Obtiene una reacción por su identificador único.
      *
@@ -104,6 +158,31 @@ public class ReactionDomainService {
         }
 
         reactionRepository.deleteById(id);
+        reactionCounterCache.decrement(reaction.getPostId(), reaction.getReactionType());
+    }
+
+    /**
+     * Obtiene el resumen de reacciones de una publicación desde los contadores en memoria.
+     *
+     * @param postId Identificador de la publicación.
+     * @return Resumen con la cantidad de reacciones por tipo.
+     */
+    public ReactionSummaryResponseDTO getReactionSummary(Integer postId) {
+        Map<String, Long> counts = reactionCounterCache.getCounts(postId);
+        long total = counts.values().stream().mapToLong(Long::longValue).sum();
+        return ReactionSummaryResponseDTO.builder()
+                .postId(postId)
+                .counts(counts)
+                .total(total)
+                .build();
+    }
+
+    /**
+     * Reconcilia los contadores en memoria con los totales almacenados en la base de datos.
+     * Corrige cualquier desviación producida por operaciones realizadas fuera de este servicio.
+     */
+    public void reconcileReactionCounts() {
+        reactionCounterCache.replaceAll(reactionRepository.countByPostAndType());
     }
 
     /**
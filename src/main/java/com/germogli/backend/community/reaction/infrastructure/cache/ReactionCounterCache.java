@@ -0,0 +1,99 @@
+package com.germogli.backend.community.reaction.infrastructure.cache;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Caché de contadores de reacciones por publicación y tipo.
+ * Mantiene en memoria los totales para que los listados de publicaciones
+ * no tengan que consultar la tabla de reacciones.
+ */
+@Component
+public class ReactionCounterCache {
+
+    // Map estructura: postId -> (tipo de reacción -> contador)
+    private final Map<Integer, Map<String, LongAdder>> counters = new ConcurrentHashMap<>();
+
+    /**
+     * Incrementa el contador de un tipo de reacción para una publicación.
+     *
+     * @param postId       ID de la publicación
+     * @param reactionType Tipo de reacción
+     */
+    public void increment(Integer postId, String reactionType) {
+        counterFor(postId, reactionType).increment();
+    }
+
+    /**
+     * Decrementa el contador de un tipo de reacción para una publicación.
+     *
+     * @param postId       ID de la publicación
+     * @param reactionType Tipo de reacción
+     */
+    public void decrement(Integer postId, String reactionType) {
+        counterFor(postId, reactionType).decrement();
+    }
+
+    /**
+     * Obtiene los contadores de una publicación.
+     *
+     * @param postId ID de la publicación
+     * @return Mapa tipo de reacción -> cantidad (vacío si no hay reacciones)
+     */
+    public Map<String, Long> getCounts(Integer postId) {
+        Map<String, LongAdder> postCounters = counters.get(postId);
+        if (postCounters == null) {
+            return Collections.emptyMap();
+        }
+
+        Map<String, Long> result = new HashMap<>();
+        postCounters.forEach((type, adder) -> {
+            long value = adder.sum();
+            if (value > 0) {
+                result.put(type, value);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Reemplaza todos los contadores con los valores obtenidos de la base de datos.
+     *
+     * @param snapshot Mapa postId -> (tipo de reacción -> cantidad)
+     */
+    public void replaceAll(Map<Integer, Map<String, Long>> snapshot) {
+        Map<Integer, Map<String, LongAdder>> fresh = new HashMap<>();
+        snapshot.forEach((postId, byType) -> {
+            Map<String, LongAdder> postCounters = new ConcurrentHashMap<>();
+            byType.forEach((type, count) -> {
+                LongAdder adder = new LongAdder();
+                adder.add(count);
+                postCounters.put(type, adder);
+            });
+            fresh.put(postId, postCounters);
+        });
+
+        counters.keySet().retainAll(fresh.keySet());
+        counters.putAll(fresh);
+    }
+
+    /**
+     * Elimina los contadores de una publicación (por ejemplo, al eliminarla).
+     *
+     * @param postId ID de la publicación
+     */
+    public void evictPost(Integer postId) {
+        counters.remove(postId);
+    }
+
+    private LongAdder counterFor(Integer postId, String reactionType) {
+        return counters
+                .computeIfAbsent(postId, k -> new ConcurrentHashMap<>())
+                .computeIfAbsent(reactionType, k -> new LongAdder());
+    }
+}
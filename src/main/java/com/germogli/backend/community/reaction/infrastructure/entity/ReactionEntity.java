@@ -6,6 +6,7 @@ import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.experimental.SuperBuilder;
@@ -14,13 +15,14 @@ import java.time.LocalDateTime;
 
 /**
  * Entidad JPA que representa una reacción.
- * Mapea la tabla reactions.
+ * Mapea la tabla reactions. Un usuario tiene como máximo una reacción por publicación.
  */
 @Data
 @SuperBuilder
 @NoArgsConstructor(force = true, access = AccessLevel.PROTECTED)
 @Entity(name = "CommunityReactionEntity")
-@Table(name = "reactions")
+@Table(name = "reactions",
+        uniqueConstraints = @UniqueConstraint(name = "uk_reactions_post_user", columnNames = {"post_id", "user_id"}))
 public class ReactionEntity {
 
     @Id
@@ -0,0 +1,87 @@
+package com.germogli.backend.community.reaction.infrastructure.messaging;
+
+import com.germogli.backend.common.notification.application.service.NotificationService;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Agrupa las notificaciones de reacciones por propietario dentro de una ventana de tiempo.
+ * En lugar de enviar una notificación por cada reacción, se envía un único resumen
+ * por propietario (por ejemplo, "12 personas reaccionaron a tu publicación").
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReactionNotificationCoalescer {
+
+    private final NotificationService notificationService;
+
+    // Map estructura: ownerId -> reacciones pendientes de notificar
+    private final Map<Integer, PendingReactions> pending = new ConcurrentHashMap<>();
+
+    /**
+     * Registra una reacción pendiente de notificar al propietario de la publicación.
+     *
+     * @param ownerId   ID del propietario de la publicación
+     * @param postId    ID de la publicación
+     * @param reactorId ID del usuario que reaccionó
+     */
+    public void record(Integer ownerId, Integer postId, Integer reactorId) {
+        pending.compute(ownerId, (key, current) -> {
+            PendingReactions reactions = current != null ? current : new PendingReactions();
+            reactions.postIds.add(postId);
+            reactions.reactorIds.add(reactorId);
+            return reactions;
+        });
+    }
+
+    /**
+     * Envía una notificación resumida por propietario con las reacciones acumuladas.
+     * Se ejecuta cada minuto y al detener la aplicación.
+     */
+    @Scheduled(fixedDelay = 60000) // Cada minuto
+    @PreDestroy
+    public void flush() {
+        for (Integer ownerId : new ArrayList<>(pending.keySet())) {
+            PendingReactions reactions = pending.remove(ownerId);
+            if (reactions == null) {
+                continue;
+            }
+            try {
+                notificationService.sendNotification(ownerId, buildMessage(reactions), "reaction");
+            } catch (Exception e) {
+                log.error("Error al enviar notificación agrupada de reacciones al usuario {}", ownerId, e);
+            }
+        }
+    }
+
+    private String buildMessage(PendingReactions reactions) {
+        int people = reactions.reactorIds.size();
+        int posts = reactions.postIds.size();
+        if (people == 1 && posts == 1) {
+            return "Tu publicación recibió una nueva reacción";
+        }
+        if (posts == 1) {
+            return people + " personas reaccionaron a tu publicación";
+        }
+        return people + " personas reaccionaron a " + posts + " de tus publicaciones";
+    }
+
+    /**
+     * Reacciones acumuladas para un propietario.
+     * Solo se modifica dentro de {@link ConcurrentHashMap#compute}, que serializa el acceso por clave.
+     */
+    private static class PendingReactions {
+        private final Set<Integer> postIds = new HashSet<>();
+        private final Set<Integer> reactorIds = new HashSet<>();
+    }
+}
@@ -10,7 +10,9 @@ import jakarta.persistence.StoredProcedureQuery;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -93,4 +95,41 @@ public class ReactionRepository implements ReactionDomainRepository {
         query.setParameter("p_reaction_id", id);
         query.execute();
     }
+
+    /**
+     * Busca la reacción de un usuario sobre una publicación.
+     */
+    @Override
+    public Optional<ReactionDomain> findByPostIdAndUserId(Integer postId, Integer userId) {
+        List<ReactionEntity> resultList = entityManager.createQuery(
+                "SELECT r FROM CommunityReactionEntity r WHERE r.postId = :postId AND r.userId = :userId",
+                ReactionEntity.class)
+                .setParameter("postId", postId)
+                .setParameter("userId", userId)
+                .setMaxResults(1)
+                .getResultList();
+        if (resultList.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(ReactionDomain.fromEntityStatic(resultList.get(0)));
+    }
+
+    /**
+     * Cuenta las reacciones agrupadas por publicación y tipo.
+     * Se utiliza para reconciliar los contadores en memoria.
+     */
+    @Override
+    public Map<Integer, Map<String, Long>> countByPostAndType() {
+        List<Object[]> rows = entityManager.createQuery(
+                "SELECT r.postId, r.reactionType, COUNT(r) FROM CommunityReactionEntity r " +
+                        "GROUP BY r.postId, r.reactionType", Object[].class)
+                .getResultList();
+
+        Map<Integer, Map<String, Long>> result = new HashMap<>();
+        for (Object[] row : rows) {
+            result.computeIfAbsent((Integer) row[0], k -> new HashMap<>())
+                    .put((String) row[1], ((Number) row[2]).longValue());
+        }
+        return result;
+    }
 }
@@ -3,6 +3,7 @@ package com.germogli.backend.community.reaction.web.controller;
 import com.germogli.backend.community.application.dto.common.ApiResponseDTO;
 import com.germogli.backend.community.reaction.application.dto.CreateReactionRequestDTO;
 import com.germogli.backend.community.reaction.application.dto.ReactionResponseDTO;
+import com.germogli.backend.community.reaction.application.dto.ReactionSummaryResponseDTO;
 import com.germogli.backend.community.reaction.domain.model.ReactionDomain;
 import com.germogli.backend.community.reaction.domain.service.ReactionDomainService;
 import lombok.RequiredArgsConstructor;
@@ -11,6 +12,7 @@ import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 import jakarta.validation.Valid;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Controlador REST para la gestión de reacciones en Community.
@@ -39,6 +41,22 @@ public class ReactionController {
                 .build());
     }
 
+    /**
+     * Endpoint para alternar una reacción: la retira si ya existe con el mismo tipo,
+     * o la crea/actualiza en caso contrario.
+     *
+     * @param request DTO con los datos de la reacción.
+     * @return Respuesta API con la reacción resultante (vacía si fue retirada).
+     */
+    @PostMapping("/toggle")
+    public ResponseEntity<ApiResponseDTO<ReactionResponseDTO>> toggleReaction(@Valid @RequestBody CreateReactionRequestDTO request) {
+        Optional<ReactionDomain> reaction = reactionDomainService.toggleReaction(request);
+        return ResponseEntity.ok(ApiResponseDTO.<ReactionResponseDTO>builder()
+                .message(reaction.isPresent() ? "Reacción registrada correctamente" : "Reacción retirada correctamente")
+                .data(reaction.map(reactionDomainService::toResponse).orElse(null))
+                .build());
+    }
+
     /**
      * Endpoint para obtener una reacción por su ID.
      *
@@ -68,6 +86,20 @@ public class ReactionController {
                 .build());
     }
 
+    /**
+     * Endpoint para obtener el resumen de reacciones de una publicación.
+     *
+     * @param postId Identificador de la publicación.
+     * @return Respuesta API con la cantidad de reacciones por tipo.
+     */
+    @GetMapping("/post/{postId}/summary")
+    public ResponseEntity<ApiResponseDTO<ReactionSummaryResponseDTO>> getReactionSummary(@PathVariable Integer postId) {
+        return ResponseEntity.ok(ApiResponseDTO.<ReactionSummaryResponseDTO>builder()
+                .message("Resumen de reacciones recuperado correctamente")
+                .data(reactionDomainService.getReactionSummary(postId))
+                .build());
+    }
+
     /**
      * Endpoint para eliminar una reacción.
      * Solo el propietario o un administrador pueden eliminarla.
@@ -1,6 +1,7 @@
 package com.germogli.backend.community.thread.domain.repository;
 
 import com.germogli.backend.community.thread.domain.model.ThreadDomain;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -16,4 +17,5 @@ public interface ThreadDomainRepository {
     List<ThreadDomain> findThreadsByUserId(Integer userId);
     List<ThreadDomain> findForumThreads();
     boolean existsById(Integer threadId);
+    List<ThreadDomain> findExpiredThreads(LocalDateTime cutoff, int limit);
 }
@@ -4,6 +4,7 @@ import com.germogli.backend.authentication.domain.model.UserDomain;
 import com.germogli.backend.common.exception.ResourceNotFoundException;
 import com.germogli.backend.common.notification.application.service.NotificationService;
 import com.germogli.backend.community.domain.service.CommunitySharedService;
+import com.germogli.backend.community.message.infrastructure.cache.MessageCache;
 import com.germogli.backend.community.thread.application.dto.CreateThreadRequestDTO;
 import com.germogli.backend.community.thread.application.dto.ThreadResponseDTO;
 import com.germogli.backend.community.thread.domain.model.ThreadDomain;
@@ -28,7 +29,7 @@ public class ThreadDomainService {
     private final ThreadDomainRepository threadRepository;
     private final CommunitySharedService sharedService;
     private final NotificationService notificationService;
-
+    private final MessageCache messageCache;
 
     /**
      * Crea un nuevo hilo.
@@ -137,6 +138,7 @@ public class ThreadDomainService {
         }
 
         threadRepository.deleteThreadById(id);
+        messageCache.clearCache("thread", id);
 
         notificationService.sendNotification(
                 currentUser.getId(),
@@ -177,6 +179,7 @@ public class ThreadDomainService {
                 .orElseThrow(() -> new ResourceNotFoundException("Thread no encontrado con id: " + id));
 
         threadRepository.deleteThreadById(id);
+        messageCache.clearCache("thread", id);
 
         notificationService.sendNotification(
                 null,
@@ -184,6 +187,26 @@ public class ThreadDomainService {
                 "thread"
         );
     }
+    /**
+     * Elimina un lote acotado de hilos expirados en su propia transacción.
+     * Solo consulta los hilos cuya fecha de creación es anterior a la fecha límite
+     * y limpia la caché de mensajes de cada hilo eliminado.
+     * Las notificaciones a los propietarios las agrupa quien invoca este método.
+     *
+     * @param cutoff    Fecha límite de creación.
+     * @param chunkSize Número máximo de hilos a eliminar.
+     * @return Hilos eliminados en este lote.
+     */
+    @Transactional
+    public List<ThreadDomain> deleteExpiredThreadChunk(LocalDateTime cutoff, int chunkSize) {
+        List<ThreadDomain> expired = threadRepository.findExpiredThreads(cutoff, chunkSize);
+        for (ThreadDomain thread : expired) {
+            threadRepository.deleteThreadById(thread.getId());
+        }
+        expired.forEach(thread -> messageCache.clearCache("thread", thread.getId()));
+        return expired;
+    }
+
     /**
      * Obtiene todos los hilos que pertenecen a un grupo específico.
      *
@@ -5,6 +5,7 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -20,7 +21,7 @@ import java.time.LocalDateTime;
 @SuperBuilder
 @NoArgsConstructor(force = true, access = AccessLevel.PROTECTED)
 @Entity(name = "CommunityThreadEntity")
-@Table(name = "threads")
+@Table(name = "threads", indexes = @Index(name = "idx_threads_creation_date", columnList = "creation_date"))
 public class ThreadEntity {
 
     @Id
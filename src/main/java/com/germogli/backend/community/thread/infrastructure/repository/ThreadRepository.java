@@ -10,6 +10,7 @@ import jakarta.persistence.StoredProcedureQuery;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -129,4 +130,23 @@ public class ThreadRepository implements ThreadDomainRepository {
         }
         return false;
     }
+
+    /**
+     * Obtiene un lote de hilos creados antes de la fecha límite.
+     * Usa el índice sobre creation_date para no recorrer la tabla completa.
+     *
+     * @param cutoff Fecha límite de creación
+     * @param limit  Tamaño máximo del lote
+     * @return Hilos expirados, del más antiguo al más reciente
+     */
+    @Override
+    public List<ThreadDomain> findExpiredThreads(LocalDateTime cutoff, int limit) {
+        List<ThreadEntity> resultList = entityManager.createQuery(
+                "SELECT t FROM CommunityThreadEntity t WHERE t.creationDate < :cutoff ORDER BY t.creationDate",
+                ThreadEntity.class)
+                .setParameter("cutoff", cutoff)
+                .setMaxResults(limit)
+                .getResultList();
+        return resultList.stream().map(ThreadDomain::fromEntityStatic).collect(Collectors.toList());
+    }
 }
@@ -0,0 +1,64 @@
+package com.germogli.backend.education.application.dto;
+
+import com.germogli.backend.education.articles.application.dto.ArticleResponseDTO;
+import com.germogli.backend.education.domain.model.EducationCatalogSnapshot;
+import com.germogli.backend.education.guides.application.dto.GuideResponseDTO;
+import com.germogli.backend.education.module.application.dto.ModuleResponseDTO;
+import com.germogli.backend.education.tag.application.dto.TagResponseDTO;
+import com.germogli.backend.education.videos.application.dto.VideoResponseDTO;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * DTO de respuesta con el catálogo educativo completo.
+ * Las guías no incluyen la URL del PDF: la URL firmada se obtiene al consultar cada guía.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EducationCatalogResponseDTO {
+    private long version;
+    private LocalDateTime generatedAt;
+    private List<ModuleResponseDTO> modules;
+    private List<TagResponseDTO> tags;
+    private List<GuideResponseDTO> guides;
+    private List<VideoResponseDTO> videos;
+    private List<ArticleResponseDTO> articles;
+
+    /**
+     * Convierte una instantánea del catálogo en el DTO de respuesta.
+     *
+     * @param snapshot Instantánea del catálogo.
+     * @return DTO con los datos mapeados.
+     */
+    public static EducationCatalogResponseDTO fromSnapshot(EducationCatalogSnapshot snapshot) {
+        return EducationCatalogResponseDTO.builder()
+                .version(snapshot.getVersion())
+                .generatedAt(snapshot.getGeneratedAt())
+                .modules(ModuleResponseDTO.fromDomains(snapshot.getModules()))
+                .tags(snapshot.getTags().stream()
+                        .map(TagResponseDTO::fromDomain)
+                        .collect(Collectors.toList()))
+                .guides(snapshot.getGuides().stream()
+                        .map(guide -> {
+                            GuideResponseDTO dto = GuideResponseDTO.fromDomain(guide);
+                            dto.setPdfUrl(null);
+                            return dto;
+                        })
+                        .collect(Collectors.toList()))
+                .videos(snapshot.getVideos().stream()
+                        .map(VideoResponseDTO::fromDomain)
+                        .collect(Collectors.toList()))
+                .articles(snapshot.getArticles().stream()
+                        .map(ArticleResponseDTO::fromDomain)
+                        .collect(Collectors.toList()))
+                .build();
+    }
+}
@@ -0,0 +1,32 @@
+package com.germogli.backend.education.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * DTO de respuesta con el estado y el progreso de un trabajo de importación masiva.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EducationImportJobDTO {
+    private String jobId;
+    private String status;
+    private String phase;
+    private int uploadedFiles;
+    private int totalModules;
+    private int createdModules;
+    private int totalContents;
+    private int createdGuides;
+    private int createdVideos;
+    private int createdArticles;
+    private List<String> errors;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+}
@@ -0,0 +1,72 @@
+package com.germogli.backend.education.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Manifiesto (manifest.json) de un archivo ZIP de importación/exportación de contenido educativo.
+ * Cada módulo incluye sus etiquetas (por nombre) y su contenido; los PDFs de las guías
+ * se referencian por su ruta dentro del ZIP.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EducationImportManifestDTO {
+    private Integer formatVersion;
+    private LocalDateTime exportedAt;
+    @Builder.Default
+    private List<ModuleEntry> modules = new ArrayList<>();
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ModuleEntry {
+        private String title;
+        private String description;
+        @Builder.Default
+        private List<String> tags = new ArrayList<>();
+        @Builder.Default
+        private List<GuideEntry> guides = new ArrayList<>();
+        @Builder.Default
+        private List<VideoEntry> videos = new ArrayList<>();
+        @Builder.Default
+        private List<ArticleEntry> articles = new ArrayList<>();
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class GuideEntry {
+        private String title;
+        private String description;
+        private String pdfFileName;
+        private String pdf; // Ruta del PDF dentro del ZIP
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class VideoEntry {
+        private String title;
+        private String videoUrl;
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ArticleEntry {
+        private String title;
+        private String articleUrl;
+    }
+}
@@ -0,0 +1,30 @@
+package com.germogli.backend.education.application.dto;
+
+import com.germogli.backend.education.articles.application.dto.ArticleResponseDTO;
+import com.germogli.backend.education.guides.application.dto.GuideResponseDTO;
+import com.germogli.backend.education.module.application.dto.ModuleResponseDTO;
+import com.germogli.backend.education.videos.application.dto.VideoResponseDTO;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * DTO de respuesta con todo el contenido necesario para mostrar un módulo:
+ * el módulo con sus etiquetas, sus guías (con URL firmada), videos y artículos.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ModuleBundleResponseDTO {
+    private long catalogVersion;
+    private LocalDateTime generatedAt;
+    private ModuleResponseDTO module;
+    private List<GuideResponseDTO> guides;
+    private List<VideoResponseDTO> videos;
+    private List<ArticleResponseDTO> articles;
+}
@@ -11,4 +11,5 @@ public interface ArticleDomainRepository {
     Optional<ArticleDomain> getById(Integer id);
     ArticleDomain updateArticleInfo(ArticleDomain articleDomain);
     void deleteById(Integer articleId);
+    List<ArticleDomain> getAll();
 }
@@ -10,6 +10,7 @@ import com.germogli.backend.education.articles.application.dto.UpdateArticleRequ
 import com.germogli.backend.education.articles.domain.model.ArticleDomain;
 import com.germogli.backend.education.articles.domain.repository.ArticleDomainRepository;
 import com.germogli.backend.education.domain.service.EducationSharedService;
+import com.germogli.backend.education.infrastructure.cache.EducationCatalogCache;
 import com.germogli.backend.education.module.domain.service.ModuleDomainService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.access.AccessDeniedException;
@@ -28,6 +29,7 @@ public class ArticleDomainService {
     private final ModuleDomainService moduleDomainService;
     private final EducationSharedService educationSharedService;
     private final NotificationService notificationService;
+    private final EducationCatalogCache educationCatalogCache;
 
     /**
      * Crea un nuevo artículo educativo.
@@ -69,6 +71,7 @@ public class ArticleDomainService {
 
         // Guardar el artículo en la base de datos utilizando el procedimiento almacenado
         ArticleDomain createdArticle = articleDomainRepository.createArticle(articleDomain);
+        educationCatalogCache.refresh();
 
         // Obtener el nombre del módulo para la notificación
         String moduleName = moduleDomainService.getModuleById(dto.getModuleId()).getTitle();
@@ -91,7 +94,7 @@ public class ArticleDomainService {
      * @throws ResourceNotFoundException si no se encuentran artículos para el módulo.
      */
     public List<ArticleDomain> getArticlesByModuleId(Integer moduleId) {
-        List<ArticleDomain> articles = articleDomainRepository.getByArticlesByModuleId(moduleId);
+        List<ArticleDomain> articles = educationCatalogCache.getSnapshot().getArticlesByModuleId(moduleId);
         if (articles.isEmpty()) {
             throw new ResourceNotFoundException("No hay artículos disponibles para este módulo.");
         }
@@ -106,8 +109,11 @@ public class ArticleDomainService {
      * @throws ResourceNotFoundException si no se encuentra el artículo.
      */
     public ArticleDomain getArticleById(Integer id) {
-        return articleDomainRepository.getById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Artículo no encontrado con id " + id));
+        ArticleDomain article = educationCatalogCache.getSnapshot().getArticlesById().get(id);
+        if (article == null) {
+            throw new ResourceNotFoundException("Artículo no encontrado con id " + id);
+        }
+        return article;
     }
 
     /**
@@ -151,6 +157,7 @@ public class ArticleDomainService {
 
         // Llamar al repositorio para realizar la actualización mediante el SP
         articleDomainRepository.updateArticleInfo(articleDomain);
+        educationCatalogCache.refresh();
 
         // Obtener el nombre del módulo para la notificación (si el módulo existe)
         String moduleName = "";
@@ -235,6 +242,7 @@ public class ArticleDomainService {
 
         // Llamar al repositorio para eliminar el artículo
         articleDomainRepository.deleteById(articleId);
+        educationCatalogCache.refresh();
     }
 
 }
@@ -152,4 +152,18 @@ public class ArticleRepository implements ArticleDomainRepository {
         // Ejecutar el SP
         query.execute();
     }
+
+    /**
+     * Obtiene todos los artículos en una sola consulta.
+     * Se utiliza para construir el catálogo educativo en memoria.
+     *
+     * @return Lista de ArticleDomain.
+     */
+    @Override
+    public List<ArticleDomain> getAll() {
+        List<ArticleEntity> resultList = entityManager
+                .createQuery("SELECT a FROM EducationArticlesEntity a ORDER BY a.id", ArticleEntity.class)
+                .getResultList();
+        return resultList.stream().map(ArticleDomain::fromEntityStatic).collect(Collectors.toList());
+    }
 }
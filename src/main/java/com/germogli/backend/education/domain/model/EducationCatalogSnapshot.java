@@ -0,0 +1,183 @@
+package com.germogli.backend.education.domain.model;
+
+import com.germogli.backend.education.articles.domain.model.ArticleDomain;
+import com.germogli.backend.education.guides.domain.model.GuideDomain;
+import com.germogli.backend.education.module.domain.model.ModuleDomain;
+import com.germogli.backend.education.tag.domain.model.TagDomain;
+import com.germogli.backend.education.videos.domain.model.VideoDomain;
+import lombok.Getter;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Instantánea inmutable del catálogo educativo (módulos, etiquetas, guías, videos y artículos).
+ * Se construye una vez a partir de la base de datos y se reemplaza completa ante cualquier cambio,
+ * por lo que las lecturas nunca observan un catálogo a medio actualizar.
+ * Los objetos de dominio contenidos son compartidos y no deben modificarse.
+ */
+@Getter
+public final class EducationCatalogSnapshot {
+
+    private final long version;
+    private final String etag;
+    private final LocalDateTime generatedAt;
+    private final List<ModuleDomain> modules;
+    private final List<TagDomain> tags;
+    private final List<GuideDomain> guides;
+    private final List<VideoDomain> videos;
+    private final List<ArticleDomain> articles;
+
+    // Índices por ID
+    private final Map<Integer, ModuleDomain> modulesById;
+    private final Map<Integer, GuideDomain> guidesById;
+    private final Map<Integer, VideoDomain> videosById;
+    private final Map<Integer, ArticleDomain> articlesById;
+
+    // Índices por módulo: moduleId -> contenidos del módulo
+    private final Map<Integer, List<GuideDomain>> guidesByModule;
+    private final Map<Integer, List<VideoDomain>> videosByModule;
+    private final Map<Integer, List<ArticleDomain>> articlesByModule;
+
+    // Índice invertido etiqueta -> módulos para los filtros por etiquetas
+    private final ModuleTagIndex moduleTagIndex;
+
+    public EducationCatalogSnapshot(long version,
+                                    List<ModuleDomain> modules,
+                                    List<TagDomain> tags,
+                                    List<GuideDomain> guides,
+                                    List<VideoDomain> videos,
+                                    List<ArticleDomain> articles) {
+        this.version = version;
+        this.generatedAt = LocalDateTime.now();
+        this.modules = List.copyOf(modules);
+        this.tags = List.copyOf(tags);
+        this.guides = List.copyOf(guides);
+        this.videos = List.copyOf(videos);
+        this.articles = List.copyOf(articles);
+
+        this.modulesById = indexById(this.modules, ModuleDomain::getModuleId);
+        this.guidesById = indexById(this.guides, GuideDomain::getGuideId);
+        this.videosById = indexById(this.videos, VideoDomain::getVideoId);
+        this.articlesById = indexById(this.articles, ArticleDomain::getArticleId);
+
+        this.guidesByModule = groupByModule(this.guides, guide -> moduleIdOf(guide.getModuleId()));
+        this.videosByModule = groupByModule(this.videos, video -> moduleIdOf(video.getModuleId()));
+        this.articlesByModule = groupByModule(this.articles, article -> moduleIdOf(article.getModuleId()));
+        this.moduleTagIndex = ModuleTagIndex.build(this.modules);
+
+        // El ETag es el SHA-256 del contenido: estable entre reinicios e instancias, y sin colisiones en la práctica
+        this.etag = "\"" + contentDigest() + "\"";
+    }
+
+    /**
+     * Indica si esta instantánea tiene exactamente el mismo contenido que otra.
+     *
+     * @param other Otra instantánea (puede ser null).
+     * @return true si los datos son iguales, sin considerar versión ni fecha de generación.
+     */
+    public boolean hasSameContentAs(EducationCatalogSnapshot other) {
+        return other != null
+                && modules.equals(other.modules)
+                && tags.equals(other.tags)
+                && guides.equals(other.guides)
+                && videos.equals(other.videos)
+                && articles.equals(other.articles);
+    }
+
+    public List<GuideDomain> getGuidesByModuleId(Integer moduleId) {
+        return guidesByModule.getOrDefault(moduleId, Collections.emptyList());
+    }
+
+    public List<VideoDomain> getVideosByModuleId(Integer moduleId) {
+        return videosByModule.getOrDefault(moduleId, Collections.emptyList());
+    }
+
+    public List<ArticleDomain> getArticlesByModuleId(Integer moduleId) {
+        return articlesByModule.getOrDefault(moduleId, Collections.emptyList());
+    }
+
+    // Serializa el contenido en un orden fijo (etiquetas de cada módulo ordenadas por ID) y calcula su SHA-256
+    private String contentDigest() {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 no disponible", e);
+        }
+        for (ModuleDomain module : modules) {
+            update(digest, "module", module.getModuleId(), module.getTitle(), module.getDescription(), module.getCreationDate());
+            List<TagDomain> moduleTags = module.getTags() == null ? List.of() : module.getTags().stream()
+                    .sorted(Comparator.comparing(TagDomain::getTagId, Comparator.nullsFirst(Comparator.naturalOrder()))
+                            .thenComparing(TagDomain::getTagName, Comparator.nullsFirst(Comparator.naturalOrder())))
+                    .toList();
+            for (TagDomain tag : moduleTags) {
+                update(digest, "moduleTag", tag.getTagId(), tag.getTagName());
+            }
+        }
+        for (TagDomain tag : tags) {
+            update(digest, "tag", tag.getTagId(), tag.getTagName());
+        }
+        for (GuideDomain guide : guides) {
+            update(digest, "guide", guide.getGuideId(), guide.getTitle(), guide.getDescription(), guide.getPdfUrl(),
+                    guide.getPdfFileName(), guide.getCreationDate(), moduleIdOf(guide.getModuleId()));
+        }
+        for (VideoDomain video : videos) {
+            update(digest, "video", video.getVideoId(), video.getTitle(), video.getVideoUrl(), video.getCreationDate(),
+                    moduleIdOf(video.getModuleId()));
+        }
+        for (ArticleDomain article : articles) {
+            update(digest, "article", article.getArticleId(), article.getTitle(), article.getArticleUrl(),
+                    article.getCreationDate(), moduleIdOf(article.getModuleId()));
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    // Cada campo va precedido de su longitud (-1 si es null), así ninguna combinación de valores se confunde con otra
+    private static void update(MessageDigest digest, Object... fields) {
+        for (Object field : fields) {
+            if (field == null) {
+                digest.update(ByteBuffer.allocate(Integer.BYTES).putInt(-1).array());
+                continue;
+            }
+            byte[] bytes = field.toString().getBytes(StandardCharsets.UTF_8);
+            digest.update(ByteBuffer.allocate(Integer.BYTES).putInt(bytes.length).array());
+            digest.update(bytes);
+        }
+    }
+
+    private static Integer moduleIdOf(ModuleDomain module) {
+        return module != null ? module.getModuleId() : null;
+    }
+
+    private static <T> Map<Integer, T> indexById(List<T> items, Function<T, Integer> idExtractor) {
+        Map<Integer, T> index = new LinkedHashMap<>();
+        for (T item : items) {
+            index.put(idExtractor.apply(item), item);
+        }
+        return Collections.unmodifiableMap(index);
+    }
+
+    private static <T> Map<Integer, List<T>> groupByModule(List<T> items, Function<T, Integer> moduleIdExtractor) {
+        Map<Integer, List<T>> grouped = new LinkedHashMap<>();
+        for (T item : items) {
+            Integer moduleId = moduleIdExtractor.apply(item);
+            if (moduleId != null) {
+                grouped.computeIfAbsent(moduleId, k -> new ArrayList<>()).add(item);
+            }
+        }
+        grouped.replaceAll((moduleId, list) -> Collections.unmodifiableList(list));
+        return Collections.unmodifiableMap(grouped);
+    }
+}
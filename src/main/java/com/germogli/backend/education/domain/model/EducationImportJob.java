@@ -0,0 +1,142 @@
+package com.germogli.backend.education.domain.model;
+
+import com.germogli.backend.education.application.dto.EducationImportJobDTO;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Estado de un trabajo de importación masiva de contenido educativo.
+ * Lo actualiza el hilo que ejecuta la importación y lo consultan las peticiones de progreso,
+ * por eso todos sus métodos están sincronizados.
+ */
+public class EducationImportJob {
+
+    // Cantidad máxima de errores guardados para no crecer sin límite con archivos muy dañados
+    private static final int MAX_ERRORS = 200;
+
+    public enum Status { PENDING, RUNNING, COMPLETED, COMPLETED_WITH_ERRORS, FAILED }
+
+    @Getter
+    private final String jobId;
+    private Status status = Status.PENDING;
+    private String phase = "En cola";
+    private int uploadedFiles;
+    private int totalModules;
+    private int createdModules;
+    private int totalContents;
+    private int createdGuides;
+    private int createdVideos;
+    private int createdArticles;
+    private int errorCount;
+    private final List<String> errors = new ArrayList<>();
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+
+    public EducationImportJob(String jobId) {
+        this.jobId = jobId;
+    }
+
+    public synchronized void start() {
+        status = Status.RUNNING;
+        startedAt = LocalDateTime.now();
+    }
+
+    public synchronized void setPhase(String phase) {
+        this.phase = phase;
+    }
+
+    public synchronized void setTotals(int totalModules, int totalContents) {
+        this.totalModules = totalModules;
+        this.totalContents = totalContents;
+    }
+
+    public synchronized void fileUploaded() {
+        uploadedFiles++;
+    }
+
+    public synchronized void moduleCreated() {
+        createdModules++;
+    }
+
+    public synchronized void guideCreated() {
+        createdGuides++;
+    }
+
+    public synchronized void videoCreated() {
+        createdVideos++;
+    }
+
+    public synchronized void articleCreated() {
+        createdArticles++;
+    }
+
+    public synchronized void addError(String error) {
+        errorCount++;
+        if (errors.size() < MAX_ERRORS) {
+            errors.add(error);
+        }
+    }
+
+    public synchronized void complete() {
+        status = errorCount == 0 ? Status.COMPLETED : Status.COMPLETED_WITH_ERRORS;
+        phase = "Finalizado";
+        finishedAt = LocalDateTime.now();
+    }
+
+    public synchronized void fail(String error) {
+        addError(error);
+        status = Status.FAILED;
+        phase = "Fallido";
+        finishedAt = LocalDateTime.now();
+    }
+
+    public synchronized boolean isFinished() {
+        return finishedAt != null;
+    }
+
+    public synchronized boolean hasCreatedContent() {
+        return createdModules + createdGuides + createdVideos + createdArticles > 0;
+    }
+
+    public synchronized LocalDateTime getFinishedAt() {
+        return finishedAt;
+    }
+
+    /**
+     * Genera el mensaje de resumen que se envía como notificación al terminar.
+     *
+     * @return Resumen de la importación.
+     */
+    public synchronized String summary() {
+        String result = status == Status.FAILED ? "La importación de contenido educativo falló" : "Importación de contenido educativo finalizada";
+        return result + ": " + createdModules + " módulos, " + createdGuides + " guías, "
+                + createdVideos + " videos y " + createdArticles + " artículos creados"
+                + (errorCount > 0 ? ", " + errorCount + " errores." : ".");
+    }
+
+    /**
+     * Convierte el estado actual del trabajo en un DTO de respuesta.
+     *
+     * @return DTO con el progreso del trabajo.
+     */
+    public synchronized EducationImportJobDTO toResponse() {
+        return EducationImportJobDTO.builder()
+                .jobId(jobId)
+                .status(status.name())
+                .phase(phase)
+                .uploadedFiles(uploadedFiles)
+                .totalModules(totalModules)
+                .createdModules(createdModules)
+                .totalContents(totalContents)
+                .createdGuides(createdGuides)
+                .createdVideos(createdVideos)
+                .createdArticles(createdArticles)
+                .errors(List.copyOf(errors))
+                .startedAt(startedAt)
+                .finishedAt(finishedAt)
+                .build();
+    }
+}
@@ -0,0 +1,151 @@
+package com.germogli.backend.education.domain.model;
+
+import com.germogli.backend.education.module.domain.model.ModuleDomain;
+import com.germogli.backend.education.tag.domain.model.TagDomain;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Índice invertido inmutable etiqueta -> módulos.
+ * Para cada etiqueta guarda un arreglo ordenado de IDs de módulo, lo que permite resolver
+ * consultas OR (unión) y AND (intersección) en memoria sin consultar la base de datos.
+ * Se reconstruye junto con el catálogo educativo cada vez que cambia un módulo o una etiqueta.
+ */
+public final class ModuleTagIndex {
+
+    private static final int[] EMPTY = new int[0];
+
+    // Map estructura: tagId -> IDs de módulo ordenados ascendentemente y sin duplicados
+    private final Map<Integer, int[]> modulesByTag;
+
+    private ModuleTagIndex(Map<Integer, int[]> modulesByTag) {
+        this.modulesByTag = modulesByTag;
+    }
+
+    /**
+     * Construye el índice a partir de los módulos y sus etiquetas.
+     *
+     * @param modules Lista de módulos con sus etiquetas cargadas.
+     * @return Índice invertido.
+     */
+    public static ModuleTagIndex build(List<ModuleDomain> modules) {
+        Map<Integer, int[]> buffers = new HashMap<>();
+        Map<Integer, Integer> sizes = new HashMap<>();
+
+        for (ModuleDomain module : modules) {
+            if (module.getModuleId() == null || module.getTags() == null) {
+                continue;
+            }
+            for (TagDomain tag : module.getTags()) {
+                if (tag.getTagId() == null) {
+                    continue;
+                }
+                int size = sizes.getOrDefault(tag.getTagId(), 0);
+                int[] buffer = buffers.computeIfAbsent(tag.getTagId(), k -> new int[8]);
+                if (size == buffer.length) {
+                    buffer = Arrays.copyOf(buffer, size * 2);
+                    buffers.put(tag.getTagId(), buffer);
+                }
+                buffer[size] = module.getModuleId();
+                sizes.put(tag.getTagId(), size + 1);
+            }
+        }
+
+        Map<Integer, int[]> index = new HashMap<>(buffers.size() * 2);
+        buffers.forEach((tagId, buffer) -> {
+            int[] ids = Arrays.copyOf(buffer, sizes.get(tagId));
+            Arrays.sort(ids);
+            index.put(tagId, Arrays.stream(ids).distinct().toArray());
+        });
+        return new ModuleTagIndex(Collections.unmodifiableMap(index));
+    }
+
+    /**
+     * Obtiene los módulos que tienen al menos una de las etiquetas indicadas (OR).
+     *
+     * @param tagIds IDs de etiquetas.
+     * @return IDs de módulo ordenados ascendentemente.
+     */
+    public int[] matchAny(Collection<Integer> tagIds) {
+        if (tagIds == null || tagIds.isEmpty()) {
+            return EMPTY;
+        }
+        if (tagIds.size() == 1) {
+            return postings(tagIds.iterator().next()).clone();
+        }
+
+        BitSet union = new BitSet();
+        for (Integer tagId : tagIds) {
+            for (int moduleId : postings(tagId)) {
+                union.set(moduleId);
+            }
+        }
+        return union.stream().toArray();
+    }
+
+    /**
+     * Obtiene los módulos que tienen todas las etiquetas indicadas (AND).
+     * Intersecta empezando por la lista más corta para minimizar comparaciones.
+     *
+     * @param tagIds IDs de etiquetas.
+     * @return IDs de módulo ordenados ascendentemente.
+     */
+    public int[] matchAll(Collection<Integer> tagIds) {
+        if (tagIds == null || tagIds.isEmpty()) {
+            return EMPTY;
+        }
+
+        int[][] lists = tagIds.stream()
+                .distinct()
+                .map(this::postings)
+                .sorted((a, b) -> Integer.compare(a.length, b.length))
+                .toArray(int[][]::new);
+
+        int[] result = lists[0].clone();
+        int length = result.length;
+        for (int i = 1; i < lists.length && length > 0; i++) {
+            length = intersectInPlace(result, length, lists[i]);
+        }
+        return length == result.length ? result : Arrays.copyOf(result, length);
+    }
+
+    /**
+     * Cantidad de módulos asociados a una etiqueta.
+     *
+     * @param tagId ID de la etiqueta.
+     * @return Cantidad de módulos.
+     */
+    public int moduleCount(Integer tagId) {
+        return postings(tagId).length;
+    }
+
+    private int[] postings(Integer tagId) {
+        int[] ids = modulesByTag.get(tagId);
+        return ids != null ? ids : EMPTY;
+    }
+
+    // Intersección de dos arreglos ordenados; deja el resultado al inicio de "target" y devuelve su longitud
+    private static int intersectInPlace(int[] target, int targetLength, int[] other) {
+        int i = 0;
+        int j = 0;
+        int out = 0;
+        while (i < targetLength && j < other.length) {
+            if (target[i] < other[j]) {
+                i++;
+            } else if (target[i] > other[j]) {
+                j++;
+            } else {
+                target[out++] = target[i];
+                i++;
+                j++;
+            }
+        }
+        return out;
+    }
+}
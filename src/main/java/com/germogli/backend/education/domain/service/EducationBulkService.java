@@ -0,0 +1,558 @@
+package com.germogli.backend.education.domain.service;
+
+import com.azure.storage.blob.models.BlobProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.germogli.backend.authentication.domain.model.UserDomain;
+import com.germogli.backend.common.azure.AzureBlobStorageService;
+import com.germogli.backend.common.exception.CustomForbiddenException;
+import com.germogli.backend.common.exception.ResourceNotFoundException;
+import com.germogli.backend.common.notification.application.service.NotificationService;
+import com.germogli.backend.education.application.dto.EducationImportManifestDTO;
+import com.germogli.backend.education.application.dto.EducationImportManifestDTO.ArticleEntry;
+import com.germogli.backend.education.application.dto.EducationImportManifestDTO.GuideEntry;
+import com.germogli.backend.education.application.dto.EducationImportManifestDTO.ModuleEntry;
+import com.germogli.backend.education.application.dto.EducationImportManifestDTO.VideoEntry;
+import com.germogli.backend.education.articles.domain.model.ArticleDomain;
+import com.germogli.backend.education.articles.domain.repository.ArticleDomainRepository;
+import com.germogli.backend.education.domain.model.EducationCatalogSnapshot;
+import com.germogli.backend.education.domain.model.EducationImportJob;
+import com.germogli.backend.education.guides.domain.model.GuideDomain;
+import com.germogli.backend.education.guides.domain.repository.GuideDomainRepository;
+import com.germogli.backend.education.infrastructure.cache.EducationCatalogCache;
+import com.germogli.backend.education.module.domain.model.ModuleDomain;
+import com.germogli.backend.education.module.domain.repository.ModuleDomainRepository;
+import com.germogli.backend.education.tag.domain.model.TagDomain;
+import com.germogli.backend.education.tag.domain.service.TagDomainService;
+import com.germogli.backend.education.tag.infrastructure.cache.TagDictionaryCache;
+import com.germogli.backend.education.videos.domain.model.VideoDomain;
+import com.germogli.backend.education.videos.domain.repository.VideoDomainRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.concurrent.DelegatingSecurityContextRunnable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.function.Function;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Servicio para importar y exportar contenido educativo en bloque mediante archivos ZIP.
+ * El ZIP contiene un manifest.json con los módulos y su contenido, y los PDFs de las guías.
+ * La importación se ejecuta como un trabajo en segundo plano: lee el ZIP entrada por entrada,
+ * sube los PDFs a Azure en paralelo, inserta las filas en lotes transaccionales, refresca el catálogo
+ * una sola vez y envía una única notificación con el resumen.
+ */
+@Slf4j
+@Service
+public class EducationBulkService {
+
+    private static final String MANIFEST_ENTRY = "manifest.json";
+    private static final String PDF_CONTAINER = "pdfs-educativos";
+    private static final int FORMAT_VERSION = 1;
+    private static final long MAX_PDF_BYTES = 10L * 1024 * 1024;   // Mismo límite que la creación de guías
+    private static final long MAX_MANIFEST_BYTES = 5L * 1024 * 1024;
+    private static final int BATCH_SIZE = 50;
+    // PDFs leídos y pendientes de subir a la vez; acota la memoria usada por una importación
+    private static final int MAX_PENDING_UPLOADS = 4;
+    private static final long JOB_RETENTION_MINUTES = 60;
+
+    private final ModuleDomainRepository moduleDomainRepository;
+    private final GuideDomainRepository guideDomainRepository;
+    private final VideoDomainRepository videoDomainRepository;
+    private final ArticleDomainRepository articleDomainRepository;
+    private final TagDomainService tagDomainService;
+    private final EducationCatalogCache educationCatalogCache;
+    private final EducationSharedService educationSharedService;
+    private final AzureBlobStorageService azureBlobStorageService;
+    private final NotificationService notificationService;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final Executor importExecutor;
+    private final Executor uploadExecutor;
+
+    // Map estructura: jobId -> trabajo de importación (los terminados se conservan una hora)
+    private final Map<String, EducationImportJob> jobs = new ConcurrentHashMap<>();
+
+    public EducationBulkService(ModuleDomainRepository moduleDomainRepository,
+                                GuideDomainRepository guideDomainRepository,
+                                VideoDomainRepository videoDomainRepository,
+                                ArticleDomainRepository articleDomainRepository,
+                                TagDomainService tagDomainService,
+                                EducationCatalogCache educationCatalogCache,
+                                EducationSharedService educationSharedService,
+                                AzureBlobStorageService azureBlobStorageService,
+                                NotificationService notificationService,
+                                ObjectMapper objectMapper,
+                                PlatformTransactionManager transactionManager,
+                                @Qualifier("educationImportExecutor") Executor importExecutor,
+                                @Qualifier("educationUploadExecutor") Executor uploadExecutor) {
+        this.moduleDomainRepository = moduleDomainRepository;
+        this.guideDomainRepository = guideDomainRepository;
+        this.videoDomainRepository = videoDomainRepository;
+        this.articleDomainRepository = articleDomainRepository;
+        this.tagDomainService = tagDomainService;
+        this.educationCatalogCache = educationCatalogCache;
+        this.educationSharedService = educationSharedService;
+        this.azureBlobStorageService = azureBlobStorageService;
+        this.notificationService = notificationService;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.importExecutor = importExecutor;
+        this.uploadExecutor = uploadExecutor;
+    }
+
+    /**
+     * Inicia la importación de un archivo ZIP en segundo plano.
+     * El archivo se guarda en disco (sin cargarlo en memoria) porque la petición termina antes que el trabajo.
+     *
+     * @param archive Archivo ZIP con manifest.json y los PDFs de las guías.
+     * @return Trabajo de importación creado, para consultar su progreso.
+     */
+    public EducationImportJob startImport(MultipartFile archive) {
+        UserDomain currentUser = validateAdmin("importar contenido educativo");
+
+        if (archive == null || archive.isEmpty()) {
+            throw new CustomForbiddenException("El archivo ZIP no puede estar vacío");
+        }
+
+        Path archivePath;
+        try {
+            archivePath = Files.createTempFile("education-import-", ".zip");
+            archive.transferTo(archivePath);
+        } catch (IOException e) {
+            throw new RuntimeException("Error al recibir el archivo ZIP", e);
+        }
+
+        sweepFinishedJobs();
+        EducationImportJob job = new EducationImportJob(UUID.randomUUID().toString());
+        jobs.put(job.getJobId(), job);
+
+        // El trabajo conserva el contexto de seguridad del administrador que lo inició
+        Runnable task = new DelegatingSecurityContextRunnable(() -> runImport(job, archivePath, currentUser));
+        try {
+            importExecutor.execute(task);
+        } catch (RejectedExecutionException e) {
+            jobs.remove(job.getJobId());
+            deleteQuietly(archivePath);
+            throw new CustomForbiddenException("Hay demasiadas importaciones en curso, intente más tarde.");
+        }
+        return job;
+    }
+
+    /**
+     * Obtiene un trabajo de importación por su ID.
+     *
+     * @param jobId ID del trabajo.
+     * @return Trabajo de importación.
+     * @throws ResourceNotFoundException si el trabajo no existe o ya expiró.
+     */
+    public EducationImportJob getImportJob(String jobId) {
+        validateAdmin("consultar importaciones");
+        EducationImportJob job = jobs.get(jobId);
+        if (job == null) {
+            throw new ResourceNotFoundException("Importación no encontrada con id " + jobId);
+        }
+        return job;
+    }
+
+    /**
+     * Prepara la exportación del catálogo educativo completo como archivo ZIP.
+     * El manifiesto y los PDFs se escriben directamente en la respuesta, sin armar el ZIP en memoria.
+     *
+     * @return Cuerpo de la respuesta que escribe el ZIP en streaming.
+     */
+    public StreamingResponseBody exportArchive() {
+        validateAdmin("exportar contenido educativo");
+        EducationCatalogSnapshot snapshot = educationCatalogCache.getSnapshot();
+
+        Map<String, String> pdfBlobsByPath = new HashMap<>();
+        EducationImportManifestDTO manifest = buildManifest(snapshot, pdfBlobsByPath);
+
+        return outputStream -> {
+            ZipOutputStream zip = new ZipOutputStream(outputStream);
+            zip.putNextEntry(new ZipEntry(MANIFEST_ENTRY));
+            zip.write(objectMapper.writeValueAsBytes(manifest));
+            zip.closeEntry();
+
+            for (Map.Entry<String, String> pdf : pdfBlobsByPath.entrySet()) {
+                BlobProperties properties = azureBlobStorageService.getBlobProperties(PDF_CONTAINER, pdf.getValue());
+                if (properties == null) {
+                    log.warn("PDF {} no encontrado en Azure, se omite de la exportación", pdf.getValue());
+                    continue;
+                }
+                zip.putNextEntry(new ZipEntry(pdf.getKey()));
+                if (properties.getBlobSize() > 0) {
+                    azureBlobStorageService.downloadRange(PDF_CONTAINER, pdf.getValue(), 0, properties.getBlobSize(),
+                            properties.getETag(), zip);
+                }
+                zip.closeEntry();
+            }
+            zip.finish();
+        };
+    }
+
+    // Arma el manifiesto desde la instantánea y registra qué blob corresponde a cada ruta de PDF del ZIP
+    private EducationImportManifestDTO buildManifest(EducationCatalogSnapshot snapshot, Map<String, String> pdfBlobsByPath) {
+        List<ModuleEntry> modules = new ArrayList<>();
+        for (ModuleDomain module : snapshot.getModules()) {
+            List<GuideEntry> guides = new ArrayList<>();
+            for (GuideDomain guide : snapshot.getGuidesByModuleId(module.getModuleId())) {
+                String pdfPath = null;
+                if (guide.getPdfUrl() != null && !guide.getPdfUrl().isEmpty()) {
+                    String blobName = guide.getPdfUrl().substring(guide.getPdfUrl().lastIndexOf("/") + 1);
+                    pdfPath = "pdfs/" + guide.getGuideId() + "_" + blobName;
+                    pdfBlobsByPath.put(pdfPath, blobName);
+                }
+                guides.add(GuideEntry.builder()
+                        .title(guide.getTitle())
+                        .description(guide.getDescription())
+                        .pdfFileName(guide.getPdfFileName())
+                        .pdf(pdfPath)
+                        .build());
+            }
+
+            modules.add(ModuleEntry.builder()
+                    .title(module.getTitle())
+                    .description(module.getDescription())
+                    .tags(module.getTags().stream().map(TagDomain::getTagName).toList())
+                    .guides(guides)
+                    .videos(snapshot.getVideosByModuleId(module.getModuleId()).stream()
+                            .map(video -> new VideoEntry(video.getTitle(), video.getVideoUrl()))
+                            .toList())
+                    .articles(snapshot.getArticlesByModuleId(module.getModuleId()).stream()
+                            .map(article -> new ArticleEntry(article.getTitle(), article.getArticleUrl()))
+                            .toList())
+                    .build());
+        }
+
+        return EducationImportManifestDTO.builder()
+                .formatVersion(FORMAT_VERSION)
+                .exportedAt(LocalDateTime.now())
+                .modules(modules)
+                .build();
+    }
+
+    // Ejecuta la importación completa; siempre termina con una notificación de resumen
+    private void runImport(EducationImportJob job, Path archivePath, UserDomain user) {
+        job.start();
+        Map<String, String> uploadedUrls = new HashMap<>();
+        Set<String> usedUrls = new LinkedHashSet<>();
+        try {
+            EducationImportManifestDTO manifest = readArchive(job, archivePath, uploadedUrls);
+            insertContent(job, manifest, uploadedUrls, usedUrls);
+            job.complete();
+        } catch (RuntimeException | IOException e) {
+            log.warn("La importación {} falló", job.getJobId(), e);
+            job.fail(e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName());
+        } finally {
+            deleteQuietly(archivePath);
+            deleteUnusedUploads(uploadedUrls, usedUrls);
+            if (job.hasCreatedContent()) {
+                educationCatalogCache.refresh();
+            }
+        }
+
+        try {
+            notificationService.sendNotification(user.getId(), job.summary(), "education_import");
+        } catch (RuntimeException e) {
+            log.warn("No se pudo enviar la notificación de la importación {}", job.getJobId(), e);
+        }
+    }
+
+    /**
+     * Recorre el ZIP una sola vez: interpreta el manifiesto y sube cada PDF en paralelo a medida que aparece.
+     * Solo se mantienen en memoria los PDFs pendientes de subir (como máximo MAX_PENDING_UPLOADS).
+     *
+     * @return Manifiesto leído; uploadedUrls queda con ruta en el ZIP -> URL del blob subido.
+     */
+    private EducationImportManifestDTO readArchive(EducationImportJob job, Path archivePath,
+                                                   Map<String, String> uploadedUrls) throws IOException {
+        job.setPhase("Leyendo archivo y subiendo PDFs");
+        EducationImportManifestDTO manifest = null;
+        Map<String, CompletableFuture<String>> uploads = new HashMap<>();
+        Semaphore pending = new Semaphore(MAX_PENDING_UPLOADS);
+        String blobPrefix = "import_" + job.getJobId().substring(0, 8) + "_";
+
+        try (ZipInputStream zip = new ZipInputStream(new BufferedInputStream(Files.newInputStream(archivePath)))) {
+            ZipEntry entry;
+            while ((entry = zip.getNextEntry()) != null) {
+                String name = entry.getName();
+                if (entry.isDirectory()) {
+                    continue;
+                }
+                if (name.equals(MANIFEST_ENTRY)) {
+                    manifest = objectMapper.readValue(readBounded(zip, MAX_MANIFEST_BYTES, name), EducationImportManifestDTO.class);
+                } else if (name.toLowerCase().endsWith(".pdf")) {
+                    byte[] content;
+                    try {
+                        content = readBounded(zip, MAX_PDF_BYTES, name);
+                    } catch (CustomForbiddenException e) {
+                        job.addError(e.getMessage());
+                        continue;
+                    }
+                    String blobName = blobPrefix + uploads.size() + "_" + sanitize(name.substring(name.lastIndexOf('/') + 1));
+                    pending.acquireUninterruptibly();
+                    uploads.put(name, CompletableFuture.supplyAsync(() -> {
+                        try {
+                            return azureBlobStorageService.uploadFile(PDF_CONTAINER, blobName,
+                                    new ByteArrayInputStream(content), content.length);
+                        } finally {
+                            pending.release();
+                        }
+                    }, uploadExecutor));
+                } else {
+                    job.addError("Entrada ignorada: " + name);
+                }
+            }
+        } finally {
+            // Espera todas las subidas, aunque la lectura haya fallado, para poder limpiar lo subido
+            for (Map.Entry<String, CompletableFuture<String>> upload : uploads.entrySet()) {
+                try {
+                    uploadedUrls.put(upload.getKey(), upload.getValue().join());
+                    job.fileUploaded();
+                } catch (RuntimeException e) {
+                    job.addError("No se pudo subir " + upload.getKey() + ": " + rootMessage(e));
+                }
+            }
+        }
+
+        if (manifest == null) {
+            throw new CustomForbiddenException("El archivo ZIP no contiene " + MANIFEST_ENTRY);
+        }
+        return manifest;
+    }
+
+    // Inserta módulos y luego su contenido, en lotes transaccionales
+    private void insertContent(EducationImportJob job, EducationImportManifestDTO manifest,
+                               Map<String, String> uploadedUrls, Set<String> usedUrls) {
+        List<ModuleEntry> modules = manifest.getModules() != null ? manifest.getModules() : List.of();
+        int totalContents = modules.stream()
+                .mapToInt(m -> size(m.getGuides()) + size(m.getVideos()) + size(m.getArticles()))
+                .sum();
+        job.setTotals(modules.size(), totalContents);
+
+        // Todas las etiquetas se resuelven (o crean) en una sola llamada
+        job.setPhase("Resolviendo etiquetas");
+        List<String> tagNames = modules.stream()
+                .filter(m -> m.getTags() != null)
+                .flatMap(m -> m.getTags().stream())
+                .toList();
+        Map<String, TagDomain> tagsByName = new HashMap<>();
+        if (!tagNames.isEmpty()) {
+            for (TagDomain tag : tagDomainService.resolveTagNames(tagNames)) {
+                tagsByName.put(TagDictionaryCache.normalize(tag.getTagName()), tag);
+            }
+        }
+
+        job.setPhase("Creando módulos");
+        List<Integer> moduleIds = insertInBatches(job, modules,
+                entry -> moduleDomainRepository.createModuleWithTags(toModule(entry, tagsByName)).getModuleId(),
+                entry -> "el módulo '" + entry.getTitle() + "'");
+        moduleIds.stream().filter(id -> id != null).forEach(id -> job.moduleCreated());
+
+        job.setPhase("Creando guías, videos y artículos");
+        List<GuideDomain> guides = new ArrayList<>();
+        List<VideoDomain> videos = new ArrayList<>();
+        List<ArticleDomain> articles = new ArrayList<>();
+        for (int i = 0; i < modules.size(); i++) {
+            ModuleEntry entry = modules.get(i);
+            Integer moduleId = moduleIds.get(i);
+            if (moduleId == null) {
+                continue;
+            }
+            ModuleDomain moduleRef = ModuleDomain.builder().moduleId(moduleId).build();
+
+            for (GuideEntry guide : orEmpty(entry.getGuides())) {
+                String pdfUrl = guide.getPdf() != null ? uploadedUrls.get(guide.getPdf()) : null;
+                if (isBlank(guide.getTitle()) || pdfUrl == null) {
+                    job.addError("Guía '" + guide.getTitle() + "' omitida: falta el título o el PDF " + guide.getPdf());
+                    continue;
+                }
+                guides.add(GuideDomain.builder()
+                        .moduleId(moduleRef)
+                        .title(guide.getTitle())
+                        .description(guide.getDescription())
+                        .pdfFileName(guide.getPdfFileName() != null ? guide.getPdfFileName()
+                                : guide.getPdf().substring(guide.getPdf().lastIndexOf('/') + 1))
+                        .pdfUrl(pdfUrl)
+                        .creationDate(LocalDateTime.now())
+                        .build());
+            }
+            for (VideoEntry video : orEmpty(entry.getVideos())) {
+                if (isBlank(video.getTitle()) || isBlank(video.getVideoUrl())) {
+                    job.addError("Video '" + video.getTitle() + "' omitido: falta el título o la URL");
+                    continue;
+                }
+                videos.add(VideoDomain.builder()
+                        .moduleId(moduleRef)
+                        .title(video.getTitle())
+                        .videoUrl(video.getVideoUrl())
+                        .creationDate(LocalDateTime.now())
+                        .build());
+            }
+            for (ArticleEntry article : orEmpty(entry.getArticles())) {
+                if (isBlank(article.getTitle()) || isBlank(article.getArticleUrl())) {
+                    job.addError("Artículo '" + article.getTitle() + "' omitido: falta el título o la URL");
+                    continue;
+                }
+                articles.add(ArticleDomain.builder()
+                        .moduleId(moduleRef)
+                        .title(article.getTitle())
+                        .articleUrl(article.getArticleUrl())
+                        .creationDate(LocalDateTime.now())
+                        .build());
+            }
+        }
+
+        List<GuideDomain> createdGuides = insertInBatches(job, guides, guideDomainRepository::createGuide,
+                guide -> "la guía '" + guide.getTitle() + "'");
+        for (int i = 0; i < guides.size(); i++) {
+            if (createdGuides.get(i) != null) {
+                usedUrls.add(guides.get(i).getPdfUrl());
+                job.guideCreated();
+            }
+        }
+        insertInBatches(job, videos, videoDomainRepository::createVideo, video -> "el video '" + video.getTitle() + "'")
+                .stream().filter(v -> v != null).forEach(v -> job.videoCreated());
+        insertInBatches(job, articles, articleDomainRepository::createArticle, article -> "el artículo '" + article.getTitle() + "'")
+                .stream().filter(a -> a != null).forEach(a -> job.articleCreated());
+    }
+
+    /**
+     * Inserta elementos en lotes, cada lote en una sola transacción.
+     * Si un lote falla, se reintenta elemento por elemento para aislar las filas con error.
+     *
+     * @return Resultados alineados con los elementos recibidos (null para los que fallaron).
+     */
+    private <T, R> List<R> insertInBatches(EducationImportJob job, List<T> items, Function<T, R> insert,
+                                           Function<T, String> describe) {
+        List<R> results = new ArrayList<>(items.size());
+        for (int from = 0; from < items.size(); from += BATCH_SIZE) {
+            List<T> batch = items.subList(from, Math.min(from + BATCH_SIZE, items.size()));
+            try {
+                results.addAll(transactionTemplate.execute(status -> batch.stream().map(insert).toList()));
+            } catch (RuntimeException batchError) {
+                for (T item : batch) {
+                    try {
+                        results.add(transactionTemplate.execute(status -> insert.apply(item)));
+                    } catch (RuntimeException e) {
+                        job.addError("No se pudo crear " + describe.apply(item) + ": " + rootMessage(e));
+                        results.add(null);
+                    }
+                }
+            }
+        }
+        return results;
+    }
+
+    private ModuleDomain toModule(ModuleEntry entry, Map<String, TagDomain> tagsByName) {
+        if (isBlank(entry.getTitle())) {
+            throw new CustomForbiddenException("El título del módulo no puede estar vacío");
+        }
+        Set<TagDomain> tags = new LinkedHashSet<>();
+        for (String tagName : orEmpty(entry.getTags())) {
+            TagDomain tag = tagsByName.get(TagDictionaryCache.normalize(tagName));
+            if (tag != null) {
+                tags.add(tag);
+            }
+        }
+        return ModuleDomain.builder()
+                .title(entry.getTitle())
+                .description(entry.getDescription())
+                .creationDate(LocalDateTime.now())
+                .tags(tags)
+                .build();
+    }
+
+    // Borra los PDFs subidos que no quedaron asociados a ninguna guía creada
+    private void deleteUnusedUploads(Map<String, String> uploadedUrls, Set<String> usedUrls) {
+        for (String url : uploadedUrls.values()) {
+            if (!usedUrls.contains(url)) {
+                try {
+                    azureBlobStorageService.deleteBlob(PDF_CONTAINER, url.substring(url.lastIndexOf('/') + 1));
+                } catch (RuntimeException e) {
+                    log.warn("No se pudo eliminar el PDF no utilizado {}", url, e);
+                }
+            }
+        }
+    }
+
+    private UserDomain validateAdmin(String action) {
+        UserDomain currentUser = educationSharedService.getAuthenticatedUser();
+        if (!educationSharedService.hasRole(currentUser, "ADMINISTRADOR")) {
+            throw new AccessDeniedException("El usuario no tiene permisos para " + action + ".");
+        }
+        return currentUser;
+    }
+
+    private void sweepFinishedJobs() {
+        LocalDateTime limit = LocalDateTime.now().minusMinutes(JOB_RETENTION_MINUTES);
+        jobs.values().removeIf(job -> job.isFinished() && job.getFinishedAt().isBefore(limit));
+    }
+
+    // Lee la entrada actual del ZIP con un tamaño máximo, sin confiar en el tamaño declarado en el archivo
+    private static byte[] readBounded(InputStream input, long maxBytes, String name) throws IOException {
+        byte[] content = input.readNBytes((int) maxBytes + 1);
+        if (content.length > maxBytes) {
+            throw new CustomForbiddenException("El archivo " + name + " excede el límite de " + (maxBytes / (1024 * 1024)) + "MB.");
+        }
+        return content;
+    }
+
+    private static String sanitize(String fileName) {
+        return fileName.replaceAll("\\s+", "_").replaceAll("[^a-zA-Z0-9._-]", "");
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("No se pudo eliminar el archivo temporal {}", path, e);
+        }
+    }
+
+    private static String rootMessage(Throwable e) {
+        Throwable cause = e;
+        while (cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause.getMessage() != null ? cause.getMessage() : cause.getClass().getSimpleName();
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.trim().isEmpty();
+    }
+
+    private static int size(List<?> list) {
+        return list != null ? list.size() : 0;
+    }
+
+    private static <T> List<T> orEmpty(List<T> list) {
+        return list != null ? list : List.of();
+    }
+}
@@ -0,0 +1,125 @@
+package com.germogli.backend.education.domain.service;
+
+import com.germogli.backend.common.exception.ResourceNotFoundException;
+import com.germogli.backend.education.application.dto.ModuleBundleResponseDTO;
+import com.germogli.backend.education.articles.application.dto.ArticleResponseDTO;
+import com.germogli.backend.education.domain.model.EducationCatalogSnapshot;
+import com.germogli.backend.education.guides.application.dto.GuideResponseDTO;
+import com.germogli.backend.education.guides.domain.model.GuideDomain;
+import com.germogli.backend.education.guides.domain.service.GuideDomainService;
+import com.germogli.backend.education.infrastructure.cache.EducationCatalogCache;
+import com.germogli.backend.education.module.application.dto.ModuleResponseDTO;
+import com.germogli.backend.education.module.domain.model.ModuleDomain;
+import com.germogli.backend.education.videos.application.dto.VideoResponseDTO;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
+
+/**
+ * Servicio que arma el paquete de contenido de un módulo educativo en una sola operación.
+ * Todas las partes se leen de la misma instantánea del catálogo, por lo que el paquete es siempre consistente;
+ * la firma de las URLs de las guías (la única parte que puede consultar Azure) se hace en paralelo
+ * sobre un ejecutor acotado. El resultado se guarda unos segundos por módulo y se descarta
+ * en cuanto cambia la versión del catálogo.
+ */
+@Service
+public class ModuleBundleService {
+
+    // Tiempo de vida de un paquete en caché (las URLs firmadas siguen siendo válidas mucho más tiempo)
+    private static final long BUNDLE_TTL_MILLIS = 60_000;
+
+    private final EducationCatalogCache educationCatalogCache;
+    private final GuideDomainService guideDomainService;
+    private final Executor executor;
+
+    // Map estructura: moduleId -> paquete armado y su vigencia
+    private final Map<Integer, CachedBundle> bundles = new ConcurrentHashMap<>();
+
+    public ModuleBundleService(EducationCatalogCache educationCatalogCache,
+                               GuideDomainService guideDomainService,
+                               @Qualifier("educationBundleExecutor") Executor executor) {
+        this.educationCatalogCache = educationCatalogCache;
+        this.guideDomainService = guideDomainService;
+        this.executor = executor;
+    }
+
+    /**
+     * Obtiene el paquete de contenido de un módulo.
+     *
+     * @param moduleId ID del módulo.
+     * @return Paquete con el módulo, sus etiquetas, guías, videos y artículos.
+     * @throws ResourceNotFoundException si el módulo no existe.
+     */
+    public ModuleBundleResponseDTO getModuleBundle(Integer moduleId) {
+        EducationCatalogSnapshot snapshot = educationCatalogCache.getSnapshot();
+        long now = System.currentTimeMillis();
+
+        CachedBundle cached = bundles.get(moduleId);
+        if (cached != null && cached.version() == snapshot.getVersion() && cached.expiresAt() > now) {
+            return cached.bundle();
+        }
+
+        ModuleDomain module = snapshot.getModulesById().get(moduleId);
+        if (module == null) {
+            bundles.remove(moduleId);
+            throw new ResourceNotFoundException("Modulo no encontrado con id: " + moduleId);
+        }
+
+        ModuleBundleResponseDTO bundle = build(snapshot, module);
+        bundles.put(moduleId, new CachedBundle(snapshot.getVersion(), now + BUNDLE_TTL_MILLIS, bundle));
+        return bundle;
+    }
+
+    private ModuleBundleResponseDTO build(EducationCatalogSnapshot snapshot, ModuleDomain module) {
+        Integer moduleId = module.getModuleId();
+
+        // Cada guía se firma en su propia tarea; videos y artículos se mapean mientras tanto
+        List<CompletableFuture<GuideResponseDTO>> guideFutures = snapshot.getGuidesByModuleId(moduleId).stream()
+                .map(guide -> CompletableFuture.supplyAsync(() -> toSignedResponse(guide), executor))
+                .toList();
+        CompletableFuture<List<VideoResponseDTO>> videosFuture = CompletableFuture.supplyAsync(
+                () -> snapshot.getVideosByModuleId(moduleId).stream()
+                        .map(VideoResponseDTO::fromDomain)
+                        .collect(Collectors.toList()),
+                executor);
+        CompletableFuture<List<ArticleResponseDTO>> articlesFuture = CompletableFuture.supplyAsync(
+                () -> snapshot.getArticlesByModuleId(moduleId).stream()
+                        .map(ArticleResponseDTO::fromDomain)
+                        .collect(Collectors.toList()),
+                executor);
+
+        ModuleResponseDTO moduleResponse = ModuleResponseDTO.fromDomain(module);
+
+        try {
+            return ModuleBundleResponseDTO.builder()
+                    .catalogVersion(snapshot.getVersion())
+                    .generatedAt(LocalDateTime.now())
+                    .module(moduleResponse)
+                    .guides(guideFutures.stream().map(CompletableFuture::join).collect(Collectors.toList()))
+                    .videos(videosFuture.join())
+                    .articles(articlesFuture.join())
+                    .build();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    // Convierte una guía a DTO con la URL del PDF firmada
+    private GuideResponseDTO toSignedResponse(GuideDomain guide) {
+        return guideDomainService.toResponseList(List.of(guide)).get(0);
+    }
+
+    private record CachedBundle(long version, long expiresAt, ModuleBundleResponseDTO bundle) {
+    }
+}
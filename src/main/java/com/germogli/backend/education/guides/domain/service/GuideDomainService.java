@@ -11,6 +11,7 @@ import com.germogli.backend.education.guides.application.dto.GuideResponseDTO;
 import com.germogli.backend.education.guides.application.dto.UpdateGuideRequestDTO;
 import com.germogli.backend.education.guides.domain.model.GuideDomain;
 import com.germogli.backend.education.guides.domain.repository.GuideDomainRepository;
+import com.germogli.backend.education.infrastructure.cache.EducationCatalogCache;
 import com.germogli.backend.education.module.domain.model.ModuleDomain;
 import com.germogli.backend.education.module.domain.service.ModuleDomainService;
 import lombok.RequiredArgsConstructor;
@@ -33,6 +34,7 @@ public class GuideDomainService {
     private final AzureBlobStorageService azureBlobStorageService; // Servicio para interactuar con Azure Blob Storage
     private final EducationSharedService educationSharedService; // Servicio compartido para funciones comunes relacionadas con la educación
     private final NotificationService notificationService;    // Servicio para enviar notificaciones a través de WebSockets
+    private final EducationCatalogCache educationCatalogCache; // Catálogo educativo en memoria
 
     /**
      * Elimina una guía educativa: primero elimina el archivo en Azure Blob Storage y luego la guía en la base de datos.
@@ -59,6 +61,7 @@ public class GuideDomainService {
 
         // Llamar al repositorio para eliminar la guía en la base de datos
         guideDomainRepository.deleteGuide(guideId);
+        educationCatalogCache.refresh();
 
         // Enviar notificación WebSocket después de eliminar la guía
         Integer moduleId = guide.getModuleId() != null ? guide.getModuleId().getModuleId() : null;
@@ -106,6 +109,7 @@ public class GuideDomainService {
 
         // Llamar al repositorio para realizar la actualización
         GuideDomain updatedGuide = guideDomainRepository.updateGuideInfo(guideDomain);
+        educationCatalogCache.refresh();
 
         // Enviar notificación WebSocket después de actualizar la guía
         String moduloInfo = module != null ? " del módulo " + module.getTitle() : "";
@@ -125,7 +129,7 @@ public class GuideDomainService {
      * @throws ResourceNotFoundException si no hay guias disponibles.
      */
     public List<GuideDomain> getAllGuides() {
-        List<GuideDomain> guides = guideDomainRepository.getAll();
+        List<GuideDomain> guides = educationCatalogCache.getSnapshot().getGuides();
         if (guides.isEmpty()) {
             throw new ResourceNotFoundException("No hay guias disponibles.");
         }
@@ -140,7 +144,7 @@ public class GuideDomainService {
      * @throws ResourceNotFoundException si no se encuentran guías para el módulo proporcionado.
      */
     public List<GuideDomain> getGuidesByModuleId(Integer moduleId) {
-        List<GuideDomain> guides = guideDomainRepository.getByModuleId(moduleId);
+        List<GuideDomain> guides = educationCatalogCache.getSnapshot().getGuidesByModuleId(moduleId);
         if (guides.isEmpty()) {
             throw new ResourceNotFoundException("No hay guias disponibles para este modulo.");
         }
@@ -155,8 +159,11 @@ public class GuideDomainService {
      * @throws ResourceNotFoundException si no se encuentra la guía con el ID proporcionado.
      */
     public GuideDomain getGuideById(Integer id) {
-        return guideDomainRepository.getById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Guia no encontrada con id " + id));
+        GuideDomain guide = educationCatalogCache.getSnapshot().getGuidesById().get(id);
+        if (guide == null) {
+            throw new ResourceNotFoundException("Guia no encontrada con id " + id);
+        }
+        return guide;
     }
 
     // Método para crear una nueva guía educativa
@@ -198,6 +205,7 @@ public class GuideDomainService {
 
             // Guardar la guía en la base de datos utilizando un procedimiento almacenado
             GuideDomain createdGuide = guideDomainRepository.createGuide(guideDomain);
+            educationCatalogCache.refresh();
 
             // Enviar notificación WebSocket después de crear la guía
             notificationService.sendNotification(
@@ -250,6 +258,21 @@ public class GuideDomainService {
         );
     }
 
+    /**
+     * Obtiene el nombre del blob del PDF de una guía, para servirlo a través del backend.
+     *
+     * @param guideId ID de la guía.
+     * @return Nombre del blob dentro del contenedor "pdfs-educativos".
+     * @throws ResourceNotFoundException si la guía no existe o no tiene PDF.
+     */
+    public String getGuidePdfBlobName(Integer guideId) {
+        GuideDomain guide = getGuideById(guideId);
+        if (guide.getPdfUrl() == null || guide.getPdfUrl().isEmpty()) {
+            throw new ResourceNotFoundException("La guía no tiene un archivo PDF asociado.");
+        }
+        return extractFileNameFromUrl(guide.getPdfUrl());
+    }
+
     // Método auxiliar para extraer nombre de archivo desde URL
     private String extractFileNameFromUrl(String url) {
         return url.substring(url.lastIndexOf("/") + 1);
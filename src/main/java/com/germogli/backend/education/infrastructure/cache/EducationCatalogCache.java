@@ -0,0 +1,125 @@
+package com.germogli.backend.education.infrastructure.cache;
+
+import com.germogli.backend.common.search.SearchDocument;
+import com.germogli.backend.common.search.SearchIndex;
+import com.germogli.backend.education.articles.domain.repository.ArticleDomainRepository;
+import com.germogli.backend.education.domain.model.EducationCatalogSnapshot;
+import com.germogli.backend.education.guides.domain.repository.GuideDomainRepository;
+import com.germogli.backend.education.module.domain.repository.ModuleDomainRepository;
+import com.germogli.backend.education.tag.domain.repository.TagDomainRepository;
+import com.germogli.backend.education.videos.domain.repository.VideoDomainRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Contenedor en memoria del catálogo educativo.
+ * Mantiene la instantánea vigente en una referencia atómica: las lecturas nunca consultan la base de datos
+ * (salvo la primera carga) y los servicios de dominio llaman a {@link #refresh()} tras cada creación,
+ * actualización o eliminación para publicar una nueva versión.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EducationCatalogCache {
+
+    private final ModuleDomainRepository moduleDomainRepository;
+    private final TagDomainRepository tagDomainRepository;
+    private final GuideDomainRepository guideDomainRepository;
+    private final VideoDomainRepository videoDomainRepository;
+    private final ArticleDomainRepository articleDomainRepository;
+    private final SearchIndex searchIndex;
+
+    // Instantánea vigente (null hasta la primera carga o si falló la última reconstrucción)
+    private final AtomicReference<EducationCatalogSnapshot> current = new AtomicReference<>();
+
+    // Última versión publicada; sobrevive a las invalidaciones para que las versiones sean siempre crecientes
+    private long lastVersion;
+
+    /**
+     * Obtiene la instantánea vigente del catálogo, construyéndola si aún no existe.
+     *
+     * @return Instantánea inmutable del catálogo.
+     */
+    public EducationCatalogSnapshot getSnapshot() {
+        EducationCatalogSnapshot snapshot = current.get();
+        if (snapshot != null) {
+            return snapshot;
+        }
+        synchronized (this) {
+            snapshot = current.get();
+            if (snapshot == null) {
+                snapshot = build(lastVersion + 1);
+                publish(snapshot);
+            }
+            return snapshot;
+        }
+    }
+
+    /**
+     * Reconstruye el catálogo desde la base de datos y lo publica de forma atómica.
+     * Si el contenido no cambió, se conserva la instantánea actual (misma versión y ETag).
+     * Si la reconstrucción falla, se descarta la instantánea para forzar una recarga en la próxima lectura.
+     */
+    public synchronized void refresh() {
+        try {
+            EducationCatalogSnapshot previous = current.get();
+            EducationCatalogSnapshot candidate = build(lastVersion + 1);
+            if (candidate.hasSameContentAs(previous)) {
+                return;
+            }
+            publish(candidate);
+            log.debug("Catálogo educativo actualizado a la versión {}", candidate.getVersion());
+        } catch (RuntimeException e) {
+            log.warn("No se pudo reconstruir el catálogo educativo, se recargará en la próxima lectura", e);
+            current.set(null);
+        }
+    }
+
+    private void publish(EducationCatalogSnapshot snapshot) {
+        lastVersion = snapshot.getVersion();
+        current.set(snapshot);
+        syncSearchIndex(snapshot);
+    }
+
+    // Reindexa en el buscador solo los contenidos educativos nuevos, modificados o eliminados
+    private void syncSearchIndex(EducationCatalogSnapshot snapshot) {
+        searchIndex.syncType("module", snapshot.getModules().stream()
+                .map(module -> SearchDocument.builder()
+                        .type("module").id(module.getModuleId())
+                        .title(module.getTitle()).body(module.getDescription())
+                        .build())
+                .toList());
+        searchIndex.syncType("guide", snapshot.getGuides().stream()
+                .map(guide -> SearchDocument.builder()
+                        .type("guide").id(guide.getGuideId())
+                        .title(guide.getTitle()).body(guide.getDescription())
+                        .build())
+                .toList());
+        searchIndex.syncType("video", snapshot.getVideos().stream()
+                .map(video -> SearchDocument.builder()
+                        .type("video").id(video.getVideoId())
+                        .title(video.getTitle())
+                        .build())
+                .toList());
+        searchIndex.syncType("article", snapshot.getArticles().stream()
+                .map(article -> SearchDocument.builder()
+                        .type("article").id(article.getArticleId())
+                        .title(article.getTitle())
+                        .build())
+                .toList());
+    }
+
+    private EducationCatalogSnapshot build(long version) {
+        return new EducationCatalogSnapshot(
+                version,
+                moduleDomainRepository.getAll(),
+                tagDomainRepository.findAll(),
+                guideDomainRepository.getAll(),
+                videoDomainRepository.getAll(),
+                articleDomainRepository.getAll()
+        );
+    }
+}
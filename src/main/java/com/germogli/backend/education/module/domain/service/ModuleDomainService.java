@@ -4,19 +4,26 @@ import com.germogli.backend.authentication.domain.model.UserDomain;
 import com.germogli.backend.common.exception.ResourceNotFoundException;
 import com.germogli.backend.common.notification.application.service.NotificationService;
 import com.germogli.backend.education.module.application.dto.CreateModuleResponseDTO;
+import com.germogli.backend.education.domain.model.EducationCatalogSnapshot;
+import com.germogli.backend.education.domain.model.ModuleTagIndex;
 import com.germogli.backend.education.domain.service.EducationSharedService;
+import com.germogli.backend.education.infrastructure.cache.EducationCatalogCache;
 import com.germogli.backend.education.module.application.dto.ModuleResponseDTO;
 import com.germogli.backend.education.module.application.dto.UpdateModuleRequestDTO;
 import com.germogli.backend.education.module.domain.model.ModuleDomain;
 import com.germogli.backend.education.module.domain.repository.ModuleDomainRepository;
 import com.germogli.backend.education.tag.application.dto.TagResponseDTO;
 import com.germogli.backend.education.tag.domain.model.TagDomain;
-import com.germogli.backend.education.tag.domain.repository.TagDomainRepository;
+import com.germogli.backend.education.tag.infrastructure.cache.TagDictionaryCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors; // Importar Collectors
 
@@ -33,11 +40,13 @@ public class ModuleDomainService {
 
     // Repositorio para operaciones de persistencia de modulos y etiqutas.
     private final ModuleDomainRepository moduleDomainRepository;
-    private final TagDomainRepository tagDomainRepository;
+    private final TagDictionaryCache tagDictionaryCache;
     // Servicio compartido para obtener el usuario autenticado y verificar roles.
     private final EducationSharedService educationSharedService;
     // Servicio para enviar notificaciones a través de WebSockets
     private final NotificationService notificationService;
+    // Catálogo educativo en memoria, se republica tras cada cambio
+    private final EducationCatalogCache educationCatalogCache;
 
     /**
      * Obtiene todos los modulos.
@@ -46,7 +55,7 @@ public class ModuleDomainService {
      * @throws ResourceNotFoundException si no hay modulos disponibles.
      */
     public List<ModuleDomain> getAllModules() {
-        List<ModuleDomain> modules = moduleDomainRepository.getAll();
+        List<ModuleDomain> modules = educationCatalogCache.getSnapshot().getModules();
         if (modules.isEmpty()) {
             throw new ResourceNotFoundException("No hay modulos para mostrar");
         }
@@ -68,15 +77,7 @@ public class ModuleDomainService {
         }
 
         // Verificar que todos los tags existen
-        Set<TagDomain> tags = dto.getTagIds().stream()
-                .map(tagId -> {
-                    TagDomain tag = tagDomainRepository.getById(tagId);  // Este método debería devolver null si no encuentra la etiqueta
-                    if (tag == null) {
-                        throw new ResourceNotFoundException("Tag no encontrado con ID: " + tagId);  // Lanzamos la excepción si es null
-                    }
-                    return tag;
-                })
-                .collect(Collectors.toSet());
+        Set<TagDomain> tags = resolveTags(dto.getTagIds());
 
         ModuleDomain module = ModuleDomain.builder()
                 .title(dto.getTitle())
@@ -86,6 +87,7 @@ public class ModuleDomainService {
                 .build();
 
         ModuleDomain createdModule = moduleDomainRepository.createModuleWithTags(module);
+        educationCatalogCache.refresh();
 
         // Enviar notificación WebSocket después de crear el módulo
         notificationService.sendNotification(
@@ -117,15 +119,7 @@ public class ModuleDomainService {
                 .orElseThrow(() -> new ResourceNotFoundException("Módulo no encontrado con ID: " + moduleId));
 
         // Verificar que todos los tags existen
-        Set<TagDomain> tags = dto.getTagIds().stream()
-                .map(tagId -> {
-                    TagDomain tag = tagDomainRepository.getById(tagId);
-                    if (tag == null) {
-                        throw new ResourceNotFoundException("Tag no encontrado con ID: " + tagId);
-                    }
-                    return tag;
-                })
-                .collect(Collectors.toSet());
+        Set<TagDomain> tags = resolveTags(dto.getTagIds());
 
         // Crear objeto actualizado del módulo
         ModuleDomain updatedModule = ModuleDomain.builder()
@@ -138,6 +132,7 @@ public class ModuleDomainService {
 
         // Actualizar el módulo en la base de datos
         ModuleDomain result = moduleDomainRepository.updateModuleWithTags(updatedModule);
+        educationCatalogCache.refresh();
 
         // Enviar notificación WebSocket después de actualizar el módulo
         notificationService.sendNotification(
@@ -157,19 +152,33 @@ public class ModuleDomainService {
      * @throws ResourceNotFoundException si no se encuentra el post.
      */
     public ModuleDomain getModuleById(Integer id) {
-        return moduleDomainRepository.getById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Modulo no encontrado con id: " + id));
+        ModuleDomain module = educationCatalogCache.getSnapshot().getModulesById().get(id);
+        if (module == null) {
+            throw new ResourceNotFoundException("Modulo no encontrado con id: " + id);
+        }
+        return module;
     }
 
     /**
-     * Filtra los módulos por las etiquetas proporcionadas.
+     * Filtra los módulos por las etiquetas proporcionadas usando el índice invertido en memoria.
      *
-     * @param tagIds Lista de IDs de etiquetas.
-     * @return Lista de módulos que coinciden con las etiquetas proporcionadas.
+     * @param tagIds   Lista de IDs de etiquetas.
+     * @param matchAll true para exigir todas las etiquetas (AND), false para cualquiera de ellas (OR).
+     * @return Lista de módulos que coinciden, ordenados por ID.
      * @throws ResourceNotFoundException si no se encuentran módulos con las etiquetas proporcionadas.
      */
-    public List<ModuleDomain> filterModulesByTags(List<Integer> tagIds) {
-        List<ModuleDomain> filteredModules = moduleDomainRepository.filterModulesByTags(tagIds);
+    public List<ModuleDomain> filterModulesByTags(List<Integer> tagIds, boolean matchAll) {
+        EducationCatalogSnapshot snapshot = educationCatalogCache.getSnapshot();
+        ModuleTagIndex index = snapshot.getModuleTagIndex();
+        int[] moduleIds = matchAll ? index.matchAll(tagIds) : index.matchAny(tagIds);
+
+        List<ModuleDomain> filteredModules = new ArrayList<>(moduleIds.length);
+        for (int moduleId : moduleIds) {
+            ModuleDomain module = snapshot.getModulesById().get(moduleId);
+            if (module != null) {
+                filteredModules.add(module);
+            }
+        }
 
         if (filteredModules.isEmpty()) {
             throw new ResourceNotFoundException("No se encontraron módulos con las etiquetas proporcionadas.");
@@ -198,6 +207,7 @@ public class ModuleDomainService {
 
         // Eliminar el módulo
         moduleDomainRepository.deleteModule(moduleId);
+        educationCatalogCache.refresh();
 
         // Enviar notificación WebSocket después de eliminar el módulo
         notificationService.sendNotification(
@@ -207,6 +217,23 @@ public class ModuleDomainService {
         );
     }
 
+    /**
+     * Resuelve en memoria todas las etiquetas indicadas en una sola llamada al diccionario.
+     *
+     * @param tagIds IDs de etiquetas.
+     * @return Conjunto de etiquetas encontradas.
+     * @throws ResourceNotFoundException si alguna etiqueta no existe.
+     */
+    private Set<TagDomain> resolveTags(Collection<Integer> tagIds) {
+        Map<Integer, TagDomain> resolved = tagDictionaryCache.getByIds(tagIds);
+        for (Integer tagId : tagIds) {
+            if (!resolved.containsKey(tagId)) {
+                throw new ResourceNotFoundException("Tag no encontrado con ID: " + tagId);
+            }
+        }
+        return new HashSet<>(resolved.values());
+    }
+
     // Método auxiliar para convertir lista de dominios a lista de DTOs de respuesta
     public List<ModuleResponseDTO> toResponseList(List<ModuleDomain> moduleDomains) {
         return ModuleResponseDTO.fromDomains(moduleDomains);
@@ -9,13 +9,8 @@ import jakarta.persistence.EntityManager;
 import jakarta.persistence.ParameterMode;
 import jakarta.persistence.StoredProcedureQuery;
 import lombok.RequiredArgsConstructor;
-import org.hibernate.Session;
 import org.springframework.stereotype.Repository;
 
-import java.sql.CallableStatement;
-import java.sql.Connection;
-import java.sql.ResultSet;
-import java.sql.Timestamp;
 import java.time.LocalDateTime;
 import java.util.*;
 import java.util.stream.Collectors;
@@ -138,70 +133,6 @@ public class ModuleRepository implements ModuleDomainRepository {
         return Optional.of(ModuleDomain.fromEntityStatic(resultList.get(0)));
     }
 
-    /**
-     * Filtra módulos por una lista de etiquetas.
-     *
-     * @param tagIds Lista de IDs de etiquetas para filtrar.
-     * @return Lista de módulos que coinciden con las etiquetas especificadas.
-     */
-    @Override
-    public List<ModuleDomain> filterModulesByTags(List<Integer> tagIds) {
-        try {
-            // Convertir la lista de IDs a string para el SP
-            String tagIdsStr = tagIds.stream()
-                    .map(String::valueOf)
-                    .collect(Collectors.joining(","));
-
-            // Obtener conexión JDBC a través de EntityManager
-            Session session = entityManager.unwrap(Session.class);
-            Connection connection = session.doReturningWork(conn -> conn);
-
-            // Mapa para evitar duplicados de módulos
-            Map<Integer, ModuleDomain> moduleMap = new HashMap<>();
-
-            // Llamar al SP usando JDBC para mayor control
-            try (CallableStatement stmt = connection.prepareCall("{CALL sp_search_modules_by_tags(?)}")) {
-                stmt.setString(1, tagIdsStr);
-                boolean hasResults = stmt.execute();
-
-                if (hasResults) {
-                    try (ResultSet rs = stmt.getResultSet()) {
-                        while (rs.next()) {
-                            Integer moduleId = rs.getInt("module_id");
-
-                            // Si el módulo no está en el mapa, añadirlo
-                            if (!moduleMap.containsKey(moduleId)) {
-                                ModuleDomain module = ModuleDomain.builder()
-                                        .moduleId(moduleId)
-                                        .title(rs.getString("title"))
-                                        .description(rs.getString("description"))
-                                        .creationDate(rs.getTimestamp("creation_date") != null ?
-                                                rs.getTimestamp("creation_date").toLocalDateTime() : null)
-                                        .tags(new HashSet<>())
-                                        .build();
-                                moduleMap.put(moduleId, module);
-                            }
-
-                            // Añadir la etiqueta al módulo
-                            TagDomain tag = TagDomain.builder()
-                                    .tagId(rs.getInt("tag_id"))
-                                    .tagName(rs.getString("tag_name"))
-                                    .build();
-                            moduleMap.get(moduleId).getTags().add(tag);
-                        }
-                    }
-                }
-            }
-
-            return new ArrayList<>(moduleMap.values());
-
-        } catch (Exception e) {
-            System.err.println("Error al filtrar módulos por etiquetas: " + e.getMessage());
-            e.printStackTrace();
-            throw new RuntimeException("Error al filtrar módulos por etiquetas", e);
-        }
-    }
-
     /**
      * Elimina un módulo por su identificador único.
      *
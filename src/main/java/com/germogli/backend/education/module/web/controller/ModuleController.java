@@ -1,6 +1,8 @@
 package com.germogli.backend.education.module.web.controller;
 
 import com.germogli.backend.education.application.dto.ApiResponseDTO;
+import com.germogli.backend.education.application.dto.ModuleBundleResponseDTO;
+import com.germogli.backend.education.domain.service.ModuleBundleService;
 import com.germogli.backend.education.module.application.dto.CreateModuleResponseDTO;
 import com.germogli.backend.education.module.application.dto.ModuleResponseDTO;
 import com.germogli.backend.education.module.application.dto.UpdateModuleRequestDTO;
@@ -25,6 +27,7 @@ import java.util.stream.Collectors;
 public class ModuleController {
 
     private final ModuleDomainService moduleDomainService;
+    private final ModuleBundleService moduleBundleService;
 
     /**
      * Recupera todos los módulos disponibles.
@@ -89,15 +92,33 @@ public class ModuleController {
                 .build());
     }
 
+    /**
+     * Recupera en una sola respuesta todo el contenido de un módulo:
+     * el módulo con sus etiquetas, guías (con URL firmada), videos y artículos.
+     *
+     * @param moduleId Identificador único del módulo.
+     * @return ResponseEntity con el paquete de contenido del módulo y un mensaje de éxito.
+     */
+    @GetMapping("/{moduleId}/bundle")
+    public ResponseEntity<ApiResponseDTO<ModuleBundleResponseDTO>> getModuleBundle(@PathVariable Integer moduleId) {
+        return ResponseEntity.ok(ApiResponseDTO.<ModuleBundleResponseDTO>builder()
+                .message("Contenido del módulo recuperado correctamente")
+                .data(moduleBundleService.getModuleBundle(moduleId))
+                .build());
+    }
+
     /**
      * Obtiene los módulos asociados a una o más etiquetas.
      *
      * @param tagIds Lista de IDs de etiquetas para filtrar los módulos.
+     * @param match  "any" (por defecto) para módulos con alguna de las etiquetas, "all" para módulos con todas.
      * @return ResponseEntity con la lista de módulos encontrados y un mensaje de éxito.
      */
     @GetMapping("/filter")
-    public ResponseEntity<ApiResponseDTO<List<ModuleResponseDTO>>> getModulesByTags(@RequestParam List<Integer> tagIds) {
-        List<ModuleDomain> modules = moduleDomainService.filterModulesByTags(tagIds);
+    public ResponseEntity<ApiResponseDTO<List<ModuleResponseDTO>>> getModulesByTags(
+            @RequestParam List<Integer> tagIds,
+            @RequestParam(defaultValue = "any") String match) {
+        List<ModuleDomain> modules = moduleDomainService.filterModulesByTags(tagIds, "all".equalsIgnoreCase(match));
 
         return ResponseEntity.ok(ApiResponseDTO.<List<ModuleResponseDTO>>builder()
                 .message("Módulos encontrados.")
@@ -1,25 +1,30 @@
 package com.germogli.backend.education.tag.domain.service;
 
-import com.germogli.backend.authentication.domain.model.UserDomain;
-import com.germogli.backend.authentication.domain.repository.UserDomainRepository;
 import com.germogli.backend.common.exception.ResourceNotFoundException;
+import com.germogli.backend.education.infrastructure.cache.EducationCatalogCache;
 import com.germogli.backend.education.tag.application.dto.TagResponseDTO;
 import com.germogli.backend.education.tag.domain.model.TagDomain;
 import com.germogli.backend.education.tag.domain.repository.TagDomainRepository;
+import com.germogli.backend.education.tag.infrastructure.cache.TagDictionaryCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @RequiredArgsConstructor
 @Service
 public class TagDomainService {
     private final TagDomainRepository tagDomainRepository;
-    private final UserDomainRepository userDomainRepository;
+    private final TagDictionaryCache tagDictionaryCache;
+    private final EducationCatalogCache educationCatalogCache;
 
     public TagDomain createTag(String tagName) {
         validateAdminPermission();
@@ -28,13 +33,12 @@ public class TagDomainService {
             throw new ResourceNotFoundException("El nombre de la etiqueta no puede estar vacío.");
         }
 
-        TagDomain existingTag = tagDomainRepository.getByName(tagName);
+        TagDomain existingTag = tagDictionaryCache.getByName(tagName);
         if (existingTag != null) {
             throw new ResourceNotFoundException("La etiqueta ya existe, por favor cree otra");
         }
 
-        Integer tagId = tagDomainRepository.getOrCreateTag(tagName);
-        return tagDomainRepository.getById(tagId);
+        return persistTag(tagName);
     }
 
     public TagDomain getTagById(Integer tagId) {
@@ -44,12 +48,12 @@ public class TagDomainService {
             throw new ResourceNotFoundException("El ID de la etiqueta no puede estar vacío.");
         }
 
-        TagDomain existsTag = tagDomainRepository.getById(tagId);
+        TagDomain existsTag = tagDictionaryCache.getById(tagId);
         if (existsTag == null) {
             throw new ResourceNotFoundException("No existe una etiqueta con el id: " + tagId);
         }
 
-        return tagDomainRepository.getById(tagId);
+        return existsTag;
     }
 
     public TagDomain getTagByName(String tagName) {
@@ -59,7 +63,7 @@ public class TagDomainService {
             throw new ResourceNotFoundException("El nombre de la etiqueta no puede estar vacío.");
         }
 
-        TagDomain tag = tagDomainRepository.getByName(tagName);
+        TagDomain tag = tagDictionaryCache.getByName(tagName);
         if (tag == null) {
             throw new ResourceNotFoundException("Etiqueta no encontrada con el nombre: " + tagName);
         }
@@ -70,12 +74,14 @@ public class TagDomainService {
     public void deleteTagById(Integer id) {
         validateAdminPermission();
 
-        TagDomain existTag = tagDomainRepository.getById(id);
+        TagDomain existTag = tagDictionaryCache.getById(id);
         if (existTag == null) {
             throw new ResourceNotFoundException("No existe una etiqueta para eliminar correspondiente al id:" + id);
         }
 
         tagDomainRepository.deleteById(id);
+        tagDictionaryCache.remove(id);
+        educationCatalogCache.refresh();
     }
 
     public TagDomain updateTagName(TagResponseDTO dto) {
@@ -86,7 +92,7 @@ public class TagDomainService {
         }
 
         // Verificar que la etiqueta exista antes de intentar actualizarla
-        TagDomain existingTag = tagDomainRepository.getById(dto.getId());
+        TagDomain existingTag = tagDictionaryCache.getById(dto.getId());
         if (existingTag == null) {
             throw new ResourceNotFoundException("Etiqueta no encontrada con el ID: " + dto.getId());
         }
@@ -97,11 +103,13 @@ public class TagDomainService {
                 .build();
 
         tagDomainRepository.updateTagName(tag);
-        return tagDomainRepository.getById(dto.getId());
+        tagDictionaryCache.put(tag);
+        educationCatalogCache.refresh();
+        return tag;
     }
 
     public List<TagDomain> getAllTags() {
-        List<TagDomain> tags = tagDomainRepository.findAll();
+        List<TagDomain> tags = tagDictionaryCache.getAll();
         if (tags.isEmpty()) {
             throw new ResourceNotFoundException("No hay etiquetas disponibles.");
         }
@@ -115,20 +123,74 @@ public class TagDomainService {
             throw new ResourceNotFoundException("El nombre de la etiqueta no puede estar vacío.");
         }
 
-        // En caso de existir utiliza el metodo para obtener la etiqueta mediante el id
-        Integer tagId = tagDomainRepository.getOrCreateTag(tagName);
-        return tagDomainRepository.getById(tagId);
+        // Si ya existe en el diccionario se devuelve sin consultar la base de datos
+        TagDomain existingTag = tagDictionaryCache.getByName(tagName);
+        if (existingTag != null) {
+            return existingTag;
+        }
+
+        return persistTag(tagName);
     }
 
+    /**
+     * Resuelve varios nombres de etiqueta en una sola llamada, creando las que no existan.
+     * Solo las etiquetas nuevas llegan a la base de datos.
+     *
+     * @param tagNames Nombres de etiquetas (se ignoran los vacíos y los repetidos sin distinguir mayúsculas).
+     * @return Etiquetas resueltas, en el orden recibido.
+     */
+    public List<TagDomain> resolveTagNames(List<String> tagNames) {
+        validateAdminPermission();
+
+        if (tagNames == null || tagNames.isEmpty()) {
+            throw new ResourceNotFoundException("Debe indicar al menos un nombre de etiqueta.");
+        }
+
+        Map<String, String> requested = new LinkedHashMap<>();
+        for (String tagName : tagNames) {
+            if (tagName != null && !tagName.trim().isEmpty()) {
+                requested.putIfAbsent(TagDictionaryCache.normalize(tagName), tagName.trim());
+            }
+        }
+
+        Map<String, TagDomain> existing = tagDictionaryCache.getByNames(requested.keySet());
+        List<TagDomain> resolved = new ArrayList<>(requested.size());
+        boolean created = false;
+        for (Map.Entry<String, String> entry : requested.entrySet()) {
+            TagDomain tag = existing.get(entry.getKey());
+            if (tag == null) {
+                Integer tagId = tagDomainRepository.getOrCreateTag(entry.getValue());
+                tag = TagDomain.builder().tagId(tagId).tagName(entry.getValue()).build();
+                tagDictionaryCache.put(tag);
+                created = true;
+            }
+            resolved.add(tag);
+        }
+
+        if (created) {
+            educationCatalogCache.refresh();
+        }
+        return resolved;
+    }
+
+    // Persiste una etiqueta nueva y la registra en el diccionario (escritura directa)
+    private TagDomain persistTag(String tagName) {
+        String name = tagName.trim();
+        Integer tagId = tagDomainRepository.getOrCreateTag(name);
+        TagDomain tag = TagDomain.builder()
+                .tagId(tagId)
+                .tagName(name)
+                .build();
+        tagDictionaryCache.put(tag);
+        educationCatalogCache.refresh();
+        return tag;
+    }
+
+    // Verifica el rol con las autoridades del token ya autenticado, sin volver a consultar el usuario
     private void validateAdminPermission() {
         UserDetails userDetails = (UserDetails) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
-        String username = userDetails.getUsername();
-
-        UserDomain currentUser = userDomainRepository.findByUsername(username)
-                .orElseThrow(() -> new ResourceNotFoundException("Usuario no encontrado para el username: " + username));
 
-        boolean isAdmin = currentUser.getRole() != null &&
-                currentUser.getRole().getRoleType().equalsIgnoreCase("ADMINISTRADOR");
+        boolean isAdmin = userDetails.getAuthorities().contains(new SimpleGrantedAuthority("ROLE_ADMINISTRADOR"));
 
         if (!isAdmin) {
             throw new AccessDeniedException("No tiene permisos para realizar esta acción.");
@@ -0,0 +1,184 @@
+package com.germogli.backend.education.tag.infrastructure.cache;
+
+import com.germogli.backend.education.tag.domain.model.TagDomain;
+import com.germogli.backend.education.tag.domain.repository.TagDomainRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Diccionario bidireccional de etiquetas (nombre <-> ID) en memoria.
+ * Los nombres se normalizan (sin espacios extremos y en minúsculas), igual que la comparación
+ * que hace MySQL, de modo que "Riego" y "riego" resuelven a la misma etiqueta.
+ * Se carga de forma perezosa y se mantiene con escritura directa en las operaciones de TagDomainService;
+ * cada cambio publica un nuevo diccionario inmutable, así las lecturas no requieren bloqueo.
+ */
+@Component
+@RequiredArgsConstructor
+public class TagDictionaryCache {
+
+    private final TagDomainRepository tagDomainRepository;
+
+    // Diccionario vigente (null hasta la primera carga o tras una invalidación)
+    private volatile Dictionary dictionary;
+
+    /**
+     * Obtiene una etiqueta por su ID.
+     *
+     * @param tagId ID de la etiqueta.
+     * @return Etiqueta o null si no existe.
+     */
+    public TagDomain getById(Integer tagId) {
+        return load().byId.get(tagId);
+    }
+
+    /**
+     * Obtiene una etiqueta por su nombre, sin distinguir mayúsculas ni espacios extremos.
+     *
+     * @param tagName Nombre de la etiqueta.
+     * @return Etiqueta o null si no existe.
+     */
+    public TagDomain getByName(String tagName) {
+        Dictionary current = load();
+        Integer tagId = current.idByName.get(normalize(tagName));
+        return tagId != null ? current.byId.get(tagId) : null;
+    }
+
+    /**
+     * Obtiene todas las etiquetas.
+     *
+     * @return Lista inmutable de etiquetas.
+     */
+    public List<TagDomain> getAll() {
+        return List.copyOf(load().byId.values());
+    }
+
+    /**
+     * Resuelve varios IDs de etiqueta en una sola llamada.
+     *
+     * @param tagIds IDs de etiquetas.
+     * @return Mapa ID -> etiqueta con las etiquetas encontradas, en el orden recibido.
+     */
+    public Map<Integer, TagDomain> getByIds(Collection<Integer> tagIds) {
+        Dictionary current = load();
+        Map<Integer, TagDomain> resolved = new LinkedHashMap<>();
+        for (Integer tagId : tagIds) {
+            TagDomain tag = current.byId.get(tagId);
+            if (tag != null) {
+                resolved.put(tagId, tag);
+            }
+        }
+        return resolved;
+    }
+
+    /**
+     * Resuelve varios nombres de etiqueta en una sola llamada.
+     *
+     * @param tagNames Nombres de etiquetas.
+     * @return Mapa nombre normalizado -> etiqueta con las etiquetas encontradas, en el orden recibido.
+     */
+    public Map<String, TagDomain> getByNames(Collection<String> tagNames) {
+        Dictionary current = load();
+        Map<String, TagDomain> resolved = new LinkedHashMap<>();
+        for (String tagName : tagNames) {
+            String key = normalize(tagName);
+            Integer tagId = current.idByName.get(key);
+            if (tagId != null) {
+                resolved.put(key, current.byId.get(tagId));
+            }
+        }
+        return resolved;
+    }
+
+    /**
+     * Registra o actualiza una etiqueta en el diccionario (escritura directa tras persistirla).
+     *
+     * @param tag Etiqueta persistida.
+     */
+    public synchronized void put(TagDomain tag) {
+        Dictionary current = dictionary;
+        if (current == null) {
+            return;
+        }
+        Map<Integer, TagDomain> byId = new LinkedHashMap<>(current.byId);
+        TagDomain previous = byId.put(tag.getTagId(), tag);
+        Map<String, Integer> idByName = new HashMap<>(current.idByName);
+        if (previous != null) {
+            idByName.remove(normalize(previous.getTagName()));
+        }
+        idByName.put(normalize(tag.getTagName()), tag.getTagId());
+        dictionary = new Dictionary(byId, idByName);
+    }
+
+    /**
+     * Elimina una etiqueta del diccionario.
+     *
+     * @param tagId ID de la etiqueta eliminada.
+     */
+    public synchronized void remove(Integer tagId) {
+        Dictionary current = dictionary;
+        if (current == null || !current.byId.containsKey(tagId)) {
+            return;
+        }
+        Map<Integer, TagDomain> byId = new LinkedHashMap<>(current.byId);
+        TagDomain removed = byId.remove(tagId);
+        Map<String, Integer> idByName = new HashMap<>(current.idByName);
+        idByName.remove(normalize(removed.getTagName()));
+        dictionary = new Dictionary(byId, idByName);
+    }
+
+    /**
+     * Descarta el diccionario para que se recargue en el próximo acceso.
+     */
+    public void invalidate() {
+        dictionary = null;
+    }
+
+    /**
+     * Normaliza un nombre de etiqueta para compararlo.
+     *
+     * @param tagName Nombre original.
+     * @return Nombre sin espacios extremos y en minúsculas.
+     */
+    public static String normalize(String tagName) {
+        return tagName == null ? "" : tagName.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private Dictionary load() {
+        Dictionary current = dictionary;
+        if (current == null) {
+            synchronized (this) {
+                current = dictionary;
+                if (current == null) {
+                    Map<Integer, TagDomain> byId = new LinkedHashMap<>();
+                    Map<String, Integer> idByName = new HashMap<>();
+                    for (TagDomain tag : tagDomainRepository.findAll()) {
+                        byId.put(tag.getTagId(), tag);
+                        idByName.put(normalize(tag.getTagName()), tag.getTagId());
+                    }
+                    current = new Dictionary(byId, idByName);
+                    dictionary = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    // Par de mapas inmutables que forman el diccionario
+    private static final class Dictionary {
+        private final Map<Integer, TagDomain> byId;
+        private final Map<String, Integer> idByName;
+
+        private Dictionary(Map<Integer, TagDomain> byId, Map<String, Integer> idByName) {
+            this.byId = Collections.unmodifiableMap(byId);
+            this.idByName = Collections.unmodifiableMap(idByName);
+        }
+    }
+}
@@ -145,4 +145,20 @@ public class TagController {
                 .data(tagResponse)
                 .build());
     }
+
+    /**
+     * Endpoint para resolver varias etiquetas por nombre en una sola llamada.
+     * Las etiquetas que no existen se crean.
+     *
+     * @param tagNames lista de nombres de etiquetas.
+     * @return ApiResponseDTO con la lista de TagResponseDTO resueltos, en el orden recibido.
+     */
+    @PostMapping("/resolve")
+    public ResponseEntity<ApiResponseDTO<List<TagResponseDTO>>> resolveTags(@RequestBody List<String> tagNames) {
+        List<TagDomain> tagDomains = tagDomainService.resolveTagNames(tagNames);
+        return ResponseEntity.ok(ApiResponseDTO.<List<TagResponseDTO>>builder()
+                .message("Etiquetas resueltas correctamente.")
+                .data(tagDomainService.toResponseList(tagDomains))
+                .build());
+    }
 }
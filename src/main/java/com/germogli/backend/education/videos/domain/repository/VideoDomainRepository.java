@@ -11,4 +11,5 @@ public interface VideoDomainRepository {
     List<VideoDomain> getVideosByModuleId(Integer moduleId);
     VideoDomain updateVideo(VideoDomain videoDomain);
     void deleteVideo(Integer videoId);
+    List<VideoDomain> getAll();
 }
@@ -5,6 +5,7 @@ import com.germogli.backend.common.exception.CustomForbiddenException;
 import com.germogli.backend.common.exception.ResourceNotFoundException;
 import com.germogli.backend.common.notification.application.service.NotificationService;
 import com.germogli.backend.education.domain.service.EducationSharedService;
+import com.germogli.backend.education.infrastructure.cache.EducationCatalogCache;
 import com.germogli.backend.education.module.domain.service.ModuleDomainService;
 import com.germogli.backend.education.videos.application.dto.CreateVideoRequestDTO;
 import com.germogli.backend.education.videos.application.dto.UpdateVideoRequestDTO;
@@ -30,6 +31,7 @@ public class VideoDomainService {
     private final ModuleDomainService moduleDomainService;
     private final EducationSharedService educationSharedService;
     private final NotificationService notificationService;    // Servicio para enviar notificaciones a través de WebSockets
+    private final EducationCatalogCache educationCatalogCache; // Catálogo educativo en memoria
 
     /**
      * Crea un nuevo video educativo.
@@ -69,6 +71,7 @@ public class VideoDomainService {
 
         // Guardar el video en la base de datos
         VideoDomain createdVideo = videoDomainRepository.createVideo(videoDomain);
+        educationCatalogCache.refresh();
 
         // Obtener el nombre del módulo para la notificación
         String moduleName = moduleDomainService.getModuleById(dto.getModuleId()).getTitle();
@@ -91,8 +94,11 @@ public class VideoDomainService {
      * @throws ResourceNotFoundException si no se encuentra.
      */
     public VideoDomain getVideoById(Integer id) {
-        return videoDomainRepository.getById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Video no encontrado con id " + id));
+        VideoDomain video = educationCatalogCache.getSnapshot().getVideosById().get(id);
+        if (video == null) {
+            throw new ResourceNotFoundException("Video no encontrado con id " + id);
+        }
+        return video;
     }
 
     /**
@@ -105,7 +111,7 @@ public class VideoDomainService {
     public List<VideoDomain> getVideosByModuleId(Integer moduleId) {
         // Verificar que el módulo exista
         moduleDomainService.getModuleById(moduleId);
-        List<VideoDomain> videos = videoDomainRepository.getVideosByModuleId(moduleId);
+        List<VideoDomain> videos = educationCatalogCache.getSnapshot().getVideosByModuleId(moduleId);
         if (videos.isEmpty()) {
             throw new ResourceNotFoundException("No hay videos disponibles para este módulo.");
         }
@@ -160,6 +166,7 @@ public class VideoDomainService {
 
         // Llamar al repositorio para actualizar mediante el SP
         videoDomainRepository.updateVideo(videoDomain);
+        educationCatalogCache.refresh();
 
         // Obtener el nombre del módulo para la notificación
         String moduleName = "";
@@ -217,6 +224,7 @@ public class VideoDomainService {
 
         // Eliminar el video de la base de datos
         videoDomainRepository.deleteVideo(videoId);
+        educationCatalogCache.refresh();
     }
 
     /**
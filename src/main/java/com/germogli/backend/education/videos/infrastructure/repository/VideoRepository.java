@@ -120,4 +120,18 @@ public class VideoRepository implements VideoDomainRepository {
         query.setParameter("p_video_id", videoId);
         query.execute();
     }
+
+    /**
+     * Obtiene todos los videos en una sola consulta.
+     * Se utiliza para construir el catálogo educativo en memoria.
+     *
+     * @return Lista de VideoDomain.
+     */
+    @Override
+    public List<VideoDomain> getAll() {
+        List<VideoEntity> resultList = entityManager
+                .createQuery("SELECT v FROM EducationVideosEntity v ORDER BY v.id", VideoEntity.class)
+                .getResultList();
+        return resultList.stream().map(VideoDomain::fromEntityStatic).collect(Collectors.toList());
+    }
 }
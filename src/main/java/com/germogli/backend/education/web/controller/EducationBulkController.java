@@ -0,0 +1,83 @@
+package com.germogli.backend.education.web.controller;
+
+import com.germogli.backend.education.application.dto.ApiResponseDTO;
+import com.germogli.backend.education.application.dto.EducationImportJobDTO;
+import com.germogli.backend.education.domain.model.EducationImportJob;
+import com.germogli.backend.education.domain.service.EducationBulkService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.LocalDate;
+
+/**
+ * Controlador REST para la importación y exportación masiva del contenido educativo.
+ * Solo los administradores pueden utilizar estos endpoints.
+ */
+@RestController
+@RequestMapping("/education")
+@RequiredArgsConstructor
+@PreAuthorize("isAuthenticated()")
+public class EducationBulkController {
+
+    private final EducationBulkService educationBulkService;
+
+    /**
+     * Inicia la importación de un archivo ZIP con manifest.json y los PDFs de las guías.
+     * La importación se procesa en segundo plano; el progreso se consulta con el ID devuelto.
+     *
+     * @param file Archivo ZIP a importar.
+     * @return ResponseEntity 202 con el estado inicial del trabajo de importación.
+     */
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ApiResponseDTO<EducationImportJobDTO>> importContent(@RequestParam("file") MultipartFile file) {
+        EducationImportJob job = educationBulkService.startImport(file);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(ApiResponseDTO.<EducationImportJobDTO>builder()
+                .message("Importación iniciada correctamente")
+                .data(job.toResponse())
+                .build());
+    }
+
+    /**
+     * Consulta el progreso de una importación.
+     *
+     * @param jobId ID del trabajo de importación.
+     * @return ResponseEntity con el estado del trabajo.
+     */
+    @GetMapping("/import/{jobId}")
+    public ResponseEntity<ApiResponseDTO<EducationImportJobDTO>> getImportJob(@PathVariable String jobId) {
+        return ResponseEntity.ok(ApiResponseDTO.<EducationImportJobDTO>builder()
+                .message("Estado de la importación recuperado correctamente")
+                .data(educationBulkService.getImportJob(jobId).toResponse())
+                .build());
+    }
+
+    /**
+     * Exporta todo el contenido educativo como un archivo ZIP (mismo formato que la importación).
+     *
+     * @return ResponseEntity con el ZIP escrito en streaming.
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportContent() {
+        StreamingResponseBody body = educationBulkService.exportArchive();
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("application/zip"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("germogli-education-" + LocalDate.now() + ".zip")
+                        .build()
+                        .toString())
+                .body(body);
+    }
+}
@@ -0,0 +1,75 @@
+package com.germogli.backend.education.web.controller;
+
+import com.germogli.backend.education.application.dto.ApiResponseDTO;
+import com.germogli.backend.education.application.dto.EducationCatalogResponseDTO;
+import com.germogli.backend.education.domain.model.EducationCatalogSnapshot;
+import com.germogli.backend.education.infrastructure.cache.EducationCatalogCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Controlador REST para el catálogo educativo completo.
+ * Se sirve desde memoria y soporta peticiones condicionales (ETag / If-None-Match).
+ */
+@RestController
+@RequestMapping("/catalog")
+@RequiredArgsConstructor
+@PreAuthorize("isAuthenticated()")
+public class EducationCatalogController {
+
+    private final EducationCatalogCache educationCatalogCache;
+
+    /**
+     * Recupera el catálogo educativo (módulos, etiquetas, guías, videos y artículos).
+     * Si el cliente envía un If-None-Match que coincide con la versión vigente, responde 304 sin cuerpo.
+     *
+     * @param ifNoneMatch Valor de la cabecera If-None-Match (opcional).
+     * @return ResponseEntity con el catálogo o 304 si no hubo cambios.
+     */
+    @GetMapping
+    public ResponseEntity<ApiResponseDTO<EducationCatalogResponseDTO>> getCatalog(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        EducationCatalogSnapshot snapshot = educationCatalogCache.getSnapshot();
+        CacheControl cacheControl = CacheControl.noCache().cachePrivate();
+
+        if (matchesEtag(ifNoneMatch, snapshot.getEtag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(snapshot.getEtag())
+                    .cacheControl(cacheControl)
+                    .build();
+        }
+
+        return ResponseEntity.ok()
+                .eTag(snapshot.getEtag())
+                .cacheControl(cacheControl)
+                .body(ApiResponseDTO.<EducationCatalogResponseDTO>builder()
+                        .message("Catálogo recuperado correctamente")
+                        .data(EducationCatalogResponseDTO.fromSnapshot(snapshot))
+                        .build());
+    }
+
+    // Compara la cabecera If-None-Match (posiblemente una lista o un ETag débil) con el ETag vigente
+    private boolean matchesEtag(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String value = candidate.trim();
+            if (value.startsWith("W/")) {
+                value = value.substring(2);
+            }
+            if (value.equals("*") || value.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
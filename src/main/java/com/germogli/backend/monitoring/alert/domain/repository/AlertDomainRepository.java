@@ -3,6 +3,7 @@ package com.germogli.backend.monitoring.alert.domain.repository;
 import com.germogli.backend.monitoring.alert.domain.model.AlertDomain;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -49,6 +50,23 @@ public interface AlertDomainRepository {
      */
     List<AlertDomain> findByCropId(Integer cropId);
 
+    /**
+     * Encuentra en una sola consulta las alertas de varios cultivos.
+     *
+     * @param cropIds Identificadores de los cultivos.
+     * @return Lista de alertas ordenadas por cultivo y de la más reciente a la más antigua.
+     */
+    List<AlertDomain> findByCropIds(Collection<Integer> cropIds);
+
+    /**
+     * Encuentra en una sola consulta las alertas de varios cultivos generadas desde una fecha.
+     *
+     * @param cropIds Identificadores de los cultivos.
+     * @param since   Fecha desde la cual se incluyen alertas.
+     * @return Lista de alertas ordenadas por cultivo y de la más reciente a la más antigua.
+     */
+    List<AlertDomain> findRecentByCropIds(Collection<Integer> cropIds, LocalDateTime since);
+
 
     /**
      * Procesa una alerta según umbrales predefinidos y genera el historial correspondiente.
@@ -112,13 +112,8 @@ public class AlertDomainService {
                 .map(CropDomain::getId)
                 .collect(Collectors.toList());
 
-        // Obtener todas las alertas de esos cultivos
-        List<AlertDomain> userAlerts = new ArrayList<>();
-        for (Integer cropId : cropIds) {
-            userAlerts.addAll(alertRepository.findByCropId(cropId));
-        }
-
-        return userAlerts;
+        // Obtener todas las alertas de esos cultivos en una sola consulta
+        return alertRepository.findByCropIds(cropIds);
     }
 
     /**
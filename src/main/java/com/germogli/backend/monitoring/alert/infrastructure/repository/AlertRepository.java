@@ -13,6 +13,8 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -115,6 +117,41 @@ public class AlertRepository implements AlertDomainRepository {
         return resultList.stream().map(AlertDomain::fromEntityStatic).collect(Collectors.toList());
     }
 
+    /**
+     * Encuentra las alertas de varios cultivos en una sola consulta.
+     * Utiliza consulta JPA directa ya que los procedimientos almacenados solo aceptan un cultivo.
+     */
+    @Override
+    public List<AlertDomain> findByCropIds(Collection<Integer> cropIds) {
+        if (cropIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+        List<AlertEntity> entities = entityManager.createQuery(
+                        "SELECT a FROM AlertEntity a WHERE a.cropId IN :cropIds " +
+                                "ORDER BY a.cropId, a.alertDatetime DESC", AlertEntity.class)
+                .setParameter("cropIds", cropIds)
+                .getResultList();
+        return entities.stream().map(AlertDomain::fromEntityStatic).collect(Collectors.toList());
+    }
+
+    /**
+     * Encuentra las alertas recientes de varios cultivos en una sola consulta.
+     * Utiliza consulta JPA directa ya que los procedimientos almacenados solo aceptan un cultivo.
+     */
+    @Override
+    public List<AlertDomain> findRecentByCropIds(Collection<Integer> cropIds, LocalDateTime since) {
+        if (cropIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+        List<AlertEntity> entities = entityManager.createQuery(
+                        "SELECT a FROM AlertEntity a WHERE a.cropId IN :cropIds AND a.alertDatetime >= :since " +
+                                "ORDER BY a.cropId, a.alertDatetime DESC", AlertEntity.class)
+                .setParameter("cropIds", cropIds)
+                .setParameter("since", since)
+                .getResultList();
+        return entities.stream().map(AlertDomain::fromEntityStatic).collect(Collectors.toList());
+    }
+
     /**
      * Encuentra todas las alertas de un nivel específico utilizando sp_get_alerts_by_level.
      */
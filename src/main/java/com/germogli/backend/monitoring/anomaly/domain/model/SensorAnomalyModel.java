@@ -0,0 +1,88 @@
+package com.germogli.backend.monitoring.anomaly.domain.model;
+
+import com.germogli.backend.monitoring.anomaly.infrastructure.entity.SensorAnomalyModelEntity;
+import com.germogli.backend.monitoring.anomaly.infrastructure.entity.SensorAnomalyModelId;
+import com.germogli.backend.monitoring.domain.model.Converter;
+import lombok.Data;
+import lombok.experimental.SuperBuilder;
+
+import java.time.LocalDateTime;
+
+/**
+ * Modelo de dominio con el estado incremental de detección de anomalías de un sensor en un cultivo.
+ * Ocupa memoria constante: media y varianza móviles (Welford), promedio exponencial (EWMA) del valor
+ * y de su velocidad de cambio, y la última lectura observada.
+ * Implementa Converter para estandarizar la conversión entre SensorAnomalyModelEntity y SensorAnomalyModel.
+ */
+@Data
+@SuperBuilder(toBuilder = true)
+public class SensorAnomalyModel implements Converter<SensorAnomalyModel, SensorAnomalyModelEntity> {
+    private Integer cropId;
+    private Integer sensorId;
+    private long sampleCount;
+    private double mean;
+    private double variance;
+    private double ewma;
+    private double ewmaRate;
+    private Double lastValue;
+    private LocalDateTime lastReadingDate;
+    private LocalDateTime lastAlertAt;
+    private LocalDateTime updatedAt;
+
+    // Indica si cambió desde el último punto de control (no se persiste)
+    private boolean dirty;
+
+    /**
+     * Convierte una entidad SensorAnomalyModelEntity en un objeto SensorAnomalyModel.
+     *
+     * @param entity Entidad a convertir.
+     * @return Objeto SensorAnomalyModel.
+     */
+    @Override
+    public SensorAnomalyModel fromEntity(SensorAnomalyModelEntity entity) {
+        return fromEntityStatic(entity);
+    }
+
+    /**
+     * Método estático para convertir una entidad SensorAnomalyModelEntity en un objeto SensorAnomalyModel.
+     *
+     * @param entity Entidad a convertir.
+     * @return Objeto SensorAnomalyModel con los datos de la entidad.
+     */
+    public static SensorAnomalyModel fromEntityStatic(SensorAnomalyModelEntity entity) {
+        return SensorAnomalyModel.builder()
+                .cropId(entity.getId().getCropId())
+                .sensorId(entity.getId().getSensorId())
+                .sampleCount(entity.getSampleCount())
+                .mean(entity.getMean())
+                .variance(entity.getVariance())
+                .ewma(entity.getEwma())
+                .ewmaRate(entity.getEwmaRate())
+                .lastValue(entity.getLastValue())
+                .lastReadingDate(entity.getLastReadingDate())
+                .lastAlertAt(entity.getLastAlertAt())
+                .updatedAt(entity.getUpdatedAt())
+                .build();
+    }
+
+    /**
+     * Convierte este objeto SensorAnomalyModel en una entidad SensorAnomalyModelEntity para persistencia.
+     *
+     * @return Objeto SensorAnomalyModelEntity con los datos de este modelo.
+     */
+    @Override
+    public SensorAnomalyModelEntity toEntity() {
+        return SensorAnomalyModelEntity.builder()
+                .id(new SensorAnomalyModelId(this.cropId, this.sensorId))
+                .sampleCount(this.sampleCount)
+                .mean(this.mean)
+                .variance(this.variance)
+                .ewma(this.ewma)
+                .ewmaRate(this.ewmaRate)
+                .lastValue(this.lastValue)
+                .lastReadingDate(this.lastReadingDate)
+                .lastAlertAt(this.lastAlertAt)
+                .updatedAt(this.updatedAt != null ? this.updatedAt : LocalDateTime.now())
+                .build();
+    }
+}
@@ -0,0 +1,32 @@
+package com.germogli.backend.monitoring.anomaly.domain.repository;
+
+import com.germogli.backend.monitoring.anomaly.domain.model.SensorAnomalyModel;
+
+import java.util.List;
+
+/**
+ * Interfaz para la persistencia de los puntos de control de los modelos de anomalías.
+ */
+public interface AnomalyModelDomainRepository {
+
+    /**
+     * Obtiene todos los modelos guardados.
+     *
+     * @return Lista de modelos.
+     */
+    List<SensorAnomalyModel> findAll();
+
+    /**
+     * Crea o actualiza varios modelos en una sola transacción.
+     *
+     * @param models Modelos a guardar.
+     */
+    void saveAll(List<SensorAnomalyModel> models);
+
+    /**
+     * Elimina los modelos de un cultivo.
+     *
+     * @param cropId ID del cultivo.
+     */
+    void deleteByCropId(Integer cropId);
+}
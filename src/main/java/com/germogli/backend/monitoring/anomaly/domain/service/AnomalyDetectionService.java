@@ -0,0 +1,229 @@
+package com.germogli.backend.monitoring.anomaly.domain.service;
+
+import com.germogli.backend.monitoring.anomaly.domain.model.SensorAnomalyModel;
+import com.germogli.backend.monitoring.anomaly.domain.repository.AnomalyModelDomainRepository;
+import com.germogli.backend.monitoring.reading.domain.model.ReadingDomain;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Servicio de dominio para la detección de anomalías en las lecturas de sensores.
+ * Mantiene en memoria un modelo incremental por par cultivo-sensor y evalúa cada lectura sin consultar
+ * la base de datos. Se consideran anomalías:
+ * <ul>
+ *     <li>Valores atípicos: a más de z-threshold desviaciones de la media móvil.</li>
+ *     <li>Cambios bruscos: salto mayor a drift-sigmas desviaciones a una velocidad muy superior a la habitual.</li>
+ *     <li>Derivas: el promedio exponencial reciente se aleja de la media móvil.</li>
+ * </ul>
+ * Los modelos se guardan periódicamente (AnomalyModelCheckpointTask) y se recargan al iniciar,
+ * de modo que un reinicio no obliga a volver a aprender el comportamiento de cada sensor.
+ */
+@Slf4j
+@Service
+public class AnomalyDetectionService {
+
+    // Desviación y velocidad mínimas para evitar falsos positivos en señales casi constantes
+    private static final double MIN_STD_DEV = 1e-6;
+    private static final double MIN_RATE = 1e-6;
+
+    private final AnomalyModelDomainRepository modelRepository;
+    private final int window;
+    private final int warmupSamples;
+    private final double zThreshold;
+    private final double driftSigmas;
+    private final double ewmaAlpha;
+    private final double rateMultiplier;
+    private final Duration alertCooldown;
+
+    // Map estructura: "cropId:sensorId" -> modelo
+    private final Map<String, SensorAnomalyModel> models = new ConcurrentHashMap<>();
+
+    public AnomalyDetectionService(AnomalyModelDomainRepository modelRepository,
+                                   @Value("${monitoring.anomaly.window:500}") int window,
+                                   @Value("${monitoring.anomaly.warmup-samples:30}") int warmupSamples,
+                                   @Value("${monitoring.anomaly.z-threshold:4.0}") double zThreshold,
+                                   @Value("${monitoring.anomaly.drift-sigmas:3.0}") double driftSigmas,
+                                   @Value("${monitoring.anomaly.ewma-alpha:0.3}") double ewmaAlpha,
+                                   @Value("${monitoring.anomaly.rate-multiplier:8.0}") double rateMultiplier,
+                                   @Value("${monitoring.anomaly.alert-cooldown-minutes:30}") long alertCooldownMinutes) {
+        this.modelRepository = modelRepository;
+        this.window = window;
+        this.warmupSamples = warmupSamples;
+        this.zThreshold = zThreshold;
+        this.driftSigmas = driftSigmas;
+        this.ewmaAlpha = ewmaAlpha;
+        this.rateMultiplier = rateMultiplier;
+        this.alertCooldown = Duration.ofMinutes(alertCooldownMinutes);
+    }
+
+    /**
+     * Carga los modelos guardados en el último punto de control.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadCheckpoint() {
+        try {
+            modelRepository.findAll().forEach(model -> models.putIfAbsent(key(model.getCropId(), model.getSensorId()), model));
+            log.info("Modelos de anomalías cargados: {}", models.size());
+        } catch (RuntimeException e) {
+            log.error("No se pudieron cargar los modelos de anomalías; se aprenderán de nuevo", e);
+        }
+    }
+
+    /**
+     * Evalúa una lectura y actualiza el modelo de su sensor.
+     * Tras una alerta, el mismo sensor no genera otra hasta que pase el tiempo de espera configurado.
+     *
+     * @param reading    Lectura recibida.
+     * @param sensorType Tipo del sensor (para el mensaje).
+     * @param unit       Unidad de medida (para el mensaje).
+     * @return Mensaje de la anomalía detectada, o vacío si la lectura es normal.
+     */
+    public Optional<String> observe(ReadingDomain reading, String sensorType, String unit) {
+        if (reading.getReadingValue() == null || reading.getReadingDate() == null) {
+            return Optional.empty();
+        }
+        double value = reading.getReadingValue().doubleValue();
+        LocalDateTime date = reading.getReadingDate();
+        SensorAnomalyModel model = models.computeIfAbsent(key(reading.getCropId(), reading.getSensorId()),
+                k -> SensorAnomalyModel.builder().cropId(reading.getCropId()).sensorId(reading.getSensorId()).build());
+
+        synchronized (model) {
+            double stdDev = Math.sqrt(model.getVariance());
+            boolean trained = model.getSampleCount() >= warmupSamples && stdDev > MIN_STD_DEV;
+
+            // Velocidad de cambio respecto de la lectura anterior (unidades por minuto)
+            Double rate = null;
+            if (model.getLastValue() != null && model.getLastReadingDate() != null && date.isAfter(model.getLastReadingDate())) {
+                double minutes = Duration.between(model.getLastReadingDate(), date).toMillis() / 60000.0;
+                rate = Math.abs(value - model.getLastValue()) / minutes;
+            }
+            double nextEwma = model.getSampleCount() == 0 ? value : model.getEwma() + ewmaAlpha * (value - model.getEwma());
+
+            String anomaly = null;
+            if (trained) {
+                double zScore = Math.abs(value - model.getMean()) / stdDev;
+                if (zScore > zThreshold) {
+                    anomaly = String.format("Valor atípico de %s: %.2f %s (media habitual: %.2f, %.1f desviaciones)",
+                            sensorType, value, unit, model.getMean(), zScore);
+                } else if (rate != null && model.getEwmaRate() > MIN_RATE && rate > rateMultiplier * model.getEwmaRate()
+                        && Math.abs(value - model.getLastValue()) > driftSigmas * stdDev) {
+                    // El salto también debe ser grande respecto de la dispersión, para no alertar por un
+                    // único paso de cuantización en una señal que estuvo estable mucho tiempo
+                    anomaly = String.format("Cambio brusco de %s: %.2f %s por minuto (habitual: %.2f)",
+                            sensorType, rate, unit, model.getEwmaRate());
+                } else if (Math.abs(nextEwma - model.getMean()) > driftSigmas * stdDev) {
+                    anomaly = String.format("Deriva sostenida de %s: promedio reciente %.2f %s (media habitual: %.2f)",
+                            sensorType, nextEwma, unit, model.getMean());
+                }
+            }
+
+            update(model, value, date, rate, nextEwma);
+
+            if (anomaly == null) {
+                return Optional.empty();
+            }
+            if (model.getLastAlertAt() != null && date.isBefore(model.getLastAlertAt().plus(alertCooldown))) {
+                log.debug("Anomalía omitida por tiempo de espera: cultivo {}, sensor {}", reading.getCropId(), reading.getSensorId());
+                return Optional.empty();
+            }
+            model.setLastAlertAt(date);
+            return Optional.of(anomaly);
+        }
+    }
+
+    /**
+     * Guarda los modelos que cambiaron desde el último punto de control.
+     *
+     * @return Cantidad de modelos guardados.
+     */
+    public int checkpoint() {
+        List<SensorAnomalyModel> snapshots = new ArrayList<>();
+        for (SensorAnomalyModel model : models.values()) {
+            synchronized (model) {
+                if (model.isDirty()) {
+                    snapshots.add(model.toBuilder().updatedAt(LocalDateTime.now()).build());
+                    model.setDirty(false);
+                }
+            }
+        }
+        if (snapshots.isEmpty()) {
+            return 0;
+        }
+        try {
+            modelRepository.saveAll(snapshots);
+        } catch (RuntimeException e) {
+            // Se vuelven a marcar para reintentar en el próximo punto de control
+            snapshots.forEach(snapshot -> Optional.ofNullable(models.get(key(snapshot.getCropId(), snapshot.getSensorId())))
+                    .ifPresent(model -> {
+                        synchronized (model) {
+                            model.setDirty(true);
+                        }
+                    }));
+            throw e;
+        }
+        return snapshots.size();
+    }
+
+    /**
+     * Descarta los modelos de un cultivo eliminado.
+     *
+     * @param cropId ID del cultivo.
+     */
+    public void evictCrop(Integer cropId) {
+        String prefix = cropId + ":";
+        models.keySet().removeIf(key -> key.startsWith(prefix));
+        modelRepository.deleteByCropId(cropId);
+    }
+
+    /**
+     * Guarda el estado pendiente al detener la aplicación.
+     */
+    @PreDestroy
+    public void shutdown() {
+        try {
+            checkpoint();
+        } catch (RuntimeException e) {
+            log.warn("No se pudo guardar el punto de control de anomalías al detener la aplicación: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Actualiza el modelo con una nueva lectura.
+     * La media y la varianza siguen la recurrencia de Welford con peso 1/n; al llegar a la ventana
+     * configurada el peso queda fijo en 1/ventana, lo que equivale a una ventana móvil exponencial.
+     */
+    private void update(SensorAnomalyModel model, double value, LocalDateTime date, Double rate, double nextEwma) {
+        long count = model.getSampleCount() + 1;
+        double weight = 1.0 / Math.min(count, window);
+        double delta = value - model.getMean();
+        model.setMean(model.getMean() + weight * delta);
+        model.setVariance((1 - weight) * (model.getVariance() + weight * delta * delta));
+        model.setSampleCount(count);
+        model.setEwma(nextEwma);
+
+        if (rate != null) {
+            model.setEwmaRate(model.getEwmaRate() == 0 ? rate : model.getEwmaRate() + ewmaAlpha * (rate - model.getEwmaRate()));
+        }
+        if (model.getLastReadingDate() == null || !date.isBefore(model.getLastReadingDate())) {
+            model.setLastValue(value);
+            model.setLastReadingDate(date);
+        }
+        model.setDirty(true);
+    }
+
+    private String key(Integer cropId, Integer sensorId) {
+        return cropId + ":" + sensorId;
+    }
+}
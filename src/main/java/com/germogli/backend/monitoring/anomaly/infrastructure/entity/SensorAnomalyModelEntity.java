@@ -0,0 +1,54 @@
+package com.germogli.backend.monitoring.anomaly.infrastructure.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entidad JPA que representa el último punto de control del modelo de anomalías de un sensor en un cultivo.
+ * Mapea la tabla sensor_anomaly_models en la base de datos.
+ */
+@Data
+@SuperBuilder
+@NoArgsConstructor(force = true, access = AccessLevel.PROTECTED)
+@Entity(name = "SensorAnomalyModelEntity")
+@Table(name = "sensor_anomaly_models")
+public class SensorAnomalyModelEntity {
+
+    @EmbeddedId
+    private SensorAnomalyModelId id;
+
+    @Column(name = "sample_count", nullable = false)
+    private Long sampleCount;
+
+    @Column(name = "mean_value", nullable = false)
+    private Double mean;
+
+    @Column(name = "variance", nullable = false)
+    private Double variance;
+
+    @Column(name = "ewma", nullable = false)
+    private Double ewma;
+
+    @Column(name = "ewma_rate", nullable = false)
+    private Double ewmaRate;
+
+    @Column(name = "last_value")
+    private Double lastValue;
+
+    @Column(name = "last_reading_date")
+    private LocalDateTime lastReadingDate;
+
+    @Column(name = "last_alert_at")
+    private LocalDateTime lastAlertAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,27 @@
+package com.germogli.backend.monitoring.anomaly.infrastructure.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import java.io.Serializable;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Clave compuesta para la entidad SensorAnomalyModelEntity.
+ * Representa la clave primaria compuesta de la tabla sensor_anomaly_models.
+ */
+@Embeddable
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SensorAnomalyModelId implements Serializable {
+
+    @Column(name = "crop_id")
+    private Integer cropId;
+
+    @Column(name = "sensor_id")
+    private Integer sensorId;
+}
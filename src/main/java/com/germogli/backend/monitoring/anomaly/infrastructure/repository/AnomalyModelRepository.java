@@ -0,0 +1,57 @@
+package com.germogli.backend.monitoring.anomaly.infrastructure.repository;
+
+import com.germogli.backend.monitoring.anomaly.domain.model.SensorAnomalyModel;
+import com.germogli.backend.monitoring.anomaly.domain.repository.AnomalyModelDomainRepository;
+import com.germogli.backend.monitoring.anomaly.infrastructure.entity.SensorAnomalyModelEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Implementación de AnomalyModelDomainRepository.
+ * Utiliza consultas JPA directas ya que esta tabla no tiene procedimientos almacenados.
+ */
+@Repository
+@RequiredArgsConstructor
+public class AnomalyModelRepository implements AnomalyModelDomainRepository {
+
+    @PersistenceContext
+    private final EntityManager entityManager;
+
+    /**
+     * Obtiene todos los modelos guardados.
+     */
+    @Override
+    public List<SensorAnomalyModel> findAll() {
+        return entityManager.createQuery("SELECT m FROM SensorAnomalyModelEntity m", SensorAnomalyModelEntity.class)
+                .getResultList()
+                .stream()
+                .map(SensorAnomalyModel::fromEntityStatic)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Crea o actualiza varios modelos en una sola transacción.
+     */
+    @Override
+    @Transactional
+    public void saveAll(List<SensorAnomalyModel> models) {
+        models.forEach(model -> entityManager.merge(model.toEntity()));
+    }
+
+    /**
+     * Elimina los modelos de un cultivo.
+     */
+    @Override
+    @Transactional
+    public void deleteByCropId(Integer cropId) {
+        entityManager.createQuery("DELETE FROM SensorAnomalyModelEntity m WHERE m.id.cropId = :cropId")
+                .setParameter("cropId", cropId)
+                .executeUpdate();
+    }
+}
@@ -4,10 +4,14 @@ import com.germogli.backend.authentication.domain.model.UserDomain;
 import com.germogli.backend.common.exception.ResourceNotFoundException;
 import com.germogli.backend.common.notification.application.service.NotificationService;
 import com.germogli.backend.community.domain.service.CommunitySharedService;
+import com.germogli.backend.monitoring.anomaly.domain.service.AnomalyDetectionService;
 import com.germogli.backend.monitoring.crop.application.dto.CropRequestDTO;
 import com.germogli.backend.monitoring.crop.application.dto.CropResponseDTO;
 import com.germogli.backend.monitoring.crop.domain.model.CropDomain;
 import com.germogli.backend.monitoring.crop.domain.repository.CropDomainRepository;
+import com.germogli.backend.monitoring.dashboard.infrastructure.cache.LatestReadingCache;
+import com.germogli.backend.monitoring.device.domain.service.DeviceDomainService;
+import com.germogli.backend.monitoring.liveness.domain.service.SensorLivenessService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
@@ -28,6 +32,10 @@ public class CropDomainService {
     private final CropDomainRepository cropRepository;
     private final CommunitySharedService sharedService;
     private final NotificationService notificationService;
+    private final LatestReadingCache latestReadingCache;
+    private final AnomalyDetectionService anomalyDetectionService;
+    private final SensorLivenessService sensorLivenessService;
+    private final DeviceDomainService deviceDomainService;
 
     /**
      * Crea un nuevo cultivo para el usuario autenticado.
@@ -163,6 +171,10 @@ public class CropDomainService {
         }
 
         cropRepository.deleteById(id);
+        latestReadingCache.evictCrop(id);
+        anomalyDetectionService.evictCrop(id);
+        sensorLivenessService.evictCrop(id);
+        deviceDomainService.deleteDevicesByCropId(id);
 
         // Enviar notificación al propietario
         notificationService.sendNotification(
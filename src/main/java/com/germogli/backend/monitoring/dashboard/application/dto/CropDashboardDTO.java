@@ -0,0 +1,22 @@
+package com.germogli.backend.monitoring.dashboard.application.dto;
+
+import com.germogli.backend.monitoring.alert.application.dto.AlertResponseDTO;
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * DTO con un cultivo del tablero: sus sensores (con umbrales y última lectura) y sus alertas recientes.
+ */
+@Data
+@Builder
+public class CropDashboardDTO {
+    private Integer cropId;
+    private String cropName;
+    private String cropType;
+    private LocalDateTime startDate;
+    private List<SensorDashboardDTO> sensors;
+    private List<AlertResponseDTO> alerts;
+}
@@ -0,0 +1,23 @@
+package com.germogli.backend.monitoring.dashboard.application.dto;
+
+import com.germogli.backend.monitoring.alert.application.dto.AlertResponseDTO;
+import lombok.Builder;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * DTO con un cambio incremental del tablero enviado por WebSocket.
+ * El tipo "reading" trae la nueva lectura de un sensor; el tipo "alert" trae la alerta generada.
+ */
+@Data
+@Builder
+public class DashboardDeltaDTO {
+    private String type;
+    private Integer cropId;
+    private Integer sensorId;
+    private BigDecimal readingValue;
+    private LocalDateTime readingDate;
+    private AlertResponseDTO alert;
+}
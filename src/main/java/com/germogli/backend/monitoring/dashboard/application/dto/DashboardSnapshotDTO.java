@@ -0,0 +1,18 @@
+package com.germogli.backend.monitoring.dashboard.application.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * DTO de respuesta con el estado completo del tablero de monitoreo de un usuario.
+ * Después de cargarlo, el cliente recibe los cambios por WebSocket en /user/queue/dashboard.
+ */
+@Data
+@Builder
+public class DashboardSnapshotDTO {
+    private LocalDateTime generatedAt;
+    private List<CropDashboardDTO> crops;
+}
@@ -0,0 +1,22 @@
+package com.germogli.backend.monitoring.dashboard.application.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * DTO con un sensor de un cultivo en el tablero: umbrales configurados y última lectura conocida.
+ */
+@Data
+@Builder
+public class SensorDashboardDTO {
+    private Integer sensorId;
+    private String sensorType;
+    private String unitOfMeasurement;
+    private BigDecimal minThreshold;
+    private BigDecimal maxThreshold;
+    private BigDecimal latestValue;
+    private LocalDateTime latestReadingDate;
+}
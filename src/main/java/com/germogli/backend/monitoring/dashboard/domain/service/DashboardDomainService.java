@@ -0,0 +1,156 @@
+package com.germogli.backend.monitoring.dashboard.domain.service;
+
+import com.germogli.backend.authentication.domain.model.UserDomain;
+import com.germogli.backend.monitoring.alert.application.dto.AlertResponseDTO;
+import com.germogli.backend.monitoring.alert.domain.model.AlertDomain;
+import com.germogli.backend.monitoring.alert.domain.repository.AlertDomainRepository;
+import com.germogli.backend.monitoring.crop.domain.model.CropDomain;
+import com.germogli.backend.monitoring.crop.domain.repository.CropDomainRepository;
+import com.germogli.backend.monitoring.dashboard.application.dto.CropDashboardDTO;
+import com.germogli.backend.monitoring.dashboard.application.dto.DashboardDeltaDTO;
+import com.germogli.backend.monitoring.dashboard.application.dto.DashboardSnapshotDTO;
+import com.germogli.backend.monitoring.dashboard.application.dto.SensorDashboardDTO;
+import com.germogli.backend.monitoring.dashboard.infrastructure.cache.LatestReadingCache;
+import com.germogli.backend.monitoring.dashboard.infrastructure.messaging.DashboardPublisher;
+import com.germogli.backend.monitoring.domain.service.MonitoringSharedService;
+import com.germogli.backend.monitoring.reading.domain.model.ReadingDomain;
+import com.germogli.backend.monitoring.sensor.application.dto.SensorThresholdResponseDTO;
+import com.germogli.backend.monitoring.sensor.domain.repository.SensorDomainRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Servicio de dominio para el tablero de monitoreo.
+ * Arma en una sola respuesta los cultivos del usuario con sus sensores, umbrales, última lectura
+ * y alertas recientes, y publica los cambios posteriores (nuevas lecturas y alertas) por WebSocket.
+ */
+@Service
+@RequiredArgsConstructor
+public class DashboardDomainService {
+
+    // Las alertas de las últimas 24 horas se consideran vigentes en el tablero
+    private static final int RECENT_ALERT_HOURS = 24;
+
+    private final CropDomainRepository cropRepository;
+    private final SensorDomainRepository sensorRepository;
+    private final AlertDomainRepository alertRepository;
+    private final MonitoringSharedService sharedService;
+    private final LatestReadingCache latestReadingCache;
+    private final DashboardPublisher dashboardPublisher;
+
+    /**
+     * Obtiene el tablero completo del usuario autenticado.
+     * Usa una consulta para los cultivos, una para los sensores con umbrales y una para las alertas;
+     * las últimas lecturas salen de memoria.
+     *
+     * @return Estado del tablero.
+     */
+    public DashboardSnapshotDTO getDashboard() {
+        UserDomain currentUser = sharedService.getAuthenticatedUser();
+
+        List<CropDomain> crops = cropRepository.findByUserId(currentUser.getId());
+        List<Integer> cropIds = crops.stream().map(CropDomain::getId).collect(Collectors.toList());
+
+        Map<Integer, List<SensorThresholdResponseDTO>> sensorsByCrop = sensorRepository.getThresholdsByCropIds(cropIds);
+        Map<Integer, Map<Integer, ReadingDomain>> latestByCrop = latestReadingCache.getLatest(cropIds);
+
+        // Tipo de sensor por ID, para completar las alertas sin consultar cada sensor
+        Map<Integer, String> sensorTypes = new HashMap<>();
+        sensorsByCrop.values().forEach(sensors -> sensors.forEach(s -> sensorTypes.put(s.getSensorId(), s.getSensorType())));
+
+        Map<Integer, List<AlertDomain>> alertsByCrop = alertRepository
+                .findRecentByCropIds(cropIds, LocalDateTime.now().minusHours(RECENT_ALERT_HOURS))
+                .stream()
+                .collect(Collectors.groupingBy(AlertDomain::getCropId));
+
+        List<CropDashboardDTO> cropDashboards = new ArrayList<>(crops.size());
+        for (CropDomain crop : crops) {
+            Map<Integer, ReadingDomain> latest = latestByCrop.getOrDefault(crop.getId(), Map.of());
+            List<SensorDashboardDTO> sensors = sensorsByCrop.getOrDefault(crop.getId(), List.of()).stream()
+                    .map(sensor -> toSensorDashboard(sensor, latest.get(sensor.getSensorId())))
+                    .collect(Collectors.toList());
+            List<AlertResponseDTO> alerts = alertsByCrop.getOrDefault(crop.getId(), List.of()).stream()
+                    .map(alert -> toAlertResponse(alert, crop.getCropName(), sensorTypes.get(alert.getSensorId())))
+                    .collect(Collectors.toList());
+
+            cropDashboards.add(CropDashboardDTO.builder()
+                    .cropId(crop.getId())
+                    .cropName(crop.getCropName())
+                    .cropType(crop.getCropType())
+                    .startDate(crop.getStartDate())
+                    .sensors(sensors)
+                    .alerts(alerts)
+                    .build());
+        }
+
+        return DashboardSnapshotDTO.builder()
+                .generatedAt(LocalDateTime.now())
+                .crops(cropDashboards)
+                .build();
+    }
+
+    /**
+     * Registra una nueva lectura en el estado en memoria y la publica al propietario del cultivo.
+     * Ambas cosas ocurren después del commit de la transacción que guardó la lectura.
+     *
+     * @param ownerId ID del propietario del cultivo.
+     * @param reading Lectura registrada.
+     */
+    public void onReading(Integer ownerId, ReadingDomain reading) {
+        dashboardPublisher.publish(ownerId, DashboardDeltaDTO.builder()
+                .type("reading")
+                .cropId(reading.getCropId())
+                .sensorId(reading.getSensorId())
+                .readingValue(reading.getReadingValue())
+                .readingDate(reading.getReadingDate())
+                .build(), () -> latestReadingCache.update(reading));
+    }
+
+    /**
+     * Publica una nueva alerta al propietario del cultivo.
+     *
+     * @param crop       Cultivo de la alerta.
+     * @param alert      Alerta generada.
+     * @param sensorType Tipo del sensor que la originó (puede ser null).
+     */
+    public void onAlert(CropDomain crop, AlertDomain alert, String sensorType) {
+        dashboardPublisher.publish(crop.getUserId(), DashboardDeltaDTO.builder()
+                .type("alert")
+                .cropId(alert.getCropId())
+                .sensorId(alert.getSensorId())
+                .alert(toAlertResponse(alert, crop.getCropName(), sensorType))
+                .build());
+    }
+
+    private SensorDashboardDTO toSensorDashboard(SensorThresholdResponseDTO sensor, ReadingDomain latest) {
+        return SensorDashboardDTO.builder()
+                .sensorId(sensor.getSensorId())
+                .sensorType(sensor.getSensorType())
+                .unitOfMeasurement(sensor.getUnitOfMeasurement())
+                .minThreshold(sensor.getMinThreshold())
+                .maxThreshold(sensor.getMaxThreshold())
+                .latestValue(latest != null ? latest.getReadingValue() : null)
+                .latestReadingDate(latest != null ? latest.getReadingDate() : null)
+                .build();
+    }
+
+    private AlertResponseDTO toAlertResponse(AlertDomain alert, String cropName, String sensorType) {
+        return AlertResponseDTO.builder()
+                .id(alert.getId())
+                .cropId(alert.getCropId())
+                .sensorId(alert.getSensorId())
+                .alertMessage(alert.getAlertMessage())
+                .alertLevel(alert.getAlertLevel())
+                .alertDatetime(alert.getAlertDatetime())
+                .cropName(cropName)
+                .sensorType(sensorType)
+                .build();
+    }
+}
@@ -0,0 +1,93 @@
+package com.germogli.backend.monitoring.dashboard.infrastructure.cache;
+
+import com.germogli.backend.monitoring.reading.domain.model.ReadingDomain;
+import com.germogli.backend.monitoring.reading.domain.repository.ReadingDomainRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Último valor leído de cada sensor de cada cultivo, en memoria.
+ * Se actualiza con cada lectura registrada y, la primera vez que se consulta un cultivo,
+ * se completa desde la base de datos con una sola consulta para todos los cultivos pendientes.
+ * Solo reemplaza un valor por otro más reciente, así el orden de llegada no importa.
+ * Cada nodo solo ve en memoria sus propias lecturas, por lo que la carga de un cultivo vence a los
+ * cache-ttl-seconds y se repite: así las lecturas recibidas por otros nodos se reflejan, como máximo, tras ese tiempo.
+ */
+@Component
+public class LatestReadingCache {
+
+    private final ReadingDomainRepository readingRepository;
+    private final long ttlNanos;
+
+    // Map estructura: cropId -> (sensorId -> última lectura)
+    private final Map<Integer, Map<Integer, ReadingDomain>> latestByCrop = new ConcurrentHashMap<>();
+
+    // Map estructura: cropId -> instante (System.nanoTime) en que vence la última carga desde la base de datos
+    private final Map<Integer, Long> loadedCrops = new ConcurrentHashMap<>();
+
+    public LatestReadingCache(ReadingDomainRepository readingRepository,
+                              @Value("${monitoring.dashboard.latest-reading-ttl-seconds:30}") long ttlSeconds) {
+        this.readingRepository = readingRepository;
+        this.ttlNanos = TimeUnit.SECONDS.toNanos(ttlSeconds);
+    }
+
+    /**
+     * Registra una lectura si es más reciente que la conocida para su sensor.
+     *
+     * @param reading Lectura registrada.
+     */
+    public void update(ReadingDomain reading) {
+        if (reading.getCropId() == null || reading.getSensorId() == null || reading.getReadingDate() == null) {
+            return;
+        }
+        latestByCrop.computeIfAbsent(reading.getCropId(), k -> new ConcurrentHashMap<>()).merge(reading.getSensorId(), reading,
+                (current, candidate) -> candidate.getReadingDate().isBefore(current.getReadingDate()) ? current : candidate);
+    }
+
+    /**
+     * Obtiene la última lectura de cada sensor de los cultivos indicados.
+     *
+     * @param cropIds IDs de los cultivos.
+     * @return Mapa ID de cultivo -> (ID de sensor -> última lectura).
+     */
+    public Map<Integer, Map<Integer, ReadingDomain>> getLatest(Collection<Integer> cropIds) {
+        long now = System.nanoTime();
+        List<Integer> missing = cropIds.stream()
+                .filter(cropId -> {
+                    Long expiresAt = loadedCrops.get(cropId);
+                    return expiresAt == null || now - expiresAt >= 0;
+                })
+                .toList();
+        if (!missing.isEmpty()) {
+            // La recarga se combina con update: un valor en memoria más reciente que el de la base de datos se conserva
+            readingRepository.findLatestByCropIds(missing).forEach(this::update);
+            missing.forEach(cropId -> loadedCrops.put(cropId, now + ttlNanos));
+        }
+
+        Map<Integer, Map<Integer, ReadingDomain>> result = new HashMap<>();
+        for (Integer cropId : cropIds) {
+            Map<Integer, ReadingDomain> sensors = latestByCrop.get(cropId);
+            if (sensors != null) {
+                result.put(cropId, Map.copyOf(sensors));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Descarta los valores de un cultivo (por ejemplo, al eliminarlo).
+     *
+     * @param cropId ID del cultivo.
+     */
+    public void evictCrop(Integer cropId) {
+        loadedCrops.remove(cropId);
+        latestByCrop.remove(cropId);
+    }
+}
@@ -0,0 +1,162 @@
+package com.germogli.backend.monitoring.dashboard.infrastructure.messaging;
+
+import com.germogli.backend.authentication.domain.repository.UserDomainRepository;
+import com.germogli.backend.monitoring.dashboard.application.dto.DashboardDeltaDTO;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import java.security.Principal;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Publica los cambios incrementales del tablero de monitoreo en la cola personal del propietario del cultivo
+ * (/user/queue/dashboard). Solo se envían a usuarios con al menos una sesión WebSocket suscrita a esa cola:
+ * las suscripciones se registran al suscribirse y se descartan al cancelar la suscripción o al desconectarse.
+ * Si hay una transacción activa, se envían después del commit para no anunciar datos que se revierten.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DashboardPublisher {
+
+    public static final String DESTINATION = "/queue/dashboard";
+
+    // Destino al que se suscribe el cliente (prefijo de destinos de usuario + cola del tablero)
+    private static final String SUBSCRIPTION_DESTINATION = "/user" + DESTINATION;
+
+    private record Subscriber(String username, Set<String> subscriptions) {
+    }
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final UserDomainRepository userRepository;
+
+    // Map estructura: userId -> nombre de usuario y suscripciones activas ("sessionId:subscriptionId")
+    private final Map<Integer, Subscriber> subscribers = new ConcurrentHashMap<>();
+
+    // Map estructura: sessionId -> userId de las sesiones suscritas al tablero
+    private final Map<String, Integer> sessionUsers = new ConcurrentHashMap<>();
+
+    /**
+     * Registra una suscripción a la cola del tablero.
+     *
+     * @param event Evento de suscripción STOMP.
+     */
+    @EventListener
+    public void onSubscribe(SessionSubscribeEvent event) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(event.getMessage());
+        Principal user = event.getUser();
+        if (!SUBSCRIPTION_DESTINATION.equals(accessor.getDestination()) || user == null
+                || accessor.getSessionId() == null || accessor.getSubscriptionId() == null) {
+            return;
+        }
+        userRepository.findByUsername(user.getName()).ifPresent(domainUser -> {
+            String subscription = accessor.getSessionId() + ":" + accessor.getSubscriptionId();
+            sessionUsers.put(accessor.getSessionId(), domainUser.getId());
+            subscribers.compute(domainUser.getId(), (id, current) -> {
+                Subscriber subscriber = current != null ? current : new Subscriber(user.getName(), ConcurrentHashMap.newKeySet());
+                subscriber.subscriptions().add(subscription);
+                return subscriber;
+            });
+        });
+    }
+
+    /**
+     * Descarta una suscripción cancelada por el cliente.
+     *
+     * @param event Evento de cancelación de suscripción STOMP.
+     */
+    @EventListener
+    public void onUnsubscribe(SessionUnsubscribeEvent event) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(event.getMessage());
+        Integer userId = accessor.getSessionId() != null ? sessionUsers.get(accessor.getSessionId()) : null;
+        if (userId == null || accessor.getSubscriptionId() == null) {
+            return;
+        }
+        String subscription = accessor.getSessionId() + ":" + accessor.getSubscriptionId();
+        subscribers.computeIfPresent(userId, (id, subscriber) -> {
+            subscriber.subscriptions().remove(subscription);
+            return subscriber.subscriptions().isEmpty() ? null : subscriber;
+        });
+    }
+
+    /**
+     * Descarta todas las suscripciones de una sesión cerrada.
+     *
+     * @param event Evento de desconexión de la sesión.
+     */
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        Integer userId = sessionUsers.remove(event.getSessionId());
+        if (userId == null) {
+            return;
+        }
+        String prefix = event.getSessionId() + ":";
+        subscribers.computeIfPresent(userId, (id, subscriber) -> {
+            subscriber.subscriptions().removeIf(subscription -> subscription.startsWith(prefix));
+            return subscriber.subscriptions().isEmpty() ? null : subscriber;
+        });
+    }
+
+    /**
+     * Envía un cambio al propietario de un cultivo.
+     *
+     * @param userId ID del propietario del cultivo.
+     * @param delta  Cambio a enviar.
+     */
+    public void publish(Integer userId, DashboardDeltaDTO delta) {
+        publish(userId, delta, null);
+    }
+
+    /**
+     * Aplica un cambio en memoria y lo envía al propietario de un cultivo en el mismo paso: después del commit si hay
+     * una transacción activa, o de inmediato. Así el estado en memoria nunca refleja datos que se revierten.
+     *
+     * @param userId   ID del propietario del cultivo.
+     * @param delta    Cambio a enviar.
+     * @param onCommit Acción que se ejecuta antes del envío, aunque el usuario no tenga el tablero abierto (puede ser null).
+     */
+    public void publish(Integer userId, DashboardDeltaDTO delta, Runnable onCommit) {
+        if (onCommit == null && !subscribers.containsKey(userId)) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    deliver(userId, delta, onCommit);
+                }
+            });
+        } else {
+            deliver(userId, delta, onCommit);
+        }
+    }
+
+    private void deliver(Integer userId, DashboardDeltaDTO delta, Runnable onCommit) {
+        if (onCommit != null) {
+            onCommit.run();
+        }
+        Subscriber subscriber = subscribers.get(userId);
+        if (subscriber != null) {
+            send(subscriber.username(), delta);
+        }
+    }
+
+    private void send(String username, DashboardDeltaDTO delta) {
+        try {
+            messagingTemplate.convertAndSendToUser(username, DESTINATION, delta);
+        } catch (RuntimeException e) {
+            log.warn("No se pudo enviar el cambio del tablero a {}: {}", username, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.germogli.backend.monitoring.dashboard.web.controller;
+
+import com.germogli.backend.monitoring.application.dto.common.ApiResponseDTO;
+import com.germogli.backend.monitoring.dashboard.application.dto.DashboardSnapshotDTO;
+import com.germogli.backend.monitoring.dashboard.domain.service.DashboardDomainService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Controlador REST para el tablero de monitoreo.
+ * Devuelve el estado completo en una sola llamada; los cambios posteriores
+ * se reciben suscribiéndose a /user/queue/dashboard.
+ */
+@RestController
+@RequestMapping("/dashboard")
+@RequiredArgsConstructor
+@PreAuthorize("isAuthenticated()")
+public class DashboardController {
+
+    private final DashboardDomainService dashboardDomainService;
+
+    /**
+     * Endpoint para obtener el tablero de monitoreo del usuario autenticado.
+     *
+     * @return Respuesta API con los cultivos, sensores, umbrales, últimas lecturas y alertas recientes.
+     */
+    @GetMapping
+    public ResponseEntity<ApiResponseDTO<DashboardSnapshotDTO>> getDashboard() {
+        return ResponseEntity.ok(ApiResponseDTO.<DashboardSnapshotDTO>builder()
+                .message("Tablero recuperado correctamente")
+                .data(dashboardDomainService.getDashboard())
+                .build());
+    }
+}
@@ -0,0 +1,25 @@
+package com.germogli.backend.monitoring.device.application.dto;
+
+import com.germogli.backend.monitoring.sensor.application.dto.SensorThresholdResponseDTO;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Mensaje de configuración enviado a los dispositivos conectados por WebSocket.
+ * Se envía al conectarse y cada vez que cambian los umbrales de los sensores de su cultivo.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DeviceConfigMessageDTO {
+    private String type;
+    private Integer cropId;
+    private LocalDateTime sentAt;
+    private List<SensorThresholdResponseDTO> thresholds;
+}
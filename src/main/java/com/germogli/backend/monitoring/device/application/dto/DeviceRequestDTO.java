@@ -0,0 +1,25 @@
+package com.germogli.backend.monitoring.device.application.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO para registrar un dispositivo IoT en un cultivo.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DeviceRequestDTO {
+    @NotNull(message = "El ID del cultivo es obligatorio")
+    private Integer cropId;
+
+    @NotBlank(message = "El nombre del dispositivo es obligatorio")
+    @Size(max = 100, message = "El nombre no puede superar los 100 caracteres")
+    private String name;
+}
@@ -0,0 +1,27 @@
+package com.germogli.backend.monitoring.device.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO de respuesta con los datos de un dispositivo IoT.
+ * apiKey solo se informa al registrar el dispositivo o cambiar su clave; después solo se conoce apiKeyPrefix.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DeviceResponseDTO {
+    private Integer id;
+    private Integer cropId;
+    private String name;
+    private String apiKeyPrefix;
+    private String apiKey;
+    private Boolean active;
+    private LocalDateTime creationDate;
+    private LocalDateTime keyRotatedAt;
+}
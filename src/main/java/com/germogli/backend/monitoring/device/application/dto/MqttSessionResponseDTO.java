@@ -0,0 +1,27 @@
+package com.germogli.backend.monitoring.device.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO de respuesta con el estado de la sesión MQTT de un dispositivo.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MqttSessionResponseDTO {
+    private Integer deviceId;
+    private Integer cropId;
+    private String clientId;
+    private String remoteAddress;
+    private LocalDateTime connectedAt;
+    private LocalDateTime lastActivityAt;
+    private long messagesReceived;
+    private long messagesStored;
+    private long messagesDropped;
+}
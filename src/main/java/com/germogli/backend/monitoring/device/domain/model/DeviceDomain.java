@@ -0,0 +1,74 @@
+package com.germogli.backend.monitoring.device.domain.model;
+
+import com.germogli.backend.monitoring.device.infrastructure.entity.DeviceEntity;
+import com.germogli.backend.monitoring.domain.model.Converter;
+import lombok.Data;
+import lombok.experimental.SuperBuilder;
+
+import java.time.LocalDateTime;
+
+/**
+ * Modelo de dominio para un dispositivo IoT asociado a un cultivo.
+ * Implementa Converter para estandarizar la conversión entre DeviceEntity y DeviceDomain.
+ */
+@Data
+@SuperBuilder
+public class DeviceDomain implements Converter<DeviceDomain, DeviceEntity> {
+    private Integer id;
+    private Integer cropId;
+    private String name;
+    private String apiKeyHash;
+    private String apiKeyPrefix;
+    private Boolean active;
+    private LocalDateTime creationDate;
+    private LocalDateTime keyRotatedAt;
+
+    /**
+     * Convierte una entidad DeviceEntity en un objeto DeviceDomain.
+     *
+     * @param entity Entidad a convertir.
+     * @return Objeto DeviceDomain.
+     */
+    @Override
+    public DeviceDomain fromEntity(DeviceEntity entity) {
+        return fromEntityStatic(entity);
+    }
+
+    /**
+     * Método estático para convertir una entidad DeviceEntity en un objeto DeviceDomain.
+     *
+     * @param entity Entidad a convertir.
+     * @return Objeto DeviceDomain con los datos de la entidad.
+     */
+    public static DeviceDomain fromEntityStatic(DeviceEntity entity) {
+        return DeviceDomain.builder()
+                .id(entity.getId())
+                .cropId(entity.getCropId())
+                .name(entity.getName())
+                .apiKeyHash(entity.getApiKeyHash())
+                .apiKeyPrefix(entity.getApiKeyPrefix())
+                .active(entity.getActive())
+                .creationDate(entity.getCreationDate())
+                .keyRotatedAt(entity.getKeyRotatedAt())
+                .build();
+    }
+
+    /**
+     * Convierte este objeto DeviceDomain en una entidad DeviceEntity para persistencia.
+     *
+     * @return Objeto DeviceEntity con los datos de este modelo.
+     */
+    @Override
+    public DeviceEntity toEntity() {
+        return DeviceEntity.builder()
+                .id(this.id)
+                .cropId(this.cropId)
+                .name(this.name)
+                .apiKeyHash(this.apiKeyHash)
+                .apiKeyPrefix(this.apiKeyPrefix)
+                .active(this.active)
+                .creationDate(this.creationDate)
+                .keyRotatedAt(this.keyRotatedAt)
+                .build();
+    }
+}
@@ -0,0 +1,51 @@
+package com.germogli.backend.monitoring.device.domain.repository;
+
+import com.germogli.backend.monitoring.device.domain.model.DeviceDomain;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Interfaz para las operaciones de persistencia de los dispositivos IoT.
+ */
+public interface DeviceDomainRepository {
+
+    /**
+     * Crea o actualiza un dispositivo.
+     *
+     * @param device Dispositivo a guardar.
+     * @return Dispositivo guardado con su ID.
+     */
+    DeviceDomain save(DeviceDomain device);
+
+    /**
+     * Busca un dispositivo por su ID.
+     *
+     * @param id ID del dispositivo.
+     * @return Optional con el dispositivo si existe.
+     */
+    Optional<DeviceDomain> findById(Integer id);
+
+    /**
+     * Obtiene los dispositivos de un cultivo.
+     *
+     * @param cropId ID del cultivo.
+     * @return Lista de dispositivos.
+     */
+    List<DeviceDomain> findByCropId(Integer cropId);
+
+    /**
+     * Elimina un dispositivo.
+     *
+     * @param id ID del dispositivo.
+     */
+    void deleteById(Integer id);
+
+    /**
+     * Elimina los dispositivos de un cultivo.
+     *
+     * @param cropId ID del cultivo.
+     * @return IDs de los dispositivos eliminados.
+     */
+    List<Integer> deleteByCropId(Integer cropId);
+}
@@ -0,0 +1,182 @@
+package com.germogli.backend.monitoring.device.domain.service;
+
+import com.germogli.backend.authentication.domain.model.UserDomain;
+import com.germogli.backend.common.exception.ResourceNotFoundException;
+import com.germogli.backend.monitoring.crop.domain.model.CropDomain;
+import com.germogli.backend.monitoring.crop.domain.repository.CropDomainRepository;
+import com.germogli.backend.monitoring.device.application.dto.DeviceRequestDTO;
+import com.germogli.backend.monitoring.device.application.dto.DeviceResponseDTO;
+import com.germogli.backend.monitoring.device.domain.model.DeviceDomain;
+import com.germogli.backend.monitoring.device.domain.repository.DeviceDomainRepository;
+import com.germogli.backend.monitoring.device.infrastructure.dedup.IngestionDeduplicator;
+import com.germogli.backend.monitoring.device.infrastructure.ratelimit.IngestionRateLimiter;
+import com.germogli.backend.monitoring.device.infrastructure.security.DeviceApiKeys;
+import com.germogli.backend.monitoring.device.infrastructure.security.DeviceCredentialCache;
+import com.germogli.backend.monitoring.domain.service.MonitoringSharedService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Servicio de dominio para la gestión de dispositivos IoT y sus claves de API.
+ * Solo el propietario del cultivo o un administrador pueden registrar, consultar o modificar sus dispositivos.
+ */
+@Service
+@RequiredArgsConstructor
+public class DeviceDomainService {
+
+    private final DeviceDomainRepository deviceRepository;
+    private final CropDomainRepository cropRepository;
+    private final MonitoringSharedService sharedService;
+    private final DeviceCredentialCache credentialCache;
+    private final IngestionRateLimiter rateLimiter;
+    private final IngestionDeduplicator ingestionDeduplicator;
+
+    /**
+     * Registra un dispositivo en un cultivo y genera su clave de API.
+     *
+     * @param request DTO con el cultivo y el nombre del dispositivo.
+     * @return Dispositivo registrado, incluida la clave en claro.
+     * @throws ResourceNotFoundException si el cultivo no existe.
+     * @throws AccessDeniedException si el usuario no tiene acceso al cultivo.
+     */
+    public DeviceResponseDTO registerDevice(DeviceRequestDTO request) {
+        checkCropAccess(request.getCropId());
+        String apiKey = DeviceApiKeys.generate();
+        DeviceDomain saved = deviceRepository.save(DeviceDomain.builder()
+                .cropId(request.getCropId())
+                .name(request.getName())
+                .apiKeyHash(DeviceApiKeys.hashHex(apiKey))
+                .apiKeyPrefix(DeviceApiKeys.displayPrefix(apiKey))
+                .active(true)
+                .creationDate(LocalDateTime.now())
+                .build());
+        credentialCache.put(saved);
+
+        DeviceResponseDTO response = toResponse(saved);
+        response.setApiKey(apiKey);
+        return response;
+    }
+
+    /**
+     * Obtiene los dispositivos de un cultivo.
+     *
+     * @param cropId ID del cultivo.
+     * @return Lista de dispositivos (sin claves).
+     * @throws ResourceNotFoundException si el cultivo no existe.
+     * @throws AccessDeniedException si el usuario no tiene acceso al cultivo.
+     */
+    public List<DeviceResponseDTO> getDevicesByCropId(Integer cropId) {
+        checkCropAccess(cropId);
+        return deviceRepository.findByCropId(cropId).stream()
+                .map(this::toResponse)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Genera una clave de API nueva para un dispositivo; la anterior deja de ser válida.
+     *
+     * @param id ID del dispositivo.
+     * @return Dispositivo actualizado, incluida la clave nueva en claro.
+     * @throws ResourceNotFoundException si el dispositivo no existe.
+     * @throws AccessDeniedException si el usuario no tiene acceso al cultivo del dispositivo.
+     */
+    public DeviceResponseDTO rotateKey(Integer id) {
+        DeviceDomain device = getAccessibleDevice(id);
+        String apiKey = DeviceApiKeys.generate();
+        device.setApiKeyHash(DeviceApiKeys.hashHex(apiKey));
+        device.setApiKeyPrefix(DeviceApiKeys.displayPrefix(apiKey));
+        device.setKeyRotatedAt(LocalDateTime.now());
+        DeviceDomain saved = deviceRepository.save(device);
+        credentialCache.put(saved);
+
+        DeviceResponseDTO response = toResponse(saved);
+        response.setApiKey(apiKey);
+        return response;
+    }
+
+    /**
+     * Activa o desactiva un dispositivo sin cambiar su clave.
+     *
+     * @param id     ID del dispositivo.
+     * @param active Nuevo estado.
+     * @return Dispositivo actualizado.
+     * @throws ResourceNotFoundException si el dispositivo no existe.
+     * @throws AccessDeniedException si el usuario no tiene acceso al cultivo del dispositivo.
+     */
+    public DeviceResponseDTO setActive(Integer id, boolean active) {
+        DeviceDomain device = getAccessibleDevice(id);
+        device.setActive(active);
+        DeviceDomain saved = deviceRepository.save(device);
+        credentialCache.put(saved);
+        return toResponse(saved);
+    }
+
+    /**
+     * Elimina un dispositivo.
+     *
+     * @param id ID del dispositivo.
+     * @throws ResourceNotFoundException si el dispositivo no existe.
+     * @throws AccessDeniedException si el usuario no tiene acceso al cultivo del dispositivo.
+     */
+    public void deleteDevice(Integer id) {
+        getAccessibleDevice(id);
+        deviceRepository.deleteById(id);
+        credentialCache.invalidate(id);
+        rateLimiter.evictDevice(id);
+        ingestionDeduplicator.evictDevice(id);
+    }
+
+    /**
+     * Elimina los dispositivos de un cultivo eliminado.
+     *
+     * @param cropId ID del cultivo.
+     */
+    public void deleteDevicesByCropId(Integer cropId) {
+        deviceRepository.deleteByCropId(cropId).forEach(deviceId -> {
+            credentialCache.invalidate(deviceId);
+            rateLimiter.evictDevice(deviceId);
+            ingestionDeduplicator.evictDevice(deviceId);
+        });
+        rateLimiter.evictCrop(cropId);
+    }
+
+    private DeviceDomain getAccessibleDevice(Integer id) {
+        DeviceDomain device = deviceRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Dispositivo no encontrado con id: " + id));
+        checkCropAccess(device.getCropId());
+        return device;
+    }
+
+    private void checkCropAccess(Integer cropId) {
+        UserDomain currentUser = sharedService.getAuthenticatedUser();
+
+        // Verificar que el cultivo exista
+        CropDomain crop = cropRepository.findById(cropId)
+                .orElseThrow(() -> new ResourceNotFoundException("Cultivo no encontrado con id: " + cropId));
+
+        // Verificar que el usuario actual sea el propietario o un administrador
+        boolean isOwner = crop.getUserId().equals(currentUser.getId());
+        boolean isAdmin = sharedService.hasRole(currentUser, "ADMINISTRADOR");
+
+        if (!isOwner && !isAdmin) {
+            throw new AccessDeniedException("No tiene permisos para gestionar los dispositivos de este cultivo");
+        }
+    }
+
+    private DeviceResponseDTO toResponse(DeviceDomain device) {
+        return DeviceResponseDTO.builder()
+                .id(device.getId())
+                .cropId(device.getCropId())
+                .name(device.getName())
+                .apiKeyPrefix(device.getApiKeyPrefix())
+                .active(device.getActive())
+                .creationDate(device.getCreationDate())
+                .keyRotatedAt(device.getKeyRotatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,95 @@
+package com.germogli.backend.monitoring.device.domain.service;
+
+import com.germogli.backend.common.exception.DeviceAuthenticationException;
+import com.germogli.backend.common.exception.RateLimitExceededException;
+import com.germogli.backend.monitoring.device.infrastructure.ratelimit.IngestionRateLimiter;
+import com.germogli.backend.monitoring.device.infrastructure.security.DeviceApiKeys;
+import com.germogli.backend.monitoring.device.infrastructure.security.DeviceCredentialCache;
+import com.germogli.backend.monitoring.device.infrastructure.security.DeviceCredentialCache.DeviceCredential;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Control de acceso de los endpoints de ingesta de dispositivos.
+ * Verifica la clave de API contra la caché de credenciales (sin consultar la base de datos en cada solicitud)
+ * y después aplica el límite de solicitudes. El límite se aplica solo a dispositivos autenticados,
+ * para que un tercero no pueda agotar la cubeta de un dispositivo legítimo usando su ID.
+ * Las consultas a la base de datos por IDs que este nodo no conoce pasan antes por un límite global.
+ */
+@Service
+@RequiredArgsConstructor
+public class DeviceIngestionGuard {
+
+    /**
+     * Cabecera en la que los dispositivos envían su clave de API.
+     */
+    public static final String API_KEY_HEADER = "X-Device-Key";
+
+    private final DeviceCredentialCache credentialCache;
+    private final IngestionRateLimiter rateLimiter;
+
+    /**
+     * Autoriza una solicitud de ingesta.
+     *
+     * @param deviceId ID del dispositivo.
+     * @param cropId   ID del cultivo al que se envían las lecturas.
+     * @param apiKey   Clave de API presentada.
+     * @throws DeviceAuthenticationException si el dispositivo no existe, está inactivo o la clave no es válida.
+     * @throws AccessDeniedException si el dispositivo no pertenece al cultivo.
+     * @throws RateLimitExceededException si el dispositivo o el cultivo superaron su límite de solicitudes,
+     *                                    o se agotó el límite de consultas de dispositivos desconocidos.
+     */
+    public void authorize(Integer deviceId, Integer cropId, String apiKey) {
+        DeviceCredential credential = authenticate(deviceId, apiKey);
+        if (!credential.cropId().equals(cropId)) {
+            throw new AccessDeniedException("El dispositivo no está asociado a este cultivo");
+        }
+        acquire(deviceId, cropId);
+    }
+
+    /**
+     * Autoriza la apertura de una conexión persistente; el intento de conexión cuenta como una solicitud.
+     *
+     * @param deviceId ID del dispositivo.
+     * @param apiKey   Clave de API presentada.
+     * @return Credencial del dispositivo (incluye su cultivo).
+     * @throws DeviceAuthenticationException si el dispositivo no existe, está inactivo o la clave no es válida.
+     * @throws RateLimitExceededException si el dispositivo o el cultivo superaron su límite de solicitudes,
+     *                                    o se agotó el límite de consultas de dispositivos desconocidos.
+     */
+    public DeviceCredential authorizeConnection(Integer deviceId, String apiKey) {
+        DeviceCredential credential = authenticate(deviceId, apiKey);
+        acquire(deviceId, credential.cropId());
+        return credential;
+    }
+
+    private DeviceCredential authenticate(Integer deviceId, String apiKey) {
+        if (deviceId == null || apiKey == null || apiKey.isBlank()) {
+            throw new DeviceAuthenticationException("Se requieren el ID del dispositivo y la cabecera " + API_KEY_HEADER);
+        }
+        if (credentialCache.requiresUnknownLookup(deviceId)) {
+            long waitNanos = rateLimiter.tryAcquireUnknownLookup();
+            if (waitNanos > 0) {
+                throw new RateLimitExceededException("Demasiadas solicitudes de dispositivos desconocidos", retryAfterSeconds(waitNanos));
+            }
+        }
+        return credentialCache.get(deviceId)
+                .filter(DeviceCredential::active)
+                .filter(found -> DeviceApiKeys.matches(apiKey, found.keyHash()))
+                .orElseThrow(() -> new DeviceAuthenticationException("Credenciales de dispositivo no válidas"));
+    }
+
+    private void acquire(Integer deviceId, Integer cropId) {
+        long waitNanos = rateLimiter.tryAcquire(deviceId, cropId);
+        if (waitNanos > 0) {
+            throw new RateLimitExceededException("Límite de solicitudes superado para el dispositivo", retryAfterSeconds(waitNanos));
+        }
+    }
+
+    private static long retryAfterSeconds(long waitNanos) {
+        return Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L));
+    }
+}
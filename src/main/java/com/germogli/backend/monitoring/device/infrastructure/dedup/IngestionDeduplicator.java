@@ -0,0 +1,222 @@
+package com.germogli.backend.monitoring.device.infrastructure.dedup;
+
+import com.germogli.backend.common.exception.RequestInProgressException;
+import com.germogli.backend.monitoring.reading.infrastructure.codec.DeviceFrameCodec.DeviceFrame;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Descarta los reenvíos de lecturas de un dispositivo antes de tocar la base de datos.
+ * Cada envío se identifica con una clave de idempotencia: el número de secuencia del dispositivo o, si no lo envía,
+ * el timestamp de las lecturas, combinados en ambos casos con un hash de su contenido. Por dispositivo se guardan en memoria las últimas window-size claves, cada una
+ * durante window-ttl-minutes; una clave vista dentro de esa ventana es un reenvío.
+ * <p>
+ * Una clave se marca como en curso al empezar y como procesada al terminar; si el procesamiento falla se libera,
+ * para que el reintento se procese. Un reenvío de una clave procesada se responde como exitoso sin volver a guardar;
+ * uno que llega mientras el original sigue en curso se rechaza (409) para que el dispositivo reintente después.
+ */
+@Component
+public class IngestionDeduplicator {
+
+    /**
+     * Resultado de registrar una clave.
+     */
+    public enum Outcome {
+        NEW, DUPLICATE, IN_PROGRESS
+    }
+
+    private static final byte EMPTY = 0;
+    private static final byte IN_PROGRESS = 1;
+    private static final byte DONE = 2;
+
+    private final int windowSize;
+    private final long ttlNanos;
+
+    // Map estructura: deviceId -> ventana de claves recientes
+    private final Map<Integer, Window> windows = new ConcurrentHashMap<>();
+
+    public IngestionDeduplicator(@Value("${monitoring.devices.dedup.window-size:32}") int windowSize,
+                                 @Value("${monitoring.devices.dedup.window-ttl-minutes:10}") long ttlMinutes) {
+        this.windowSize = windowSize;
+        this.ttlNanos = TimeUnit.MINUTES.toNanos(ttlMinutes);
+    }
+
+    /**
+     * Obtiene la clave de idempotencia de un envío.
+     * Ni la secuencia ni la fecha bastan solas: un dispositivo que se reinicia vuelve a contar desde el principio, y uno
+     * sin reloj o que envía cada sensor por separado puede repetir la fecha con lecturas distintas. Por eso ambas se
+     * combinan con el hash del contenido, que un reintento repite exactamente.
+     *
+     * @param sequence    Número de secuencia enviado por el dispositivo (opcional).
+     * @param timestamp   Fecha de las lecturas enviada por el dispositivo (opcional).
+     * @param contentHash Hash de las lecturas del envío.
+     * @return Clave, o null si el envío no trae secuencia ni fecha y no se puede deduplicar.
+     */
+    public static Long key(Long sequence, LocalDateTime timestamp, int contentHash) {
+        if (sequence != null) {
+            return sequenceKey(sequence, 31 * Objects.hashCode(timestamp) + contentHash);
+        }
+        return timestamp != null
+                ? contentKey(timestamp.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli(), contentHash)
+                : null;
+    }
+
+    /**
+     * Obtiene la clave de idempotencia de una trama binaria (DeviceFrameCodec).
+     *
+     * @param sequence Número de secuencia enviado por el dispositivo (opcional).
+     * @param frame    Trama decodificada; un timestamp 0 indica que el dispositivo no conoce la fecha.
+     * @return Clave, o null si no se puede deduplicar.
+     */
+    public static Long key(Long sequence, DeviceFrame frame) {
+        int contentHash = 31 * (31 * frame.cropId() + Arrays.hashCode(frame.sensorIds())) + Arrays.hashCode(frame.values());
+        if (sequence != null) {
+            return sequenceKey(sequence, 31 * Long.hashCode(frame.timestampMillis()) + contentHash);
+        }
+        if (frame.timestampMillis() <= 0) {
+            return null;
+        }
+        return contentKey(frame.timestampMillis(), contentHash);
+    }
+
+    /**
+     * Ejecuta el procesamiento de un envío solo si su clave no se vio antes.
+     *
+     * @param deviceId ID del dispositivo.
+     * @param key      Clave de idempotencia (si es null, siempre se procesa).
+     * @param action   Procesamiento del envío.
+     * @return Resultado del procesamiento, o vacío si el envío es un reenvío ya procesado.
+     * @throws RequestInProgressException si el envío original todavía se está procesando.
+     */
+    public <T> Optional<T> once(Integer deviceId, Long key, Supplier<T> action) {
+        if (key == null) {
+            return Optional.of(action.get());
+        }
+        Outcome outcome = begin(deviceId, key);
+        if (outcome == Outcome.DUPLICATE) {
+            return Optional.empty();
+        }
+        if (outcome == Outcome.IN_PROGRESS) {
+            throw new RequestInProgressException("El envío original todavía se está procesando; reintente más tarde");
+        }
+        try {
+            T result = action.get();
+            complete(deviceId, key);
+            return Optional.of(result);
+        } catch (RuntimeException e) {
+            abort(deviceId, key);
+            throw e;
+        }
+    }
+
+    /**
+     * Registra una clave como en curso si no se vio dentro de la ventana.
+     *
+     * @param deviceId ID del dispositivo.
+     * @param key      Clave de idempotencia.
+     * @return NEW si es la primera vez; DUPLICATE o IN_PROGRESS si es un reenvío.
+     */
+    public Outcome begin(Integer deviceId, long key) {
+        Window window = windows.computeIfAbsent(deviceId, id -> new Window(windowSize));
+        long now = System.nanoTime();
+        synchronized (window) {
+            int slot = window.find(key, now, ttlNanos);
+            if (slot >= 0) {
+                return window.states[slot] == DONE ? Outcome.DUPLICATE : Outcome.IN_PROGRESS;
+            }
+            window.add(key, now);
+            return Outcome.NEW;
+        }
+    }
+
+    /**
+     * Marca una clave como procesada; los reenvíos posteriores se descartan.
+     */
+    public void complete(Integer deviceId, long key) {
+        update(deviceId, key, DONE);
+    }
+
+    /**
+     * Libera una clave cuyo procesamiento falló, para que el reintento se procese.
+     */
+    public void abort(Integer deviceId, long key) {
+        update(deviceId, key, EMPTY);
+    }
+
+    /**
+     * Descarta la ventana de un dispositivo eliminado.
+     *
+     * @param deviceId ID del dispositivo.
+     */
+    public void evictDevice(Integer deviceId) {
+        windows.remove(deviceId);
+    }
+
+    private static long contentKey(long timestampMillis, int contentHash) {
+        // Multiplicar por la constante de Fibonacci reparte la fecha sobre los 64 bits antes de combinar el hash
+        return (timestampMillis * 0x9E3779B97F4A7C15L) ^ (contentHash & 0xFFFFFFFFL);
+    }
+
+    private static long sequenceKey(long sequence, int contentHash) {
+        // Constante distinta a la de contentKey para que una secuencia y una fecha iguales no den la misma clave
+        return (sequence * 0xC2B2AE3D27D4EB4FL) ^ (contentHash & 0xFFFFFFFFL);
+    }
+
+    private void update(Integer deviceId, long key, byte state) {
+        Window window = windows.get(deviceId);
+        if (window == null) {
+            return;
+        }
+        long now = System.nanoTime();
+        synchronized (window) {
+            int slot = window.find(key, now, ttlNanos);
+            if (slot >= 0) {
+                window.states[slot] = state;
+                window.seenAt[slot] = now;
+            }
+        }
+    }
+
+    /**
+     * Ventana circular de claves recientes de un dispositivo; al llenarse se reemplaza la más antigua.
+     * Con pocas claves por dispositivo, recorrerla entera es más rápido que mantener un índice.
+     */
+    private static final class Window {
+        private final long[] keys;
+        private final long[] seenAt;
+        private final byte[] states;
+        private int next;
+
+        Window(int size) {
+            keys = new long[size];
+            seenAt = new long[size];
+            states = new byte[size];
+        }
+
+        int find(long key, long now, long ttlNanos) {
+            for (int i = 0; i < keys.length; i++) {
+                if (states[i] != EMPTY && keys[i] == key && now - seenAt[i] < ttlNanos) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        void add(long key, long now) {
+            keys[next] = key;
+            seenAt[next] = now;
+            states[next] = IN_PROGRESS;
+            next = (next + 1) % keys.length;
+        }
+    }
+}
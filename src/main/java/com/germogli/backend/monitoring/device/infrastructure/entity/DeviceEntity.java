@@ -0,0 +1,48 @@
+package com.germogli.backend.monitoring.device.infrastructure.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entidad JPA que representa un dispositivo IoT autorizado para enviar lecturas de un cultivo.
+ * Mapea la tabla devices en la base de datos. La clave de API solo se guarda como hash SHA-256.
+ */
+@Data
+@SuperBuilder
+@NoArgsConstructor(force = true, access = AccessLevel.PROTECTED)
+@Entity(name = "DeviceEntity")
+@Table(name = "devices",
+        indexes = @Index(name = "idx_device_crop", columnList = "crop_id"))
+public class DeviceEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "device_id")
+    private Integer id;
+
+    @Column(name = "crop_id", nullable = false)
+    private Integer cropId;
+
+    @Column(name = "device_name", nullable = false, length = 100)
+    private String name;
+
+    @Column(name = "api_key_hash", nullable = false, length = 64)
+    private String apiKeyHash;
+
+    @Column(name = "api_key_prefix", nullable = false, length = 12)
+    private String apiKeyPrefix;
+
+    @Column(name = "active", nullable = false)
+    private Boolean active;
+
+    @Column(name = "creation_date", nullable = false)
+    private LocalDateTime creationDate;
+
+    @Column(name = "key_rotated_at")
+    private LocalDateTime keyRotatedAt;
+}
@@ -0,0 +1,231 @@
+package com.germogli.backend.monitoring.device.infrastructure.mqtt;
+
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Lectura y escritura de los paquetes MQTT 3.1.1 que usa la pasarela.
+ * Solo se implementa el subconjunto que necesita un dispositivo que publica lecturas:
+ * CONNECT, PUBLISH (QoS 0 y 1), SUBSCRIBE/UNSUBSCRIBE (se rechazan), PINGREQ y DISCONNECT.
+ */
+final class MqttCodec {
+
+    static final int CONNECT = 1;
+    static final int PUBLISH = 3;
+    static final int PUBACK = 4;
+    static final int SUBSCRIBE = 8;
+    static final int UNSUBSCRIBE = 10;
+    static final int PINGREQ = 12;
+    static final int DISCONNECT = 14;
+
+    static final int CONNACK_ACCEPTED = 0;
+    static final int CONNACK_UNACCEPTABLE_PROTOCOL = 1;
+    static final int CONNACK_SERVER_UNAVAILABLE = 3;
+    static final int CONNACK_BAD_CREDENTIALS = 4;
+
+    private static final int SUBACK_FAILURE = 0x80;
+
+    private MqttCodec() {
+    }
+
+    /**
+     * Paquete recibido: tipo, banderas del encabezado fijo y resto del paquete.
+     */
+    record Packet(int type, int flags, byte[] body) {
+    }
+
+    /**
+     * Datos del paquete CONNECT.
+     */
+    record Connect(String protocolName, int protocolLevel, int keepAliveSeconds, String clientId,
+                   String username, String password) {
+    }
+
+    /**
+     * Datos del paquete PUBLISH.
+     */
+    record Publish(String topic, int qos, int packetId, byte[] payload) {
+    }
+
+    /**
+     * Lee un paquete completo.
+     *
+     * @param in      Flujo de la conexión.
+     * @param maxSize Tamaño máximo aceptado del resto del paquete.
+     * @return Paquete leído, o null si el cliente cerró la conexión.
+     * @throws IOException si el paquete está mal formado o supera el tamaño máximo.
+     */
+    static Packet read(InputStream in, int maxSize) throws IOException {
+        int first = in.read();
+        if (first < 0) {
+            return null;
+        }
+        int remaining = 0;
+        int multiplier = 1;
+        int digit;
+        int digits = 0;
+        do {
+            digit = in.read();
+            if (digit < 0) {
+                throw new EOFException("Conexión cerrada a mitad de paquete");
+            }
+            if (++digits > 4) {
+                throw new IOException("Longitud de paquete MQTT no válida");
+            }
+            remaining += (digit & 0x7F) * multiplier;
+            multiplier *= 128;
+        } while ((digit & 0x80) != 0);
+
+        if (remaining > maxSize) {
+            throw new IOException("Paquete MQTT demasiado grande: " + remaining + " bytes");
+        }
+        byte[] body = in.readNBytes(remaining);
+        if (body.length != remaining) {
+            throw new EOFException("Conexión cerrada a mitad de paquete");
+        }
+        return new Packet(first >>> 4, first & 0x0F, body);
+    }
+
+    /**
+     * Interpreta un paquete CONNECT.
+     */
+    static Connect parseConnect(byte[] body) throws IOException {
+        Cursor cursor = new Cursor(body);
+        String protocolName = cursor.readString();
+        int protocolLevel = cursor.readByte();
+        int flags = cursor.readByte();
+        int keepAlive = cursor.readShort();
+        String clientId = cursor.readString();
+        if ((flags & 0x04) != 0) {
+            // Mensaje de última voluntad: no se usa, pero hay que saltarlo
+            cursor.readString();
+            cursor.readBinary();
+        }
+        String username = (flags & 0x80) != 0 ? cursor.readString() : null;
+        String password = (flags & 0x40) != 0 ? new String(cursor.readBinary(), StandardCharsets.UTF_8) : null;
+        return new Connect(protocolName, protocolLevel, keepAlive, clientId, username, password);
+    }
+
+    /**
+     * Interpreta un paquete PUBLISH.
+     */
+    static Publish parsePublish(int flags, byte[] body) throws IOException {
+        int qos = (flags >> 1) & 0x03;
+        Cursor cursor = new Cursor(body);
+        String topic = cursor.readString();
+        int packetId = qos > 0 ? cursor.readShort() : 0;
+        return new Publish(topic, qos, packetId, cursor.rest());
+    }
+
+    /**
+     * Obtiene el identificador de un paquete SUBSCRIBE o UNSUBSCRIBE y la cantidad de filtros que contiene.
+     *
+     * @return Arreglo {packetId, cantidad de filtros}.
+     */
+    static int[] parseSubscription(byte[] body, boolean withQos) throws IOException {
+        Cursor cursor = new Cursor(body);
+        int packetId = cursor.readShort();
+        int filters = 0;
+        while (cursor.hasRemaining()) {
+            cursor.readString();
+            if (withQos) {
+                cursor.readByte();
+            }
+            filters++;
+        }
+        return new int[]{packetId, filters};
+    }
+
+    static byte[] connack(int returnCode) {
+        return new byte[]{0x20, 0x02, 0x00, (byte) returnCode};
+    }
+
+    static byte[] puback(int packetId) {
+        return new byte[]{0x40, 0x02, (byte) (packetId >> 8), (byte) packetId};
+    }
+
+    static byte[] suback(int packetId, int filters) {
+        byte[] body = new byte[2 + filters];
+        body[0] = (byte) (packetId >> 8);
+        body[1] = (byte) packetId;
+        Arrays.fill(body, 2, body.length, (byte) SUBACK_FAILURE);
+        return withFixedHeader(0x90, body);
+    }
+
+    static byte[] unsuback(int packetId) {
+        return new byte[]{(byte) 0xB0, 0x02, (byte) (packetId >> 8), (byte) packetId};
+    }
+
+    static byte[] pingresp() {
+        return new byte[]{(byte) 0xD0, 0x00};
+    }
+
+    private static byte[] withFixedHeader(int first, byte[] body) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(body.length + 5);
+        out.write(first);
+        int remaining = body.length;
+        do {
+            int digit = remaining % 128;
+            remaining /= 128;
+            out.write(remaining > 0 ? digit | 0x80 : digit);
+        } while (remaining > 0);
+        out.writeBytes(body);
+        return out.toByteArray();
+    }
+
+    /**
+     * Recorre el cuerpo de un paquete.
+     */
+    private static final class Cursor {
+        private final byte[] data;
+        private int position;
+
+        Cursor(byte[] data) {
+            this.data = data;
+        }
+
+        int readByte() throws IOException {
+            require(1);
+            return data[position++] & 0xFF;
+        }
+
+        int readShort() throws IOException {
+            require(2);
+            int value = ((data[position] & 0xFF) << 8) | (data[position + 1] & 0xFF);
+            position += 2;
+            return value;
+        }
+
+        String readString() throws IOException {
+            return new String(readBinary(), StandardCharsets.UTF_8);
+        }
+
+        byte[] readBinary() throws IOException {
+            int length = readShort();
+            require(length);
+            byte[] value = Arrays.copyOfRange(data, position, position + length);
+            position += length;
+            return value;
+        }
+
+        byte[] rest() {
+            byte[] value = Arrays.copyOfRange(data, position, data.length);
+            position = data.length;
+            return value;
+        }
+
+        boolean hasRemaining() {
+            return position < data.length;
+        }
+
+        private void require(int bytes) throws IOException {
+            if (position + bytes > data.length) {
+                throw new IOException("Paquete MQTT incompleto");
+            }
+        }
+    }
+}
@@ -0,0 +1,353 @@
+package com.germogli.backend.monitoring.device.infrastructure.mqtt;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.germogli.backend.common.exception.DeviceAuthenticationException;
+import com.germogli.backend.common.exception.InvalidPayloadException;
+import com.germogli.backend.common.exception.RateLimitExceededException;
+import com.germogli.backend.common.exception.ResourceNotFoundException;
+import com.germogli.backend.monitoring.device.domain.service.DeviceIngestionGuard;
+import com.germogli.backend.monitoring.device.infrastructure.dedup.IngestionDeduplicator;
+import com.germogli.backend.monitoring.device.infrastructure.security.DeviceCredentialCache.DeviceCredential;
+import com.germogli.backend.monitoring.reading.application.dto.ReadingBatchRequestDTO;
+import com.germogli.backend.monitoring.reading.infrastructure.codec.DeviceFrameCodec;
+import com.germogli.backend.monitoring.reading.infrastructure.codec.DeviceFrameCodec.DeviceFrame;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.access.AccessDeniedException;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Conexión MQTT de un dispositivo. Se atiende en un hilo virtual con E/S bloqueante.
+ * <p>
+ * El dispositivo se autentica en CONNECT con su ID como usuario y su clave de API como contraseña, y publica en
+ * crops/{cropId}/devices/{deviceId}/readings una trama binaria de DeviceFrameCodec o un JSON con la forma de
+ * ReadingBatchRequestDTO. Con QoS 1 el PUBACK se envía solo cuando la trama quedó guardada (MqttIngestionBatcher):
+ * <ul>
+ *     <li>Si la trama no es válida o hace referencia a sensores inexistentes, se confirma y se descarta,
+ *     porque reenviarla no cambiaría el resultado.</li>
+ *     <li>Si falla por otro motivo (por ejemplo, la base de datos), la conexión se cierra sin confirmar
+ *     y el dispositivo la reenvía al reconectarse.</li>
+ *     <li>Si el dispositivo supera su límite de solicitudes, se deja de leer su conexión hasta que tenga fichas.</li>
+ *     <li>Si la trama es un reenvío de una ya guardada (IngestionDeduplicator), se confirma sin volver a guardarla;
+ *     si el original todavía se está guardando, la conexión se cierra sin confirmar.</li>
+ * </ul>
+ */
+@Slf4j
+final class MqttConnection implements Runnable, Closeable {
+
+    private static final String PROTOCOL_NAME = "MQTT";
+    private static final int PROTOCOL_LEVEL_3_1_1 = 4;
+    private static final long STORE_TIMEOUT_SECONDS = 60;
+
+    private final Socket socket;
+    private final DeviceIngestionGuard deviceIngestionGuard;
+    private final MqttIngestionBatcher batcher;
+    private final IngestionDeduplicator ingestionDeduplicator;
+    private final MqttSessionRegistry sessionRegistry;
+    private final ObjectMapper objectMapper;
+    private final int maxPacketSize;
+    private final int connectTimeoutMillis;
+    private final int idleTimeoutMillis;
+
+    private OutputStream out;
+    private MqttSession session;
+    private String apiKey;
+
+    MqttConnection(Socket socket, DeviceIngestionGuard deviceIngestionGuard, MqttIngestionBatcher batcher,
+                   IngestionDeduplicator ingestionDeduplicator, MqttSessionRegistry sessionRegistry, ObjectMapper objectMapper,
+                   int maxPacketSize, int connectTimeoutMillis, int idleTimeoutMillis) {
+        this.socket = socket;
+        this.deviceIngestionGuard = deviceIngestionGuard;
+        this.batcher = batcher;
+        this.ingestionDeduplicator = ingestionDeduplicator;
+        this.sessionRegistry = sessionRegistry;
+        this.objectMapper = objectMapper;
+        this.maxPacketSize = maxPacketSize;
+        this.connectTimeoutMillis = connectTimeoutMillis;
+        this.idleTimeoutMillis = idleTimeoutMillis;
+    }
+
+    @Override
+    public void run() {
+        try (socket) {
+            socket.setSoTimeout(connectTimeoutMillis);
+            socket.setTcpNoDelay(true);
+            InputStream in = new BufferedInputStream(socket.getInputStream());
+            out = new BufferedOutputStream(socket.getOutputStream());
+            if (!connect(in)) {
+                return;
+            }
+            while (true) {
+                MqttCodec.Packet packet = MqttCodec.read(in, maxPacketSize);
+                if (packet == null) {
+                    return;
+                }
+                session.touch();
+                switch (packet.type()) {
+                    case MqttCodec.PUBLISH -> {
+                        if (!publish(MqttCodec.parsePublish(packet.flags(), packet.body()))) {
+                            return;
+                        }
+                    }
+                    case MqttCodec.PUBACK -> {
+                        // La pasarela no envía mensajes QoS 1 a los dispositivos
+                    }
+                    case MqttCodec.SUBSCRIBE -> {
+                        int[] subscription = MqttCodec.parseSubscription(packet.body(), true);
+                        write(MqttCodec.suback(subscription[0], subscription[1]));
+                    }
+                    case MqttCodec.UNSUBSCRIBE -> {
+                        int[] subscription = MqttCodec.parseSubscription(packet.body(), false);
+                        write(MqttCodec.unsuback(subscription[0]));
+                    }
+                    case MqttCodec.PINGREQ -> write(MqttCodec.pingresp());
+                    case MqttCodec.DISCONNECT -> {
+                        return;
+                    }
+                    default -> {
+                        log.debug("Paquete MQTT no admitido ({}) del dispositivo {}", packet.type(), session.getDeviceId());
+                        return;
+                    }
+                }
+            }
+        } catch (SocketTimeoutException e) {
+            log.debug("Conexión MQTT inactiva cerrada: {}", socket.getRemoteSocketAddress());
+        } catch (IOException e) {
+            log.debug("Conexión MQTT cerrada ({}): {}", socket.getRemoteSocketAddress(), e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            if (session != null) {
+                sessionRegistry.close(session);
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        socket.close();
+    }
+
+    private boolean connect(InputStream in) throws IOException {
+        MqttCodec.Packet packet = MqttCodec.read(in, maxPacketSize);
+        if (packet == null || packet.type() != MqttCodec.CONNECT) {
+            return false;
+        }
+        MqttCodec.Connect connect = MqttCodec.parseConnect(packet.body());
+        if (!PROTOCOL_NAME.equals(connect.protocolName()) || connect.protocolLevel() != PROTOCOL_LEVEL_3_1_1) {
+            write(MqttCodec.connack(MqttCodec.CONNACK_UNACCEPTABLE_PROTOCOL));
+            return false;
+        }
+
+        DeviceCredential credential;
+        try {
+            credential = deviceIngestionGuard.authorizeConnection(parseDeviceId(connect.username()), connect.password());
+        } catch (DeviceAuthenticationException e) {
+            write(MqttCodec.connack(MqttCodec.CONNACK_BAD_CREDENTIALS));
+            return false;
+        } catch (RateLimitExceededException e) {
+            write(MqttCodec.connack(MqttCodec.CONNACK_SERVER_UNAVAILABLE));
+            return false;
+        }
+
+        apiKey = connect.password();
+        session = sessionRegistry.open(credential.deviceId(), credential.cropId(), connect.clientId(),
+                String.valueOf(socket.getRemoteSocketAddress()), this);
+        write(MqttCodec.connack(MqttCodec.CONNACK_ACCEPTED));
+
+        // El cliente debe enviar algo cada keep-alive segundos; se espera una vez y media ese tiempo (MQTT 3.1.1, 3.1.2.10)
+        socket.setSoTimeout(connect.keepAliveSeconds() > 0 ? connect.keepAliveSeconds() * 1500 : idleTimeoutMillis);
+        return true;
+    }
+
+    /**
+     * Procesa un PUBLISH.
+     *
+     * @return false si la conexión debe cerrarse.
+     */
+    private boolean publish(MqttCodec.Publish publish) throws IOException, InterruptedException {
+        if (publish.qos() > 1) {
+            log.warn("El dispositivo {} publicó con QoS {}, que la pasarela no admite", session.getDeviceId(), publish.qos());
+            return false;
+        }
+        session.getMessagesReceived().incrementAndGet();
+        try {
+            Message message = toMessage(publish);
+            authorize(message.frame());
+            if (message.key() != null) {
+                IngestionDeduplicator.Outcome outcome = ingestionDeduplicator.begin(session.getDeviceId(), message.key());
+                if (outcome == IngestionDeduplicator.Outcome.IN_PROGRESS) {
+                    log.debug("Reenvío MQTT del dispositivo {} mientras el original se guarda; se cierra sin confirmar",
+                            session.getDeviceId());
+                    return false;
+                }
+                if (outcome == IngestionDeduplicator.Outcome.DUPLICATE) {
+                    if (publish.qos() == 1) {
+                        write(MqttCodec.puback(publish.packetId()));
+                    }
+                    return true;
+                }
+            }
+            store(message).get(STORE_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            session.getMessagesStored().incrementAndGet();
+        } catch (InvalidPayloadException e) {
+            drop(publish, e);
+        } catch (DeviceAuthenticationException | AccessDeniedException e) {
+            log.warn("Publicación rechazada del dispositivo {} en {}: {}", session.getDeviceId(), publish.topic(), e.getMessage());
+            return false;
+        } catch (ExecutionException e) {
+            if (!isPermanent(e.getCause())) {
+                log.warn("No se pudo guardar una trama MQTT del dispositivo {}; se cierra sin confirmar: {}",
+                        session.getDeviceId(), e.getCause().getMessage());
+                return false;
+            }
+            drop(publish, e.getCause());
+        } catch (TimeoutException e) {
+            log.warn("Tiempo de espera agotado al guardar una trama MQTT del dispositivo {}", session.getDeviceId());
+            return false;
+        }
+
+        if (publish.qos() == 1) {
+            write(MqttCodec.puback(publish.packetId()));
+        }
+        return true;
+    }
+
+    /**
+     * Entrega la trama al agrupador. La clave de idempotencia se marca como procesada o se libera cuando termina
+     * el guardado, aunque esta conexión ya no espere el resultado (por ejemplo, tras agotar el tiempo de espera).
+     */
+    private CompletableFuture<Void> store(Message message) throws InterruptedException {
+        CompletableFuture<Void> stored = batcher.submit(message.frame());
+        if (message.key() != null) {
+            Integer deviceId = session.getDeviceId();
+            stored.whenComplete((ignored, error) -> {
+                Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+                if (cause == null || isPermanent(cause)) {
+                    ingestionDeduplicator.complete(deviceId, message.key());
+                } else {
+                    ingestionDeduplicator.abort(deviceId, message.key());
+                }
+            });
+        }
+        return stored;
+    }
+
+    private Message toMessage(MqttCodec.Publish publish) {
+        // Tema: crops/{cropId}/devices/{deviceId}/readings
+        String[] levels = publish.topic().split("/");
+        if (levels.length != 5 || !"crops".equals(levels[0]) || !"devices".equals(levels[2]) || !"readings".equals(levels[4])) {
+            throw new InvalidPayloadException("Tema no admitido: " + publish.topic());
+        }
+        int cropId;
+        int deviceId;
+        try {
+            cropId = Integer.parseInt(levels[1]);
+            deviceId = Integer.parseInt(levels[3]);
+        } catch (NumberFormatException e) {
+            throw new InvalidPayloadException("Tema no admitido: " + publish.topic());
+        }
+        if (deviceId != session.getDeviceId()) {
+            throw new DeviceAuthenticationException("El tema corresponde a otro dispositivo");
+        }
+
+        Message message;
+        if (DeviceFrameCodec.hasMagic(publish.payload())) {
+            DeviceFrame frame = DeviceFrameCodec.decode(publish.payload());
+            message = new Message(frame, IngestionDeduplicator.key(null, frame));
+        } else {
+            message = fromJson(publish.payload(), deviceId, cropId);
+        }
+        if (message.frame().deviceId() != deviceId || message.frame().cropId() != cropId) {
+            throw new InvalidPayloadException("El contenido no coincide con el tema " + publish.topic());
+        }
+        return message;
+    }
+
+    private Message fromJson(byte[] payload, int deviceId, int cropId) {
+        ReadingBatchRequestDTO batch;
+        try {
+            batch = objectMapper.readValue(payload, ReadingBatchRequestDTO.class);
+        } catch (IOException e) {
+            throw new InvalidPayloadException("Mensaje de lecturas no válido");
+        }
+        List<ReadingBatchRequestDTO.ReadingSensorDTO> readings = batch.getReadings();
+        if (readings == null || readings.isEmpty()) {
+            throw new InvalidPayloadException("Se requiere al menos una lectura");
+        }
+        int[] sensorIds = new int[readings.size()];
+        float[] values = new float[readings.size()];
+        for (int i = 0; i < readings.size(); i++) {
+            ReadingBatchRequestDTO.ReadingSensorDTO reading = readings.get(i);
+            if (reading == null || reading.getSensorId() == null || reading.getValue() == null || !Double.isFinite(reading.getValue())) {
+                throw new InvalidPayloadException("Lectura no válida en la posición " + i);
+            }
+            sensorIds[i] = reading.getSensorId();
+            values[i] = reading.getValue().floatValue();
+        }
+        long timestampMillis = batch.getTimestamp() != null
+                ? batch.getTimestamp().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()
+                : 0;
+        DeviceFrame frame = new DeviceFrame(batch.getDeviceId() != null ? batch.getDeviceId() : deviceId,
+                batch.getCropId() != null ? batch.getCropId() : cropId,
+                timestampMillis, sensorIds, values);
+        return new Message(frame, IngestionDeduplicator.key(batch.getSequence(), frame));
+    }
+
+    private void authorize(DeviceFrame frame) throws InterruptedException {
+        while (true) {
+            try {
+                deviceIngestionGuard.authorize(session.getDeviceId(), frame.cropId(), apiKey);
+                return;
+            } catch (RateLimitExceededException e) {
+                // Contrapresión: no se leen más paquetes de este dispositivo hasta que tenga fichas disponibles
+                Thread.sleep(TimeUnit.SECONDS.toMillis(e.getRetryAfterSeconds()));
+            }
+        }
+    }
+
+    private void drop(MqttCodec.Publish publish, Throwable cause) {
+        session.getMessagesDropped().incrementAndGet();
+        log.warn("Trama MQTT descartada del dispositivo {} en {}: {}", session.getDeviceId(), publish.topic(), cause.getMessage());
+    }
+
+    private boolean isPermanent(Throwable error) {
+        return error instanceof InvalidPayloadException
+                || error instanceof ResourceNotFoundException
+                || error instanceof AccessDeniedException
+                || error instanceof IllegalArgumentException;
+    }
+
+    private Integer parseDeviceId(String username) {
+        try {
+            return username != null ? Integer.valueOf(username.trim()) : null;
+        } catch (NumberFormatException e) {
+            throw new DeviceAuthenticationException("ID de dispositivo no válido");
+        }
+    }
+
+    private void write(byte[] packet) throws IOException {
+        out.write(packet);
+        out.flush();
+    }
+
+    /**
+     * Trama publicada y su clave de idempotencia (null si el dispositivo no envía secuencia ni timestamp).
+     */
+    private record Message(DeviceFrame frame, Long key) {
+    }
+}
@@ -0,0 +1,117 @@
+package com.germogli.backend.monitoring.device.infrastructure.mqtt;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.germogli.backend.monitoring.device.domain.service.DeviceIngestionGuard;
+import com.germogli.backend.monitoring.device.infrastructure.dedup.IngestionDeduplicator;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+
+/**
+ * Pasarela MQTT embebida para la ingesta de lecturas de dispositivos IoT.
+ * Es opcional: solo se crea con monitoring.mqtt.enabled=true. Escucha en monitoring.mqtt.port (por defecto 1883)
+ * y atiende cada conexión en un hilo virtual, por lo que miles de dispositivos conectados no ocupan hilos de plataforma.
+ * No es un broker completo: solo recibe publicaciones de lecturas (ver MqttConnection).
+ * El cifrado TLS debe terminarse antes, en el balanceador o la pasarela de red.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "monitoring.mqtt.enabled", havingValue = "true")
+public class MqttGatewayServer {
+
+    private final DeviceIngestionGuard deviceIngestionGuard;
+    private final MqttIngestionBatcher batcher;
+    private final IngestionDeduplicator ingestionDeduplicator;
+    private final MqttSessionRegistry sessionRegistry;
+    private final ObjectMapper objectMapper;
+    private final int port;
+    private final int maxPacketSize;
+    private final int connectTimeoutMillis;
+    private final int idleTimeoutMillis;
+
+    private volatile ServerSocket serverSocket;
+
+    public MqttGatewayServer(DeviceIngestionGuard deviceIngestionGuard,
+                             MqttIngestionBatcher batcher,
+                             IngestionDeduplicator ingestionDeduplicator,
+                             MqttSessionRegistry sessionRegistry,
+                             ObjectMapper objectMapper,
+                             @Value("${monitoring.mqtt.port:1883}") int port,
+                             @Value("${monitoring.mqtt.max-packet-size:65536}") int maxPacketSize,
+                             @Value("${monitoring.mqtt.connect-timeout-ms:10000}") int connectTimeoutMillis,
+                             @Value("${monitoring.mqtt.idle-timeout-ms:300000}") int idleTimeoutMillis) {
+        this.deviceIngestionGuard = deviceIngestionGuard;
+        this.batcher = batcher;
+        this.ingestionDeduplicator = ingestionDeduplicator;
+        this.sessionRegistry = sessionRegistry;
+        this.objectMapper = objectMapper;
+        this.port = port;
+        this.maxPacketSize = maxPacketSize;
+        this.connectTimeoutMillis = connectTimeoutMillis;
+        this.idleTimeoutMillis = idleTimeoutMillis;
+    }
+
+    /**
+     * Abre el puerto cuando la aplicación terminó de iniciar.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() throws IOException {
+        ServerSocket socket = new ServerSocket();
+        socket.setReuseAddress(true);
+        socket.bind(new InetSocketAddress(port), 1024);
+        serverSocket = socket;
+        Thread.ofVirtual().name("mqtt-accept").start(this::acceptLoop);
+        log.info("Pasarela MQTT escuchando en el puerto {}", socket.getLocalPort());
+    }
+
+    /**
+     * Puerto en el que escucha la pasarela (útil con monitoring.mqtt.port=0).
+     *
+     * @return Puerto local, o -1 si no se inició.
+     */
+    public int getLocalPort() {
+        ServerSocket socket = serverSocket;
+        return socket != null ? socket.getLocalPort() : -1;
+    }
+
+    /**
+     * Deja de aceptar conexiones y cierra las abiertas.
+     */
+    @PreDestroy
+    public void stop() {
+        ServerSocket socket = serverSocket;
+        if (socket != null) {
+            try {
+                socket.close();
+            } catch (IOException e) {
+                log.debug("Error al cerrar el puerto MQTT: {}", e.getMessage());
+            }
+        }
+        sessionRegistry.closeAll();
+    }
+
+    private void acceptLoop() {
+        ServerSocket socket = serverSocket;
+        while (!socket.isClosed()) {
+            try {
+                Socket client = socket.accept();
+                MqttConnection connection = new MqttConnection(client, deviceIngestionGuard, batcher, ingestionDeduplicator,
+                        sessionRegistry, objectMapper, maxPacketSize, connectTimeoutMillis, idleTimeoutMillis);
+                Thread.ofVirtual().name("mqtt-connection").start(connection);
+            } catch (IOException e) {
+                if (!socket.isClosed()) {
+                    log.warn("Error al aceptar una conexión MQTT: {}", e.getMessage());
+                }
+            }
+        }
+    }
+}
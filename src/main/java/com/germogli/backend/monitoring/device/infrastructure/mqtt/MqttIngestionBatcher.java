@@ -0,0 +1,144 @@
+package com.germogli.backend.monitoring.device.infrastructure.mqtt;
+
+import com.germogli.backend.monitoring.reading.domain.model.ReadingDomain;
+import com.germogli.backend.monitoring.reading.domain.service.ReadingDomainService;
+import com.germogli.backend.monitoring.reading.infrastructure.codec.DeviceFrameCodec.DeviceFrame;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Agrupa en micro-lotes las tramas recibidas por MQTT y las guarda con ReadingDomainService.
+ * Un hilo toma las tramas pendientes hasta max-size o hasta que pasen max-delay-ms desde la primera,
+ * y las guarda en una sola transacción. Si el lote falla, cada trama se reintenta por separado para aislar la
+ * que provocó el error. El futuro de cada trama se completa después de confirmar su transacción, y solo
+ * entonces la conexión envía el PUBACK: una trama confirmada al dispositivo ya está en la base de datos.
+ * El lote solo guarda (storeDeviceFrame); los umbrales y anomalías se evalúan después de confirmar, para que
+ * un lote revertido y reintentado trama por trama no evalúe dos veces las mismas lecturas.
+ * La cola es acotada; si se llena, las conexiones esperan y TCP frena a los dispositivos.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "monitoring.mqtt.enabled", havingValue = "true")
+public class MqttIngestionBatcher {
+
+    private record Pending(DeviceFrame frame, CompletableFuture<Void> stored) {
+    }
+
+    private final ReadingDomainService readingDomainService;
+    private final TransactionTemplate transactionTemplate;
+    private final int maxBatchSize;
+    private final long maxDelayNanos;
+    private final BlockingQueue<Pending> queue;
+    private final Thread worker;
+    private volatile boolean running = true;
+
+    public MqttIngestionBatcher(ReadingDomainService readingDomainService,
+                                PlatformTransactionManager transactionManager,
+                                @Value("${monitoring.mqtt.batch.max-size:200}") int maxBatchSize,
+                                @Value("${monitoring.mqtt.batch.max-delay-ms:50}") long maxDelayMillis,
+                                @Value("${monitoring.mqtt.batch.queue-capacity:5000}") int queueCapacity) {
+        this.readingDomainService = readingDomainService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.maxBatchSize = maxBatchSize;
+        this.maxDelayNanos = TimeUnit.MILLISECONDS.toNanos(maxDelayMillis);
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.worker = new Thread(this::run, "mqtt-ingestion");
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    /**
+     * Encola una trama para guardarla en el próximo lote.
+     *
+     * @param frame Trama decodificada y autorizada.
+     * @return Futuro que se completa cuando la trama quedó guardada, o con la excepción que lo impidió.
+     * @throws InterruptedException si el hilo se interrumpe mientras espera lugar en la cola.
+     */
+    CompletableFuture<Void> submit(DeviceFrame frame) throws InterruptedException {
+        if (!running) {
+            return CompletableFuture.failedFuture(new IllegalStateException("La ingesta MQTT se está deteniendo"));
+        }
+        Pending pending = new Pending(frame, new CompletableFuture<>());
+        queue.put(pending);
+        return pending.stored();
+    }
+
+    /**
+     * Guarda las tramas pendientes y detiene el hilo de ingesta.
+     */
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        worker.join(TimeUnit.SECONDS.toMillis(30));
+    }
+
+    private void run() {
+        List<Pending> batch = new ArrayList<>(maxBatchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                Pending first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                long deadline = System.nanoTime() + maxDelayNanos;
+                while (batch.size() < maxBatchSize) {
+                    long remaining = deadline - System.nanoTime();
+                    Pending next = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : queue.poll();
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                store(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                batch.forEach(pending -> pending.stored().completeExceptionally(e));
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void store(List<Pending> batch) {
+        List<ReadingDomain> stored;
+        try {
+            stored = transactionTemplate.execute(status -> {
+                List<ReadingDomain> readings = new ArrayList<>();
+                batch.forEach(pending -> readings.addAll(readingDomainService.storeDeviceFrame(pending.frame())));
+                return readings;
+            });
+        } catch (RuntimeException batchError) {
+            log.debug("Falló un lote MQTT de {} tramas; se guardan por separado: {}", batch.size(), batchError.getMessage());
+            for (Pending pending : batch) {
+                try {
+                    readingDomainService.processDeviceFrame(pending.frame());
+                    pending.stored().complete(null);
+                } catch (RuntimeException e) {
+                    pending.stored().completeExceptionally(e);
+                }
+            }
+            return;
+        }
+
+        batch.forEach(pending -> pending.stored().complete(null));
+        try {
+            readingDomainService.evaluateReadings(stored);
+        } catch (RuntimeException e) {
+            log.error("Error al evaluar las lecturas de un lote MQTT de {} tramas", batch.size(), e);
+        }
+    }
+}
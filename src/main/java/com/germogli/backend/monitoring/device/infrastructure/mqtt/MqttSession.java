@@ -0,0 +1,46 @@
+package com.germogli.backend.monitoring.device.infrastructure.mqtt;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.io.Closeable;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Estado de la sesión MQTT de un dispositivo conectado a este nodo.
+ */
+@Getter
+public class MqttSession {
+
+    private final Integer deviceId;
+    private final Integer cropId;
+    private final String clientId;
+    private final String remoteAddress;
+    private final LocalDateTime connectedAt;
+    private volatile LocalDateTime lastActivityAt;
+    private final AtomicLong messagesReceived = new AtomicLong();
+    private final AtomicLong messagesStored = new AtomicLong();
+    private final AtomicLong messagesDropped = new AtomicLong();
+
+    @Getter(AccessLevel.NONE)
+    private final Closeable connection;
+
+    MqttSession(Integer deviceId, Integer cropId, String clientId, String remoteAddress, Closeable connection) {
+        this.deviceId = deviceId;
+        this.cropId = cropId;
+        this.clientId = clientId;
+        this.remoteAddress = remoteAddress;
+        this.connection = connection;
+        this.connectedAt = LocalDateTime.now();
+        this.lastActivityAt = this.connectedAt;
+    }
+
+    void touch() {
+        lastActivityAt = LocalDateTime.now();
+    }
+
+    Closeable connection() {
+        return connection;
+    }
+}
@@ -0,0 +1,73 @@
+package com.germogli.backend.monitoring.device.infrastructure.mqtt;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registro de las sesiones MQTT abiertas en este nodo, una por dispositivo.
+ * Si un dispositivo se conecta de nuevo, la conexión anterior se cierra (toma de sesión, como indica MQTT
+ * para un mismo cliente), de modo que una conexión colgada no queda ocupando recursos.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "monitoring.mqtt.enabled", havingValue = "true")
+public class MqttSessionRegistry {
+
+    // Map estructura: deviceId -> sesión
+    private final Map<Integer, MqttSession> sessions = new ConcurrentHashMap<>();
+
+    /**
+     * Registra la sesión de un dispositivo autenticado.
+     *
+     * @return Sesión registrada.
+     */
+    MqttSession open(Integer deviceId, Integer cropId, String clientId, String remoteAddress, Closeable connection) {
+        MqttSession session = new MqttSession(deviceId, cropId, clientId, remoteAddress, connection);
+        MqttSession previous = sessions.put(deviceId, session);
+        if (previous != null) {
+            log.debug("Dispositivo {} reconectado por MQTT; se cierra la conexión anterior", deviceId);
+            closeQuietly(previous.connection());
+        }
+        return session;
+    }
+
+    /**
+     * Quita una sesión cerrada, salvo que ya haya sido reemplazada.
+     */
+    void close(MqttSession session) {
+        sessions.remove(session.getDeviceId(), session);
+    }
+
+    /**
+     * Cierra todas las conexiones (al detener la aplicación).
+     */
+    void closeAll() {
+        sessions.values().forEach(session -> closeQuietly(session.connection()));
+        sessions.clear();
+    }
+
+    /**
+     * @return Sesiones abiertas ordenadas por dispositivo.
+     */
+    public List<MqttSession> getSessions() {
+        return sessions.values().stream()
+                .sorted(Comparator.comparing(MqttSession::getDeviceId))
+                .toList();
+    }
+
+    private void closeQuietly(Closeable connection) {
+        try {
+            connection.close();
+        } catch (IOException e) {
+            log.debug("Error al cerrar una conexión MQTT: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.germogli.backend.monitoring.device.infrastructure.ratelimit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Límite de solicitudes de ingesta por dispositivo y por cultivo.
+ * Una solicitud debe obtener ficha en la cubeta de su dispositivo y en la de su cultivo, de modo que
+ * varios dispositivos de un mismo cultivo tampoco puedan superar el límite conjunto.
+ * Solo se crean cubetas para dispositivos ya autenticados, por lo que su cantidad está acotada
+ * por los dispositivos y cultivos registrados.
+ * Además, una cubeta global limita las consultas a la base de datos por IDs de dispositivo que este nodo
+ * no conoce, para que recorrer IDs inexistentes no genere una consulta a MySQL por solicitud.
+ */
+@Component
+public class IngestionRateLimiter {
+
+    private final int deviceRequestsPerMinute;
+    private final int deviceBurst;
+    private final int cropRequestsPerMinute;
+    private final int cropBurst;
+
+    private final Map<Integer, TokenBucket> deviceBuckets = new ConcurrentHashMap<>();
+    private final Map<Integer, TokenBucket> cropBuckets = new ConcurrentHashMap<>();
+    private final TokenBucket unknownLookupBucket;
+
+    public IngestionRateLimiter(@Value("${monitoring.devices.rate-limit.device.requests-per-minute:60}") int deviceRequestsPerMinute,
+                                @Value("${monitoring.devices.rate-limit.device.burst:20}") int deviceBurst,
+                                @Value("${monitoring.devices.rate-limit.crop.requests-per-minute:240}") int cropRequestsPerMinute,
+                                @Value("${monitoring.devices.rate-limit.crop.burst:60}") int cropBurst,
+                                @Value("${monitoring.devices.rate-limit.unknown-lookup.requests-per-minute:6000}") int unknownLookupsPerMinute,
+                                @Value("${monitoring.devices.rate-limit.unknown-lookup.burst:200}") int unknownLookupBurst) {
+        this.deviceRequestsPerMinute = deviceRequestsPerMinute;
+        this.deviceBurst = deviceBurst;
+        this.cropRequestsPerMinute = cropRequestsPerMinute;
+        this.cropBurst = cropBurst;
+        this.unknownLookupBucket = new TokenBucket(unknownLookupsPerMinute, unknownLookupBurst);
+    }
+
+    /**
+     * Intenta admitir una solicitud de un dispositivo.
+     *
+     * @param deviceId ID del dispositivo.
+     * @param cropId   ID del cultivo.
+     * @return 0 si se admite; en caso contrario, nanosegundos que debe esperar el dispositivo.
+     */
+    public long tryAcquire(Integer deviceId, Integer cropId) {
+        long now = System.nanoTime();
+        TokenBucket deviceBucket = deviceBuckets.computeIfAbsent(deviceId, id -> new TokenBucket(deviceRequestsPerMinute, deviceBurst));
+        long wait = deviceBucket.tryConsume(now);
+        if (wait > 0) {
+            return wait;
+        }
+        TokenBucket cropBucket = cropBuckets.computeIfAbsent(cropId, id -> new TokenBucket(cropRequestsPerMinute, cropBurst));
+        wait = cropBucket.tryConsume(now);
+        if (wait > 0) {
+            deviceBucket.refund();
+        }
+        return wait;
+    }
+
+    /**
+     * Intenta admitir la consulta a la base de datos de un dispositivo que este nodo no conoce.
+     *
+     * @return 0 si se admite; en caso contrario, nanosegundos hasta que se admita otra consulta.
+     */
+    public long tryAcquireUnknownLookup() {
+        return unknownLookupBucket.tryConsume(System.nanoTime());
+    }
+
+    /**
+     * Descarta la cubeta de un dispositivo eliminado.
+     *
+     * @param deviceId ID del dispositivo.
+     */
+    public void evictDevice(Integer deviceId) {
+        deviceBuckets.remove(deviceId);
+    }
+
+    /**
+     * Descarta la cubeta de un cultivo eliminado.
+     *
+     * @param cropId ID del cultivo.
+     */
+    public void evictCrop(Integer cropId) {
+        cropBuckets.remove(cropId);
+    }
+}
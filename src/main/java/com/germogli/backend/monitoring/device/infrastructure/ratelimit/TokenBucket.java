@@ -0,0 +1,52 @@
+package com.germogli.backend.monitoring.device.infrastructure.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cubeta de fichas sin bloqueos.
+ * Se representa con un único instante teórico (algoritmo GCRA, equivalente a una cubeta de fichas):
+ * cada solicitud lo adelanta un intervalo de emisión y se rechaza si quedaría más lejos en el futuro que la
+ * ráfaga permitida. Al ser un solo long, cada intento es una lectura y un compareAndSet.
+ */
+public class TokenBucket {
+
+    private final long emissionIntervalNanos;
+    private final long burstToleranceNanos;
+    private final AtomicLong theoreticalArrival = new AtomicLong(Long.MIN_VALUE);
+
+    /**
+     * @param requestsPerMinute Fichas que se reponen por minuto.
+     * @param burst             Capacidad de la cubeta (solicitudes seguidas permitidas).
+     */
+    public TokenBucket(int requestsPerMinute, int burst) {
+        this.emissionIntervalNanos = 60_000_000_000L / Math.max(1, requestsPerMinute);
+        this.burstToleranceNanos = emissionIntervalNanos * (Math.max(1, burst) - 1);
+    }
+
+    /**
+     * Intenta consumir una ficha.
+     *
+     * @param nowNanos Instante actual (System.nanoTime()).
+     * @return 0 si se consumió la ficha; en caso contrario, nanosegundos hasta que haya una disponible.
+     */
+    public long tryConsume(long nowNanos) {
+        while (true) {
+            long current = theoreticalArrival.get();
+            long base = current == Long.MIN_VALUE || current - nowNanos < 0 ? nowNanos : current;
+            long wait = base - nowNanos - burstToleranceNanos;
+            if (wait > 0) {
+                return wait;
+            }
+            if (theoreticalArrival.compareAndSet(current, base + emissionIntervalNanos)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * Devuelve una ficha consumida cuando la solicitud se rechazó por otro límite.
+     */
+    public void refund() {
+        theoreticalArrival.addAndGet(-emissionIntervalNanos);
+    }
+}
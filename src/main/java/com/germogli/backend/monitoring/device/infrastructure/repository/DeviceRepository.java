@@ -0,0 +1,92 @@
+package com.germogli.backend.monitoring.device.infrastructure.repository;
+
+import com.germogli.backend.monitoring.device.domain.model.DeviceDomain;
+import com.germogli.backend.monitoring.device.domain.repository.DeviceDomainRepository;
+import com.germogli.backend.monitoring.device.infrastructure.entity.DeviceEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Implementación de DeviceDomainRepository.
+ * Utiliza consultas JPA directas ya que la tabla devices no tiene procedimientos almacenados.
+ */
+@Repository
+@RequiredArgsConstructor
+public class DeviceRepository implements DeviceDomainRepository {
+
+    @PersistenceContext
+    private final EntityManager entityManager;
+
+    /**
+     * Inserta el dispositivo si no tiene ID; en caso contrario lo actualiza.
+     */
+    @Override
+    @Transactional
+    public DeviceDomain save(DeviceDomain device) {
+        DeviceEntity entity = device.toEntity();
+        if (entity.getId() == null) {
+            entityManager.persist(entity);
+        } else {
+            entity = entityManager.merge(entity);
+        }
+        return DeviceDomain.fromEntityStatic(entity);
+    }
+
+    /**
+     * Busca un dispositivo por su clave primaria.
+     */
+    @Override
+    public Optional<DeviceDomain> findById(Integer id) {
+        return Optional.ofNullable(entityManager.find(DeviceEntity.class, id)).map(DeviceDomain::fromEntityStatic);
+    }
+
+    /**
+     * Obtiene los dispositivos de un cultivo ordenados por ID.
+     */
+    @Override
+    public List<DeviceDomain> findByCropId(Integer cropId) {
+        return entityManager.createQuery(
+                        "SELECT d FROM DeviceEntity d WHERE d.cropId = :cropId ORDER BY d.id", DeviceEntity.class)
+                .setParameter("cropId", cropId)
+                .getResultList()
+                .stream()
+                .map(DeviceDomain::fromEntityStatic)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Elimina un dispositivo por su ID.
+     */
+    @Override
+    @Transactional
+    public void deleteById(Integer id) {
+        entityManager.createQuery("DELETE FROM DeviceEntity d WHERE d.id = :id")
+                .setParameter("id", id)
+                .executeUpdate();
+    }
+
+    /**
+     * Elimina los dispositivos de un cultivo y devuelve sus IDs para invalidar las cachés.
+     */
+    @Override
+    @Transactional
+    public List<Integer> deleteByCropId(Integer cropId) {
+        List<Integer> ids = entityManager.createQuery(
+                        "SELECT d.id FROM DeviceEntity d WHERE d.cropId = :cropId", Integer.class)
+                .setParameter("cropId", cropId)
+                .getResultList();
+        if (!ids.isEmpty()) {
+            entityManager.createQuery("DELETE FROM DeviceEntity d WHERE d.cropId = :cropId")
+                    .setParameter("cropId", cropId)
+                    .executeUpdate();
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,80 @@
+package com.germogli.backend.monitoring.device.infrastructure.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.HexFormat;
+
+/**
+ * Generación y hash de las claves de API de los dispositivos.
+ * Las claves tienen 256 bits aleatorios, por lo que basta un hash SHA-256 (sin sal ni iteraciones como BCrypt)
+ * para no guardarlas en claro; así la verificación cuesta microsegundos y se puede hacer en cada solicitud.
+ */
+public final class DeviceApiKeys {
+
+    private static final String KEY_PREFIX = "gdk_";
+    private static final int KEY_BYTES = 32;
+    private static final int DISPLAY_PREFIX_LENGTH = 12;
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private DeviceApiKeys() {
+    }
+
+    /**
+     * Genera una clave de API nueva.
+     *
+     * @return Clave en claro (solo se muestra una vez al usuario).
+     */
+    public static String generate() {
+        byte[] bytes = new byte[KEY_BYTES];
+        RANDOM.nextBytes(bytes);
+        return KEY_PREFIX + Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    /**
+     * Calcula el hash SHA-256 de una clave.
+     *
+     * @param apiKey Clave en claro.
+     * @return Hash en bytes.
+     */
+    public static byte[] hash(String apiKey) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(apiKey.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 no disponible", e);
+        }
+    }
+
+    /**
+     * Calcula el hash SHA-256 de una clave en hexadecimal, tal como se guarda en la base de datos.
+     *
+     * @param apiKey Clave en claro.
+     * @return Hash en hexadecimal.
+     */
+    public static String hashHex(String apiKey) {
+        return HexFormat.of().formatHex(hash(apiKey));
+    }
+
+    /**
+     * Compara una clave presentada con un hash guardado en tiempo constante.
+     *
+     * @param apiKey     Clave presentada por el dispositivo.
+     * @param storedHash Hash guardado.
+     * @return true si la clave corresponde al hash.
+     */
+    public static boolean matches(String apiKey, byte[] storedHash) {
+        return apiKey != null && MessageDigest.isEqual(hash(apiKey), storedHash);
+    }
+
+    /**
+     * Obtiene el inicio visible de una clave, para que el usuario pueda identificarla.
+     *
+     * @param apiKey Clave en claro.
+     * @return Primeros caracteres de la clave.
+     */
+    public static String displayPrefix(String apiKey) {
+        return apiKey.substring(0, Math.min(DISPLAY_PREFIX_LENGTH, apiKey.length()));
+    }
+}
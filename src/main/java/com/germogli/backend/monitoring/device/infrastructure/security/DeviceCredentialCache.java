@@ -0,0 +1,114 @@
+package com.germogli.backend.monitoring.device.infrastructure.security;
+
+import com.germogli.backend.monitoring.device.domain.model.DeviceDomain;
+import com.germogli.backend.monitoring.device.domain.repository.DeviceDomainRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Caché en memoria de las credenciales de los dispositivos.
+ * Cada dispositivo se consulta en la base de datos como máximo una vez por periodo de validez:
+ * las credenciales encontradas se guardan durante credential-ttl-seconds y los IDs inexistentes durante
+ * negative-ttl-seconds, de modo que solicitudes repetidas con un ID desconocido tampoco llegan a MySQL.
+ * Los cambios hechos en este nodo se aplican de inmediato; los de otros nodos, al vencer la entrada.
+ */
+@Component
+public class DeviceCredentialCache {
+
+    /**
+     * Credencial de un dispositivo tal como se verifica en cada solicitud.
+     */
+    public record DeviceCredential(Integer deviceId, Integer cropId, byte[] keyHash, boolean active) {
+    }
+
+    private record CachedCredential(DeviceCredential credential, long expiresAtNanos) {
+    }
+
+    private final DeviceDomainRepository deviceRepository;
+    private final long credentialTtlNanos;
+    private final long negativeTtlNanos;
+    private final int maxEntries;
+
+    // Map estructura: deviceId -> credencial (null si el dispositivo no existe)
+    private final Map<Integer, CachedCredential> entries = new ConcurrentHashMap<>();
+
+    public DeviceCredentialCache(DeviceDomainRepository deviceRepository,
+                                 @Value("${monitoring.devices.credential-ttl-seconds:300}") long credentialTtlSeconds,
+                                 @Value("${monitoring.devices.negative-ttl-seconds:60}") long negativeTtlSeconds,
+                                 @Value("${monitoring.devices.credential-cache-max-entries:10000}") int maxEntries) {
+        this.deviceRepository = deviceRepository;
+        this.credentialTtlNanos = credentialTtlSeconds * 1_000_000_000L;
+        this.negativeTtlNanos = negativeTtlSeconds * 1_000_000_000L;
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * Obtiene la credencial de un dispositivo, consultando la base de datos solo si no está en caché o venció.
+     *
+     * @param deviceId ID del dispositivo.
+     * @return Optional con la credencial si el dispositivo existe.
+     */
+    public Optional<DeviceCredential> get(Integer deviceId) {
+        long now = System.nanoTime();
+        CachedCredential cached = entries.get(deviceId);
+        if (cached == null || now - cached.expiresAtNanos() >= 0) {
+            DeviceCredential credential = deviceRepository.findById(deviceId).map(this::toCredential).orElse(null);
+            cached = new CachedCredential(credential, now + (credential != null ? credentialTtlNanos : negativeTtlNanos));
+            store(deviceId, cached, now);
+        }
+        return Optional.ofNullable(cached.credential());
+    }
+
+    /**
+     * Indica si obtener la credencial de un dispositivo requiere consultar la base de datos por un ID que este nodo
+     * no conoce: no está en caché o solo está como inexistente y venció. Renovar la credencial vencida de un
+     * dispositivo conocido no cuenta, porque esas consultas están acotadas por los dispositivos registrados.
+     *
+     * @param deviceId ID del dispositivo.
+     * @return true si la consulta sería por un dispositivo desconocido.
+     */
+    public boolean requiresUnknownLookup(Integer deviceId) {
+        CachedCredential cached = entries.get(deviceId);
+        return cached == null || (cached.credential() == null && System.nanoTime() - cached.expiresAtNanos() >= 0);
+    }
+
+    /**
+     * Reemplaza la credencial de un dispositivo tras crearlo o cambiar su clave.
+     *
+     * @param device Dispositivo guardado.
+     */
+    public void put(DeviceDomain device) {
+        long now = System.nanoTime();
+        store(device.getId(), new CachedCredential(toCredential(device), now + credentialTtlNanos), now);
+    }
+
+    /**
+     * Descarta la credencial de un dispositivo eliminado.
+     *
+     * @param deviceId ID del dispositivo.
+     */
+    public void invalidate(Integer deviceId) {
+        entries.remove(deviceId);
+    }
+
+    private void store(Integer deviceId, CachedCredential cached, long now) {
+        if (entries.size() >= maxEntries && !entries.containsKey(deviceId)) {
+            // Se liberan primero las entradas vencidas y, si no alcanza, las de IDs inexistentes
+            entries.values().removeIf(entry -> now - entry.expiresAtNanos() >= 0);
+            if (entries.size() >= maxEntries) {
+                entries.values().removeIf(entry -> entry.credential() == null);
+            }
+        }
+        entries.put(deviceId, cached);
+    }
+
+    private DeviceCredential toCredential(DeviceDomain device) {
+        return new DeviceCredential(device.getId(), device.getCropId(),
+                HexFormat.of().parseHex(device.getApiKeyHash()), Boolean.TRUE.equals(device.getActive()));
+    }
+}
@@ -0,0 +1,188 @@
+package com.germogli.backend.monitoring.device.infrastructure.websocket;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.germogli.backend.monitoring.device.application.dto.DeviceConfigMessageDTO;
+import com.germogli.backend.monitoring.sensor.domain.repository.SensorDomainRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registro de las conexiones WebSocket abiertas por los dispositivos de este nodo.
+ * Cada dispositivo tiene como máximo una conexión: si se reconecta, la anterior se cierra.
+ * Las sesiones se envuelven en ConcurrentWebSocketSessionDecorator porque los acuses (hilo de la conexión)
+ * y los envíos de configuración (hilo de la solicitud que cambió los umbrales) pueden coincidir.
+ */
+@Slf4j
+@Component
+public class DeviceSessionRegistry {
+
+    /**
+     * Cierre usado cuando el dispositivo abrió una conexión nueva.
+     */
+    public static final CloseStatus REPLACED = new CloseStatus(4000, "Reemplazada por una conexión nueva");
+
+    private final SensorDomainRepository sensorRepository;
+    private final ObjectMapper objectMapper;
+    private final int sendTimeLimitMillis;
+    private final int sendBufferSizeLimit;
+
+    // Map estructura: deviceId -> sesión
+    private final Map<Integer, WebSocketSession> sessions = new ConcurrentHashMap<>();
+    // Map estructura: cropId -> IDs de dispositivos conectados
+    private final Map<Integer, Set<Integer>> devicesByCrop = new ConcurrentHashMap<>();
+
+    public DeviceSessionRegistry(SensorDomainRepository sensorRepository,
+                                 ObjectMapper objectMapper,
+                                 @Value("${monitoring.devices.websocket.send-time-limit-ms:5000}") int sendTimeLimitMillis,
+                                 @Value("${monitoring.devices.websocket.send-buffer-size-limit:65536}") int sendBufferSizeLimit) {
+        this.sensorRepository = sensorRepository;
+        this.objectMapper = objectMapper;
+        this.sendTimeLimitMillis = sendTimeLimitMillis;
+        this.sendBufferSizeLimit = sendBufferSizeLimit;
+    }
+
+    /**
+     * Registra la conexión de un dispositivo y cierra la anterior si existía.
+     *
+     * @param deviceId ID del dispositivo.
+     * @param cropId   ID del cultivo del dispositivo.
+     * @param session  Sesión abierta.
+     * @return Sesión segura para envíos concurrentes.
+     */
+    public WebSocketSession register(Integer deviceId, Integer cropId, WebSocketSession session) {
+        WebSocketSession concurrent = new ConcurrentWebSocketSessionDecorator(session, sendTimeLimitMillis, sendBufferSizeLimit);
+        WebSocketSession previous = sessions.put(deviceId, concurrent);
+        devicesByCrop.computeIfAbsent(cropId, id -> ConcurrentHashMap.newKeySet()).add(deviceId);
+        if (previous != null && previous.isOpen()) {
+            close(previous, REPLACED);
+        }
+        return concurrent;
+    }
+
+    /**
+     * Quita la conexión de un dispositivo, salvo que ya haya sido reemplazada por otra.
+     *
+     * @param deviceId ID del dispositivo.
+     * @param cropId   ID del cultivo del dispositivo.
+     * @param session  Sesión cerrada.
+     */
+    public void unregister(Integer deviceId, Integer cropId, WebSocketSession session) {
+        WebSocketSession current = sessions.get(deviceId);
+        if (current instanceof ConcurrentWebSocketSessionDecorator decorator
+                && decorator.getDelegate().getId().equals(session.getId())
+                && sessions.remove(deviceId, current)) {
+            devicesByCrop.computeIfPresent(cropId, (id, devices) -> {
+                devices.remove(deviceId);
+                return devices.isEmpty() ? null : devices;
+            });
+        }
+    }
+
+    /**
+     * Envía a los dispositivos conectados de un cultivo sus umbrales vigentes.
+     * Si hay una transacción activa, el envío se hace después de confirmarla.
+     *
+     * @param cropId ID del cultivo.
+     */
+    public void publishThresholds(Integer cropId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    sendThresholds(cropId);
+                }
+            });
+        } else {
+            sendThresholds(cropId);
+        }
+    }
+
+    /**
+     * Envía a un dispositivo los umbrales vigentes de su cultivo.
+     *
+     * @param cropId  ID del cultivo.
+     * @param session Sesión del dispositivo.
+     */
+    public void sendThresholds(Integer cropId, WebSocketSession session) {
+        TextMessage message = thresholdsMessage(cropId);
+        if (message != null) {
+            send(session, message);
+        }
+    }
+
+    /**
+     * @return Cantidad de dispositivos conectados a este nodo.
+     */
+    public int getConnectedCount() {
+        return sessions.size();
+    }
+
+    /**
+     * Envía un mensaje a una sesión; si falla, la conexión se cierra y el dispositivo deberá reconectarse.
+     *
+     * @param session Sesión del dispositivo.
+     * @param message Mensaje a enviar.
+     */
+    public void send(WebSocketSession session, WebSocketMessage<?> message) {
+        try {
+            session.sendMessage(message);
+        } catch (IOException | RuntimeException e) {
+            log.warn("No se pudo enviar un mensaje al dispositivo de la sesión {}: {}", session.getId(), e.getMessage());
+            close(session, CloseStatus.SESSION_NOT_RELIABLE);
+        }
+    }
+
+    private void sendThresholds(Integer cropId) {
+        Set<Integer> deviceIds = devicesByCrop.get(cropId);
+        if (deviceIds == null || deviceIds.isEmpty()) {
+            return;
+        }
+        TextMessage message = thresholdsMessage(cropId);
+        if (message == null) {
+            return;
+        }
+        for (Integer deviceId : deviceIds) {
+            WebSocketSession session = sessions.get(deviceId);
+            if (session != null && session.isOpen()) {
+                send(session, message);
+            }
+        }
+    }
+
+    private TextMessage thresholdsMessage(Integer cropId) {
+        try {
+            return new TextMessage(objectMapper.writeValueAsString(DeviceConfigMessageDTO.builder()
+                    .type("thresholds")
+                    .cropId(cropId)
+                    .sentAt(LocalDateTime.now())
+                    .thresholds(sensorRepository.getThresholdsByCropId(cropId))
+                    .build()));
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.error("No se pudo preparar la configuración de dispositivos del cultivo {}", cropId, e);
+            return null;
+        }
+    }
+
+    private void close(WebSocketSession session, CloseStatus status) {
+        try {
+            session.close(status);
+        } catch (IOException e) {
+            log.debug("Error al cerrar la sesión de dispositivo {}: {}", session.getId(), e.getMessage());
+        }
+    }
+}
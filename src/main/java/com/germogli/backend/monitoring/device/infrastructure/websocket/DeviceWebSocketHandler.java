@@ -0,0 +1,173 @@
+package com.germogli.backend.monitoring.device.infrastructure.websocket;
+
+import com.germogli.backend.common.exception.DeviceAuthenticationException;
+import com.germogli.backend.common.exception.InvalidPayloadException;
+import com.germogli.backend.common.exception.RateLimitExceededException;
+import com.germogli.backend.common.exception.RequestInProgressException;
+import com.germogli.backend.monitoring.device.domain.service.DeviceIngestionGuard;
+import com.germogli.backend.monitoring.device.infrastructure.dedup.IngestionDeduplicator;
+import com.germogli.backend.monitoring.reading.domain.model.ReadingDomain;
+import com.germogli.backend.monitoring.reading.domain.service.ReadingDomainService;
+import com.germogli.backend.monitoring.reading.infrastructure.codec.DeviceFrameCodec;
+import com.germogli.backend.monitoring.reading.infrastructure.codec.DeviceFrameCodec.DeviceFrame;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.BinaryWebSocketHandler;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Manejador de la conexión WebSocket persistente de los dispositivos IoT (/device-ws).
+ * El dispositivo se autentica una vez en el handshake (DeviceHandshakeInterceptor) y después envía
+ * tramas binarias de DeviceFrameCodec, que siguen el mismo camino que POST /readings/batch.
+ * Cada trama se responde con un acuse binario; la clave y el límite de solicitudes se verifican en cada trama
+ * contra la caché de credenciales, de modo que una clave renovada o un dispositivo desactivado cierran la conexión.
+ * El contenedor entrega en partes los mensajes más grandes que su búfer (WebSocketConfig); el manejador las junta
+ * hasta DeviceFrameCodec.MAX_FRAME_SIZE, de modo que solo las tramas grandes reservan memoria adicional.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DeviceWebSocketHandler extends BinaryWebSocketHandler {
+
+    public static final String DEVICE_ID_ATTRIBUTE = "DEVICE_ID";
+    public static final String CROP_ID_ATTRIBUTE = "DEVICE_CROP_ID";
+    public static final String API_KEY_ATTRIBUTE = "DEVICE_API_KEY";
+    private static final String CONCURRENT_SESSION_ATTRIBUTE = "DEVICE_CONCURRENT_SESSION";
+    private static final String PARTIAL_FRAME_ATTRIBUTE = "DEVICE_PARTIAL_FRAME";
+
+    private final DeviceIngestionGuard deviceIngestionGuard;
+    private final ReadingDomainService readingDomainService;
+    private final DeviceSessionRegistry sessionRegistry;
+    private final IngestionDeduplicator ingestionDeduplicator;
+
+    @Override
+    public void afterConnectionEstablished(WebSocketSession session) {
+        Integer deviceId = (Integer) session.getAttributes().get(DEVICE_ID_ATTRIBUTE);
+        Integer cropId = (Integer) session.getAttributes().get(CROP_ID_ATTRIBUTE);
+        WebSocketSession concurrent = sessionRegistry.register(deviceId, cropId, session);
+        session.getAttributes().put(CONCURRENT_SESSION_ATTRIBUTE, concurrent);
+        log.debug("Dispositivo {} conectado por WebSocket (cultivo {})", deviceId, cropId);
+
+        // Configuración inicial: umbrales vigentes del cultivo
+        sessionRegistry.sendThresholds(cropId, concurrent);
+    }
+
+    @Override
+    public boolean supportsPartialMessages() {
+        return true;
+    }
+
+    @Override
+    protected void handleBinaryMessage(WebSocketSession session, BinaryMessage message) {
+        WebSocketSession concurrent = (WebSocketSession) session.getAttributes().get(CONCURRENT_SESSION_ATTRIBUTE);
+        Integer deviceId = (Integer) session.getAttributes().get(DEVICE_ID_ATTRIBUTE);
+        String apiKey = (String) session.getAttributes().get(API_KEY_ATTRIBUTE);
+
+        byte[] bytes = assemble(session, message);
+        if (bytes == null) {
+            return;
+        }
+
+        long timestampMillis = 0;
+        try {
+            DeviceFrame frame = DeviceFrameCodec.decode(bytes);
+            timestampMillis = frame.timestampMillis();
+            if (frame.deviceId() != deviceId) {
+                throw new DeviceAuthenticationException("La trama corresponde a otro dispositivo");
+            }
+            deviceIngestionGuard.authorize(deviceId, frame.cropId(), apiKey);
+            Optional<List<ReadingDomain>> readings = ingestionDeduplicator.once(deviceId,
+                    IngestionDeduplicator.key(null, frame),
+                    () -> readingDomainService.processDeviceFrame(frame));
+            if (readings.isPresent()) {
+                ack(concurrent, DeviceFrameCodec.ACK_OK, readings.get().size(), timestampMillis);
+            } else {
+                ack(concurrent, DeviceFrameCodec.ACK_DUPLICATE, 0, timestampMillis);
+            }
+        } catch (InvalidPayloadException e) {
+            ack(concurrent, DeviceFrameCodec.ACK_INVALID_FRAME, 0, timestampMillis);
+        } catch (RateLimitExceededException e) {
+            ack(concurrent, DeviceFrameCodec.ACK_RATE_LIMITED, (int) e.getRetryAfterSeconds(), timestampMillis);
+        } catch (DeviceAuthenticationException | AccessDeniedException e) {
+            ack(concurrent, DeviceFrameCodec.ACK_UNAUTHORIZED, 0, timestampMillis);
+            closeQuietly(concurrent, CloseStatus.POLICY_VIOLATION.withReason(e.getMessage()));
+        } catch (RequestInProgressException e) {
+            // La trama original sigue en curso: el dispositivo reintentará y recibirá ACK_OK o ACK_DUPLICATE
+            ack(concurrent, DeviceFrameCodec.ACK_ERROR, 0, timestampMillis);
+        } catch (RuntimeException e) {
+            log.warn("Error al procesar una trama del dispositivo {}: {}", deviceId, e.getMessage());
+            ack(concurrent, DeviceFrameCodec.ACK_ERROR, 0, timestampMillis);
+        }
+    }
+
+    @Override
+    public void handleTransportError(WebSocketSession session, Throwable exception) {
+        log.debug("Error de transporte en la sesión de dispositivo {}: {}", session.getId(), exception.getMessage());
+    }
+
+    @Override
+    public void afterConnectionClosed(WebSocketSession session, CloseStatus status) {
+        Integer deviceId = (Integer) session.getAttributes().get(DEVICE_ID_ATTRIBUTE);
+        Integer cropId = (Integer) session.getAttributes().get(CROP_ID_ATTRIBUTE);
+        sessionRegistry.unregister(deviceId, cropId, session);
+        log.debug("Dispositivo {} desconectado: {}", deviceId, status);
+    }
+
+    private void ack(WebSocketSession session, byte status, int value, long timestampMillis) {
+        sessionRegistry.send(session, new BinaryMessage(DeviceFrameCodec.encodeAck(status, value, timestampMillis)));
+    }
+
+    private void closeQuietly(WebSocketSession session, CloseStatus status) {
+        try {
+            session.close(status);
+        } catch (Exception e) {
+            log.debug("Error al cerrar la sesión de dispositivo {}: {}", session.getId(), e.getMessage());
+        }
+    }
+
+    /**
+     * Junta las partes de una trama.
+     *
+     * @return Trama completa, o null si faltan partes o la trama supera el tamaño máximo (la conexión se cierra).
+     */
+    private byte[] assemble(WebSocketSession session, BinaryMessage message) {
+        ByteArrayOutputStream partial = (ByteArrayOutputStream) session.getAttributes().get(PARTIAL_FRAME_ATTRIBUTE);
+        if (partial == null && message.isLast()) {
+            return toBytes(message.getPayload());
+        }
+        if (partial == null) {
+            partial = new ByteArrayOutputStream(2 * message.getPayloadLength());
+            session.getAttributes().put(PARTIAL_FRAME_ATTRIBUTE, partial);
+        }
+        if (partial.size() + message.getPayloadLength() > DeviceFrameCodec.MAX_FRAME_SIZE) {
+            session.getAttributes().remove(PARTIAL_FRAME_ATTRIBUTE);
+            closeQuietly(session, CloseStatus.TOO_BIG_TO_PROCESS);
+            return null;
+        }
+        partial.writeBytes(toBytes(message.getPayload()));
+        if (!message.isLast()) {
+            return null;
+        }
+        session.getAttributes().remove(PARTIAL_FRAME_ATTRIBUTE);
+        return partial.toByteArray();
+    }
+
+    private byte[] toBytes(ByteBuffer payload) {
+        if (payload.hasArray() && payload.arrayOffset() == 0 && payload.position() == 0
+                && payload.remaining() == payload.array().length) {
+            return payload.array();
+        }
+        byte[] bytes = new byte[payload.remaining()];
+        payload.duplicate().get(bytes);
+        return bytes;
+    }
+}
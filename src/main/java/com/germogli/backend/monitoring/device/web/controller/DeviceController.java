@@ -0,0 +1,100 @@
+package com.germogli.backend.monitoring.device.web.controller;
+
+import com.germogli.backend.monitoring.application.dto.common.ApiResponseDTO;
+import com.germogli.backend.monitoring.device.application.dto.DeviceRequestDTO;
+import com.germogli.backend.monitoring.device.application.dto.DeviceResponseDTO;
+import com.germogli.backend.monitoring.device.domain.service.DeviceDomainService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * Controlador REST para la gestión de dispositivos IoT.
+ * Permite registrar dispositivos en un cultivo y administrar las claves de API
+ * con las que envían lecturas a los endpoints de ingesta.
+ */
+@RestController
+@RequestMapping("/devices")
+@RequiredArgsConstructor
+@PreAuthorize("isAuthenticated()")
+public class DeviceController {
+
+    private final DeviceDomainService deviceDomainService;
+
+    /**
+     * Endpoint para registrar un dispositivo.
+     * La clave de API solo se devuelve en esta respuesta.
+     *
+     * @param request DTO con el cultivo y el nombre del dispositivo.
+     * @return Respuesta API con el dispositivo y su clave.
+     */
+    @PostMapping
+    public ResponseEntity<ApiResponseDTO<DeviceResponseDTO>> registerDevice(@Valid @RequestBody DeviceRequestDTO request) {
+        return ResponseEntity.ok(ApiResponseDTO.<DeviceResponseDTO>builder()
+                .message("Dispositivo registrado correctamente")
+                .data(deviceDomainService.registerDevice(request))
+                .build());
+    }
+
+    /**
+     * Endpoint para obtener los dispositivos de un cultivo.
+     *
+     * @param cropId ID del cultivo.
+     * @return Respuesta API con la lista de dispositivos.
+     */
+    @GetMapping("/crop/{cropId}")
+    public ResponseEntity<ApiResponseDTO<List<DeviceResponseDTO>>> getDevicesByCropId(@PathVariable Integer cropId) {
+        return ResponseEntity.ok(ApiResponseDTO.<List<DeviceResponseDTO>>builder()
+                .message("Dispositivos recuperados correctamente")
+                .data(deviceDomainService.getDevicesByCropId(cropId))
+                .build());
+    }
+
+    /**
+     * Endpoint para generar una clave de API nueva; la anterior deja de ser válida.
+     *
+     * @param id ID del dispositivo.
+     * @return Respuesta API con el dispositivo y su clave nueva.
+     */
+    @PostMapping("/{id}/rotate-key")
+    public ResponseEntity<ApiResponseDTO<DeviceResponseDTO>> rotateKey(@PathVariable Integer id) {
+        return ResponseEntity.ok(ApiResponseDTO.<DeviceResponseDTO>builder()
+                .message("Clave de API renovada correctamente")
+                .data(deviceDomainService.rotateKey(id))
+                .build());
+    }
+
+    /**
+     * Endpoint para activar o desactivar un dispositivo.
+     *
+     * @param id     ID del dispositivo.
+     * @param active Nuevo estado.
+     * @return Respuesta API con el dispositivo actualizado.
+     */
+    @PutMapping("/{id}/active")
+    public ResponseEntity<ApiResponseDTO<DeviceResponseDTO>> setActive(@PathVariable Integer id,
+                                                                       @RequestParam boolean active) {
+        return ResponseEntity.ok(ApiResponseDTO.<DeviceResponseDTO>builder()
+                .message(active ? "Dispositivo activado correctamente" : "Dispositivo desactivado correctamente")
+                .data(deviceDomainService.setActive(id, active))
+                .build());
+    }
+
+    /**
+     * Endpoint para eliminar un dispositivo.
+     *
+     * @param id ID del dispositivo.
+     * @return Respuesta API confirmando la eliminación.
+     */
+    @DeleteMapping("/{id}")
+    public ResponseEntity<ApiResponseDTO<Void>> deleteDevice(@PathVariable Integer id) {
+        deviceDomainService.deleteDevice(id);
+        return ResponseEntity.ok(ApiResponseDTO.<Void>builder()
+                .message("Dispositivo eliminado correctamente")
+                .build());
+    }
+}
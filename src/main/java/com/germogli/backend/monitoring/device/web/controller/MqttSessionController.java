@@ -0,0 +1,54 @@
+package com.germogli.backend.monitoring.device.web.controller;
+
+import com.germogli.backend.monitoring.application.dto.common.ApiResponseDTO;
+import com.germogli.backend.monitoring.device.application.dto.MqttSessionResponseDTO;
+import com.germogli.backend.monitoring.device.infrastructure.mqtt.MqttSessionRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * Controlador REST para consultar las sesiones de la pasarela MQTT de este nodo.
+ * Solo existe si la pasarela está habilitada (monitoring.mqtt.enabled=true).
+ */
+@RestController
+@RequestMapping("/devices/mqtt")
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "monitoring.mqtt.enabled", havingValue = "true")
+public class MqttSessionController {
+
+    private final MqttSessionRegistry sessionRegistry;
+
+    /**
+     * Endpoint para obtener las sesiones MQTT abiertas.
+     *
+     * @return Respuesta API con las sesiones y sus contadores de mensajes.
+     */
+    @GetMapping("/sessions")
+    @PreAuthorize("hasRole('ADMINISTRADOR')")
+    public ResponseEntity<ApiResponseDTO<List<MqttSessionResponseDTO>>> getSessions() {
+        List<MqttSessionResponseDTO> sessions = sessionRegistry.getSessions().stream()
+                .map(session -> MqttSessionResponseDTO.builder()
+                        .deviceId(session.getDeviceId())
+                        .cropId(session.getCropId())
+                        .clientId(session.getClientId())
+                        .remoteAddress(session.getRemoteAddress())
+                        .connectedAt(session.getConnectedAt())
+                        .lastActivityAt(session.getLastActivityAt())
+                        .messagesReceived(session.getMessagesReceived().get())
+                        .messagesStored(session.getMessagesStored().get())
+                        .messagesDropped(session.getMessagesDropped().get())
+                        .build())
+                .toList();
+        return ResponseEntity.ok(ApiResponseDTO.<List<MqttSessionResponseDTO>>builder()
+                .message("Sesiones MQTT recuperadas correctamente")
+                .data(sessions)
+                .build());
+    }
+}
@@ -0,0 +1,292 @@
+package com.germogli.backend.monitoring.liveness.domain.service;
+
+import com.germogli.backend.common.notification.application.service.NotificationService;
+import com.germogli.backend.monitoring.alert.domain.model.AlertDomain;
+import com.germogli.backend.monitoring.alert.domain.repository.AlertDomainRepository;
+import com.germogli.backend.monitoring.crop.domain.model.CropDomain;
+import com.germogli.backend.monitoring.crop.domain.repository.CropDomainRepository;
+import com.germogli.backend.monitoring.dashboard.domain.service.DashboardDomainService;
+import com.germogli.backend.monitoring.liveness.infrastructure.timer.HashedTimerWheel;
+import com.germogli.backend.monitoring.reading.domain.repository.ReadingDomainRepository;
+import com.germogli.backend.monitoring.sensor.domain.model.SensorDomain;
+import com.germogli.backend.monitoring.sensor.domain.repository.SensorDomainRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Servicio de dominio que detecta sensores que dejaron de enviar lecturas.
+ * Guarda en memoria la última vez que se recibió una lectura de cada par cultivo-sensor y programa su vencimiento
+ * en una rueda de temporizadores (HashedTimerWheel). Si pasan silence-minutes sin lecturas, se genera una alerta
+ * "offline"; cuando el sensor vuelve a enviar datos se genera una alerta "recovered".
+ * <p>
+ * Registrar una lectura solo actualiza la fecha de la última lectura; el temporizador no se mueve. Cuando vence,
+ * se reprograma a partir de esa fecha si hubo lecturas en el intervalo. Así cada sensor activo cuesta una
+ * comprobación por intervalo de silencio y el avance de la rueda (SensorLivenessTask) solo procesa los
+ * temporizadores que vencen, sin recorrer todos los sensores.
+ * <p>
+ * Con varias réplicas, las lecturas de un sensor pueden llegar a otro nodo. Por eso, antes de marcar un sensor como
+ * inactivo se consulta en la base de datos su última lectura (una consulta por temporizador vencido sin lecturas
+ * locales); si es reciente, el temporizador se reprograma desde esa fecha y no se genera la alerta.
+ * <p>
+ * El seguimiento empieza con la primera lectura de cada sensor después de iniciar la aplicación.
+ * Las alertas se generan desde la tarea programada, nunca en el camino de ingesta.
+ */
+@Slf4j
+@Service
+public class SensorLivenessService {
+
+    private static final String OFFLINE_LEVEL = "offline";
+    private static final String RECOVERED_LEVEL = "recovered";
+
+    private final AlertDomainRepository alertRepository;
+    private final ReadingDomainRepository readingRepository;
+    private final CropDomainRepository cropRepository;
+    private final SensorDomainRepository sensorRepository;
+    private final NotificationService notificationService;
+    private final DashboardDomainService dashboardDomainService;
+    private final long silenceNanos;
+    private final HashedTimerWheel<SensorLiveness> wheel;
+
+    // Map estructura: (cropId << 32 | sensorId) -> estado del sensor
+    private final Map<Long, SensorLiveness> sensors = new ConcurrentHashMap<>();
+    // Sensores que volvieron a enviar datos, pendientes de notificar en el próximo avance
+    private final Queue<Recovery> recoveries = new ConcurrentLinkedQueue<>();
+
+    public SensorLivenessService(AlertDomainRepository alertRepository,
+                                 ReadingDomainRepository readingRepository,
+                                 CropDomainRepository cropRepository,
+                                 SensorDomainRepository sensorRepository,
+                                 NotificationService notificationService,
+                                 DashboardDomainService dashboardDomainService,
+                                 @Value("${monitoring.liveness.silence-minutes:10}") long silenceMinutes,
+                                 @Value("${monitoring.liveness.tick-ms:1000}") long tickMillis,
+                                 @Value("${monitoring.liveness.wheel-slots:1024}") int wheelSlots) {
+        this.alertRepository = alertRepository;
+        this.readingRepository = readingRepository;
+        this.cropRepository = cropRepository;
+        this.sensorRepository = sensorRepository;
+        this.notificationService = notificationService;
+        this.dashboardDomainService = dashboardDomainService;
+        this.silenceNanos = TimeUnit.MINUTES.toNanos(silenceMinutes);
+        this.wheel = new HashedTimerWheel<>(TimeUnit.MILLISECONDS.toNanos(tickMillis), wheelSlots, System.nanoTime());
+    }
+
+    /**
+     * Registra la recepción de una lectura. No accede a la base de datos.
+     *
+     * @param cropId   ID del cultivo.
+     * @param sensorId ID del sensor.
+     */
+    public void recordReading(Integer cropId, Integer sensorId) {
+        long now = System.nanoTime();
+        Long key = key(cropId, sensorId);
+        SensorLiveness sensor = sensors.get(key);
+        if (sensor == null) {
+            SensorLiveness created = new SensorLiveness(cropId, sensorId, now);
+            sensor = sensors.putIfAbsent(key, created);
+            if (sensor == null) {
+                wheel.schedule(created, now + silenceNanos);
+                return;
+            }
+        }
+        sensor.lastSeenNanos = now;
+        if (sensor.offline) {
+            recover(sensor, now);
+        }
+    }
+
+    /**
+     * Avanza la rueda de temporizadores, genera las alertas de los sensores que quedaron en silencio
+     * y notifica los que volvieron a enviar datos.
+     *
+     * @return Cantidad de sensores que quedaron en silencio en este avance.
+     */
+    public int tick() {
+        long now = System.nanoTime();
+        List<Silence> silenced = new ArrayList<>();
+        for (SensorLiveness sensor : wheel.advance(now)) {
+            if (sensor.removed) {
+                continue;
+            }
+            long lastSeen = sensor.lastSeenNanos;
+            if (now - lastSeen < silenceNanos) {
+                // Hubo lecturas desde que se programó: se reprograma a partir de la última
+                wheel.schedule(sensor, lastSeen + silenceNanos);
+                continue;
+            }
+            OptionalLong seenElsewhere;
+            try {
+                seenElsewhere = lastSeenInDatabase(sensor, now);
+            } catch (RuntimeException e) {
+                log.warn("No se pudo confirmar el silencio del sensor {} del cultivo {}: {}",
+                        sensor.sensorId, sensor.cropId, e.getMessage());
+                wheel.schedule(sensor, now + silenceNanos);
+                continue;
+            }
+            if (seenElsewhere.isPresent()) {
+                // Otro nodo recibió lecturas del sensor: se reprograma a partir de la última
+                wheel.schedule(sensor, seenElsewhere.getAsLong() + silenceNanos);
+                continue;
+            }
+            synchronized (sensor) {
+                sensor.offline = true;
+                sensor.silentSinceNanos = lastSeen;
+                // Una lectura pudo llegar entre la comprobación y la marca; en ese caso el sensor sigue activo
+                if (sensor.lastSeenNanos != lastSeen) {
+                    sensor.offline = false;
+                    wheel.schedule(sensor, sensor.lastSeenNanos + silenceNanos);
+                    continue;
+                }
+            }
+            silenced.add(new Silence(sensor, now - lastSeen));
+        }
+
+        // Primero las alertas de silencio, para que una recuperación inmediata se notifique después
+        silenced.forEach(silence -> raise(silence.sensor(), OFFLINE_LEVEL, silence.silentNanos()));
+        Recovery recovery;
+        while ((recovery = recoveries.poll()) != null) {
+            if (!recovery.sensor().removed) {
+                raise(recovery.sensor(), RECOVERED_LEVEL, recovery.silentNanos());
+            }
+        }
+        return silenced.size();
+    }
+
+    /**
+     * Deja de seguir un sensor desasociado de un cultivo.
+     *
+     * @param cropId   ID del cultivo.
+     * @param sensorId ID del sensor.
+     */
+    public void evict(Integer cropId, Integer sensorId) {
+        Optional.ofNullable(sensors.remove(key(cropId, sensorId))).ifPresent(sensor -> sensor.removed = true);
+    }
+
+    /**
+     * Deja de seguir los sensores de un cultivo eliminado.
+     *
+     * @param cropId ID del cultivo.
+     */
+    public void evictCrop(Integer cropId) {
+        sensors.values().removeIf(sensor -> {
+            boolean matches = sensor.cropId.equals(cropId);
+            if (matches) {
+                sensor.removed = true;
+            }
+            return matches;
+        });
+    }
+
+    /**
+     * Deja de seguir un sensor eliminado en todos sus cultivos.
+     *
+     * @param sensorId ID del sensor.
+     */
+    public void evictSensor(Integer sensorId) {
+        sensors.values().removeIf(sensor -> {
+            boolean matches = sensor.sensorId.equals(sensorId);
+            if (matches) {
+                sensor.removed = true;
+            }
+            return matches;
+        });
+    }
+
+    /**
+     * Consulta la última lectura guardada del sensor dentro del intervalo de silencio.
+     *
+     * @return Momento de esa lectura en la escala de System.nanoTime, vacío si no hay lecturas en el intervalo.
+     */
+    private OptionalLong lastSeenInDatabase(SensorLiveness sensor, long now) {
+        LocalDateTime current = LocalDateTime.now();
+        return readingRepository.findLatestReadingDateSince(sensor.cropId, sensor.sensorId, current.minusNanos(silenceNanos))
+                .map(latest -> OptionalLong.of(now - Math.max(0, Duration.between(latest, current).toNanos())))
+                .orElse(OptionalLong.empty());
+    }
+
+    private void recover(SensorLiveness sensor, long now) {
+        long silentNanos;
+        synchronized (sensor) {
+            if (!sensor.offline) {
+                return;
+            }
+            sensor.offline = false;
+            silentNanos = now - sensor.silentSinceNanos;
+        }
+        wheel.schedule(sensor, now + silenceNanos);
+        recoveries.add(new Recovery(sensor, silentNanos));
+    }
+
+    /**
+     * Registra la alerta y la notifica al propietario del cultivo y a su tablero.
+     */
+    private void raise(SensorLiveness sensor, String alertLevel, long silentNanos) {
+        try {
+            Optional<CropDomain> cropOpt = cropRepository.findById(sensor.cropId);
+            if (cropOpt.isEmpty()) {
+                evictCrop(sensor.cropId);
+                return;
+            }
+            CropDomain crop = cropOpt.get();
+            String sensorType = sensorRepository.findById(sensor.sensorId)
+                    .map(SensorDomain::getSensorType)
+                    .orElse("sensor " + sensor.sensorId);
+            long minutes = TimeUnit.NANOSECONDS.toMinutes(silentNanos);
+            String message = OFFLINE_LEVEL.equals(alertLevel)
+                    ? String.format("El sensor de %s del cultivo %s no envía lecturas desde hace %d minutos",
+                            sensorType, crop.getCropName(), minutes)
+                    : String.format("El sensor de %s del cultivo %s volvió a enviar lecturas tras %d minutos sin datos",
+                            sensorType, crop.getCropName(), minutes);
+
+            AlertDomain alert = alertRepository.processAlert(sensor.cropId, sensor.sensorId, alertLevel, message);
+            notificationService.sendNotification(crop.getUserId(), message, "sensor_alert");
+            dashboardDomainService.onAlert(crop, alert, sensorType);
+            log.info("Alerta de actividad generada ({}): cultivo {}, sensor {}", alertLevel, sensor.cropId, sensor.sensorId);
+        } catch (Exception e) {
+            log.error("Error al generar la alerta de actividad {} para cultivo {}, sensor {}: {}",
+                    alertLevel, sensor.cropId, sensor.sensorId, e.getMessage(), e);
+        }
+    }
+
+    private static Long key(Integer cropId, Integer sensorId) {
+        return ((long) cropId << 32) | (sensorId & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Estado de actividad de un sensor en un cultivo.
+     * lastSeenNanos se escribe en cada lectura sin bloqueo; los cambios de offline se hacen con el monitor del objeto.
+     */
+    private static final class SensorLiveness {
+        private final Integer cropId;
+        private final Integer sensorId;
+        private volatile long lastSeenNanos;
+        private volatile boolean offline;
+        private volatile boolean removed;
+        private long silentSinceNanos;
+
+        SensorLiveness(Integer cropId, Integer sensorId, long lastSeenNanos) {
+            this.cropId = cropId;
+            this.sensorId = sensorId;
+            this.lastSeenNanos = lastSeenNanos;
+        }
+    }
+
+    private record Silence(SensorLiveness sensor, long silentNanos) {
+    }
+
+    private record Recovery(SensorLiveness sensor, long silentNanos) {
+    }
+}
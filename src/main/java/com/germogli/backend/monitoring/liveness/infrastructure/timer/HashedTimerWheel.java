@@ -0,0 +1,128 @@
+package com.germogli.backend.monitoring.liveness.infrastructure.timer;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Rueda de temporizadores con hash (Varghese y Lauck, esquema 6).
+ * El tiempo se divide en ticks de duración fija y cada temporizador se guarda en la casilla
+ * "tick de vencimiento mod cantidad de casillas", en una lista doblemente enlazada.
+ * Programar un temporizador es O(1) y avanzar la rueda solo recorre las casillas de los ticks transcurridos,
+ * por lo que el costo depende de los temporizadores que vencen y no del total programado.
+ * Si la rueda cubre el plazo habitual (casillas * tick mayor o igual al plazo), cada casilla visitada contiene
+ * solo temporizadores vencidos; los de vueltas posteriores se dejan en su lugar con una comparación.
+ * <p>
+ * Los métodos están sincronizados; los valores vencidos se devuelven para procesarlos fuera del bloqueo.
+ *
+ * @param <T> Tipo del valor asociado a cada temporizador.
+ */
+public final class HashedTimerWheel<T> {
+
+    private final long tickNanos;
+    private final long startNanos;
+    private final Node<T>[] wheel;
+    private final int mask;
+
+    // Próximo tick a procesar
+    private long currentTick;
+    private int size;
+
+    /**
+     * @param tickNanos Duración de cada tick en nanosegundos.
+     * @param slots     Cantidad de casillas (se redondea a la siguiente potencia de dos).
+     * @param nowNanos  Instante inicial (System.nanoTime()).
+     */
+    @SuppressWarnings("unchecked")
+    public HashedTimerWheel(long tickNanos, int slots, long nowNanos) {
+        if (tickNanos <= 0 || slots <= 0) {
+            throw new IllegalArgumentException("La duración del tick y la cantidad de casillas deben ser positivas");
+        }
+        int length = Integer.highestOneBit(Math.max(1, slots - 1)) << 1;
+        this.tickNanos = tickNanos;
+        this.startNanos = nowNanos;
+        this.wheel = (Node<T>[]) new Node[length];
+        this.mask = length - 1;
+    }
+
+    /**
+     * Programa un temporizador. Un vencimiento en el pasado se entrega en el próximo avance.
+     *
+     * @param value         Valor a devolver cuando venza.
+     * @param deadlineNanos Instante de vencimiento (en la escala de System.nanoTime()).
+     */
+    public synchronized void schedule(T value, long deadlineNanos) {
+        // Se redondea hacia arriba para no vencer antes del plazo
+        long deadlineTick = Math.max(Math.ceilDiv(deadlineNanos - startNanos, tickNanos), currentTick);
+        Node<T> node = new Node<>(value, deadlineTick);
+        int slot = (int) (deadlineTick & mask);
+        node.next = wheel[slot];
+        if (node.next != null) {
+            node.next.prev = node;
+        }
+        wheel[slot] = node;
+        size++;
+    }
+
+    /**
+     * Avanza la rueda hasta el instante indicado y retira los temporizadores vencidos.
+     * Si pasaron más ticks que casillas (por ejemplo, tras una pausa larga), cada casilla se visita una sola vez.
+     *
+     * @param nowNanos Instante actual (System.nanoTime()).
+     * @return Valores de los temporizadores vencidos, en orden de casilla.
+     */
+    public synchronized List<T> advance(long nowNanos) {
+        long targetTick = Math.floorDiv(nowNanos - startNanos, tickNanos);
+        if (targetTick < currentTick) {
+            return List.of();
+        }
+        List<T> expired = new ArrayList<>();
+        long lastTick = Math.min(targetTick, currentTick + wheel.length - 1);
+        for (long tick = currentTick; tick <= lastTick; tick++) {
+            int slot = (int) (tick & mask);
+            Node<T> node = wheel[slot];
+            while (node != null) {
+                Node<T> next = node.next;
+                if (node.deadlineTick <= targetTick) {
+                    unlink(slot, node);
+                    expired.add(node.value);
+                }
+                node = next;
+            }
+        }
+        currentTick = targetTick + 1;
+        return expired;
+    }
+
+    /**
+     * @return Cantidad de temporizadores programados.
+     */
+    public synchronized int size() {
+        return size;
+    }
+
+    private void unlink(int slot, Node<T> node) {
+        if (node.prev != null) {
+            node.prev.next = node.next;
+        } else {
+            wheel[slot] = node.next;
+        }
+        if (node.next != null) {
+            node.next.prev = node.prev;
+        }
+        node.prev = null;
+        node.next = null;
+        size--;
+    }
+
+    private static final class Node<T> {
+        private final T value;
+        private final long deadlineTick;
+        private Node<T> prev;
+        private Node<T> next;
+
+        Node(T value, long deadlineTick) {
+            this.value = value;
+            this.deadlineTick = deadlineTick;
+        }
+    }
+}
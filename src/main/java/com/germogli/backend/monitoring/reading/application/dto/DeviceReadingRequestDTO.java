@@ -6,6 +6,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 
 /**
  * DTO para recibir datos de sensores desde dispositivos ESP32.
@@ -24,4 +25,8 @@ public class DeviceReadingRequestDTO {
     // Información opcional del dispositivo
     private BigDecimal batteryLevel;
     private Integer wifiStrength;
+
+    // Identificación del envío para descartar reintentos (opcional): número de secuencia o fecha, junto con los valores
+    private Long sequence;
+    private LocalDateTime timestamp;
 }
\ No newline at end of file
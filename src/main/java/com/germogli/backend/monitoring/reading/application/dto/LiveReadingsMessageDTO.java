@@ -0,0 +1,28 @@
+package com.germogli.backend.monitoring.reading.application.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Mensaje publicado en /topic/crop/{cropId}/readings con el último valor de cada sensor
+ * que cambió desde el envío anterior.
+ */
+@Data
+@Builder
+public class LiveReadingsMessageDTO {
+    private Integer cropId;
+    private LocalDateTime sentAt;
+    private List<LiveReading> readings;
+
+    @Data
+    @Builder
+    public static class LiveReading {
+        private Integer sensorId;
+        private BigDecimal readingValue;
+        private LocalDateTime readingDate;
+    }
+}
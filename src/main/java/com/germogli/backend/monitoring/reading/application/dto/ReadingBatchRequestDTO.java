@@ -21,6 +21,9 @@ public class ReadingBatchRequestDTO {
 
     private LocalDateTime timestamp;
 
+    // Número de secuencia del envío para descartar reintentos (opcional; se combina con las lecturas y, si falta, se usa timestamp)
+    private Long sequence;
+
     @NotEmpty(message = "Se requiere al menos una lectura")
     @Valid
     private List<ReadingSensorDTO> readings;
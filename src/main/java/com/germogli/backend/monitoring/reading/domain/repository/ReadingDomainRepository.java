@@ -3,6 +3,7 @@ package com.germogli.backend.monitoring.reading.domain.repository;
 import com.germogli.backend.monitoring.reading.domain.model.ReadingDomain;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -86,4 +87,53 @@ public interface ReadingDomainRepository {
      * @return Lista de lecturas guardadas.
      */
     List<ReadingDomain> saveAll(List<ReadingDomain> readings);
-}
\ No newline at end of file
+
+    /**
+     * Obtiene en una sola consulta la lectura más reciente de cada sensor de los cultivos indicados.
+     *
+     * @param cropIds Identificadores de los cultivos.
+     * @return Última lectura de cada par cultivo-sensor.
+     */
+    List<ReadingDomain> findLatestByCropIds(Collection<Integer> cropIds);
+
+    /**
+     * Obtiene la fecha de la lectura más antigua de un cultivo.
+     *
+     * @param cropId ID del cultivo.
+     * @return Optional con la fecha, vacío si el cultivo no tiene lecturas.
+     */
+    Optional<LocalDateTime> findOldestReadingDate(Integer cropId);
+
+    /**
+     * Obtiene la fecha de la lectura más reciente de un sensor en un cultivo, a partir de una fecha.
+     *
+     * @param cropId   ID del cultivo.
+     * @param sensorId ID del sensor.
+     * @param since    Fecha desde la que se buscan lecturas (acota la consulta al índice por cultivo y fecha).
+     * @return Optional con la fecha, vacío si el sensor no tiene lecturas desde esa fecha.
+     */
+    Optional<LocalDateTime> findLatestReadingDateSince(Integer cropId, Integer sensorId, LocalDateTime since);
+
+    /**
+     * Obtiene las lecturas de un cultivo en un rango de fechas con ID mayor al indicado, ordenadas por ID.
+     *
+     * @param cropId    ID del cultivo.
+     * @param startDate Inicio del rango (inclusive).
+     * @param endDate   Fin del rango (exclusivo).
+     * @param afterId   Solo se devuelven lecturas con ID mayor a este valor.
+     * @return Lecturas del rango.
+     */
+    List<ReadingDomain> findByCropIdAndDateRange(Integer cropId, LocalDateTime startDate, LocalDateTime endDate, Integer afterId);
+
+    /**
+     * Elimina un lote acotado de lecturas de un cultivo en un rango de fechas con ID menor o igual al indicado.
+     *
+     * @param cropId    ID del cultivo.
+     * @param startDate Inicio del rango (inclusive).
+     * @param endDate   Fin del rango (exclusivo).
+     * @param maxId     ID máximo de las lecturas a eliminar.
+     * @param limit     Cantidad máxima de lecturas a eliminar.
+     * @return Cantidad de lecturas eliminadas.
+     */
+    int deleteByCropIdAndDateRange(Integer cropId, LocalDateTime startDate, LocalDateTime endDate, Integer maxId, int limit);
+}
@@ -4,29 +4,39 @@ import com.germogli.backend.authentication.domain.model.UserDomain;
 import com.germogli.backend.common.exception.ResourceNotFoundException;
 import com.germogli.backend.common.notification.application.service.NotificationService;
 import com.germogli.backend.monitoring.domain.service.MonitoringSharedService;
+import com.germogli.backend.monitoring.anomaly.domain.service.AnomalyDetectionService;
 import com.germogli.backend.monitoring.alert.domain.model.AlertDomain;
 import com.germogli.backend.monitoring.alert.domain.repository.AlertDomainRepository;
 import com.germogli.backend.monitoring.crop.domain.model.CropDomain;
 import com.germogli.backend.monitoring.crop.domain.repository.CropDomainRepository;
+import com.germogli.backend.monitoring.dashboard.domain.service.DashboardDomainService;
+import com.germogli.backend.monitoring.liveness.domain.service.SensorLivenessService;
 import com.germogli.backend.monitoring.reading.application.dto.DeviceReadingRequestDTO;
 import com.germogli.backend.monitoring.reading.application.dto.ReadingBatchRequestDTO;
 import com.germogli.backend.monitoring.reading.application.dto.ReadingRequestDTO;
 import com.germogli.backend.monitoring.reading.application.dto.ReadingResponseDTO;
 import com.germogli.backend.monitoring.reading.domain.model.ReadingDomain;
 import com.germogli.backend.monitoring.reading.domain.repository.ReadingDomainRepository;
+import com.germogli.backend.monitoring.reading.infrastructure.codec.DeviceFrameCodec;
+import com.germogli.backend.monitoring.reading.infrastructure.messaging.ReadingStreamPublisher;
+import com.germogli.backend.monitoring.retention.domain.service.ReadingRetentionService;
 import com.germogli.backend.monitoring.sensor.domain.model.SensorDomain;
 import com.germogli.backend.monitoring.sensor.domain.repository.SensorDomainRepository;
 import com.germogli.backend.monitoring.sensor.application.dto.SensorThresholdResponseDTO;
 import jakarta.validation.Valid;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -36,9 +46,11 @@ import java.util.stream.Collectors;
 /**
  * Servicio de dominio para la gestión de lecturas de sensores.
  * ACTUALIZADO: Usa exclusivamente umbrales personalizados de la base de datos.
+ * Las lecturas se guardan en una transacción y los umbrales y anomalías se evalúan después de confirmarla:
+ * el detector de anomalías cambia su modelo en memoria y su período de espera entre alertas, y una transacción
+ * revertida no debe dejar ahí lecturas que no se guardaron ni silenciar la alerta del reintento.
  */
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class ReadingDomainService {
 
@@ -48,6 +60,38 @@ public class ReadingDomainService {
     private final AlertDomainRepository alertRepository;
     private final MonitoringSharedService sharedService;
     private final NotificationService notificationService;
+    private final DashboardDomainService dashboardDomainService;
+    private final ReadingStreamPublisher readingStreamPublisher;
+    private final ReadingRetentionService readingRetentionService;
+    private final AnomalyDetectionService anomalyDetectionService;
+    private final SensorLivenessService sensorLivenessService;
+    private final TransactionTemplate transactionTemplate;
+
+    public ReadingDomainService(ReadingDomainRepository readingRepository,
+                                CropDomainRepository cropRepository,
+                                SensorDomainRepository sensorRepository,
+                                AlertDomainRepository alertRepository,
+                                MonitoringSharedService sharedService,
+                                NotificationService notificationService,
+                                DashboardDomainService dashboardDomainService,
+                                ReadingStreamPublisher readingStreamPublisher,
+                                ReadingRetentionService readingRetentionService,
+                                AnomalyDetectionService anomalyDetectionService,
+                                SensorLivenessService sensorLivenessService,
+                                PlatformTransactionManager transactionManager) {
+        this.readingRepository = readingRepository;
+        this.cropRepository = cropRepository;
+        this.sensorRepository = sensorRepository;
+        this.alertRepository = alertRepository;
+        this.sharedService = sharedService;
+        this.notificationService = notificationService;
+        this.dashboardDomainService = dashboardDomainService;
+        this.readingStreamPublisher = readingStreamPublisher;
+        this.readingRetentionService = readingRetentionService;
+        this.anomalyDetectionService = anomalyDetectionService;
+        this.sensorLivenessService = sensorLivenessService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
 
     /**
      * Crea una nueva lectura de sensor.
@@ -58,8 +102,19 @@ public class ReadingDomainService {
      * @throws ResourceNotFoundException si el cultivo o el sensor no existen.
      * @throws AccessDeniedException si el usuario no tiene acceso al cultivo.
      */
-    @Transactional
     public ReadingDomain createReading(ReadingRequestDTO request) {
+        Map<Integer, SensorDomain> sensorCache = new HashMap<>();
+        ReadingDomain savedReading = transactionTemplate.execute(status -> storeReading(request, sensorCache));
+
+        // Verificar umbrales personalizados y generar alertas si es necesario
+        evaluateReadings(List.of(savedReading), sensorCache);
+        return savedReading;
+    }
+
+    /**
+     * Verifica el acceso al cultivo y guarda y publica una lectura creada por un usuario.
+     */
+    private ReadingDomain storeReading(ReadingRequestDTO request, Map<Integer, SensorDomain> sensorCache) {
         UserDomain currentUser = sharedService.getAuthenticatedUser();
 
         // Verificar que el cultivo exista
@@ -87,10 +142,8 @@ public class ReadingDomainService {
                 .build();
 
         ReadingDomain savedReading = readingRepository.save(reading);
-
-        // Verificar umbrales personalizados y generar alertas si es necesario
-        checkPersonalizedThresholdsAndCreateAlert(savedReading, sensor);
-
+        publishReading(crop.getUserId(), savedReading);
+        sensorCache.put(sensor.getId(), sensor);
         return savedReading;
     }
 
@@ -102,42 +155,124 @@ public class ReadingDomainService {
      * @return Lista de lecturas creadas.
      * @throws ResourceNotFoundException si el cultivo o algún sensor no existen.
      */
-    @Transactional
     public List<ReadingDomain> processBatchReadings(@Valid ReadingBatchRequestDTO request) {
-        // Verificar que el cultivo exista
-        CropDomain crop = cropRepository.findById(request.getCropId())
-                .orElseThrow(() -> new ResourceNotFoundException("Cultivo no encontrado con id: " + request.getCropId()));
-
         // Fecha de las lecturas
         LocalDateTime timestamp = request.getTimestamp() != null ? request.getTimestamp() : LocalDateTime.now();
 
         // Crear lista de lecturas
         List<ReadingDomain> readings = new ArrayList<>();
-        Map<Integer, SensorDomain> sensorCache = new HashMap<>();
-
         for (ReadingBatchRequestDTO.ReadingSensorDTO sensorReading : request.getReadings()) {
-            // Obtener o buscar el sensor (usando cache para evitar múltiples búsquedas)
-            SensorDomain sensor = sensorCache.computeIfAbsent(sensorReading.getSensorId(), id ->
-                    sensorRepository.findById(id)
-                            .orElseThrow(() -> new ResourceNotFoundException("Sensor no encontrado con id: " + id))
-            );
-
-            // Crear la lectura
-            ReadingDomain reading = ReadingDomain.builder()
+            readings.add(ReadingDomain.builder()
                     .cropId(request.getCropId())
                     .sensorId(sensorReading.getSensorId())
                     .readingValue(BigDecimal.valueOf(sensorReading.getValue()))
                     .readingDate(timestamp)
-                    .build();
+                    .build());
+        }
+        return saveBatch(request.getCropId(), readings);
+    }
+
+    /**
+     * Procesa una trama binaria de lecturas enviada por un dispositivo IoT (DeviceFrameCodec).
+     * Sigue el mismo camino que processBatchReadings, sin pasar por JSON.
+     *
+     * @param frame Trama decodificada.
+     * @return Lista de lecturas creadas.
+     * @throws ResourceNotFoundException si el cultivo o algún sensor no existen.
+     */
+    public List<ReadingDomain> processDeviceFrame(DeviceFrameCodec.DeviceFrame frame) {
+        return saveBatch(frame.cropId(), toReadings(frame));
+    }
+
+    /**
+     * Guarda una trama sin evaluar umbrales ni anomalías.
+     * Lo usa la ingesta por lotes (MqttIngestionBatcher): si el lote se revierte y cada trama se reintenta por
+     * separado, la evaluación no se repite. Quien la llama debe invocar evaluateReadings después de confirmar.
+     *
+     * @param frame Trama decodificada.
+     * @return Lista de lecturas creadas.
+     * @throws ResourceNotFoundException si el cultivo o algún sensor no existen.
+     */
+    @Transactional
+    public List<ReadingDomain> storeDeviceFrame(DeviceFrameCodec.DeviceFrame frame) {
+        return storeBatch(frame.cropId(), toReadings(frame), new HashMap<>());
+    }
+
+    /**
+     * Evalúa umbrales y anomalías de lecturas ya guardadas (ver storeDeviceFrame).
+     * Cada sensor se busca una sola vez aunque aparezca en varias lecturas.
+     *
+     * @param readings Lecturas guardadas.
+     */
+    public void evaluateReadings(List<ReadingDomain> readings) {
+        evaluateReadings(readings, new HashMap<>());
+    }
+
+    /**
+     * Evalúa lecturas ya guardadas reutilizando los sensores buscados al guardarlas.
+     */
+    private void evaluateReadings(List<ReadingDomain> readings, Map<Integer, SensorDomain> sensorCache) {
+        for (ReadingDomain reading : readings) {
+            SensorDomain sensor = sensorCache.computeIfAbsent(reading.getSensorId(),
+                    id -> sensorRepository.findById(id).orElse(null));
+            if (sensor != null) {
+                evaluateReading(reading, sensor);
+            }
+        }
+    }
+
+    private List<ReadingDomain> toReadings(DeviceFrameCodec.DeviceFrame frame) {
+        LocalDateTime timestamp = frame.timestampMillis() > 0
+                ? LocalDateTime.ofInstant(Instant.ofEpochMilli(frame.timestampMillis()), ZoneId.systemDefault())
+                : LocalDateTime.now();
+
+        List<ReadingDomain> readings = new ArrayList<>(frame.size());
+        for (int i = 0; i < frame.size(); i++) {
+            readings.add(ReadingDomain.builder()
+                    .cropId(frame.cropId())
+                    .sensorId(frame.sensorIds()[i])
+                    // Float.toString da la representación decimal más corta (23.4 y no 23.399999618530273)
+                    .readingValue(new BigDecimal(Float.toString(frame.values()[i])))
+                    .readingDate(timestamp)
+                    .build());
+        }
+        return readings;
+    }
 
-            readings.add(reading);
+    /**
+     * Guarda y publica un lote de lecturas de un cultivo en una transacción, y lo evalúa después de confirmarla.
+     */
+    private List<ReadingDomain> saveBatch(Integer cropId, List<ReadingDomain> readings) {
+        Map<Integer, SensorDomain> sensorCache = new HashMap<>();
+        List<ReadingDomain> savedReadings = transactionTemplate.execute(status -> storeBatch(cropId, readings, sensorCache));
 
-            // Verificar umbrales personalizados y generar alertas si es necesario
-            checkPersonalizedThresholdsAndCreateAlert(reading, sensor);
+        // Verificar umbrales personalizados y generar alertas si es necesario
+        evaluateReadings(savedReadings, sensorCache);
+        return savedReadings;
+    }
+
+    /**
+     * Verifica que existan el cultivo y los sensores, y guarda y publica un lote de lecturas.
+     *
+     * @param sensorCache Sensores ya buscados; se completa con los del lote.
+     */
+    private List<ReadingDomain> storeBatch(Integer cropId, List<ReadingDomain> readings, Map<Integer, SensorDomain> sensorCache) {
+        // Verificar que el cultivo exista
+        CropDomain crop = cropRepository.findById(cropId)
+                .orElseThrow(() -> new ResourceNotFoundException("Cultivo no encontrado con id: " + cropId));
+
+        for (ReadingDomain reading : readings) {
+            // Obtener o buscar el sensor (usando cache para evitar múltiples búsquedas)
+            sensorCache.computeIfAbsent(reading.getSensorId(), id ->
+                    sensorRepository.findById(id)
+                            .orElseThrow(() -> new ResourceNotFoundException("Sensor no encontrado con id: " + id))
+            );
         }
 
         // Guardar todas las lecturas en lote
-        return readingRepository.saveAll(readings);
+        List<ReadingDomain> savedReadings = readingRepository.saveAll(readings);
+        savedReadings.forEach(saved -> publishReading(crop.getUserId(), saved));
+        return savedReadings;
     }
 
     /**
@@ -182,27 +317,7 @@ public class ReadingDomainService {
             // Si se detecta un valor fuera de rango, generar alerta
             if (isOutOfRange) {
                 log.info("Generando alerta para lectura fuera de umbrales: {}", alertMessage);
-
-                // Crear alerta usando el procedimiento almacenado
-                AlertDomain alert = alertRepository.processAlert(
-                        reading.getCropId(),
-                        reading.getSensorId(),
-                        alertLevel,
-                        alertMessage
-                );
-
-                // Enviar notificación al propietario del cultivo
-                CropDomain crop = cropRepository.findById(reading.getCropId())
-                        .orElseThrow(() -> new ResourceNotFoundException("Cultivo no encontrado con id: " + reading.getCropId()));
-
-                notificationService.sendNotification(
-                        crop.getUserId(),
-                        alertMessage,
-                        "sensor_alert"
-                );
-
-                log.info("Alerta generada exitosamente con ID: {} para cultivo: {}",
-                        alert.getId(), reading.getCropId());
+                raiseAlert(reading, sensor, alertLevel, alertMessage);
             } else {
                 log.debug("Lectura dentro de umbrales normales: {} = {} {}",
                         sensor.getSensorType(), value, sensor.getUnitOfMeasurement());
@@ -215,6 +330,56 @@ public class ReadingDomainService {
         }
     }
 
+    /**
+     * Evalúa una lectura contra los umbrales personalizados y el detector de anomalías.
+     * El detector trabaja en memoria, por lo que no agrega consultas por lectura.
+     *
+     * @param reading La lectura a evaluar.
+     * @param sensor El sensor asociado a la lectura.
+     */
+    private void evaluateReading(ReadingDomain reading, SensorDomain sensor) {
+        checkPersonalizedThresholdsAndCreateAlert(reading, sensor);
+
+        try {
+            anomalyDetectionService.observe(reading, sensor.getSensorType(), sensor.getUnitOfMeasurement())
+                    .ifPresent(message -> {
+                        log.info("Generando alerta por anomalía: {}", message);
+                        raiseAlert(reading, sensor, "anomaly", message);
+                    });
+        } catch (Exception e) {
+            log.error("Error al evaluar anomalías para lectura: cropId={}, sensorId={}, error={}",
+                    reading.getCropId(), reading.getSensorId(), e.getMessage(), e);
+            // No lanzar excepción para no interrumpir el flujo de creación de lecturas
+        }
+    }
+
+    /**
+     * Registra una alerta y la notifica al propietario del cultivo y a su tablero.
+     */
+    private void raiseAlert(ReadingDomain reading, SensorDomain sensor, String alertLevel, String alertMessage) {
+        // Crear alerta usando el procedimiento almacenado
+        AlertDomain alert = alertRepository.processAlert(
+                reading.getCropId(),
+                reading.getSensorId(),
+                alertLevel,
+                alertMessage
+        );
+
+        // Enviar notificación al propietario del cultivo
+        CropDomain crop = cropRepository.findById(reading.getCropId())
+                .orElseThrow(() -> new ResourceNotFoundException("Cultivo no encontrado con id: " + reading.getCropId()));
+
+        notificationService.sendNotification(
+                crop.getUserId(),
+                alertMessage,
+                "sensor_alert"
+        );
+        dashboardDomainService.onAlert(crop, alert, sensor.getSensorType());
+
+        log.info("Alerta generada exitosamente con ID: {} para cultivo: {}",
+                alert.getId(), reading.getCropId());
+    }
+
     /**
      * Procesa lecturas provenientes directamente de un dispositivo ESP32.
      * Identifica los sensores correspondientes por tipo y registra las lecturas.
@@ -224,14 +389,28 @@ public class ReadingDomainService {
      * @param requestDTO DTO con los datos de temperatura, humedad y TDS
      * @return Lista de lecturas procesadas
      */
-    @Transactional
     public List<ReadingDomain> processDeviceReadings(Integer deviceId, Integer cropId, DeviceReadingRequestDTO requestDTO) {
+        Map<Integer, SensorDomain> sensorCache = new HashMap<>();
+        List<ReadingDomain> readings = transactionTemplate.execute(status ->
+                storeDeviceReadings(cropId, requestDTO, sensorCache));
+
+        // Verificar umbrales personalizados y generar alertas si es necesario
+        evaluateReadings(readings, sensorCache);
+        return readings;
+    }
+
+    /**
+     * Guarda y publica las lecturas de un ESP32 de los sensores del cultivo que coinciden por tipo.
+     */
+    private List<ReadingDomain> storeDeviceReadings(Integer cropId, DeviceReadingRequestDTO requestDTO,
+                                                    Map<Integer, SensorDomain> sensorCache) {
         // Verificar que el cultivo exista
         CropDomain crop = cropRepository.findById(cropId)
                 .orElseThrow(() -> new ResourceNotFoundException("Cultivo no encontrado con id: " + cropId));
 
         List<ReadingDomain> readings = new ArrayList<>();
-        LocalDateTime timestamp = LocalDateTime.now();
+        // Se usa la fecha del dispositivo si la envía, para que un reintento conserve la fecha original
+        LocalDateTime timestamp = requestDTO.getTimestamp() != null ? requestDTO.getTimestamp() : LocalDateTime.now();
 
         // Mapear los sensores por tipo (asumiendo que ya existen en la BD)
         Map<String, SensorDomain> sensorsByType = getSensorsByTypeForCrop(cropId);
@@ -247,7 +426,8 @@ public class ReadingDomainService {
                     .build();
 
             readings.add(readingRepository.save(reading));
-            checkPersonalizedThresholdsAndCreateAlert(reading, tempSensor);
+            publishReading(crop.getUserId(), reading);
+            sensorCache.put(tempSensor.getId(), tempSensor);
         }
 
         // Procesar humedad si hay datos y existe el sensor
@@ -261,7 +441,8 @@ public class ReadingDomainService {
                     .build();
 
             readings.add(readingRepository.save(reading));
-            checkPersonalizedThresholdsAndCreateAlert(reading, humiditySensor);
+            publishReading(crop.getUserId(), reading);
+            sensorCache.put(humiditySensor.getId(), humiditySensor);
         }
 
         // Procesar TDS si hay datos y existe el sensor
@@ -275,7 +456,8 @@ public class ReadingDomainService {
                     .build();
 
             readings.add(readingRepository.save(reading));
-            checkPersonalizedThresholdsAndCreateAlert(reading, tdsSensor);
+            publishReading(crop.getUserId(), reading);
+            sensorCache.put(tdsSensor.getId(), tdsSensor);
         }
 
         return readings;
@@ -373,8 +555,22 @@ public class ReadingDomainService {
         LocalDateTime effectiveEndDate = endDate != null ? endDate : LocalDateTime.now();
         int effectiveLimit = limit != null ? limit : 100;
 
-        return readingRepository.findByCropIdAndSensorIdAndDateRange(
+        List<ReadingDomain> readings = readingRepository.findByCropIdAndSensorIdAndDateRange(
                 cropId, sensorId, effectiveStartDate, effectiveEndDate, effectiveLimit);
+        if (readings.size() >= effectiveLimit) {
+            return readings;
+        }
+
+        // Completar con las lecturas ya archivadas por la política de retención (anteriores al límite de retención del cultivo)
+        List<ReadingDomain> archived = readingRetentionService.findArchivedReadings(
+                cropId, sensorId, effectiveStartDate, effectiveEndDate);
+        if (archived.isEmpty()) {
+            return readings;
+        }
+        List<ReadingDomain> combined = new ArrayList<>(readings);
+        combined.addAll(archived.subList(0, Math.min(archived.size(), effectiveLimit - readings.size())));
+        combined.sort(Comparator.comparing(ReadingDomain::getReadingDate).reversed());
+        return combined;
     }
 
     /**
@@ -391,6 +587,16 @@ public class ReadingDomainService {
         return sensorsByType;
     }
 
+    /**
+     * Método auxiliar que propaga una lectura guardada al tablero del propietario
+     * y al canal en vivo del cultivo, y registra la actividad del sensor.
+     */
+    private void publishReading(Integer ownerId, ReadingDomain reading) {
+        dashboardDomainService.onReading(ownerId, reading);
+        readingStreamPublisher.enqueue(reading);
+        sensorLivenessService.recordReading(reading.getCropId(), reading.getSensorId());
+    }
+
     /**
      * Convierte un objeto ReadingDomain en un DTO de respuesta.
      * Incluye información adicional del sensor.
@@ -0,0 +1,44 @@
+package com.germogli.backend.monitoring.reading.infrastructure.codec;
+
+import java.io.EOFException;
+
+/**
+ * Lee bits de un arreglo de bytes en el mismo orden en que los escribe BitWriter.
+ */
+final class BitReader {
+
+    private final byte[] data;
+    private int bitPosition;
+
+    BitReader(byte[] data) {
+        this.data = data;
+    }
+
+    /**
+     * Lee un bit.
+     *
+     * @throws EOFException si no quedan bits.
+     */
+    boolean readBit() throws EOFException {
+        int byteIndex = bitPosition >>> 3;
+        if (byteIndex >= data.length) {
+            throw new EOFException("Bloque de serie temporal truncado");
+        }
+        boolean bit = ((data[byteIndex] >>> (7 - (bitPosition & 7))) & 1) != 0;
+        bitPosition++;
+        return bit;
+    }
+
+    /**
+     * Lee count bits y los devuelve alineados a la derecha.
+     *
+     * @throws EOFException si no quedan bits suficientes.
+     */
+    long readBits(int count) throws EOFException {
+        long value = 0;
+        for (int i = 0; i < count; i++) {
+            value = (value << 1) | (readBit() ? 1L : 0L);
+        }
+        return value;
+    }
+}
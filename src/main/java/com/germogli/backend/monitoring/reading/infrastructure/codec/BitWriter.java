@@ -0,0 +1,42 @@
+package com.germogli.backend.monitoring.reading.infrastructure.codec;
+
+import java.util.Arrays;
+
+/**
+ * Acumula bits en un arreglo de bytes, del bit más significativo al menos significativo.
+ */
+final class BitWriter {
+
+    private byte[] buffer = new byte[64];
+    private int bitPosition;
+
+    /**
+     * Escribe un bit.
+     */
+    void writeBit(boolean bit) {
+        int byteIndex = bitPosition >>> 3;
+        if (byteIndex == buffer.length) {
+            buffer = Arrays.copyOf(buffer, buffer.length * 2);
+        }
+        if (bit) {
+            buffer[byteIndex] |= (byte) (0x80 >>> (bitPosition & 7));
+        }
+        bitPosition++;
+    }
+
+    /**
+     * Escribe los count bits menos significativos de value, empezando por el más alto.
+     */
+    void writeBits(long value, int count) {
+        for (int i = count - 1; i >= 0; i--) {
+            writeBit(((value >>> i) & 1L) != 0);
+        }
+    }
+
+    /**
+     * Devuelve los bytes escritos; el último byte se completa con ceros.
+     */
+    byte[] toByteArray() {
+        return Arrays.copyOf(buffer, (bitPosition + 7) >>> 3);
+    }
+}
@@ -0,0 +1,180 @@
+package com.germogli.backend.monitoring.reading.infrastructure.codec;
+
+import com.germogli.backend.common.exception.InvalidPayloadException;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+
+/**
+ * Trama binaria de lecturas para dispositivos IoT (alternativa a ReadingBatchRequestDTO en JSON).
+ * Todos los campos son little-endian, el orden nativo del ESP32, para que el firmware copie los valores sin convertirlos.
+ * <pre>
+ * desplazamiento  tamaño  campo
+ * 0               2       "GF"
+ * 2               1       versión (1)
+ * 3               1       reservado (0)
+ * 4               4       deviceId     uint32
+ * 8               4       cropId       uint32
+ * 12              8       timestamp    int64, milisegundos desde 1970-01-01 UTC (0 = hora del servidor)
+ * 20              2       cantidad     uint16
+ * 22              8 * n   sensorId uint32, valor float32 (IEEE 754) por cada lectura
+ * </pre>
+ * Tres lecturas ocupan 46 bytes, frente a unos 200 del mismo lote en JSON.
+ * <p>
+ * En la conexión WebSocket de dispositivos cada trama se responde con un acuse de 13 bytes:
+ * "GA", estado (ACK_*), valor uint16 (lecturas guardadas, o segundos de espera si se superó el límite)
+ * y el timestamp int64 de la trama, para que el dispositivo sepa qué envío se confirma.
+ * Una trama reenviada (mismo timestamp y mismas lecturas) se confirma con ACK_DUPLICATE sin volver a guardarse.
+ * El decodificador lee directamente del arreglo recibido: no crea objetos por lectura ni cadenas intermedias.
+ */
+public final class DeviceFrameCodec {
+
+    /**
+     * Tipo de contenido con el que los dispositivos envían la trama.
+     */
+    public static final String MEDIA_TYPE = "application/x-germogli-frame";
+
+    public static final int HEADER_SIZE = 22;
+    public static final int READING_SIZE = 8;
+    public static final int MAX_READINGS = 0xFFFF;
+    public static final int MAX_FRAME_SIZE = HEADER_SIZE + MAX_READINGS * READING_SIZE;
+    public static final int ACK_SIZE = 13;
+
+    public static final byte ACK_OK = 0;
+    public static final byte ACK_INVALID_FRAME = 1;
+    public static final byte ACK_UNAUTHORIZED = 2;
+    public static final byte ACK_RATE_LIMITED = 3;
+    public static final byte ACK_ERROR = 4;
+    public static final byte ACK_DUPLICATE = 5;
+
+    private static final byte MAGIC_0 = 'G';
+    private static final byte MAGIC_1 = 'F';
+    private static final byte ACK_MAGIC_1 = 'A';
+    private static final byte VERSION = 1;
+
+    private static final VarHandle INT = MethodHandles.byteArrayViewVarHandle(int[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final VarHandle LONG = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final VarHandle SHORT = MethodHandles.byteArrayViewVarHandle(short[].class, ByteOrder.LITTLE_ENDIAN);
+
+    private DeviceFrameCodec() {
+    }
+
+    /**
+     * Lecturas decodificadas de una trama. Los valores quedan en arreglos primitivos paralelos.
+     *
+     * @param deviceId        ID del dispositivo.
+     * @param cropId          ID del cultivo.
+     * @param timestampMillis Fecha de las lecturas en milisegundos UTC, o 0 si el dispositivo no la conoce.
+     * @param sensorIds       ID del sensor de cada lectura.
+     * @param values          Valor de cada lectura.
+     */
+    public record DeviceFrame(int deviceId, int cropId, long timestampMillis, int[] sensorIds, float[] values) {
+
+        /**
+         * @return Cantidad de lecturas de la trama.
+         */
+        public int size() {
+            return sensorIds.length;
+        }
+    }
+
+    /**
+     * Indica si unos bytes comienzan con la firma de una trama de lecturas.
+     *
+     * @param bytes Bytes recibidos.
+     * @return true si comienzan con "GF".
+     */
+    public static boolean hasMagic(byte[] bytes) {
+        return bytes != null && bytes.length >= 2 && bytes[0] == MAGIC_0 && bytes[1] == MAGIC_1;
+    }
+
+    /**
+     * Decodifica una trama.
+     *
+     * @param frame Bytes recibidos.
+     * @return Lecturas de la trama.
+     * @throws InvalidPayloadException si la trama está incompleta, tiene otra versión o valores no válidos.
+     */
+    public static DeviceFrame decode(byte[] frame) {
+        if (frame == null || frame.length < HEADER_SIZE) {
+            throw new InvalidPayloadException("Trama de lecturas incompleta");
+        }
+        if (frame[0] != MAGIC_0 || frame[1] != MAGIC_1) {
+            throw new InvalidPayloadException("La trama no corresponde al formato de lecturas de dispositivos");
+        }
+        if (frame[2] != VERSION) {
+            throw new InvalidPayloadException("Versión de trama no soportada: " + frame[2]);
+        }
+
+        int deviceId = (int) INT.get(frame, 4);
+        int cropId = (int) INT.get(frame, 8);
+        long timestampMillis = (long) LONG.get(frame, 12);
+        int count = Short.toUnsignedInt((short) SHORT.get(frame, 20));
+        if (deviceId <= 0 || cropId <= 0) {
+            throw new InvalidPayloadException("IDs de dispositivo o cultivo no válidos");
+        }
+        if (count == 0) {
+            throw new InvalidPayloadException("Se requiere al menos una lectura");
+        }
+        if (frame.length != HEADER_SIZE + count * READING_SIZE) {
+            throw new InvalidPayloadException("La longitud de la trama no coincide con la cantidad de lecturas");
+        }
+
+        int[] sensorIds = new int[count];
+        float[] values = new float[count];
+        for (int i = 0, offset = HEADER_SIZE; i < count; i++, offset += READING_SIZE) {
+            int sensorId = (int) INT.get(frame, offset);
+            float value = Float.intBitsToFloat((int) INT.get(frame, offset + 4));
+            if (sensorId <= 0 || !Float.isFinite(value)) {
+                throw new InvalidPayloadException("Lectura no válida en la posición " + i);
+            }
+            sensorIds[i] = sensorId;
+            values[i] = value;
+        }
+        return new DeviceFrame(deviceId, cropId, timestampMillis, sensorIds, values);
+    }
+
+    /**
+     * Codifica una trama; sirve de referencia para el firmware y para simuladores de dispositivos.
+     *
+     * @param frame Lecturas a codificar.
+     * @return Bytes de la trama.
+     */
+    public static byte[] encode(DeviceFrame frame) {
+        if (frame.size() == 0 || frame.size() > MAX_READINGS || frame.values().length != frame.size()) {
+            throw new IllegalArgumentException("Cantidad de lecturas no válida: " + frame.size());
+        }
+        byte[] bytes = new byte[HEADER_SIZE + frame.size() * READING_SIZE];
+        bytes[0] = MAGIC_0;
+        bytes[1] = MAGIC_1;
+        bytes[2] = VERSION;
+        INT.set(bytes, 4, frame.deviceId());
+        INT.set(bytes, 8, frame.cropId());
+        LONG.set(bytes, 12, frame.timestampMillis());
+        SHORT.set(bytes, 20, (short) frame.size());
+        for (int i = 0, offset = HEADER_SIZE; i < frame.size(); i++, offset += READING_SIZE) {
+            INT.set(bytes, offset, frame.sensorIds()[i]);
+            INT.set(bytes, offset + 4, Float.floatToRawIntBits(frame.values()[i]));
+        }
+        return bytes;
+    }
+
+    /**
+     * Codifica el acuse de una trama recibida por WebSocket.
+     *
+     * @param status          Estado (ACK_*).
+     * @param value           Lecturas guardadas o segundos de espera, según el estado.
+     * @param timestampMillis Timestamp de la trama confirmada (0 si no se pudo leer).
+     * @return Bytes del acuse.
+     */
+    public static byte[] encodeAck(byte status, int value, long timestampMillis) {
+        byte[] bytes = new byte[ACK_SIZE];
+        bytes[0] = MAGIC_0;
+        bytes[1] = ACK_MAGIC_1;
+        bytes[2] = status;
+        SHORT.set(bytes, 3, (short) Math.min(Math.max(value, 0), MAX_READINGS));
+        LONG.set(bytes, 5, timestampMillis);
+        return bytes;
+    }
+}
@@ -0,0 +1,324 @@
+package com.germogli.backend.monitoring.reading.infrastructure.codec;
+
+import com.germogli.backend.monitoring.reading.domain.model.ReadingDomain;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Formato binario compacto para series de lecturas (sensorId, fecha, valor).
+ *
+ * Estructura: cabecera "GTS" + versión, cantidad de bloques y luego cada bloque con
+ * sensorId, cantidad de puntos, primera y última fecha, largo en bytes y los bits comprimidos.
+ * Cada bloque contiene hasta MAX_POINTS_PER_BLOCK lecturas de un mismo sensor ordenadas por fecha:
+ * <ul>
+ *     <li>Fechas: delta de deltas en segundos (una serie con intervalo fijo ocupa 1 bit por punto).</li>
+ *     <li>Valores: XOR con el valor anterior al estilo Gorilla (un valor repetido ocupa 1 bit).</li>
+ * </ul>
+ * Como la cabecera de cada bloque indica su sensor y su rango de fechas, el lector salta sin
+ * descomprimir los bloques que no se solapan con la consulta.
+ *
+ * Las fechas se guardan con precisión de segundos (igual que sensor_readings) y los valores se
+ * restauran con escala 2, la de la columna reading_value. El ID de la lectura no se conserva.
+ */
+public final class TimeSeriesCodec {
+
+    /**
+     * Tipo de contenido de las respuestas en este formato.
+     */
+    public static final String MEDIA_TYPE = "application/x-germogli-timeseries";
+
+    public static final int MAX_POINTS_PER_BLOCK = 1024;
+
+    private static final byte[] MAGIC = {'G', 'T', 'S'};
+    private static final byte VERSION = 1;
+    private static final int VALUE_SCALE = 2;
+
+    private TimeSeriesCodec() {
+    }
+
+    /**
+     * Indica si los primeros bytes corresponden a este formato.
+     *
+     * @param header Primeros bytes del contenido (al menos 3).
+     * @return true si empieza con la cabecera del formato.
+     */
+    public static boolean hasMagic(byte[] header) {
+        return header.length >= MAGIC.length
+                && header[0] == MAGIC[0] && header[1] == MAGIC[1] && header[2] == MAGIC[2];
+    }
+
+    /**
+     * Codifica las lecturas en memoria.
+     *
+     * @param readings Lecturas a codificar (en cualquier orden).
+     * @return Contenido codificado.
+     */
+    public static byte[] encode(List<ReadingDomain> readings) {
+        ByteArrayOutputStream output = new ByteArrayOutputStream(64 + readings.size() * 2);
+        try {
+            write(readings, output);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return output.toByteArray();
+    }
+
+    /**
+     * Escribe las lecturas agrupadas por sensor y ordenadas por fecha.
+     *
+     * @param readings Lecturas a escribir (en cualquier orden).
+     * @param output   Flujo de salida (no se cierra).
+     * @throws IOException si ocurre un error de escritura.
+     */
+    public static void write(List<ReadingDomain> readings, OutputStream output) throws IOException {
+        Map<Integer, List<ReadingDomain>> bySensor = new TreeMap<>();
+        for (ReadingDomain reading : readings) {
+            bySensor.computeIfAbsent(reading.getSensorId(), k -> new ArrayList<>()).add(reading);
+        }
+
+        List<List<ReadingDomain>> blocks = new ArrayList<>();
+        for (List<ReadingDomain> series : bySensor.values()) {
+            series.sort(Comparator.comparing(ReadingDomain::getReadingDate));
+            for (int from = 0; from < series.size(); from += MAX_POINTS_PER_BLOCK) {
+                blocks.add(series.subList(from, Math.min(series.size(), from + MAX_POINTS_PER_BLOCK)));
+            }
+        }
+
+        DataOutputStream data = new DataOutputStream(output);
+        data.write(MAGIC);
+        data.writeByte(VERSION);
+        data.writeInt(blocks.size());
+        for (List<ReadingDomain> block : blocks) {
+            byte[] bits = encodeBlock(block);
+            data.writeInt(block.get(0).getSensorId());
+            data.writeInt(block.size());
+            data.writeLong(toSeconds(block.get(0).getReadingDate()));
+            data.writeLong(toSeconds(block.get(block.size() - 1).getReadingDate()));
+            data.writeInt(bits.length);
+            data.write(bits);
+        }
+        data.flush();
+    }
+
+    /**
+     * Lee todas las lecturas del contenido.
+     *
+     * @param input  Flujo con el contenido (no se cierra).
+     * @param cropId ID del cultivo que se asigna a las lecturas leídas.
+     * @return Lecturas agrupadas por sensor y ordenadas por fecha.
+     * @throws IOException si el contenido no tiene el formato esperado.
+     */
+    public static List<ReadingDomain> read(InputStream input, Integer cropId) throws IOException {
+        return read(input, cropId, null, null, null);
+    }
+
+    /**
+     * Lee las lecturas de un sensor en un rango de fechas.
+     * Los bloques de otros sensores o fuera del rango se saltan sin descomprimir y
+     * la lectura de un bloque se detiene al pasar la fecha final.
+     *
+     * @param input     Flujo con el contenido (no se cierra).
+     * @param cropId    ID del cultivo que se asigna a las lecturas leídas.
+     * @param sensorId  ID del sensor (null para todos).
+     * @param startDate Inicio del rango, inclusive (null sin límite).
+     * @param endDate   Fin del rango, inclusive (null sin límite).
+     * @return Lecturas encontradas, agrupadas por sensor y ordenadas por fecha.
+     * @throws IOException si el contenido no tiene el formato esperado.
+     */
+    public static List<ReadingDomain> read(InputStream input, Integer cropId, Integer sensorId,
+                                           LocalDateTime startDate, LocalDateTime endDate) throws IOException {
+        DataInputStream data = new DataInputStream(input);
+        byte[] header = new byte[MAGIC.length];
+        data.readFully(header);
+        if (!hasMagic(header)) {
+            throw new IOException("Formato de serie temporal no reconocido");
+        }
+        byte version = data.readByte();
+        if (version != VERSION) {
+            throw new IOException("Versión de serie temporal no soportada: " + version);
+        }
+
+        long from = startDate != null ? toSeconds(startDate) : Long.MIN_VALUE;
+        long to = endDate != null ? toSeconds(endDate) : Long.MAX_VALUE;
+
+        List<ReadingDomain> readings = new ArrayList<>();
+        int blockCount = data.readInt();
+        for (int b = 0; b < blockCount; b++) {
+            int blockSensorId = data.readInt();
+            int pointCount = data.readInt();
+            long firstSeconds = data.readLong();
+            long lastSeconds = data.readLong();
+            int length = data.readInt();
+            if (pointCount <= 0 || length < 0) {
+                throw new IOException("Cabecera de bloque no válida");
+            }
+
+            boolean matches = (sensorId == null || sensorId == blockSensorId) && lastSeconds >= from && firstSeconds <= to;
+            if (!matches) {
+                skipFully(data, length);
+                continue;
+            }
+            byte[] bits = new byte[length];
+            data.readFully(bits);
+            decodeBlock(bits, cropId, blockSensorId, pointCount, firstSeconds, from, to, readings);
+        }
+        return readings;
+    }
+
+    private static byte[] encodeBlock(List<ReadingDomain> block) {
+        BitWriter writer = new BitWriter();
+
+        long previousSeconds = toSeconds(block.get(0).getReadingDate());
+        long previousDelta = 0;
+        long previousBits = Double.doubleToLongBits(block.get(0).getReadingValue().doubleValue());
+        int previousLeading = -1;
+        int previousTrailing = 0;
+        writer.writeBits(previousBits, 64);
+
+        for (int i = 1; i < block.size(); i++) {
+            ReadingDomain reading = block.get(i);
+
+            // Fecha: delta de deltas con códigos de largo variable
+            long seconds = toSeconds(reading.getReadingDate());
+            long delta = seconds - previousSeconds;
+            long deltaOfDelta = delta - previousDelta;
+            long zigzag = (deltaOfDelta << 1) ^ (deltaOfDelta >> 63);
+            if (deltaOfDelta == 0) {
+                writer.writeBit(false);
+            } else if (zigzag < (1 << 7)) {
+                writer.writeBits(0b10, 2);
+                writer.writeBits(zigzag, 7);
+            } else if (zigzag < (1 << 9)) {
+                writer.writeBits(0b110, 3);
+                writer.writeBits(zigzag, 9);
+            } else if (zigzag < (1 << 12)) {
+                writer.writeBits(0b1110, 4);
+                writer.writeBits(zigzag, 12);
+            } else {
+                writer.writeBits(0b1111, 4);
+                writer.writeBits(deltaOfDelta, 64);
+            }
+            previousDelta = delta;
+            previousSeconds = seconds;
+
+            // Valor: XOR con el anterior, reutilizando la ventana de bits significativos cuando es posible
+            long bits = Double.doubleToLongBits(reading.getReadingValue().doubleValue());
+            long xor = bits ^ previousBits;
+            if (xor == 0) {
+                writer.writeBit(false);
+            } else {
+                int leading = Math.min(Long.numberOfLeadingZeros(xor), 31);
+                int trailing = Long.numberOfTrailingZeros(xor);
+                if (previousLeading >= 0 && leading >= previousLeading && trailing >= previousTrailing) {
+                    writer.writeBits(0b10, 2);
+                    writer.writeBits(xor >>> previousTrailing, 64 - previousLeading - previousTrailing);
+                } else {
+                    int meaningful = 64 - leading - trailing;
+                    writer.writeBits(0b11, 2);
+                    writer.writeBits(leading, 5);
+                    writer.writeBits(meaningful - 1, 6);
+                    writer.writeBits(xor >>> trailing, meaningful);
+                    previousLeading = leading;
+                    previousTrailing = trailing;
+                }
+            }
+            previousBits = bits;
+        }
+        return writer.toByteArray();
+    }
+
+    private static void decodeBlock(byte[] bits, Integer cropId, int sensorId, int pointCount, long firstSeconds,
+                                    long from, long to, List<ReadingDomain> readings) throws IOException {
+        BitReader reader = new BitReader(bits);
+
+        long seconds = firstSeconds;
+        long delta = 0;
+        long valueBits = reader.readBits(64);
+        int leading = -1;
+        int trailing = 0;
+        addIfInRange(readings, cropId, sensorId, seconds, valueBits, from, to);
+
+        for (int i = 1; i < pointCount; i++) {
+            long deltaOfDelta;
+            if (!reader.readBit()) {
+                deltaOfDelta = 0;
+            } else if (!reader.readBit()) {
+                deltaOfDelta = unzigzag(reader.readBits(7));
+            } else if (!reader.readBit()) {
+                deltaOfDelta = unzigzag(reader.readBits(9));
+            } else if (!reader.readBit()) {
+                deltaOfDelta = unzigzag(reader.readBits(12));
+            } else {
+                deltaOfDelta = reader.readBits(64);
+            }
+            delta += deltaOfDelta;
+            seconds += delta;
+
+            if (reader.readBit()) {
+                if (reader.readBit()) {
+                    leading = (int) reader.readBits(5);
+                    int meaningful = (int) reader.readBits(6) + 1;
+                    trailing = 64 - leading - meaningful;
+                } else if (leading < 0) {
+                    throw new IOException("Bloque de serie temporal corrupto");
+                }
+                valueBits ^= reader.readBits(64 - leading - trailing) << trailing;
+            }
+
+            // Los puntos están ordenados por fecha: pasado el rango no hace falta seguir
+            if (seconds > to) {
+                break;
+            }
+            addIfInRange(readings, cropId, sensorId, seconds, valueBits, from, to);
+        }
+    }
+
+    private static void addIfInRange(List<ReadingDomain> readings, Integer cropId, int sensorId,
+                                     long seconds, long valueBits, long from, long to) {
+        if (seconds < from || seconds > to) {
+            return;
+        }
+        readings.add(ReadingDomain.builder()
+                .cropId(cropId)
+                .sensorId(sensorId)
+                .readingDate(LocalDateTime.ofEpochSecond(seconds, 0, ZoneOffset.UTC))
+                .readingValue(BigDecimal.valueOf(Double.longBitsToDouble(valueBits)).setScale(VALUE_SCALE, RoundingMode.HALF_UP))
+                .build());
+    }
+
+    private static long unzigzag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    // Las fechas de las lecturas no tienen zona; se usan los segundos de la fecha local tal cual
+    private static long toSeconds(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC);
+    }
+
+    private static void skipFully(DataInputStream data, int length) throws IOException {
+        int remaining = length;
+        while (remaining > 0) {
+            int skipped = data.skipBytes(remaining);
+            if (skipped <= 0) {
+                throw new EOFException("Serie temporal truncada");
+            }
+            remaining -= skipped;
+        }
+    }
+}
@@ -16,7 +16,8 @@ import java.time.LocalDateTime;
 @SuperBuilder
 @NoArgsConstructor(force = true, access = AccessLevel.PROTECTED)
 @Entity(name = "ReadingEntity")
-@Table(name = "sensor_readings")
+@Table(name = "sensor_readings",
+        indexes = @Index(name = "idx_reading_crop_date", columnList = "crop_id, reading_date"))
 public class ReadingEntity {
 
     @Id
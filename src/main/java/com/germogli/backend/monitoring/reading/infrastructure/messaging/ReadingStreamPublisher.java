@@ -0,0 +1,89 @@
+package com.germogli.backend.monitoring.reading.infrastructure.messaging;
+
+import com.germogli.backend.monitoring.reading.application.dto.LiveReadingsMessageDTO;
+import com.germogli.backend.monitoring.reading.domain.model.ReadingDomain;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Publica las lecturas en vivo de cada cultivo en /topic/crop/{cropId}/readings.
+ * Las lecturas no se envían una por una: se acumulan y en cada envío periódico (ReadingStreamFlushTask)
+ * sale un único mensaje por cultivo con el último valor de cada sensor. Así un sensor que reporta
+ * muy seguido o un cliente lento nunca acumulan una cola creciente de lecturas viejas.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReadingStreamPublisher {
+
+    private final SimpMessagingTemplate messagingTemplate;
+
+    // Map estructura: cropId -> (sensorId -> última lectura pendiente de publicar)
+    private final Map<Integer, Map<Integer, ReadingDomain>> pending = new ConcurrentHashMap<>();
+
+    /**
+     * Registra una lectura para el próximo envío, reemplazando la pendiente del mismo sensor si es más antigua.
+     * Si hay una transacción activa, se registra solo cuando se confirma.
+     *
+     * @param reading Lectura registrada.
+     */
+    public void enqueue(ReadingDomain reading) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    conflate(reading);
+                }
+            });
+        } else {
+            conflate(reading);
+        }
+    }
+
+    /**
+     * Publica un mensaje por cada cultivo con lecturas pendientes.
+     */
+    public void flush() {
+        for (Integer cropId : pending.keySet()) {
+            Map<Integer, ReadingDomain> sensors = pending.remove(cropId);
+            if (sensors == null || sensors.isEmpty()) {
+                continue;
+            }
+            List<LiveReadingsMessageDTO.LiveReading> readings = new ArrayList<>(sensors.size());
+            sensors.values().forEach(reading -> readings.add(LiveReadingsMessageDTO.LiveReading.builder()
+                    .sensorId(reading.getSensorId())
+                    .readingValue(reading.getReadingValue())
+                    .readingDate(reading.getReadingDate())
+                    .build()));
+            try {
+                messagingTemplate.convertAndSend("/topic/crop/" + cropId + "/readings", LiveReadingsMessageDTO.builder()
+                        .cropId(cropId)
+                        .sentAt(LocalDateTime.now())
+                        .readings(readings)
+                        .build());
+            } catch (RuntimeException e) {
+                log.warn("No se pudieron publicar las lecturas en vivo del cultivo {}: {}", cropId, e.getMessage());
+            }
+        }
+    }
+
+    private void conflate(ReadingDomain reading) {
+        if (reading.getCropId() == null || reading.getSensorId() == null) {
+            return;
+        }
+        pending.computeIfAbsent(reading.getCropId(), k -> new ConcurrentHashMap<>())
+                .merge(reading.getSensorId(), reading, (current, candidate) ->
+                        current.getReadingDate() != null && candidate.getReadingDate() != null
+                                && candidate.getReadingDate().isBefore(current.getReadingDate()) ? current : candidate);
+    }
+}
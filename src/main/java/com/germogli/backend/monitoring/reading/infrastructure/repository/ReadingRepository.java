@@ -15,6 +15,7 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -221,4 +222,95 @@ public class ReadingRepository implements ReadingDomainRepository {
 
         return savedReadings;
     }
-}
\ No newline at end of file
+
+    /**
+     * Obtiene la última lectura de cada par cultivo-sensor de varios cultivos en una sola consulta.
+     * Utiliza consulta JPA directa ya que no hay un procedimiento almacenado equivalente.
+     */
+    @Override
+    public List<ReadingDomain> findLatestByCropIds(Collection<Integer> cropIds) {
+        if (cropIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+        List<ReadingEntity> entities = entityManager.createQuery(
+                        "SELECT r FROM ReadingEntity r WHERE r.cropId IN :cropIds AND r.readingDate = (" +
+                                "SELECT MAX(r2.readingDate) FROM ReadingEntity r2 " +
+                                "WHERE r2.cropId = r.cropId AND r2.sensorId = r.sensorId)", ReadingEntity.class)
+                .setParameter("cropIds", cropIds)
+                .getResultList();
+        return entities.stream().map(ReadingDomain::fromEntityStatic).collect(Collectors.toList());
+    }
+
+    /**
+     * Obtiene la fecha de la lectura más antigua de un cultivo.
+     * Utiliza consulta JPA directa ya que no hay un procedimiento almacenado equivalente.
+     */
+    @Override
+    public Optional<LocalDateTime> findOldestReadingDate(Integer cropId) {
+        LocalDateTime oldest = entityManager.createQuery(
+                        "SELECT MIN(r.readingDate) FROM ReadingEntity r WHERE r.cropId = :cropId", LocalDateTime.class)
+                .setParameter("cropId", cropId)
+                .getSingleResult();
+        return Optional.ofNullable(oldest);
+    }
+
+    /**
+     * Obtiene la fecha de la lectura más reciente de un sensor en un cultivo, a partir de una fecha.
+     * Utiliza consulta JPA directa ya que no hay un procedimiento almacenado equivalente.
+     */
+    @Override
+    public Optional<LocalDateTime> findLatestReadingDateSince(Integer cropId, Integer sensorId, LocalDateTime since) {
+        LocalDateTime latest = entityManager.createQuery(
+                        "SELECT MAX(r.readingDate) FROM ReadingEntity r WHERE r.cropId = :cropId " +
+                                "AND r.readingDate >= :since AND r.sensorId = :sensorId", LocalDateTime.class)
+                .setParameter("cropId", cropId)
+                .setParameter("since", since)
+                .setParameter("sensorId", sensorId)
+                .getSingleResult();
+        return Optional.ofNullable(latest);
+    }
+
+    /**
+     * Obtiene las lecturas de un cultivo en un rango de fechas posteriores a un ID.
+     * Utiliza consulta JPA directa ya que no hay un procedimiento almacenado equivalente.
+     */
+    @Override
+    public List<ReadingDomain> findByCropIdAndDateRange(Integer cropId, LocalDateTime startDate,
+                                                        LocalDateTime endDate, Integer afterId) {
+        List<ReadingEntity> entities = entityManager.createQuery(
+                        "SELECT r FROM ReadingEntity r WHERE r.cropId = :cropId AND r.readingDate >= :startDate " +
+                                "AND r.readingDate < :endDate AND r.id > :afterId ORDER BY r.id", ReadingEntity.class)
+                .setParameter("cropId", cropId)
+                .setParameter("startDate", startDate)
+                .setParameter("endDate", endDate)
+                .setParameter("afterId", afterId)
+                .getResultList();
+        return entities.stream().map(ReadingDomain::fromEntityStatic).collect(Collectors.toList());
+    }
+
+    /**
+     * Elimina un lote acotado de lecturas de un cultivo en un rango de fechas.
+     * Se seleccionan primero los IDs porque JPQL no admite LIMIT en DELETE.
+     * Utiliza consulta JPA directa ya que no hay un procedimiento almacenado equivalente.
+     */
+    @Override
+    @Transactional
+    public int deleteByCropIdAndDateRange(Integer cropId, LocalDateTime startDate, LocalDateTime endDate,
+                                          Integer maxId, int limit) {
+        List<Integer> ids = entityManager.createQuery(
+                        "SELECT r.id FROM ReadingEntity r WHERE r.cropId = :cropId AND r.readingDate >= :startDate " +
+                                "AND r.readingDate < :endDate AND r.id <= :maxId", Integer.class)
+                .setParameter("cropId", cropId)
+                .setParameter("startDate", startDate)
+                .setParameter("endDate", endDate)
+                .setParameter("maxId", maxId)
+                .setMaxResults(limit)
+                .getResultList();
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return entityManager.createQuery("DELETE FROM ReadingEntity r WHERE r.id IN :ids")
+                .setParameter("ids", ids)
+                .executeUpdate();
+    }
+}
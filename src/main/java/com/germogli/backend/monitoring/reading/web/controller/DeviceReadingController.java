@@ -1,18 +1,22 @@
 package com.germogli.backend.monitoring.reading.web.controller;
 
+import com.germogli.backend.common.exception.RequestInProgressException;
 import com.germogli.backend.monitoring.application.dto.common.ApiResponseDTO;
+import com.germogli.backend.monitoring.device.domain.service.DeviceIngestionGuard;
+import com.germogli.backend.monitoring.device.infrastructure.dedup.IngestionDeduplicator;
 import com.germogli.backend.monitoring.reading.application.dto.DeviceReadingRequestDTO;
 import com.germogli.backend.monitoring.reading.domain.service.ReadingDomainService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-
+import java.util.Objects;
 
 /**
  * Controlador REST para la recepción de datos de dispositivos IoT.
- * Este controlador maneja las solicitudes recibidas desde dispositivos ESP32 y similares,
- * y no requiere autenticación JWT para facilitar la integración de dispositivos.
+ * Este controlador maneja las solicitudes recibidas desde dispositivos ESP32 y similares.
+ * No requiere autenticación JWT: cada dispositivo se autentica con su clave de API (cabecera X-Device-Key)
+ * y está sujeto al límite de solicitudes de DeviceIngestionGuard.
  */
 @RestController
 @RequestMapping("/readings/device")
@@ -20,13 +24,16 @@ import org.springframework.web.bind.annotation.*;
 public class DeviceReadingController {
 
     private final ReadingDomainService readingDomainService;
+    private final DeviceIngestionGuard deviceIngestionGuard;
+    private final IngestionDeduplicator ingestionDeduplicator;
 
     /**
      * Endpoint para recibir datos directamente de un dispositivo ESP32.
      * Recibe temperatura, humedad y TDS, y los asocia al cultivo y sensores correspondientes.
      *
-     * @param deviceId ID del dispositivo (para autenticación básica y asociación)
+     * @param deviceId ID del dispositivo (para autenticación y asociación)
      * @param cropId ID del cultivo al que pertenecen las lecturas
+     * @param apiKey Clave de API del dispositivo
      * @param requestDTO DTO con los datos de lectura
      * @return Respuesta API confirmando la recepción
      */
@@ -34,30 +41,28 @@ public class DeviceReadingController {
     public ResponseEntity<ApiResponseDTO<String>> receiveDeviceReadings(
             @PathVariable Integer deviceId,
             @PathVariable Integer cropId,
+            @RequestHeader(value = DeviceIngestionGuard.API_KEY_HEADER, required = false) String apiKey,
             @RequestBody DeviceReadingRequestDTO requestDTO) {
 
+        // Verificar la clave y el límite de solicitudes antes de procesar (401, 403 o 429 según el caso)
+        deviceIngestionGuard.authorize(deviceId, cropId, apiKey);
+
         // Procesar y guardar las lecturas
         try {
-            // Verificar que el dispositivo tenga los permisos necesarios
-            // Por ahora, solo validamos que deviceId y cropId no sean nulos
-            if (deviceId == null || cropId == null) {
-                return ResponseEntity.badRequest().body(
-                        ApiResponseDTO.<String>builder()
-                                .message("IDs de dispositivo o cultivo no válidos")
-                                .data(null)
-                                .build()
-                );
-            }
-
-            // Procesar las lecturas individuales
-            readingDomainService.processDeviceReadings(deviceId, cropId, requestDTO);
+            // Procesar las lecturas individuales; un reintento de un envío ya guardado se confirma sin volver a guardarlo
+            boolean processed = ingestionDeduplicator.once(deviceId,
+                    IngestionDeduplicator.key(requestDTO.getSequence(), requestDTO.getTimestamp(),
+                            Objects.hash(requestDTO.getTemperature(), requestDTO.getHumedad(), requestDTO.getTds())),
+                    () -> readingDomainService.processDeviceReadings(deviceId, cropId, requestDTO)).isPresent();
 
             return ResponseEntity.ok(
                     ApiResponseDTO.<String>builder()
-                            .message("Lecturas procesadas correctamente")
+                            .message(processed ? "Lecturas procesadas correctamente" : "Lecturas ya recibidas; se omite el reenvío")
                             .data("OK")
                             .build()
             );
+        } catch (RequestInProgressException e) {
+            throw e;
         } catch (Exception e) {
             return ResponseEntity.internalServerError().body(
                     ApiResponseDTO.<String>builder()
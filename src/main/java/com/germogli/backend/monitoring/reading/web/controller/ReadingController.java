@@ -1,20 +1,26 @@
 package com.germogli.backend.monitoring.reading.web.controller;
 
 import com.germogli.backend.monitoring.application.dto.common.ApiResponseDTO;
+import com.germogli.backend.monitoring.device.domain.service.DeviceIngestionGuard;
+import com.germogli.backend.monitoring.device.infrastructure.dedup.IngestionDeduplicator;
 import com.germogli.backend.monitoring.reading.application.dto.ReadingBatchRequestDTO;
 import com.germogli.backend.monitoring.reading.application.dto.ReadingRequestDTO;
 import com.germogli.backend.monitoring.reading.application.dto.ReadingResponseDTO;
 import com.germogli.backend.monitoring.reading.domain.model.ReadingDomain;
 import com.germogli.backend.monitoring.reading.domain.service.ReadingDomainService;
+import com.germogli.backend.monitoring.reading.infrastructure.codec.DeviceFrameCodec;
+import com.germogli.backend.monitoring.reading.infrastructure.codec.TimeSeriesCodec;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Controlador REST para la gestión de lecturas de sensores.
@@ -27,6 +33,8 @@ import java.util.List;
 public class ReadingController {
 
     private final ReadingDomainService readingDomainService;
+    private final DeviceIngestionGuard deviceIngestionGuard;
+    private final IngestionDeduplicator ingestionDeduplicator;
 
     /**
      * Endpoint para crear una nueva lectura de sensor.
@@ -45,19 +53,48 @@ public class ReadingController {
 
     /**
      * Endpoint para procesar un lote de lecturas desde dispositivos IoT.
-     * No requiere autenticación ya que los dispositivos IoT utilizan su propio mecanismo.
+     * No requiere autenticación JWT: el dispositivo indicado en el lote se autentica con su clave de API.
      *
+     * @param apiKey  Clave de API del dispositivo (cabecera X-Device-Key).
      * @param request DTO con los datos del lote.
      * @return Respuesta API con la lista de lecturas creadas.
      */
     @PostMapping("/batch")
     @PreAuthorize("permitAll()")
     public ResponseEntity<ApiResponseDTO<List<ReadingResponseDTO>>> processBatchReadings(
+            @RequestHeader(value = DeviceIngestionGuard.API_KEY_HEADER, required = false) String apiKey,
             @Valid @RequestBody ReadingBatchRequestDTO request) {
-        List<ReadingDomain> readings = readingDomainService.processBatchReadings(request);
+        deviceIngestionGuard.authorize(request.getDeviceId(), request.getCropId(), apiKey);
+        Optional<List<ReadingDomain>> readings = ingestionDeduplicator.once(request.getDeviceId(),
+                IngestionDeduplicator.key(request.getSequence(), request.getTimestamp(), request.getReadings().hashCode()),
+                () -> readingDomainService.processBatchReadings(request));
         return ResponseEntity.ok(ApiResponseDTO.<List<ReadingResponseDTO>>builder()
-                .message("Lecturas procesadas correctamente")
-                .data(readingDomainService.toResponseList(readings))
+                .message(readings.isPresent() ? "Lecturas procesadas correctamente" : "Lote ya recibido; se omite el reenvío")
+                .data(readings.map(readingDomainService::toResponseList).orElse(List.of()))
+                .build());
+    }
+
+    /**
+     * Endpoint para procesar un lote de lecturas enviado como trama binaria (DeviceFrameCodec).
+     * El dispositivo y el cultivo se toman de la propia trama y se autentican con la clave de API.
+     *
+     * @param apiKey Clave de API del dispositivo (cabecera X-Device-Key).
+     * @param body   Bytes de la trama.
+     * @return Respuesta API con la cantidad de lecturas guardadas.
+     */
+    @PostMapping(value = "/batch", consumes = DeviceFrameCodec.MEDIA_TYPE)
+    @PreAuthorize("permitAll()")
+    public ResponseEntity<ApiResponseDTO<Integer>> processBinaryBatch(
+            @RequestHeader(value = DeviceIngestionGuard.API_KEY_HEADER, required = false) String apiKey,
+            @RequestBody byte[] body) {
+        DeviceFrameCodec.DeviceFrame frame = DeviceFrameCodec.decode(body);
+        deviceIngestionGuard.authorize(frame.deviceId(), frame.cropId(), apiKey);
+        Optional<List<ReadingDomain>> readings = ingestionDeduplicator.once(frame.deviceId(),
+                IngestionDeduplicator.key(null, frame),
+                () -> readingDomainService.processDeviceFrame(frame));
+        return ResponseEntity.ok(ApiResponseDTO.<Integer>builder()
+                .message(readings.isPresent() ? "Lecturas procesadas correctamente" : "Trama ya recibida; se omite el reenvío")
+                .data(readings.map(List::size).orElse(0))
                 .build());
     }
 
@@ -120,4 +157,30 @@ public class ReadingController {
                 .build());
     }
 
+    /**
+     * Endpoint para obtener el historial de lecturas en formato binario compacto (format=binary).
+     * Devuelve las lecturas codificadas con TimeSeriesCodec, sin construir un DTO por lectura.
+     *
+     * @param cropId Identificador del cultivo.
+     * @param sensorId Identificador del sensor.
+     * @param startDate Fecha de inicio del rango (opcional).
+     * @param endDate Fecha de fin del rango (opcional).
+     * @param limit Límite de registros a recuperar (opcional).
+     * @return Contenido binario con las lecturas.
+     */
+    @GetMapping(value = "/history", params = "format=binary")
+    public ResponseEntity<byte[]> getReadingHistoryBinary(
+            @RequestParam Integer cropId,
+            @RequestParam Integer sensorId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate,
+            @RequestParam(required = false) Integer limit) {
+
+        byte[] body = TimeSeriesCodec.encode(
+                readingDomainService.getReadingHistory(cropId, sensorId, startDate, endDate, limit));
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(TimeSeriesCodec.MEDIA_TYPE))
+                .body(body);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,23 @@
+package com.germogli.backend.monitoring.retention.application.dto;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO para actualizar la política de retención de lecturas de un cultivo.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReadingRetentionPolicyRequestDTO {
+    @NotNull(message = "Los días de retención son obligatorios")
+    @Min(value = 1, message = "La retención mínima es de 1 día")
+    @Max(value = 3650, message = "La retención máxima es de 3650 días")
+    private Integer rawRetentionDays;
+}
@@ -0,0 +1,23 @@
+package com.germogli.backend.monitoring.retention.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO de respuesta con la política de retención de lecturas de un cultivo.
+ * defaultPolicy indica que el cultivo no tiene política propia y se aplica la configuración general.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReadingRetentionPolicyResponseDTO {
+    private Integer cropId;
+    private Integer rawRetentionDays;
+    private boolean defaultPolicy;
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,25 @@
+package com.germogli.backend.monitoring.retention.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * DTO de respuesta con el resumen horario de las lecturas de un sensor.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReadingRollupResponseDTO {
+    private Integer sensorId;
+    private LocalDateTime bucketStart;
+    private Integer readingCount;
+    private BigDecimal minValue;
+    private BigDecimal maxValue;
+    private BigDecimal avgValue;
+}
@@ -0,0 +1,85 @@
+package com.germogli.backend.monitoring.retention.domain.model;
+
+import com.germogli.backend.monitoring.domain.model.Converter;
+import com.germogli.backend.monitoring.retention.infrastructure.entity.ReadingArchiveEntity;
+import lombok.Data;
+import lombok.experimental.SuperBuilder;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Modelo de dominio para un archivo de lecturas exportadas de un cultivo.
+ * Cada archivo cubre un día; si llegan lecturas tardías para un día ya archivado se genera una nueva parte.
+ * Implementa Converter para estandarizar la conversión entre ReadingArchiveEntity y ReadingArchiveDomain.
+ */
+@Data
+@SuperBuilder
+public class ReadingArchiveDomain implements Converter<ReadingArchiveDomain, ReadingArchiveEntity> {
+    private Integer id;
+    private Integer cropId;
+    private LocalDate archiveDay;
+    private Integer part;
+    private LocalDateTime rangeStart;
+    private LocalDateTime rangeEnd;
+    private Integer readingCount;
+    private Integer lastReadingId;
+    private String storageTarget;
+    private String location;
+    private LocalDateTime createdAt;
+
+    /**
+     * Convierte una entidad ReadingArchiveEntity en un objeto ReadingArchiveDomain.
+     *
+     * @param entity Entidad a convertir.
+     * @return Objeto ReadingArchiveDomain.
+     */
+    @Override
+    public ReadingArchiveDomain fromEntity(ReadingArchiveEntity entity) {
+        return fromEntityStatic(entity);
+    }
+
+    /**
+     * Método estático para convertir una entidad ReadingArchiveEntity en un objeto ReadingArchiveDomain.
+     *
+     * @param entity Entidad a convertir.
+     * @return Objeto ReadingArchiveDomain con los datos de la entidad.
+     */
+    public static ReadingArchiveDomain fromEntityStatic(ReadingArchiveEntity entity) {
+        return ReadingArchiveDomain.builder()
+                .id(entity.getId())
+                .cropId(entity.getCropId())
+                .archiveDay(entity.getArchiveDay())
+                .part(entity.getPart())
+                .rangeStart(entity.getRangeStart())
+                .rangeEnd(entity.getRangeEnd())
+                .readingCount(entity.getReadingCount())
+                .lastReadingId(entity.getLastReadingId())
+                .storageTarget(entity.getStorageTarget())
+                .location(entity.getLocation())
+                .createdAt(entity.getCreatedAt())
+                .build();
+    }
+
+    /**
+     * Convierte este objeto ReadingArchiveDomain en una entidad ReadingArchiveEntity para persistencia.
+     *
+     * @return Objeto ReadingArchiveEntity con los datos de este modelo.
+     */
+    @Override
+    public ReadingArchiveEntity toEntity() {
+        return ReadingArchiveEntity.builder()
+                .id(this.id)
+                .cropId(this.cropId)
+                .archiveDay(this.archiveDay)
+                .part(this.part)
+                .rangeStart(this.rangeStart)
+                .rangeEnd(this.rangeEnd)
+                .readingCount(this.readingCount)
+                .lastReadingId(this.lastReadingId)
+                .storageTarget(this.storageTarget)
+                .location(this.location)
+                .createdAt(this.createdAt)
+                .build();
+    }
+}
@@ -0,0 +1,60 @@
+package com.germogli.backend.monitoring.retention.domain.model;
+
+import com.germogli.backend.monitoring.domain.model.Converter;
+import com.germogli.backend.monitoring.retention.infrastructure.entity.ReadingRetentionPolicyEntity;
+import lombok.Data;
+import lombok.experimental.SuperBuilder;
+
+import java.time.LocalDateTime;
+
+/**
+ * Modelo de dominio para la política de retención de lecturas de un cultivo.
+ * Define cuántos días se conservan las lecturas originales antes de resumirlas y archivarlas.
+ * Implementa Converter para estandarizar la conversión entre ReadingRetentionPolicyEntity y ReadingRetentionPolicyDomain.
+ */
+@Data
+@SuperBuilder
+public class ReadingRetentionPolicyDomain implements Converter<ReadingRetentionPolicyDomain, ReadingRetentionPolicyEntity> {
+    private Integer cropId;
+    private Integer rawRetentionDays;
+    private LocalDateTime updatedAt;
+
+    /**
+     * Convierte una entidad ReadingRetentionPolicyEntity en un objeto ReadingRetentionPolicyDomain.
+     *
+     * @param entity Entidad a convertir.
+     * @return Objeto ReadingRetentionPolicyDomain.
+     */
+    @Override
+    public ReadingRetentionPolicyDomain fromEntity(ReadingRetentionPolicyEntity entity) {
+        return fromEntityStatic(entity);
+    }
+
+    /**
+     * Método estático para convertir una entidad ReadingRetentionPolicyEntity en un objeto ReadingRetentionPolicyDomain.
+     *
+     * @param entity Entidad a convertir.
+     * @return Objeto ReadingRetentionPolicyDomain con los datos de la entidad.
+     */
+    public static ReadingRetentionPolicyDomain fromEntityStatic(ReadingRetentionPolicyEntity entity) {
+        return ReadingRetentionPolicyDomain.builder()
+                .cropId(entity.getCropId())
+                .rawRetentionDays(entity.getRawRetentionDays())
+                .updatedAt(entity.getUpdatedAt())
+                .build();
+    }
+
+    /**
+     * Convierte este objeto ReadingRetentionPolicyDomain en una entidad ReadingRetentionPolicyEntity para persistencia.
+     *
+     * @return Objeto ReadingRetentionPolicyEntity con los datos de este modelo.
+     */
+    @Override
+    public ReadingRetentionPolicyEntity toEntity() {
+        return ReadingRetentionPolicyEntity.builder()
+                .cropId(this.cropId)
+                .rawRetentionDays(this.rawRetentionDays)
+                .updatedAt(this.updatedAt)
+                .build();
+    }
+}
@@ -0,0 +1,76 @@
+package com.germogli.backend.monitoring.retention.domain.model;
+
+import com.germogli.backend.monitoring.domain.model.Converter;
+import com.germogli.backend.monitoring.retention.infrastructure.entity.ReadingRollupEntity;
+import lombok.Data;
+import lombok.experimental.SuperBuilder;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Modelo de dominio para el resumen horario de lecturas de un sensor en un cultivo.
+ * Conserva mínimo, máximo, suma y cantidad, de modo que varios resúmenes del mismo intervalo se pueden combinar.
+ * Implementa Converter para estandarizar la conversión entre ReadingRollupEntity y ReadingRollupDomain.
+ */
+@Data
+@SuperBuilder
+public class ReadingRollupDomain implements Converter<ReadingRollupDomain, ReadingRollupEntity> {
+    private Integer id;
+    private Integer cropId;
+    private Integer sensorId;
+    private LocalDateTime bucketStart;
+    private Integer readingCount;
+    private BigDecimal minValue;
+    private BigDecimal maxValue;
+    private BigDecimal sumValue;
+
+    /**
+     * Convierte una entidad ReadingRollupEntity en un objeto ReadingRollupDomain.
+     *
+     * @param entity Entidad a convertir.
+     * @return Objeto ReadingRollupDomain.
+     */
+    @Override
+    public ReadingRollupDomain fromEntity(ReadingRollupEntity entity) {
+        return fromEntityStatic(entity);
+    }
+
+    /**
+     * Método estático para convertir una entidad ReadingRollupEntity en un objeto ReadingRollupDomain.
+     *
+     * @param entity Entidad a convertir.
+     * @return Objeto ReadingRollupDomain con los datos de la entidad.
+     */
+    public static ReadingRollupDomain fromEntityStatic(ReadingRollupEntity entity) {
+        return ReadingRollupDomain.builder()
+                .id(entity.getId())
+                .cropId(entity.getCropId())
+                .sensorId(entity.getSensorId())
+                .bucketStart(entity.getBucketStart())
+                .readingCount(entity.getReadingCount())
+                .minValue(entity.getMinValue())
+                .maxValue(entity.getMaxValue())
+                .sumValue(entity.getSumValue())
+                .build();
+    }
+
+    /**
+     * Convierte este objeto ReadingRollupDomain en una entidad ReadingRollupEntity para persistencia.
+     *
+     * @return Objeto ReadingRollupEntity con los datos de este modelo.
+     */
+    @Override
+    public ReadingRollupEntity toEntity() {
+        return ReadingRollupEntity.builder()
+                .id(this.id)
+                .cropId(this.cropId)
+                .sensorId(this.sensorId)
+                .bucketStart(this.bucketStart)
+                .readingCount(this.readingCount)
+                .minValue(this.minValue)
+                .maxValue(this.maxValue)
+                .sumValue(this.sumValue)
+                .build();
+    }
+}
@@ -0,0 +1,85 @@
+package com.germogli.backend.monitoring.retention.domain.repository;
+
+import com.germogli.backend.monitoring.retention.domain.model.ReadingArchiveDomain;
+import com.germogli.backend.monitoring.retention.domain.model.ReadingRetentionPolicyDomain;
+import com.germogli.backend.monitoring.retention.domain.model.ReadingRollupDomain;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Interfaz para las operaciones de persistencia de la retención de lecturas:
+ * políticas por cultivo, resúmenes horarios y registro de archivos exportados.
+ */
+public interface ReadingRetentionDomainRepository {
+
+    /**
+     * Busca la política de retención de un cultivo.
+     *
+     * @param cropId ID del cultivo.
+     * @return Optional con la política si el cultivo tiene una propia.
+     */
+    Optional<ReadingRetentionPolicyDomain> findPolicyByCropId(Integer cropId);
+
+    /**
+     * Obtiene todas las políticas de retención definidas.
+     *
+     * @return Lista de políticas.
+     */
+    List<ReadingRetentionPolicyDomain> findAllPolicies();
+
+    /**
+     * Crea o actualiza la política de retención de un cultivo.
+     *
+     * @param policy Política a guardar.
+     * @return Política guardada.
+     */
+    ReadingRetentionPolicyDomain savePolicy(ReadingRetentionPolicyDomain policy);
+
+    /**
+     * Combina resúmenes horarios con los ya existentes del mismo cultivo, sensor e intervalo.
+     *
+     * @param rollups Resúmenes calculados (todos del mismo cultivo).
+     */
+    void mergeRollups(List<ReadingRollupDomain> rollups);
+
+    /**
+     * Obtiene los resúmenes horarios de un sensor en un cultivo dentro de un rango de fechas.
+     *
+     * @param cropId    ID del cultivo.
+     * @param sensorId  ID del sensor.
+     * @param startDate Inicio del rango (inclusive).
+     * @param endDate   Fin del rango (exclusivo).
+     * @return Resúmenes ordenados por intervalo.
+     */
+    List<ReadingRollupDomain> findRollups(Integer cropId, Integer sensorId, LocalDateTime startDate, LocalDateTime endDate);
+
+    /**
+     * Registra un archivo exportado.
+     *
+     * @param archive Archivo a registrar.
+     * @return Archivo registrado con su ID.
+     */
+    ReadingArchiveDomain saveArchive(ReadingArchiveDomain archive);
+
+    /**
+     * Obtiene la última parte archivada de un cultivo para un día.
+     *
+     * @param cropId ID del cultivo.
+     * @param day    Día archivado.
+     * @return Optional con la parte de mayor número.
+     */
+    Optional<ReadingArchiveDomain> findLatestArchive(Integer cropId, LocalDate day);
+
+    /**
+     * Obtiene los archivos de un cultivo que se solapan con un rango de fechas.
+     *
+     * @param cropId    ID del cultivo.
+     * @param startDate Inicio del rango.
+     * @param endDate   Fin del rango.
+     * @return Archivos ordenados por fecha.
+     */
+    List<ReadingArchiveDomain> findArchivesOverlapping(Integer cropId, LocalDateTime startDate, LocalDateTime endDate);
+}
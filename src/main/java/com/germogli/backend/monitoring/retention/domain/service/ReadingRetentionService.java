@@ -0,0 +1,345 @@
+package com.germogli.backend.monitoring.retention.domain.service;
+
+import com.germogli.backend.authentication.domain.model.UserDomain;
+import com.germogli.backend.common.exception.ResourceNotFoundException;
+import com.germogli.backend.monitoring.crop.domain.model.CropDomain;
+import com.germogli.backend.monitoring.crop.domain.repository.CropDomainRepository;
+import com.germogli.backend.monitoring.domain.service.MonitoringSharedService;
+import com.germogli.backend.monitoring.reading.domain.model.ReadingDomain;
+import com.germogli.backend.monitoring.reading.domain.repository.ReadingDomainRepository;
+import com.germogli.backend.monitoring.retention.application.dto.ReadingRetentionPolicyResponseDTO;
+import com.germogli.backend.monitoring.retention.application.dto.ReadingRollupResponseDTO;
+import com.germogli.backend.monitoring.retention.domain.model.ReadingArchiveDomain;
+import com.germogli.backend.monitoring.retention.domain.model.ReadingRetentionPolicyDomain;
+import com.germogli.backend.monitoring.retention.domain.model.ReadingRollupDomain;
+import com.germogli.backend.monitoring.retention.domain.repository.ReadingRetentionDomainRepository;
+import com.germogli.backend.monitoring.retention.infrastructure.archive.ReadingArchiveCodec;
+import com.germogli.backend.monitoring.retention.infrastructure.archive.ReadingArchiveStorage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Servicio de dominio para la retención de lecturas de sensores.
+ * Las lecturas originales más antiguas que la política del cultivo se procesan día por día:
+ * se resumen por hora en sensor_reading_rollups, se exportan a un archivo comprimido (ReadingArchiveCodec)
+ * y después se eliminan de sensor_readings en lotes acotados, cada uno en su propia transacción.
+ * Los días archivados siguen disponibles para el historial a través de findArchivedReadings.
+ */
+@Slf4j
+@Service
+public class ReadingRetentionService {
+
+    // Lecturas eliminadas por transacción
+    private static final int DELETE_CHUNK_SIZE = 1000;
+
+    private final ReadingRetentionDomainRepository retentionRepository;
+    private final ReadingDomainRepository readingRepository;
+    private final CropDomainRepository cropRepository;
+    private final MonitoringSharedService sharedService;
+    private final ReadingArchiveCodec archiveCodec;
+    private final ReadingArchiveStorage archiveStorage;
+    private final TransactionTemplate transactionTemplate;
+    private final int defaultRetentionDays;
+    private final int maxDaysPerRun;
+
+    public ReadingRetentionService(ReadingRetentionDomainRepository retentionRepository,
+                                   ReadingDomainRepository readingRepository,
+                                   CropDomainRepository cropRepository,
+                                   MonitoringSharedService sharedService,
+                                   ReadingArchiveCodec archiveCodec,
+                                   ReadingArchiveStorage archiveStorage,
+                                   PlatformTransactionManager transactionManager,
+                                   @Value("${monitoring.readings.retention.default-days:90}") int defaultRetentionDays,
+                                   @Value("${monitoring.readings.retention.max-days-per-run:500}") int maxDaysPerRun) {
+        this.retentionRepository = retentionRepository;
+        this.readingRepository = readingRepository;
+        this.cropRepository = cropRepository;
+        this.sharedService = sharedService;
+        this.archiveCodec = archiveCodec;
+        this.archiveStorage = archiveStorage;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.defaultRetentionDays = defaultRetentionDays;
+        this.maxDaysPerRun = maxDaysPerRun;
+    }
+
+    /**
+     * Obtiene la política de retención de un cultivo.
+     *
+     * @param cropId ID del cultivo.
+     * @return Política propia del cultivo o la general si no tiene una.
+     * @throws ResourceNotFoundException si el cultivo no existe.
+     * @throws AccessDeniedException si el usuario no tiene acceso al cultivo.
+     */
+    public ReadingRetentionPolicyResponseDTO getPolicy(Integer cropId) {
+        checkCropAccess(cropId);
+        return retentionRepository.findPolicyByCropId(cropId)
+                .map(this::toResponse)
+                .orElseGet(() -> ReadingRetentionPolicyResponseDTO.builder()
+                        .cropId(cropId)
+                        .rawRetentionDays(defaultRetentionDays)
+                        .defaultPolicy(true)
+                        .build());
+    }
+
+    /**
+     * Define la política de retención de un cultivo.
+     *
+     * @param cropId           ID del cultivo.
+     * @param rawRetentionDays Días que se conservan las lecturas originales.
+     * @return Política guardada.
+     * @throws ResourceNotFoundException si el cultivo no existe.
+     * @throws AccessDeniedException si el usuario no tiene acceso al cultivo.
+     */
+    public ReadingRetentionPolicyResponseDTO updatePolicy(Integer cropId, Integer rawRetentionDays) {
+        checkCropAccess(cropId);
+        ReadingRetentionPolicyDomain saved = retentionRepository.savePolicy(ReadingRetentionPolicyDomain.builder()
+                .cropId(cropId)
+                .rawRetentionDays(rawRetentionDays)
+                .updatedAt(LocalDateTime.now())
+                .build());
+        return toResponse(saved);
+    }
+
+    /**
+     * Obtiene los resúmenes horarios de un sensor de un cultivo.
+     *
+     * @param cropId    ID del cultivo.
+     * @param sensorId  ID del sensor.
+     * @param startDate Inicio del rango (opcional, por defecto hace 30 días).
+     * @param endDate   Fin del rango (opcional, por defecto ahora).
+     * @return Resúmenes ordenados por hora.
+     * @throws ResourceNotFoundException si el cultivo no existe.
+     * @throws AccessDeniedException si el usuario no tiene acceso al cultivo.
+     */
+    public List<ReadingRollupResponseDTO> getRollups(Integer cropId, Integer sensorId,
+                                                     LocalDateTime startDate, LocalDateTime endDate) {
+        checkCropAccess(cropId);
+        LocalDateTime effectiveEndDate = endDate != null ? endDate : LocalDateTime.now();
+        LocalDateTime effectiveStartDate = startDate != null ? startDate : effectiveEndDate.minusDays(30);
+
+        return retentionRepository.findRollups(cropId, sensorId, effectiveStartDate, effectiveEndDate).stream()
+                .map(rollup -> ReadingRollupResponseDTO.builder()
+                        .sensorId(rollup.getSensorId())
+                        .bucketStart(rollup.getBucketStart())
+                        .readingCount(rollup.getReadingCount())
+                        .minValue(rollup.getMinValue())
+                        .maxValue(rollup.getMaxValue())
+                        .avgValue(rollup.getSumValue().divide(BigDecimal.valueOf(rollup.getReadingCount()), 2, RoundingMode.HALF_UP))
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Obtiene las lecturas archivadas de un sensor en un rango de fechas.
+     * No verifica permisos: se usa desde servicios que ya validaron el acceso al cultivo.
+     *
+     * @param cropId    ID del cultivo.
+     * @param sensorId  ID del sensor.
+     * @param startDate Inicio del rango (inclusive).
+     * @param endDate   Fin del rango (inclusive).
+     * @return Lecturas archivadas del rango, de la más reciente a la más antigua.
+     */
+    public List<ReadingDomain> findArchivedReadings(Integer cropId, Integer sensorId,
+                                                    LocalDateTime startDate, LocalDateTime endDate) {
+        List<ReadingDomain> readings = new ArrayList<>();
+        for (ReadingArchiveDomain archive : retentionRepository.findArchivesOverlapping(cropId, startDate, endDate)) {
+            if (!archiveStorage.getName().equals(archive.getStorageTarget())) {
+                log.warn("El archivo {} está en el destino '{}' y el destino activo es '{}'",
+                        archive.getLocation(), archive.getStorageTarget(), archiveStorage.getName());
+                continue;
+            }
+            try (InputStream input = archiveStorage.open(archive.getLocation())) {
+                readings.addAll(archiveCodec.read(cropId, input, sensorId, startDate, endDate));
+            } catch (IOException e) {
+                log.error("No se pudo leer el archivo de lecturas {}: {}", archive.getLocation(), e.getMessage());
+            }
+        }
+        readings.sort(Comparator.comparing(ReadingDomain::getReadingDate).reversed());
+        return readings;
+    }
+
+    /**
+     * Aplica la política de retención a todos los cultivos.
+     * Procesa como máximo maxDaysPerRun días por ejecución; el resto queda para la siguiente.
+     *
+     * @return Cantidad de lecturas originales eliminadas.
+     */
+    public long applyRetention() {
+        Map<Integer, Integer> retentionByCrop = retentionRepository.findAllPolicies().stream()
+                .collect(Collectors.toMap(ReadingRetentionPolicyDomain::getCropId, ReadingRetentionPolicyDomain::getRawRetentionDays));
+
+        long deleted = 0;
+        int daysProcessed = 0;
+        for (CropDomain crop : cropRepository.findAll()) {
+            LocalDate cutoffDay = LocalDate.now().minusDays(retentionByCrop.getOrDefault(crop.getId(), defaultRetentionDays));
+
+            while (daysProcessed < maxDaysPerRun) {
+                Optional<LocalDateTime> oldest = readingRepository.findOldestReadingDate(crop.getId());
+                if (oldest.isEmpty() || !oldest.get().toLocalDate().isBefore(cutoffDay)) {
+                    break;
+                }
+                daysProcessed++;
+                try {
+                    long dayDeleted = archiveDay(crop.getId(), oldest.get().toLocalDate());
+                    deleted += dayDeleted;
+                    if (dayDeleted == 0) {
+                        break;
+                    }
+                } catch (RuntimeException e) {
+                    log.error("Error al archivar las lecturas del cultivo {} del día {}", crop.getId(),
+                            oldest.get().toLocalDate(), e);
+                    break;
+                }
+            }
+        }
+        return deleted;
+    }
+
+    /**
+     * Resume, exporta y elimina las lecturas de un cultivo para un día.
+     * Las lecturas con ID menor o igual al último archivado de ese día ya están resumidas y exportadas
+     * (una ejecución anterior se interrumpió antes de eliminarlas), así que solo se eliminan;
+     * las posteriores (lecturas tardías) se exportan como una nueva parte.
+     */
+    private long archiveDay(Integer cropId, LocalDate day) {
+        LocalDateTime start = day.atStartOfDay();
+        LocalDateTime end = start.plusDays(1);
+
+        Optional<ReadingArchiveDomain> previous = retentionRepository.findLatestArchive(cropId, day);
+        int archivedUpTo = previous.map(ReadingArchiveDomain::getLastReadingId).orElse(0);
+        int nextPart = previous.map(archive -> archive.getPart() + 1).orElse(1);
+
+        List<ReadingDomain> pending = readingRepository.findByCropIdAndDateRange(cropId, start, end, archivedUpTo);
+        int maxId = archivedUpTo;
+
+        if (!pending.isEmpty()) {
+            maxId = pending.get(pending.size() - 1).getId();
+            String location = exportReadings(cropId, day, nextPart, pending);
+            ReadingArchiveDomain archive = ReadingArchiveDomain.builder()
+                    .cropId(cropId)
+                    .archiveDay(day)
+                    .part(nextPart)
+                    .rangeStart(pending.stream().map(ReadingDomain::getReadingDate).min(Comparator.naturalOrder()).orElse(start))
+                    .rangeEnd(pending.stream().map(ReadingDomain::getReadingDate).max(Comparator.naturalOrder()).orElse(end))
+                    .readingCount(pending.size())
+                    .lastReadingId(maxId)
+                    .storageTarget(archiveStorage.getName())
+                    .location(location)
+                    .createdAt(LocalDateTime.now())
+                    .build();
+            List<ReadingRollupDomain> rollups = buildHourlyRollups(cropId, pending);
+
+            transactionTemplate.executeWithoutResult(status -> {
+                retentionRepository.mergeRollups(rollups);
+                retentionRepository.saveArchive(archive);
+            });
+        }
+
+        final int deleteUpTo = maxId;
+        long deleted = 0;
+        int chunk;
+        do {
+            chunk = transactionTemplate.execute(status ->
+                    readingRepository.deleteByCropIdAndDateRange(cropId, start, end, deleteUpTo, DELETE_CHUNK_SIZE));
+            deleted += chunk;
+        } while (chunk == DELETE_CHUNK_SIZE);
+
+        log.debug("Cultivo {} día {}: {} lecturas archivadas, {} eliminadas", cropId, day, pending.size(), deleted);
+        return deleted;
+    }
+
+    private String exportReadings(Integer cropId, LocalDate day, int part, List<ReadingDomain> readings) {
+        Path file = null;
+        try {
+            file = Files.createTempFile("readings-" + cropId + "-", archiveCodec.getFileExtension());
+            try (OutputStream output = Files.newOutputStream(file)) {
+                archiveCodec.write(readings, output);
+            }
+            return archiveStorage.store("crop-" + cropId + "/" + day + "-part" + part + archiveCodec.getFileExtension(), file);
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo exportar el archivo de lecturas", e);
+        } finally {
+            if (file != null) {
+                try {
+                    Files.deleteIfExists(file);
+                } catch (IOException e) {
+                    log.warn("No se pudo eliminar el archivo temporal {}", file);
+                }
+            }
+        }
+    }
+
+    private List<ReadingRollupDomain> buildHourlyRollups(Integer cropId, List<ReadingDomain> readings) {
+        Map<String, ReadingRollupDomain> rollups = new LinkedHashMap<>();
+        for (ReadingDomain reading : readings) {
+            LocalDateTime bucket = reading.getReadingDate().truncatedTo(ChronoUnit.HOURS);
+            BigDecimal value = reading.getReadingValue();
+            rollups.merge(reading.getSensorId() + "|" + bucket,
+                    ReadingRollupDomain.builder()
+                            .cropId(cropId)
+                            .sensorId(reading.getSensorId())
+                            .bucketStart(bucket)
+                            .readingCount(1)
+                            .minValue(value)
+                            .maxValue(value)
+                            .sumValue(value)
+                            .build(),
+                    (current, single) -> {
+                        current.setReadingCount(current.getReadingCount() + 1);
+                        current.setMinValue(current.getMinValue().min(value));
+                        current.setMaxValue(current.getMaxValue().max(value));
+                        current.setSumValue(current.getSumValue().add(value));
+                        return current;
+                    });
+        }
+        return new ArrayList<>(rollups.values());
+    }
+
+    private void checkCropAccess(Integer cropId) {
+        UserDomain currentUser = sharedService.getAuthenticatedUser();
+
+        // Verificar que el cultivo exista
+        CropDomain crop = cropRepository.findById(cropId)
+                .orElseThrow(() -> new ResourceNotFoundException("Cultivo no encontrado con id: " + cropId));
+
+        // Verificar que el usuario actual sea el propietario o un administrador
+        boolean isOwner = crop.getUserId().equals(currentUser.getId());
+        boolean isAdmin = sharedService.hasRole(currentUser, "ADMINISTRADOR");
+
+        if (!isOwner && !isAdmin) {
+            throw new AccessDeniedException("No tiene permisos para acceder a la retención de lecturas de este cultivo");
+        }
+    }
+
+    private ReadingRetentionPolicyResponseDTO toResponse(ReadingRetentionPolicyDomain policy) {
+        return ReadingRetentionPolicyResponseDTO.builder()
+                .cropId(policy.getCropId())
+                .rawRetentionDays(policy.getRawRetentionDays())
+                .defaultPolicy(false)
+                .updatedAt(policy.getUpdatedAt())
+                .build();
+    }
+}
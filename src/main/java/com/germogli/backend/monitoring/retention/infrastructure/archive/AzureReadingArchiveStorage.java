@@ -0,0 +1,61 @@
+package com.germogli.backend.monitoring.retention.infrastructure.archive;
+
+import com.azure.storage.blob.models.BlobProperties;
+import com.germogli.backend.common.azure.AzureBlobStorageService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Guarda los archivos de lecturas en un contenedor de Azure Blob Storage.
+ * Se activa con monitoring.readings.archive.target=azure.
+ */
+@Component
+@ConditionalOnProperty(name = "monitoring.readings.archive.target", havingValue = "azure")
+public class AzureReadingArchiveStorage implements ReadingArchiveStorage {
+
+    private final AzureBlobStorageService azureBlobStorageService;
+    private final String containerName;
+
+    public AzureReadingArchiveStorage(AzureBlobStorageService azureBlobStorageService,
+                                      @Value("${monitoring.readings.archive.container:reading-archives}") String containerName) {
+        this.azureBlobStorageService = azureBlobStorageService;
+        this.containerName = containerName;
+    }
+
+    @Override
+    public String getName() {
+        return "azure";
+    }
+
+    @Override
+    public String store(String key, Path file) throws IOException {
+        try (InputStream data = Files.newInputStream(file)) {
+            azureBlobStorageService.uploadFile(containerName, key, data, Files.size(file));
+        }
+        return key;
+    }
+
+    /**
+     * Descarga el archivo completo en memoria; cada archivo cubre un solo día de un cultivo.
+     */
+    @Override
+    public InputStream open(String location) throws IOException {
+        BlobProperties properties = azureBlobStorageService.getBlobProperties(containerName, location);
+        if (properties == null) {
+            throw new FileNotFoundException("Archivo de lecturas no encontrado: " + location);
+        }
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream((int) Math.min(properties.getBlobSize(), Integer.MAX_VALUE));
+        azureBlobStorageService.downloadRange(containerName, location, 0, properties.getBlobSize(),
+                properties.getETag(), buffer);
+        return new ByteArrayInputStream(buffer.toByteArray());
+    }
+}
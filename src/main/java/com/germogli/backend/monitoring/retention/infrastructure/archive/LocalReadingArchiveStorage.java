@@ -0,0 +1,54 @@
+package com.germogli.backend.monitoring.retention.infrastructure.archive;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * Guarda los archivos de lecturas en un directorio del disco local.
+ * Es el destino por defecto.
+ */
+@Component
+@ConditionalOnProperty(name = "monitoring.readings.archive.target", havingValue = "local", matchIfMissing = true)
+public class LocalReadingArchiveStorage implements ReadingArchiveStorage {
+
+    private final Path baseDirectory;
+
+    public LocalReadingArchiveStorage(@Value("${monitoring.readings.archive.local-dir:./data/reading-archives}") String baseDirectory) {
+        this.baseDirectory = Paths.get(baseDirectory).toAbsolutePath().normalize();
+    }
+
+    @Override
+    public String getName() {
+        return "local";
+    }
+
+    @Override
+    public String store(String key, Path file) throws IOException {
+        Path target = resolve(key);
+        Files.createDirectories(target.getParent());
+        Files.copy(file, target, StandardCopyOption.REPLACE_EXISTING);
+        return key;
+    }
+
+    @Override
+    public InputStream open(String location) throws IOException {
+        return Files.newInputStream(resolve(location));
+    }
+
+    // Evita que una ubicación manipulada salga del directorio base
+    private Path resolve(String key) throws IOException {
+        Path target = baseDirectory.resolve(key).normalize();
+        if (!target.startsWith(baseDirectory)) {
+            throw new IOException("Ubicación de archivo no válida: " + key);
+        }
+        return target;
+    }
+}
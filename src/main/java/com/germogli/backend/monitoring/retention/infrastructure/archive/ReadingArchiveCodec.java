@@ -0,0 +1,110 @@
+package com.germogli.backend.monitoring.retention.infrastructure.archive;
+
+import com.germogli.backend.monitoring.reading.domain.model.ReadingDomain;
+import com.germogli.backend.monitoring.reading.infrastructure.codec.TimeSeriesCodec;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Formato de los archivos de lecturas.
+ * Los archivos nuevos usan el formato binario de TimeSeriesCodec; los generados antes
+ * (CSV comprimido con gzip: reading_id,sensor_id,reading_date,reading_value) se siguen leyendo.
+ */
+@Component
+public class ReadingArchiveCodec {
+
+    private static final String FILE_EXTENSION = ".gts";
+    private static final String LEGACY_HEADER = "reading_id,sensor_id,reading_date,reading_value";
+
+    /**
+     * Extensión de los archivos generados por write.
+     *
+     * @return Extensión con el punto inicial.
+     */
+    public String getFileExtension() {
+        return FILE_EXTENSION;
+    }
+
+    /**
+     * Escribe las lecturas de un cultivo en el flujo indicado.
+     *
+     * @param readings Lecturas a escribir.
+     * @param output   Flujo de salida (no se cierra).
+     * @throws IOException si ocurre un error de escritura.
+     */
+    public void write(List<ReadingDomain> readings, OutputStream output) throws IOException {
+        TimeSeriesCodec.write(readings, output);
+    }
+
+    /**
+     * Lee las lecturas de un sensor en un rango de fechas.
+     * En los archivos binarios solo se descomprimen los bloques que se solapan con la consulta.
+     *
+     * @param cropId    ID del cultivo al que pertenece el archivo.
+     * @param input     Flujo del archivo (no se cierra).
+     * @param sensorId  ID del sensor.
+     * @param startDate Inicio del rango (inclusive).
+     * @param endDate   Fin del rango (inclusive).
+     * @return Lecturas encontradas.
+     * @throws IOException si el archivo no tiene un formato reconocido.
+     */
+    public List<ReadingDomain> read(Integer cropId, InputStream input, Integer sensorId,
+                                    LocalDateTime startDate, LocalDateTime endDate) throws IOException {
+        BufferedInputStream buffered = new BufferedInputStream(input);
+        buffered.mark(4);
+        byte[] header = buffered.readNBytes(3);
+        buffered.reset();
+
+        if (TimeSeriesCodec.hasMagic(header)) {
+            return TimeSeriesCodec.read(buffered, cropId, sensorId, startDate, endDate);
+        }
+
+        List<ReadingDomain> readings = new ArrayList<>();
+        for (ReadingDomain reading : readLegacy(cropId, buffered)) {
+            if (reading.getSensorId().equals(sensorId)
+                    && !reading.getReadingDate().isBefore(startDate)
+                    && !reading.getReadingDate().isAfter(endDate)) {
+                readings.add(reading);
+            }
+        }
+        return readings;
+    }
+
+    private List<ReadingDomain> readLegacy(Integer cropId, InputStream input) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(new GZIPInputStream(input), StandardCharsets.UTF_8));
+        if (!LEGACY_HEADER.equals(reader.readLine())) {
+            throw new IOException("Formato de archivo de lecturas no reconocido");
+        }
+        List<ReadingDomain> readings = new ArrayList<>();
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (line.isEmpty()) {
+                continue;
+            }
+            String[] fields = line.split(",", 4);
+            if (fields.length != 4) {
+                throw new IOException("Línea de archivo de lecturas no válida: " + line);
+            }
+            readings.add(ReadingDomain.builder()
+                    .id(Integer.valueOf(fields[0]))
+                    .cropId(cropId)
+                    .sensorId(Integer.valueOf(fields[1]))
+                    .readingDate(LocalDateTime.parse(fields[2]))
+                    .readingValue(new BigDecimal(fields[3]))
+                    .build());
+        }
+        return readings;
+    }
+}
@@ -0,0 +1,38 @@
+package com.germogli.backend.monitoring.retention.infrastructure.archive;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+
+/**
+ * Destino donde se guardan los archivos de lecturas exportadas.
+ * La implementación activa se elige con monitoring.readings.archive.target (local o azure).
+ */
+public interface ReadingArchiveStorage {
+
+    /**
+     * Nombre del destino, registrado junto a cada archivo para saber dónde buscarlo.
+     *
+     * @return Nombre del destino.
+     */
+    String getName();
+
+    /**
+     * Guarda un archivo en el destino.
+     *
+     * @param key  Nombre relativo del archivo (por ejemplo, crop-5/2025-01-31-part1.gts).
+     * @param file Archivo local a guardar.
+     * @return Ubicación con la que se podrá abrir el archivo más adelante.
+     * @throws IOException si el archivo no se pudo guardar.
+     */
+    String store(String key, Path file) throws IOException;
+
+    /**
+     * Abre un archivo guardado previamente.
+     *
+     * @param location Ubicación devuelta por store.
+     * @return Flujo con el contenido del archivo.
+     * @throws IOException si el archivo no se pudo leer.
+     */
+    InputStream open(String location) throws IOException;
+}
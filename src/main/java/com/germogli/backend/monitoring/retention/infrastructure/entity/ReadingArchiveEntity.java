@@ -0,0 +1,58 @@
+package com.germogli.backend.monitoring.retention.infrastructure.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Entidad JPA que representa un archivo de lecturas exportadas de un cultivo para un día.
+ * Mapea la tabla sensor_reading_archives en la base de datos.
+ */
+@Data
+@SuperBuilder
+@NoArgsConstructor(force = true, access = AccessLevel.PROTECTED)
+@Entity(name = "ReadingArchiveEntity")
+@Table(name = "sensor_reading_archives",
+        indexes = @Index(name = "idx_archive_crop_range", columnList = "crop_id, range_start"))
+public class ReadingArchiveEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "archive_id")
+    private Integer id;
+
+    @Column(name = "crop_id", nullable = false)
+    private Integer cropId;
+
+    @Column(name = "archive_day", nullable = false)
+    private LocalDate archiveDay;
+
+    @Column(name = "part", nullable = false)
+    private Integer part;
+
+    @Column(name = "range_start", nullable = false)
+    private LocalDateTime rangeStart;
+
+    @Column(name = "range_end", nullable = false)
+    private LocalDateTime rangeEnd;
+
+    @Column(name = "reading_count", nullable = false)
+    private Integer readingCount;
+
+    @Column(name = "last_reading_id", nullable = false)
+    private Integer lastReadingId;
+
+    @Column(name = "storage_target", nullable = false, length = 20)
+    private String storageTarget;
+
+    @Column(name = "location", nullable = false, length = 500)
+    private String location;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
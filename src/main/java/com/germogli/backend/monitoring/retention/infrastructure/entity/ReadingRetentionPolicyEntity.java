@@ -0,0 +1,31 @@
+package com.germogli.backend.monitoring.retention.infrastructure.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entidad JPA que representa la política de retención de lecturas de un cultivo.
+ * Mapea la tabla reading_retention_policies en la base de datos.
+ */
+@Data
+@SuperBuilder
+@NoArgsConstructor(force = true, access = AccessLevel.PROTECTED)
+@Entity(name = "ReadingRetentionPolicyEntity")
+@Table(name = "reading_retention_policies")
+public class ReadingRetentionPolicyEntity {
+
+    @Id
+    @Column(name = "crop_id")
+    private Integer cropId;
+
+    @Column(name = "raw_retention_days", nullable = false)
+    private Integer rawRetentionDays;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
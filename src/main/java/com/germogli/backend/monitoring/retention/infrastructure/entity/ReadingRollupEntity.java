@@ -0,0 +1,50 @@
+package com.germogli.backend.monitoring.retention.infrastructure.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Entidad JPA que representa el resumen horario de las lecturas de un sensor en un cultivo.
+ * Mapea la tabla sensor_reading_rollups en la base de datos.
+ */
+@Data
+@SuperBuilder
+@NoArgsConstructor(force = true, access = AccessLevel.PROTECTED)
+@Entity(name = "ReadingRollupEntity")
+@Table(name = "sensor_reading_rollups",
+        uniqueConstraints = @UniqueConstraint(name = "uk_rollup_crop_sensor_bucket",
+                columnNames = {"crop_id", "sensor_id", "bucket_start"}))
+public class ReadingRollupEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "rollup_id")
+    private Integer id;
+
+    @Column(name = "crop_id", nullable = false)
+    private Integer cropId;
+
+    @Column(name = "sensor_id", nullable = false)
+    private Integer sensorId;
+
+    @Column(name = "bucket_start", nullable = false)
+    private LocalDateTime bucketStart;
+
+    @Column(name = "reading_count", nullable = false)
+    private Integer readingCount;
+
+    @Column(name = "min_value", nullable = false, precision = 10, scale = 2)
+    private BigDecimal minValue;
+
+    @Column(name = "max_value", nullable = false, precision = 10, scale = 2)
+    private BigDecimal maxValue;
+
+    @Column(name = "sum_value", nullable = false, precision = 16, scale = 2)
+    private BigDecimal sumValue;
+}
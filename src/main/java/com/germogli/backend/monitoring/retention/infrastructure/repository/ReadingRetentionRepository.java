@@ -0,0 +1,171 @@
+package com.germogli.backend.monitoring.retention.infrastructure.repository;
+
+import com.germogli.backend.monitoring.retention.domain.model.ReadingArchiveDomain;
+import com.germogli.backend.monitoring.retention.domain.model.ReadingRetentionPolicyDomain;
+import com.germogli.backend.monitoring.retention.domain.model.ReadingRollupDomain;
+import com.germogli.backend.monitoring.retention.domain.repository.ReadingRetentionDomainRepository;
+import com.germogli.backend.monitoring.retention.infrastructure.entity.ReadingArchiveEntity;
+import com.germogli.backend.monitoring.retention.infrastructure.entity.ReadingRetentionPolicyEntity;
+import com.germogli.backend.monitoring.retention.infrastructure.entity.ReadingRollupEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Implementación de ReadingRetentionDomainRepository.
+ * Utiliza consultas JPA directas ya que estas tablas no tienen procedimientos almacenados.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ReadingRetentionRepository implements ReadingRetentionDomainRepository {
+
+    @PersistenceContext
+    private final EntityManager entityManager;
+
+    /**
+     * Busca la política de retención de un cultivo por su clave primaria.
+     */
+    @Override
+    public Optional<ReadingRetentionPolicyDomain> findPolicyByCropId(Integer cropId) {
+        ReadingRetentionPolicyEntity entity = entityManager.find(ReadingRetentionPolicyEntity.class, cropId);
+        return Optional.ofNullable(entity).map(ReadingRetentionPolicyDomain::fromEntityStatic);
+    }
+
+    /**
+     * Obtiene todas las políticas de retención.
+     */
+    @Override
+    public List<ReadingRetentionPolicyDomain> findAllPolicies() {
+        return entityManager.createQuery("SELECT p FROM ReadingRetentionPolicyEntity p", ReadingRetentionPolicyEntity.class)
+                .getResultList()
+                .stream()
+                .map(ReadingRetentionPolicyDomain::fromEntityStatic)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Crea o actualiza la política de retención de un cultivo.
+     */
+    @Override
+    @Transactional
+    public ReadingRetentionPolicyDomain savePolicy(ReadingRetentionPolicyDomain policy) {
+        return ReadingRetentionPolicyDomain.fromEntityStatic(entityManager.merge(policy.toEntity()));
+    }
+
+    /**
+     * Carga en una consulta los resúmenes existentes del rango afectado y los combina en memoria;
+     * los cambios se guardan al confirmar la transacción.
+     */
+    @Override
+    @Transactional
+    public void mergeRollups(List<ReadingRollupDomain> rollups) {
+        if (rollups.isEmpty()) {
+            return;
+        }
+        Integer cropId = rollups.get(0).getCropId();
+        LocalDateTime from = rollups.stream().map(ReadingRollupDomain::getBucketStart).min(Comparator.naturalOrder()).orElseThrow();
+        LocalDateTime to = rollups.stream().map(ReadingRollupDomain::getBucketStart).max(Comparator.naturalOrder()).orElseThrow();
+
+        Map<String, ReadingRollupEntity> existing = new HashMap<>();
+        entityManager.createQuery(
+                        "SELECT r FROM ReadingRollupEntity r WHERE r.cropId = :cropId " +
+                                "AND r.bucketStart BETWEEN :from AND :to", ReadingRollupEntity.class)
+                .setParameter("cropId", cropId)
+                .setParameter("from", from)
+                .setParameter("to", to)
+                .getResultList()
+                .forEach(entity -> existing.put(rollupKey(entity.getSensorId(), entity.getBucketStart()), entity));
+
+        for (ReadingRollupDomain rollup : rollups) {
+            ReadingRollupEntity current = existing.get(rollupKey(rollup.getSensorId(), rollup.getBucketStart()));
+            if (current == null) {
+                entityManager.persist(rollup.toEntity());
+                continue;
+            }
+            current.setReadingCount(current.getReadingCount() + rollup.getReadingCount());
+            current.setMinValue(current.getMinValue().min(rollup.getMinValue()));
+            current.setMaxValue(current.getMaxValue().max(rollup.getMaxValue()));
+            current.setSumValue(current.getSumValue().add(rollup.getSumValue()));
+        }
+    }
+
+    /**
+     * Obtiene los resúmenes horarios de un sensor en un rango de fechas.
+     */
+    @Override
+    public List<ReadingRollupDomain> findRollups(Integer cropId, Integer sensorId, LocalDateTime startDate, LocalDateTime endDate) {
+        return entityManager.createQuery(
+                        "SELECT r FROM ReadingRollupEntity r WHERE r.cropId = :cropId AND r.sensorId = :sensorId " +
+                                "AND r.bucketStart >= :startDate AND r.bucketStart < :endDate ORDER BY r.bucketStart",
+                        ReadingRollupEntity.class)
+                .setParameter("cropId", cropId)
+                .setParameter("sensorId", sensorId)
+                .setParameter("startDate", startDate)
+                .setParameter("endDate", endDate)
+                .getResultList()
+                .stream()
+                .map(ReadingRollupDomain::fromEntityStatic)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Registra un archivo exportado.
+     */
+    @Override
+    @Transactional
+    public ReadingArchiveDomain saveArchive(ReadingArchiveDomain archive) {
+        ReadingArchiveEntity entity = archive.toEntity();
+        entityManager.persist(entity);
+        return ReadingArchiveDomain.fromEntityStatic(entity);
+    }
+
+    /**
+     * Obtiene la última parte archivada de un cultivo para un día.
+     */
+    @Override
+    public Optional<ReadingArchiveDomain> findLatestArchive(Integer cropId, LocalDate day) {
+        return entityManager.createQuery(
+                        "SELECT a FROM ReadingArchiveEntity a WHERE a.cropId = :cropId AND a.archiveDay = :day " +
+                                "ORDER BY a.part DESC", ReadingArchiveEntity.class)
+                .setParameter("cropId", cropId)
+                .setParameter("day", day)
+                .setMaxResults(1)
+                .getResultList()
+                .stream()
+                .findFirst()
+                .map(ReadingArchiveDomain::fromEntityStatic);
+    }
+
+    /**
+     * Obtiene los archivos de un cultivo que se solapan con un rango de fechas.
+     */
+    @Override
+    public List<ReadingArchiveDomain> findArchivesOverlapping(Integer cropId, LocalDateTime startDate, LocalDateTime endDate) {
+        return entityManager.createQuery(
+                        "SELECT a FROM ReadingArchiveEntity a WHERE a.cropId = :cropId " +
+                                "AND a.rangeStart <= :endDate AND a.rangeEnd >= :startDate " +
+                                "ORDER BY a.rangeStart, a.part", ReadingArchiveEntity.class)
+                .setParameter("cropId", cropId)
+                .setParameter("startDate", startDate)
+                .setParameter("endDate", endDate)
+                .getResultList()
+                .stream()
+                .map(ReadingArchiveDomain::fromEntityStatic)
+                .collect(Collectors.toList());
+    }
+
+    private String rollupKey(Integer sensorId, LocalDateTime bucketStart) {
+        return sensorId + "|" + bucketStart;
+    }
+}
@@ -0,0 +1,82 @@
+package com.germogli.backend.monitoring.retention.web.controller;
+
+import com.germogli.backend.monitoring.application.dto.common.ApiResponseDTO;
+import com.germogli.backend.monitoring.retention.application.dto.ReadingRetentionPolicyRequestDTO;
+import com.germogli.backend.monitoring.retention.application.dto.ReadingRetentionPolicyResponseDTO;
+import com.germogli.backend.monitoring.retention.application.dto.ReadingRollupResponseDTO;
+import com.germogli.backend.monitoring.retention.domain.service.ReadingRetentionService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Controlador REST para la retención de lecturas de sensores.
+ * Permite consultar y definir la política de retención de cada cultivo
+ * y consultar los resúmenes horarios de las lecturas ya compactadas.
+ */
+@RestController
+@RequestMapping("/readings")
+@RequiredArgsConstructor
+@PreAuthorize("isAuthenticated()")
+public class ReadingRetentionController {
+
+    private final ReadingRetentionService readingRetentionService;
+
+    /**
+     * Endpoint para obtener la política de retención de un cultivo.
+     *
+     * @param cropId ID del cultivo.
+     * @return Respuesta API con la política vigente.
+     */
+    @GetMapping("/retention/{cropId}")
+    public ResponseEntity<ApiResponseDTO<ReadingRetentionPolicyResponseDTO>> getPolicy(@PathVariable Integer cropId) {
+        return ResponseEntity.ok(ApiResponseDTO.<ReadingRetentionPolicyResponseDTO>builder()
+                .message("Política de retención recuperada correctamente")
+                .data(readingRetentionService.getPolicy(cropId))
+                .build());
+    }
+
+    /**
+     * Endpoint para definir la política de retención de un cultivo.
+     *
+     * @param cropId  ID del cultivo.
+     * @param request DTO con los días de retención.
+     * @return Respuesta API con la política guardada.
+     */
+    @PutMapping("/retention/{cropId}")
+    public ResponseEntity<ApiResponseDTO<ReadingRetentionPolicyResponseDTO>> updatePolicy(
+            @PathVariable Integer cropId,
+            @Valid @RequestBody ReadingRetentionPolicyRequestDTO request) {
+        return ResponseEntity.ok(ApiResponseDTO.<ReadingRetentionPolicyResponseDTO>builder()
+                .message("Política de retención actualizada correctamente")
+                .data(readingRetentionService.updatePolicy(cropId, request.getRawRetentionDays()))
+                .build());
+    }
+
+    /**
+     * Endpoint para obtener los resúmenes horarios de un sensor en un cultivo.
+     *
+     * @param cropId    ID del cultivo.
+     * @param sensorId  ID del sensor.
+     * @param startDate Fecha de inicio (opcional).
+     * @param endDate   Fecha de fin (opcional).
+     * @return Respuesta API con los resúmenes horarios.
+     */
+    @GetMapping("/rollups")
+    public ResponseEntity<ApiResponseDTO<List<ReadingRollupResponseDTO>>> getRollups(
+            @RequestParam Integer cropId,
+            @RequestParam Integer sensorId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate) {
+        return ResponseEntity.ok(ApiResponseDTO.<List<ReadingRollupResponseDTO>>builder()
+                .message("Resúmenes de lecturas recuperados correctamente")
+                .data(readingRetentionService.getRollups(cropId, sensorId, startDate, endDate))
+                .build());
+    }
+}
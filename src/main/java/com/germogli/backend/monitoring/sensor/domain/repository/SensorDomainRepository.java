@@ -4,7 +4,9 @@ import com.germogli.backend.monitoring.sensor.application.dto.SensorThresholdRes
 import com.germogli.backend.monitoring.sensor.domain.model.SensorDomain;
 
 import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -50,6 +52,14 @@ public interface SensorDomainRepository {
      */
     List<SensorDomain> findByCropId(Integer cropId);
 
+    /**
+     * Encuentra en una sola consulta los sensores asociados a cualquiera de los cultivos indicados.
+     *
+     * @param cropIds Identificadores de los cultivos.
+     * @return Lista de sensores sin duplicados.
+     */
+    List<SensorDomain> findByCropIds(Collection<Integer> cropIds);
+
     /**
      * Asocia un sensor a un cultivo.
      *
@@ -107,6 +117,14 @@ public interface SensorDomainRepository {
      */
     List<SensorThresholdResponseDTO> getThresholdsByCropId(Integer cropId);
 
+    /**
+     * Obtiene en una sola consulta los sensores con sus umbrales de varios cultivos.
+     *
+     * @param cropIds Identificadores de los cultivos.
+     * @return Mapa ID de cultivo -> sensores con sus umbrales (solo cultivos con sensores).
+     */
+    Map<Integer, List<SensorThresholdResponseDTO>> getThresholdsByCropIds(Collection<Integer> cropIds);
+
     /**
      * Obtiene los umbrales de un sensor específico en un cultivo específico.
      *
@@ -6,6 +6,8 @@ import com.germogli.backend.common.notification.application.service.Notification
 import com.germogli.backend.monitoring.domain.service.MonitoringSharedService;
 import com.germogli.backend.monitoring.crop.domain.model.CropDomain;
 import com.germogli.backend.monitoring.crop.domain.repository.CropDomainRepository;
+import com.germogli.backend.monitoring.device.infrastructure.websocket.DeviceSessionRegistry;
+import com.germogli.backend.monitoring.liveness.domain.service.SensorLivenessService;
 import com.germogli.backend.monitoring.sensor.application.dto.SensorRequestDTO;
 import com.germogli.backend.monitoring.sensor.application.dto.SensorResponseDTO;
 import com.germogli.backend.monitoring.sensor.application.dto.SensorThresholdResponseDTO;
@@ -32,6 +34,8 @@ public class SensorDomainService {
     private final CropDomainRepository cropRepository;
     private final MonitoringSharedService sharedService;
     private final NotificationService notificationService;
+    private final DeviceSessionRegistry deviceSessionRegistry;
+    private final SensorLivenessService sensorLivenessService;
 
     /**
      * Crea un nuevo sensor.
@@ -89,13 +93,9 @@ public class SensorDomainService {
             return new ArrayList<>();
         }
 
-        // Obtener todos los sensores asociados a sus cultivos
-        Set<SensorDomain> userSensors = new HashSet<>();
-        for (CropDomain crop : userCrops) {
-            userSensors.addAll(sensorRepository.findByCropId(crop.getId()));
-        }
-
-        return new ArrayList<>(userSensors);
+        // Obtener en una sola consulta todos los sensores asociados a sus cultivos
+        List<Integer> cropIds = userCrops.stream().map(CropDomain::getId).collect(Collectors.toList());
+        return sensorRepository.findByCropIds(cropIds);
     }
 
     /**
@@ -137,6 +137,7 @@ public class SensorDomainService {
                 .orElseThrow(() -> new ResourceNotFoundException("Sensor no encontrado con id: " + id));
 
         sensorRepository.deleteById(id);
+        sensorLivenessService.evictSensor(id);
     }
 
     /**
@@ -198,6 +199,7 @@ public class SensorDomainService {
                 .orElseThrow(() -> new ResourceNotFoundException("Sensor no encontrado con id: " + sensorId));
 
         sensorRepository.addSensorToCropWithThresholds(cropId, sensorId, minThreshold, maxThreshold);
+        deviceSessionRegistry.publishThresholds(cropId);
 
         // Enviar notificación al propietario
         notificationService.sendNotification(
@@ -237,6 +239,7 @@ public class SensorDomainService {
                 .orElseThrow(() -> new ResourceNotFoundException("Sensor no encontrado con id: " + sensorId));
 
         sensorRepository.addSensorToCrop(cropId, sensorId);
+        deviceSessionRegistry.publishThresholds(cropId);
 
         // Enviar notificación al propietario
         notificationService.sendNotification(
@@ -276,6 +279,8 @@ public class SensorDomainService {
                 .orElseThrow(() -> new ResourceNotFoundException("Sensor no encontrado con id: " + sensorId));
 
         sensorRepository.removeSensorFromCrop(cropId, sensorId);
+        sensorLivenessService.evict(cropId, sensorId);
+        deviceSessionRegistry.publishThresholds(cropId);
 
         // Enviar notificación al propietario
         notificationService.sendNotification(
@@ -317,6 +322,7 @@ public class SensorDomainService {
                 .orElseThrow(() -> new ResourceNotFoundException("Sensor no encontrado con id: " + sensorId));
 
         sensorRepository.updateSensorThresholds(cropId, sensorId, minThreshold, maxThreshold);
+        deviceSessionRegistry.publishThresholds(cropId);
 
         // Enviar notificación al propietario
         notificationService.sendNotification(
@@ -530,11 +536,14 @@ public class SensorDomainService {
             return new HashMap<>();
         }
 
-        // Obtener umbrales para cada cultivo
+        // Obtener en una sola consulta los umbrales de todos los cultivos
+        List<Integer> cropIds = userCrops.stream().map(CropDomain::getId).collect(Collectors.toList());
+        Map<Integer, List<SensorThresholdResponseDTO>> thresholdsByCrop = sensorRepository.getThresholdsByCropIds(cropIds);
+
+        // Los cultivos sin sensores se incluyen con una lista vacía
         Map<Integer, List<SensorThresholdResponseDTO>> cropThresholds = new HashMap<>();
-        for (CropDomain crop : userCrops) {
-            List<SensorThresholdResponseDTO> thresholds = sensorRepository.getThresholdsByCropId(crop.getId());
-            cropThresholds.put(crop.getId(), thresholds);
+        for (Integer cropId : cropIds) {
+            cropThresholds.put(cropId, thresholdsByCrop.getOrDefault(cropId, new ArrayList<>()));
         }
 
         return cropThresholds;
@@ -14,7 +14,10 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -124,6 +127,23 @@ public class SensorRepository implements SensorDomainRepository {
         return resultList.stream().map(SensorDomain::fromEntityStatic).collect(Collectors.toList());
     }
 
+    /**
+     * Encuentra los sensores de varios cultivos en una sola consulta.
+     * Utiliza consulta JPA directa ya que los procedimientos almacenados solo aceptan un cultivo.
+     */
+    @Override
+    public List<SensorDomain> findByCropIds(Collection<Integer> cropIds) {
+        if (cropIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+        List<SensorEntity> entities = entityManager.createQuery(
+                        "SELECT DISTINCT s FROM SensorEntity s, CropSensorEntity cs " +
+                                "WHERE cs.id.sensorId = s.id AND cs.id.cropId IN :cropIds", SensorEntity.class)
+                .setParameter("cropIds", cropIds)
+                .getResultList();
+        return entities.stream().map(SensorDomain::fromEntityStatic).collect(Collectors.toList());
+    }
+
     /**
      * Asocia un sensor a un cultivo usando sp_add_sensor_to_crop.
      */
@@ -251,6 +271,37 @@ public class SensorRepository implements SensorDomainRepository {
         return thresholds;
     }
 
+    /**
+     * Obtiene los sensores con sus umbrales de varios cultivos en una sola consulta.
+     * Utiliza consulta JPA directa ya que los procedimientos almacenados solo aceptan un cultivo.
+     */
+    @Override
+    public Map<Integer, List<SensorThresholdResponseDTO>> getThresholdsByCropIds(Collection<Integer> cropIds) {
+        Map<Integer, List<SensorThresholdResponseDTO>> thresholdsByCrop = new LinkedHashMap<>();
+        if (cropIds.isEmpty()) {
+            return thresholdsByCrop;
+        }
+        List<Object[]> rows = entityManager.createQuery(
+                        "SELECT cs.id.cropId, s.id, s.sensorType, s.unitOfMeasurement, cs.minThreshold, cs.maxThreshold " +
+                                "FROM CropSensorEntity cs, SensorEntity s " +
+                                "WHERE s.id = cs.id.sensorId AND cs.id.cropId IN :cropIds " +
+                                "ORDER BY cs.id.cropId, s.id", Object[].class)
+                .setParameter("cropIds", cropIds)
+                .getResultList();
+
+        for (Object[] row : rows) {
+            thresholdsByCrop.computeIfAbsent((Integer) row[0], k -> new ArrayList<>())
+                    .add(SensorThresholdResponseDTO.builder()
+                            .sensorId((Integer) row[1])
+                            .sensorType((String) row[2])
+                            .unitOfMeasurement((String) row[3])
+                            .minThreshold((BigDecimal) row[4])
+                            .maxThreshold((BigDecimal) row[5])
+                            .build());
+        }
+        return thresholdsByCrop;
+    }
+
     /**
      * * Obtiene los umbrales de un sensor específico en un cultivo específico
      * utilizando sp_get_thresholds_by_crop_and_sensor.
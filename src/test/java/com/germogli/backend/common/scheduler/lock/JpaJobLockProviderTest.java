@@ -0,0 +1,161 @@
+package com.germogli.backend.common.scheduler.lock;
+
+import com.germogli.backend.common.config.JobLockConfig;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+/**
+ * Pruebas del bloqueo de tareas programadas con dos contextos de aplicación (dos nodos) sobre la misma base de datos
+ * H2 en memoria. Cada contexto tiene su propio EntityManagerFactory y su propio JpaJobLockProvider.
+ */
+class JpaJobLockProviderTest {
+
+    private static final Duration LOCK_AT_MOST_FOR = Duration.ofMinutes(5);
+    private static final int ATTEMPTS_PER_NODE = 4;
+
+    private AnnotationConfigApplicationContext nodeA;
+    private AnnotationConfigApplicationContext nodeB;
+
+    @BeforeEach
+    void startNodes() {
+        nodeA = new AnnotationConfigApplicationContext(NodeConfig.class);
+        nodeB = new AnnotationConfigApplicationContext(NodeConfig.class);
+    }
+
+    @AfterEach
+    void stopNodes() {
+        nodeA.close();
+        nodeB.close();
+    }
+
+    @Test
+    void onlyOneNodeRunsAJobWhenBothCompeteForIt() throws Exception {
+        AtomicInteger executions = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(2 * ATTEMPTS_PER_NODE)) {
+            List<Future<?>> attempts = new ArrayList<>();
+            for (AnnotationConfigApplicationContext node : List.of(nodeA, nodeB)) {
+                ScheduledJobRunner runner = node.getBean(ScheduledJobRunner.class);
+                for (int i = 0; i < ATTEMPTS_PER_NODE; i++) {
+                    attempts.add(executor.submit(() -> {
+                        start.await();
+                        // lockAtLeastFor mantiene el bloqueo tras terminar: los intentos tardíos también se omiten
+                        runner.runLocked("competing-job", LOCK_AT_MOST_FOR, LOCK_AT_MOST_FOR, () -> {
+                            executions.incrementAndGet();
+                            return 3;
+                        });
+                        return null;
+                    }));
+                }
+            }
+            start.countDown();
+            for (Future<?> attempt : attempts) {
+                attempt.get(30, TimeUnit.SECONDS);
+            }
+        }
+
+        assertEquals(1, executions.get());
+        // Las métricas son las del clúster, las consulte el nodo que sea
+        for (AnnotationConfigApplicationContext node : List.of(nodeA, nodeB)) {
+            ScheduledJobMetrics.JobStats stats = stats(node, "competing-job");
+            assertEquals(1, stats.getRuns());
+            assertEquals(2 * ATTEMPTS_PER_NODE - 1, stats.getSkipped());
+            assertEquals(3, stats.getTotalRowsAffected());
+        }
+    }
+
+    @Test
+    void otherNodeRunsTheJobOnceTheLockIsReleased() {
+        ScheduledJobRunner runnerA = nodeA.getBean(ScheduledJobRunner.class);
+        ScheduledJobRunner runnerB = nodeB.getBean(ScheduledJobRunner.class);
+
+        runnerA.runLocked("released-job", LOCK_AT_MOST_FOR, Duration.ZERO, () -> 1);
+        String firstRunBy = stats(nodeB, "released-job").getLastRunBy();
+        runnerB.runLocked("released-job", LOCK_AT_MOST_FOR, Duration.ZERO, () -> 2);
+
+        ScheduledJobMetrics.JobStats stats = stats(nodeA, "released-job");
+        assertEquals(2, stats.getRuns());
+        assertEquals(0, stats.getSkipped());
+        assertEquals(3, stats.getTotalRowsAffected());
+        assertNotEquals(firstRunBy, stats.getLastRunBy());
+    }
+
+    @Test
+    void failedRunsAreRecordedAndReleaseTheLock() {
+        ScheduledJobRunner runnerA = nodeA.getBean(ScheduledJobRunner.class);
+
+        runnerA.runLocked("failing-job", LOCK_AT_MOST_FOR, Duration.ZERO, () -> {
+            throw new IllegalStateException("fallo de prueba");
+        });
+        nodeB.getBean(ScheduledJobRunner.class).runLocked("failing-job", LOCK_AT_MOST_FOR, Duration.ZERO, () -> 1);
+
+        ScheduledJobMetrics.JobStats stats = stats(nodeB, "failing-job");
+        assertEquals(2, stats.getRuns());
+        assertEquals(1, stats.getFailures());
+        assertEquals("fallo de prueba", stats.getLastError());
+    }
+
+    private static ScheduledJobMetrics.JobStats stats(AnnotationConfigApplicationContext node, String jobName) {
+        return node.getBean(ScheduledJobMetrics.class).snapshot().stream()
+                .filter(stats -> stats.getJobName().equals(jobName))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    /**
+     * Contexto mínimo de un nodo: base de datos compartida, JPA y los beans de bloqueo de la aplicación.
+     */
+    @Configuration
+    @Import({JobLockConfig.class, ScheduledJobMetrics.class, ScheduledJobRunner.class})
+    static class NodeConfig {
+
+        @Bean
+        DataSource dataSource() {
+            DriverManagerDataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:job-locks;DB_CLOSE_DELAY=-1", "sa", "");
+            dataSource.setDriverClassName("org.h2.Driver");
+            return dataSource;
+        }
+
+        @Bean
+        LocalContainerEntityManagerFactoryBean entityManagerFactory(DataSource dataSource) {
+            LocalContainerEntityManagerFactoryBean factory = new LocalContainerEntityManagerFactoryBean();
+            factory.setDataSource(dataSource);
+            factory.setPackagesToScan(ScheduledJobLockEntity.class.getPackageName());
+            factory.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+            factory.setJpaPropertyMap(Map.of("hibernate.hbm2ddl.auto", "update"));
+            return factory;
+        }
+
+        @Bean
+        PlatformTransactionManager transactionManager(EntityManagerFactory entityManagerFactory) {
+            return new JpaTransactionManager(entityManagerFactory);
+        }
+    }
+}
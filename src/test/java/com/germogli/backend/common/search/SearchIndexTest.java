@@ -0,0 +1,109 @@
+package com.germogli.backend.common.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Pruebas del orden por relevancia (BM25) y de la paginación de SearchIndex.
+ */
+class SearchIndexTest {
+
+    private final SearchIndex index = new SearchIndex();
+
+    @Test
+    void titleMatchesRankAboveBodyMatches() {
+        index.index(document("module", 1, "Riego por goteo", "Cómo instalar mangueras en el huerto."));
+        index.index(document("guide", 2, "Instalación de mangueras", "El riego de las plantas en macetas."));
+
+        assertEquals(List.of("module:1", "guide:2"), keys(index.search("riego", null, 0, 10)));
+    }
+
+    @Test
+    void moreOccurrencesRankHigherAndRareTermsWeighMore() {
+        index.index(document("post", 1, null, "Tomate tomate tomate en el balcón"));
+        index.index(document("post", 2, null, "Tomate en el balcón con albahaca"));
+        index.index(document("post", 3, null, "Albahaca y lechuga en el balcón"));
+
+        assertEquals(List.of("post:1", "post:2"), keys(index.search("tomate", null, 0, 10)));
+        // "balcón" aparece en todos los documentos; "albahaca" decide el orden
+        assertEquals("post:2", keys(index.search("tomate albahaca", null, 0, 10)).get(0));
+    }
+
+    @Test
+    void lastTermIsExpandedByPrefixAndAccentsAreIgnored() {
+        index.index(document("article", 1, "Germinación de semillas", null));
+        index.index(document("article", 2, "Semilleros caseros", null));
+
+        assertEquals(List.of("article:1"), keys(index.search("germinacion", null, 0, 10)));
+        assertEquals(2, index.search("semi", null, 0, 10).getTotalResults());
+        // Solo el último término se expande: "semi" no coincide con "semilleros"
+        assertEquals(List.of("article:1"), keys(index.search("semi germinacion", null, 0, 10)));
+    }
+
+    @Test
+    void typeFilterLimitsTheResults() {
+        index.index(document("video", 1, "Compost casero", null));
+        index.index(document("post", 2, "Compost casero", null));
+
+        assertEquals(List.of("post:2"), keys(index.search("compost", Set.of("post"), 0, 10)));
+    }
+
+    @Test
+    void pagesFollowTheRankingWithoutGapsOrRepeats() {
+        for (int id = 1; id <= 7; id++) {
+            // Más apariciones de "sustrato" en los IDs bajos para fijar el orden
+            index.index(document("post", id, null, "sustrato ".repeat(8 - id) + "relleno ".repeat(id)));
+        }
+
+        SearchPageDTO first = index.search("sustrato", null, 0, 3);
+        SearchPageDTO second = index.search("sustrato", null, 1, 3);
+        SearchPageDTO last = index.search("sustrato", null, 2, 3);
+
+        assertEquals(7, first.getTotalResults());
+        assertEquals(List.of("post:1", "post:2", "post:3"), keys(first));
+        assertEquals(List.of("post:4", "post:5", "post:6"), keys(second));
+        assertEquals(List.of("post:7"), keys(last));
+        assertTrue(first.getResults().get(2).getScore() > second.getResults().get(0).getScore());
+    }
+
+    @Test
+    void pagesPastTheEndAreEmpty() {
+        index.index(document("post", 1, null, "Abono orgánico"));
+
+        SearchPageDTO pastEnd = index.search("abono", null, 5, 10);
+        assertEquals(1, pastEnd.getTotalResults());
+        assertTrue(pastEnd.getResults().isEmpty());
+
+        // page * size desborda un int: debe seguir siendo una página vacía
+        SearchPageDTO huge = index.search("abono", null, Integer.MAX_VALUE, 50);
+        assertEquals(1, huge.getTotalResults());
+        assertTrue(huge.getResults().isEmpty());
+    }
+
+    @Test
+    void removedAndReindexedDocumentsAreUpToDate() {
+        index.index(document("post", 1, null, "Plagas del rosal"));
+        index.index(document("post", 2, null, "Plagas del limonero"));
+
+        index.remove("post", 1);
+        index.index(document("post", 2, null, "Poda del limonero"));
+
+        assertEquals(0, index.search("plagas", null, 0, 10).getTotalResults());
+        assertEquals(List.of("post:2"), keys(index.search("poda", null, 0, 10)));
+    }
+
+    private static SearchDocument document(String type, int id, String title, String body) {
+        return SearchDocument.builder().type(type).id(id).title(title).body(body).build();
+    }
+
+    private static List<String> keys(SearchPageDTO page) {
+        return page.getResults().stream()
+                .map(result -> result.getType() + ":" + result.getId())
+                .toList();
+    }
+}
@@ -0,0 +1,143 @@
+package com.germogli.backend.community.reaction.domain.service;
+
+import com.germogli.backend.authentication.domain.model.UserDomain;
+import com.germogli.backend.community.domain.service.CommunitySharedService;
+import com.germogli.backend.community.reaction.application.dto.CreateReactionRequestDTO;
+import com.germogli.backend.community.reaction.domain.model.ReactionDomain;
+import com.germogli.backend.community.reaction.domain.repository.ReactionDomainRepository;
+import com.germogli.backend.community.reaction.infrastructure.cache.ReactionCounterCache;
+import com.germogli.backend.community.reaction.infrastructure.messaging.ReactionNotificationCoalescer;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Pruebas de createReaction cuando otra solicitud concurrente del mismo usuario inserta primero
+ * y la restricción única (post_id, user_id) rechaza la segunda inserción.
+ */
+class ReactionDomainServiceTest {
+
+    private static final int POST_ID = 10;
+    private static final int OWNER_ID = 1;
+    private static final int USER_ID = 2;
+
+    private final ReactionCounterCache counters = new ReactionCounterCache();
+    private final RacingRepository repository = new RacingRepository();
+    private final ReactionDomainService service = new ReactionDomainService(repository, new StubSharedService(),
+            counters, new ReactionNotificationCoalescer(null));
+
+    @Test
+    void losingInsertUpdatesTheStoredReactionInsteadOfDuplicatingIt() {
+        // La solicitud ganadora guardó "like" y ya lo contó
+        repository.winner = reaction(55, "like");
+        counters.increment(POST_ID, "like");
+
+        ReactionDomain result = service.createReaction(request("love"));
+
+        assertEquals(55, (int) result.getId());
+        assertEquals("love", result.getReactionType());
+        assertEquals(List.of("love"), repository.updatedTypes);
+        assertEquals(Map.of("love", 1L), counters.getCounts(POST_ID));
+    }
+
+    @Test
+    void losingInsertWithTheSameTypeReturnsTheStoredReaction() {
+        repository.winner = reaction(55, "like");
+        counters.increment(POST_ID, "like");
+
+        ReactionDomain result = service.createReaction(request("like"));
+
+        assertSame(repository.winner, result);
+        assertEquals(List.of(), repository.updatedTypes);
+        assertEquals(Map.of("like", 1L), counters.getCounts(POST_ID));
+    }
+
+    @Test
+    void violationWithoutAStoredReactionIsRethrown() {
+        assertThrows(DataIntegrityViolationException.class, () -> service.createReaction(request("like")));
+        assertEquals(Map.of(), counters.getCounts(POST_ID));
+    }
+
+    private static CreateReactionRequestDTO request(String reactionType) {
+        CreateReactionRequestDTO request = new CreateReactionRequestDTO();
+        request.setPostId(POST_ID);
+        request.setReactionType(reactionType);
+        return request;
+    }
+
+    private static ReactionDomain reaction(int id, String reactionType) {
+        return ReactionDomain.builder().id(id).postId(POST_ID).userId(USER_ID).reactionType(reactionType).build();
+    }
+
+    /**
+     * Repositorio cuya primera búsqueda no ve la reacción ganadora (aún no confirmada) y cuya inserción
+     * choca con la restricción única.
+     */
+    private static class RacingRepository implements ReactionDomainRepository {
+
+        private ReactionDomain winner;
+        private boolean lookedUp;
+        private final List<String> updatedTypes = new ArrayList<>();
+
+        @Override
+        public ReactionDomain save(ReactionDomain reaction) {
+            if (reaction.getId() == null) {
+                throw new DataIntegrityViolationException("Duplicate entry for key 'uk_reactions_post_user'");
+            }
+            updatedTypes.add(reaction.getReactionType());
+            return reaction;
+        }
+
+        @Override
+        public Optional<ReactionDomain> findByPostIdAndUserId(Integer postId, Integer userId) {
+            boolean visible = lookedUp;
+            lookedUp = true;
+            return visible ? Optional.ofNullable(winner) : Optional.empty();
+        }
+
+        @Override
+        public Optional<ReactionDomain> findById(Integer id) {
+            return Optional.empty();
+        }
+
+        @Override
+        public List<ReactionDomain> findAll() {
+            return List.of();
+        }
+
+        @Override
+        public void deleteById(Integer id) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Map<Integer, Map<String, Long>> countByPostAndType() {
+            return Map.of();
+        }
+    }
+
+    private static class StubSharedService extends CommunitySharedService {
+
+        StubSharedService() {
+            super(null, null, null, null, null, null);
+        }
+
+        @Override
+        public UserDomain getAuthenticatedUser() {
+            return UserDomain.builder().id(USER_ID).username("ana").build();
+        }
+
+        @Override
+        public Integer getOwnerIdOfExistingPost(Integer postId) {
+            return OWNER_ID;
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.germogli.backend.education.domain.model;
+
+import com.germogli.backend.education.articles.domain.model.ArticleDomain;
+import com.germogli.backend.education.guides.domain.model.GuideDomain;
+import com.germogli.backend.education.module.domain.model.ModuleDomain;
+import com.germogli.backend.education.tag.domain.model.TagDomain;
+import com.germogli.backend.education.videos.domain.model.VideoDomain;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Pruebas del ETag de EducationCatalogSnapshot: depende solo del contenido y cambia con cualquier dato del catálogo.
+ */
+class EducationCatalogSnapshotTest {
+
+    private static final LocalDateTime CREATED = LocalDateTime.of(2025, 1, 15, 10, 30);
+
+    @Test
+    void sameContentHasTheSameEtagOnEveryInstance() {
+        EducationCatalogSnapshot first = snapshot(1, "Riego", List.of(tag(1, "agua"), tag(2, "suelo")), "Guía de riego");
+        // Otro nodo: otra versión y las etiquetas del módulo cargadas en otro orden
+        EducationCatalogSnapshot second = snapshot(7, "Riego", List.of(tag(2, "suelo"), tag(1, "agua")), "Guía de riego");
+
+        assertEquals(first.getEtag(), second.getEtag());
+        assertTrue(first.getEtag().matches("\"[0-9a-f]{64}\""), first.getEtag());
+    }
+
+    @Test
+    void anyChangeInTheContentChangesTheEtag() {
+        EducationCatalogSnapshot base = snapshot(1, "Riego", List.of(tag(1, "agua")), "Guía de riego");
+
+        assertNotEquals(base.getEtag(), snapshot(1, "Riego por goteo", List.of(tag(1, "agua")), "Guía de riego").getEtag());
+        assertNotEquals(base.getEtag(), snapshot(1, "Riego", List.of(tag(1, "agua"), tag(2, "suelo")), "Guía de riego").getEtag());
+        assertNotEquals(base.getEtag(), snapshot(1, "Riego", List.of(tag(1, "agua")), "Guía de poda").getEtag());
+        assertNotEquals(base.getEtag(), snapshot(1, "Riego", List.of(tag(1, "agua")), null).getEtag());
+    }
+
+    @Test
+    void catalogsWithCollidingHashCodesHaveDifferentEtags() {
+        // "Aa" y "BB" tienen el mismo String.hashCode, y por lo tanto el mismo Objects.hash del catálogo
+        EducationCatalogSnapshot first = snapshot(1, "Aa", List.of(tag(1, "agua")), "Guía");
+        EducationCatalogSnapshot second = snapshot(1, "BB", List.of(tag(1, "agua")), "Guía");
+
+        assertEquals(Objects.hash(first.getModules()), Objects.hash(second.getModules()));
+        assertNotEquals(first.getEtag(), second.getEtag());
+    }
+
+    @Test
+    void fieldBoundariesAreNotAmbiguous() {
+        EducationCatalogSnapshot first = snapshot(1, "ab", List.of(tag(1, "c")), "Guía");
+        EducationCatalogSnapshot second = snapshot(1, "a", List.of(tag(1, "bc")), "Guía");
+
+        assertNotEquals(first.getEtag(), second.getEtag());
+    }
+
+    private static EducationCatalogSnapshot snapshot(long version, String moduleTitle, List<TagDomain> moduleTags, String guideTitle) {
+        ModuleDomain module = ModuleDomain.builder()
+                .moduleId(1)
+                .title(moduleTitle)
+                .description("Conceptos básicos")
+                .creationDate(CREATED)
+                .tags(new LinkedHashSet<>(moduleTags))
+                .build();
+        GuideDomain guide = GuideDomain.builder().guideId(1).title(guideTitle).creationDate(CREATED).moduleId(module).build();
+        VideoDomain video = VideoDomain.builder().videoId(1).title("Video").videoUrl("https://v/1").creationDate(CREATED).moduleId(module).build();
+        ArticleDomain article = ArticleDomain.builder().articleId(1).title("Artículo").articleUrl("https://a/1").creationDate(CREATED).moduleId(module).build();
+        List<TagDomain> catalogTags = moduleTags.stream().sorted(Comparator.comparing(TagDomain::getTagId)).toList();
+        return new EducationCatalogSnapshot(version, List.of(module), catalogTags,
+                guideTitle == null ? List.of() : List.of(guide), List.of(video), List.of(article));
+    }
+
+    private static TagDomain tag(int id, String name) {
+        return TagDomain.builder().tagId(id).tagName(name).build();
+    }
+}
@@ -0,0 +1,132 @@
+package com.germogli.backend.education.domain.model;
+
+import com.germogli.backend.education.module.domain.model.ModuleDomain;
+import com.germogli.backend.education.tag.domain.model.TagDomain;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Medición del índice etiqueta -> módulos con un catálogo de 10 000 módulos y 500 etiquetas,
+ * comparado con el filtrado directo de los módulos en memoria.
+ * Cada variante se calienta antes de medir y se toma la mejor de varias rondas, para reducir el efecto del JIT y del GC.
+ */
+@Slf4j
+class ModuleTagIndexBenchmarkTest {
+
+    private static final int MODULES = 10_000;
+    private static final int TAGS = 500;
+    private static final int MAX_TAGS_PER_MODULE = 8;
+    private static final int QUERIES = 300;
+    private static final int WARMUP_ROUNDS = 3;
+    private static final int MEASURED_ROUNDS = 5;
+
+    @Test
+    void indexAnswersTagQueriesFasterThanAScan() {
+        Random random = new Random(32);
+        List<ModuleDomain> modules = catalog(random);
+        List<List<Integer>> queries = queries(random);
+
+        long buildStart = System.nanoTime();
+        ModuleTagIndex index = ModuleTagIndex.build(modules);
+        long buildNanos = System.nanoTime() - buildStart;
+
+        List<Set<Integer>> moduleTags = modules.stream()
+                .map(module -> {
+                    Set<Integer> tagIds = new HashSet<>();
+                    module.getTags().forEach(tag -> tagIds.add(tag.getTagId()));
+                    return tagIds;
+                })
+                .toList();
+
+        for (boolean matchAll : new boolean[]{false, true}) {
+            Function<List<Integer>, int[]> indexed = matchAll ? index::matchAll : index::matchAny;
+            Function<List<Integer>, int[]> scanned = query -> scan(modules, moduleTags, query, matchAll);
+
+            for (List<Integer> query : queries) {
+                assertArrayEquals(scanned.apply(query), indexed.apply(query), (matchAll ? "AND " : "OR ") + query);
+            }
+
+            long indexNanos = best(indexed, queries);
+            long scanNanos = best(scanned, queries);
+            log.info("ModuleTagIndex {} ({} módulos, {} etiquetas): índice {} us/consulta, recorrido {} us/consulta ({}x)",
+                    matchAll ? "AND" : "OR", MODULES, TAGS,
+                    TimeUnit.NANOSECONDS.toMicros(indexNanos / QUERIES), TimeUnit.NANOSECONDS.toMicros(scanNanos / QUERIES),
+                    scanNanos / Math.max(1, indexNanos));
+            assertTrue(indexNanos < scanNanos, "el índice no debe ser más lento que recorrer los módulos");
+        }
+        log.info("ModuleTagIndex construido en {} ms", TimeUnit.NANOSECONDS.toMillis(buildNanos));
+    }
+
+    /**
+     * Ejecuta todas las consultas en varias rondas y devuelve el menor tiempo de una ronda.
+     */
+    private static long best(Function<List<Integer>, int[]> search, List<List<Integer>> queries) {
+        long best = Long.MAX_VALUE;
+        long checksum = 0;
+        for (int round = 0; round < WARMUP_ROUNDS + MEASURED_ROUNDS; round++) {
+            long start = System.nanoTime();
+            for (List<Integer> query : queries) {
+                checksum += search.apply(query).length;
+            }
+            long elapsed = System.nanoTime() - start;
+            if (round >= WARMUP_ROUNDS) {
+                best = Math.min(best, elapsed);
+            }
+        }
+        // Usar el resultado evita que el JIT descarte las consultas
+        assertTrue(checksum >= 0);
+        return best;
+    }
+
+    private static int[] scan(List<ModuleDomain> modules, List<Set<Integer>> moduleTags, List<Integer> tagIds, boolean matchAll) {
+        int[] matches = new int[modules.size()];
+        int count = 0;
+        for (int i = 0; i < modules.size(); i++) {
+            Set<Integer> tags = moduleTags.get(i);
+            boolean match = matchAll ? tags.containsAll(tagIds) : tagIds.stream().anyMatch(tags::contains);
+            if (match) {
+                matches[count++] = modules.get(i).getModuleId();
+            }
+        }
+        return Arrays.copyOf(matches, count);
+    }
+
+    private static List<ModuleDomain> catalog(Random random) {
+        List<ModuleDomain> modules = new ArrayList<>(MODULES);
+        for (int moduleId = 1; moduleId <= MODULES; moduleId++) {
+            Set<TagDomain> tags = new HashSet<>();
+            int tagCount = 1 + random.nextInt(MAX_TAGS_PER_MODULE);
+            for (int i = 0; i < tagCount; i++) {
+                int tagId = 1 + random.nextInt(TAGS);
+                tags.add(TagDomain.builder().tagId(tagId).tagName("etiqueta " + tagId).build());
+            }
+            modules.add(ModuleDomain.builder().moduleId(moduleId).tags(tags).build());
+        }
+        return modules;
+    }
+
+    private static List<List<Integer>> queries(Random random) {
+        List<List<Integer>> queries = new ArrayList<>(QUERIES);
+        for (int i = 0; i < QUERIES; i++) {
+            List<Integer> query = new ArrayList<>();
+            int tags = 1 + random.nextInt(3);
+            for (int j = 0; j < tags; j++) {
+                query.add(1 + random.nextInt(TAGS));
+            }
+            queries.add(query);
+        }
+        return queries;
+    }
+}
@@ -0,0 +1,105 @@
+package com.germogli.backend.education.domain.model;
+
+import com.germogli.backend.education.module.domain.model.ModuleDomain;
+import com.germogli.backend.education.tag.domain.model.TagDomain;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Pruebas del índice invertido etiqueta -> módulos, comparado con un filtrado directo de los módulos.
+ */
+class ModuleTagIndexTest {
+
+    @Test
+    void matchesAnyAndAllTags() {
+        ModuleTagIndex index = ModuleTagIndex.build(List.of(
+                module(3, 1, 2),
+                module(1, 1),
+                module(2, 2, 3),
+                module(4, 1, 2, 3)));
+
+        assertArrayEquals(new int[]{1, 3, 4}, index.matchAny(List.of(1)));
+        assertArrayEquals(new int[]{1, 2, 3, 4}, index.matchAny(List.of(1, 3)));
+        assertArrayEquals(new int[]{3, 4}, index.matchAll(List.of(1, 2)));
+        assertArrayEquals(new int[]{4}, index.matchAll(List.of(3, 2, 1)));
+        assertEquals(3, index.moduleCount(2));
+    }
+
+    @Test
+    void handlesEmptyUnknownAndRepeatedTags() {
+        ModuleTagIndex index = ModuleTagIndex.build(List.of(
+                module(1, 1, 1),
+                module(1, 1),
+                ModuleDomain.builder().moduleId(2).tags(null).build(),
+                ModuleDomain.builder().moduleId(null).tags(Set.of(tag(1))).build()));
+
+        // Un módulo repetido o con la etiqueta duplicada aparece una sola vez
+        assertArrayEquals(new int[]{1}, index.matchAny(List.of(1)));
+        assertArrayEquals(new int[]{1}, index.matchAll(List.of(1, 1)));
+        assertArrayEquals(new int[0], index.matchAny(List.of()));
+        assertArrayEquals(new int[0], index.matchAll(null));
+        assertArrayEquals(new int[0], index.matchAny(List.of(99)));
+        assertArrayEquals(new int[0], index.matchAll(List.of(1, 99)));
+        assertEquals(0, index.moduleCount(99));
+    }
+
+    @Test
+    void matchesAScanOfTheModules() {
+        Random random = new Random(32);
+        for (int run = 0; run < 200; run++) {
+            List<ModuleDomain> modules = new ArrayList<>();
+            int moduleCount = random.nextInt(300);
+            for (int moduleId = 1; moduleId <= moduleCount; moduleId++) {
+                int[] tagIds = new int[random.nextInt(6)];
+                for (int i = 0; i < tagIds.length; i++) {
+                    tagIds[i] = 1 + random.nextInt(20);
+                }
+                modules.add(module(moduleId, tagIds));
+            }
+            ModuleTagIndex index = ModuleTagIndex.build(modules);
+
+            List<Integer> query = new ArrayList<>();
+            int tags = 1 + random.nextInt(4);
+            for (int i = 0; i < tags; i++) {
+                query.add(1 + random.nextInt(22));
+            }
+
+            assertArrayEquals(scan(modules, query, false), index.matchAny(query), "OR " + query);
+            assertArrayEquals(scan(modules, query, true), index.matchAll(query), "AND " + query);
+        }
+    }
+
+    private static int[] scan(List<ModuleDomain> modules, List<Integer> tagIds, boolean matchAll) {
+        return modules.stream()
+                .filter(module -> {
+                    Set<Integer> moduleTags = new HashSet<>();
+                    module.getTags().forEach(tag -> moduleTags.add(tag.getTagId()));
+                    return matchAll
+                            ? moduleTags.containsAll(tagIds)
+                            : tagIds.stream().anyMatch(moduleTags::contains);
+                })
+                .mapToInt(ModuleDomain::getModuleId)
+                .sorted()
+                .toArray();
+    }
+
+    private static ModuleDomain module(int moduleId, int... tagIds) {
+        Set<TagDomain> tags = new HashSet<>();
+        for (int tagId : tagIds) {
+            tags.add(tag(tagId));
+        }
+        return ModuleDomain.builder().moduleId(moduleId).tags(tags).build();
+    }
+
+    private static TagDomain tag(int tagId) {
+        return TagDomain.builder().tagId(tagId).tagName("etiqueta " + tagId).build();
+    }
+}
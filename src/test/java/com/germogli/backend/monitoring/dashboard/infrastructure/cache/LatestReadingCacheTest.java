@@ -0,0 +1,88 @@
+package com.germogli.backend.monitoring.dashboard.infrastructure.cache;
+
+import com.germogli.backend.monitoring.reading.domain.model.ReadingDomain;
+import com.germogli.backend.monitoring.reading.domain.repository.ReadingDomainRepository;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Pruebas de LatestReadingCache con lecturas que otro nodo guarda directamente en la base de datos.
+ */
+class LatestReadingCacheTest {
+
+    private static final int CROP_ID = 3;
+    private static final int SENSOR_ID = 1;
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 2, 19, 12, 0);
+
+    // Últimas lecturas "en la base de datos", compartidas por todos los nodos
+    private final List<ReadingDomain> database = new ArrayList<>();
+    private final AtomicInteger queries = new AtomicInteger();
+
+    @Test
+    void readingsFromOtherNodesAppearOnceTheLoadExpires() {
+        LatestReadingCache cache = new LatestReadingCache(repository(), 0);
+        database.add(reading(20.0, NOW));
+        assertEquals(new BigDecimal("20.0"), latestValue(cache));
+
+        // Otro nodo guarda una lectura más reciente: este nodo no la recibe por update
+        database.set(0, reading(25.0, NOW.plusMinutes(1)));
+        assertEquals(new BigDecimal("25.0"), latestValue(cache));
+        assertEquals(2, queries.get());
+    }
+
+    @Test
+    void loadIsReusedWhileValidAndKeepsNewerLocalReadings() {
+        LatestReadingCache cache = new LatestReadingCache(repository(), 3600);
+        database.add(reading(20.0, NOW));
+        assertEquals(new BigDecimal("20.0"), latestValue(cache));
+
+        cache.update(reading(22.0, NOW.plusMinutes(2)));
+        database.set(0, reading(21.0, NOW.plusMinutes(1)));
+        assertEquals(new BigDecimal("22.0"), latestValue(cache));
+        assertEquals(1, queries.get());
+    }
+
+    @Test
+    void evictedCropIsLoadedAgain() {
+        LatestReadingCache cache = new LatestReadingCache(repository(), 3600);
+        database.add(reading(20.0, NOW));
+        latestValue(cache);
+
+        cache.evictCrop(CROP_ID);
+        database.set(0, reading(25.0, NOW.plusMinutes(1)));
+        assertEquals(new BigDecimal("25.0"), latestValue(cache));
+        assertEquals(2, queries.get());
+    }
+
+    private BigDecimal latestValue(LatestReadingCache cache) {
+        return cache.getLatest(List.of(CROP_ID)).get(CROP_ID).get(SENSOR_ID).getReadingValue();
+    }
+
+    private ReadingDomainRepository repository() {
+        return (ReadingDomainRepository) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[]{ReadingDomainRepository.class}, (proxy, method, args) -> {
+                    if (!method.getName().equals("findLatestByCropIds")) {
+                        throw new UnsupportedOperationException(method.getName());
+                    }
+                    queries.incrementAndGet();
+                    return List.copyOf(database);
+                });
+    }
+
+    private static ReadingDomain reading(double value, LocalDateTime date) {
+        return ReadingDomain.builder()
+                .cropId(CROP_ID)
+                .sensorId(SENSOR_ID)
+                .readingValue(BigDecimal.valueOf(value))
+                .readingDate(date)
+                .build();
+    }
+}
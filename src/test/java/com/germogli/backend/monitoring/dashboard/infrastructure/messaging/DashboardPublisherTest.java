@@ -0,0 +1,132 @@
+package com.germogli.backend.monitoring.dashboard.infrastructure.messaging;
+
+import com.germogli.backend.authentication.domain.model.UserDomain;
+import com.germogli.backend.authentication.domain.repository.UserDomainRepository;
+import com.germogli.backend.monitoring.dashboard.application.dto.DashboardDeltaDTO;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import java.security.Principal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Pruebas del registro de suscripciones de DashboardPublisher: solo se envían cambios a usuarios
+ * con una suscripción activa, y las suscripciones se descartan al cancelarlas o al cerrar la sesión.
+ */
+class DashboardPublisherTest {
+
+    private static final int USER_ID = 7;
+    private static final String USERNAME = "ana";
+    private static final Principal USER = () -> USERNAME;
+
+    private final List<String> sent = new ArrayList<>();
+    private final DashboardPublisher publisher = new DashboardPublisher(
+            new SimpMessagingTemplate((message, timeout) -> sent.add(SimpMessageHeaderAccessor.getDestination(message.getHeaders()))),
+            new UserDomainRepository() {
+                @Override
+                public Optional<UserDomain> findByUsername(String username) {
+                    return USERNAME.equals(username) ? Optional.of(UserDomain.builder().id(USER_ID).username(username).build()) : Optional.empty();
+                }
+
+                @Override
+                public UserDomain save(UserDomain user) {
+                    throw new UnsupportedOperationException();
+                }
+
+                @Override
+                public Optional<UserDomain> findByEmail(String email) {
+                    return Optional.empty();
+                }
+
+                @Override
+                public Optional<UserDomain> findById(Integer id) {
+                    return Optional.empty();
+                }
+            });
+
+    @Test
+    void changesAreOnlySentWhileSubscribed() {
+        publisher.publish(USER_ID, delta());
+        assertEquals(0, sent.size());
+
+        publisher.onSubscribe(subscribe("s1", "sub-0", "/user/queue/dashboard"));
+        publisher.publish(USER_ID, delta());
+        assertEquals(List.of("/user/" + USERNAME + "/queue/dashboard"), sent);
+
+        publisher.onUnsubscribe(unsubscribe("s1", "sub-0"));
+        publisher.publish(USER_ID, delta());
+        assertEquals(1, sent.size());
+    }
+
+    @Test
+    void disconnectingOneSessionKeepsTheOthers() {
+        publisher.onSubscribe(subscribe("s1", "sub-0", "/user/queue/dashboard"));
+        publisher.onSubscribe(subscribe("s2", "sub-0", "/user/queue/dashboard"));
+
+        publisher.onDisconnect(disconnect("s1"));
+        publisher.publish(USER_ID, delta());
+        assertEquals(1, sent.size());
+
+        publisher.onDisconnect(disconnect("s2"));
+        publisher.publish(USER_ID, delta());
+        assertEquals(1, sent.size());
+    }
+
+    @Test
+    void otherDestinationsAreIgnored() {
+        publisher.onSubscribe(subscribe("s1", "sub-0", "/topic/crop/3/readings"));
+        publisher.publish(USER_ID, delta());
+        assertEquals(0, sent.size());
+    }
+
+    @Test
+    void pendingChangeRunsEvenWithoutSubscribers() {
+        List<String> applied = new ArrayList<>();
+        publisher.publish(USER_ID, delta(), () -> applied.add("reading"));
+
+        assertEquals(List.of("reading"), applied);
+        assertEquals(0, sent.size());
+    }
+
+    private static DashboardDeltaDTO delta() {
+        return DashboardDeltaDTO.builder().type("reading").cropId(3).sensorId(1).build();
+    }
+
+    private static SessionSubscribeEvent subscribe(String sessionId, String subscriptionId, String destination) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+        accessor.setDestination(destination);
+        return new SessionSubscribeEvent(DashboardPublisherTest.class, message(accessor, sessionId, subscriptionId), USER);
+    }
+
+    private static SessionUnsubscribeEvent unsubscribe(String sessionId, String subscriptionId) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.UNSUBSCRIBE);
+        return new SessionUnsubscribeEvent(DashboardPublisherTest.class, message(accessor, sessionId, subscriptionId), USER);
+    }
+
+    private static SessionDisconnectEvent disconnect(String sessionId) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.DISCONNECT);
+        return new SessionDisconnectEvent(DashboardPublisherTest.class, message(accessor, sessionId, null), sessionId,
+                CloseStatus.NORMAL, USER);
+    }
+
+    private static Message<byte[]> message(StompHeaderAccessor accessor, String sessionId, String subscriptionId) {
+        accessor.setSessionId(sessionId);
+        if (subscriptionId != null) {
+            accessor.setSubscriptionId(subscriptionId);
+        }
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}
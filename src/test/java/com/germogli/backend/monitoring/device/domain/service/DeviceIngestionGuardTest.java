@@ -0,0 +1,115 @@
+package com.germogli.backend.monitoring.device.domain.service;
+
+import com.germogli.backend.common.exception.DeviceAuthenticationException;
+import com.germogli.backend.common.exception.RateLimitExceededException;
+import com.germogli.backend.monitoring.device.domain.model.DeviceDomain;
+import com.germogli.backend.monitoring.device.domain.repository.DeviceDomainRepository;
+import com.germogli.backend.monitoring.device.infrastructure.ratelimit.IngestionRateLimiter;
+import com.germogli.backend.monitoring.device.infrastructure.security.DeviceApiKeys;
+import com.germogli.backend.monitoring.device.infrastructure.security.DeviceCredentialCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Pruebas del límite de consultas por dispositivos desconocidos de DeviceIngestionGuard.
+ */
+class DeviceIngestionGuardTest {
+
+    private static final int DEVICE_ID = 1;
+    private static final int CROP_ID = 5;
+    private static final String API_KEY = DeviceApiKeys.generate();
+    private static final int UNKNOWN_LOOKUP_BURST = 3;
+
+    private CountingDeviceRepository devices;
+    private DeviceIngestionGuard guard;
+
+    @BeforeEach
+    void createGuard() {
+        devices = new CountingDeviceRepository(DeviceDomain.builder()
+                .id(DEVICE_ID)
+                .cropId(CROP_ID)
+                .apiKeyHash(DeviceApiKeys.hashHex(API_KEY))
+                .active(true)
+                .build());
+        guard = new DeviceIngestionGuard(
+                new DeviceCredentialCache(devices, 300, 60, 1_000),
+                // Una consulta por minuto tras la ráfaga: la cubeta no se repone durante la prueba
+                new IngestionRateLimiter(6_000, 1_000, 6_000, 1_000, 1, UNKNOWN_LOOKUP_BURST));
+    }
+
+    @Test
+    void unknownDeviceLookupsAreLimitedBeforeReachingTheDatabase() {
+        for (int deviceId = 100; deviceId < 100 + UNKNOWN_LOOKUP_BURST; deviceId++) {
+            int unknown = deviceId;
+            assertThrows(DeviceAuthenticationException.class, () -> guard.authorize(unknown, CROP_ID, API_KEY));
+        }
+        assertEquals(UNKNOWN_LOOKUP_BURST, devices.lookups.get());
+
+        RateLimitExceededException limited = assertThrows(RateLimitExceededException.class,
+                () -> guard.authorize(200, CROP_ID, API_KEY));
+
+        assertEquals(UNKNOWN_LOOKUP_BURST, devices.lookups.get(), "la solicitud limitada no debe consultar la base de datos");
+        assertEquals(60, limited.getRetryAfterSeconds());
+    }
+
+    @Test
+    void cachedDevicesDoNotUseTheUnknownLookupLimit() {
+        guard.authorize(DEVICE_ID, CROP_ID, API_KEY);
+        for (int i = 0; i < UNKNOWN_LOOKUP_BURST - 1; i++) {
+            assertThrows(DeviceAuthenticationException.class, () -> guard.authorize(100, CROP_ID, API_KEY));
+        }
+        // Solo la primera consulta de cada ID cuenta: el ID inexistente queda en caché como tal
+        assertEquals(2, devices.lookups.get());
+
+        for (int i = 0; i < 10; i++) {
+            guard.authorize(DEVICE_ID, CROP_ID, API_KEY);
+        }
+        assertThrows(DeviceAuthenticationException.class, () -> guard.authorize(DEVICE_ID, CROP_ID, "gdk_incorrecta"));
+        assertEquals(2, devices.lookups.get());
+    }
+
+    /**
+     * Repositorio con un único dispositivo que cuenta las búsquedas por ID.
+     */
+    private static final class CountingDeviceRepository implements DeviceDomainRepository {
+
+        private final DeviceDomain device;
+        private final AtomicInteger lookups = new AtomicInteger();
+
+        CountingDeviceRepository(DeviceDomain device) {
+            this.device = device;
+        }
+
+        @Override
+        public DeviceDomain save(DeviceDomain device) {
+            return device;
+        }
+
+        @Override
+        public Optional<DeviceDomain> findById(Integer id) {
+            lookups.incrementAndGet();
+            return device.getId().equals(id) ? Optional.of(device) : Optional.empty();
+        }
+
+        @Override
+        public List<DeviceDomain> findByCropId(Integer cropId) {
+            return device.getCropId().equals(cropId) ? List.of(device) : List.of();
+        }
+
+        @Override
+        public void deleteById(Integer id) {
+        }
+
+        @Override
+        public List<Integer> deleteByCropId(Integer cropId) {
+            return List.of();
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.germogli.backend.monitoring.device.infrastructure.dedup;
+
+import com.germogli.backend.monitoring.reading.infrastructure.codec.DeviceFrameCodec.DeviceFrame;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Pruebas de las claves de idempotencia y de la ventana de reenvíos de IngestionDeduplicator.
+ */
+class IngestionDeduplicatorTest {
+
+    private static final int DEVICE_ID = 1;
+    private static final long TIMESTAMP = 1_740_000_000_000L;
+
+    private final IngestionDeduplicator deduplicator = new IngestionDeduplicator(32, 10);
+    private final List<DeviceFrame> stored = new ArrayList<>();
+
+    @Test
+    void sameSequenceWithDifferentValuesIsStoredTwice() {
+        // Tras un reinicio el dispositivo vuelve a empezar la secuencia con lecturas nuevas
+        DeviceFrame beforeReboot = frame(TIMESTAMP, 21.5f);
+        DeviceFrame afterReboot = frame(TIMESTAMP, 24.0f);
+
+        assertTrue(store(IngestionDeduplicator.key(7L, beforeReboot), beforeReboot).isPresent());
+        assertTrue(store(IngestionDeduplicator.key(7L, afterReboot), afterReboot).isPresent());
+
+        assertEquals(List.of(beforeReboot, afterReboot), stored);
+    }
+
+    @Test
+    void sameSequenceAtAnotherTimeIsStoredTwice() {
+        DeviceFrame first = frame(TIMESTAMP, 21.5f);
+        DeviceFrame later = frame(TIMESTAMP + 60_000, 21.5f);
+
+        assertTrue(store(IngestionDeduplicator.key(7L, first), first).isPresent());
+        assertTrue(store(IngestionDeduplicator.key(7L, later), later).isPresent());
+
+        assertEquals(2, stored.size());
+    }
+
+    @Test
+    void resendWithTheSameSequenceAndValuesIsDiscarded() {
+        DeviceFrame frame = frame(TIMESTAMP, 21.5f);
+        DeviceFrame resend = frame(TIMESTAMP, 21.5f);
+
+        assertTrue(store(IngestionDeduplicator.key(7L, frame), frame).isPresent());
+        assertTrue(store(IngestionDeduplicator.key(7L, resend), resend).isEmpty());
+
+        assertEquals(List.of(frame), stored);
+    }
+
+    @Test
+    void httpKeysIncludeTheContentWithOrWithoutSequence() {
+        LocalDateTime timestamp = LocalDateTime.of(2025, 2, 19, 21, 20);
+
+        assertEquals(IngestionDeduplicator.key(7L, timestamp, 100), IngestionDeduplicator.key(7L, timestamp, 100));
+        assertNotEquals(IngestionDeduplicator.key(7L, timestamp, 100), IngestionDeduplicator.key(7L, timestamp, 101));
+        assertNotEquals(IngestionDeduplicator.key(7L, null, 100), IngestionDeduplicator.key(7L, null, 101));
+        assertNotEquals(IngestionDeduplicator.key(7L, timestamp, 100), IngestionDeduplicator.key(null, timestamp, 100));
+        assertNull(IngestionDeduplicator.key(null, null, 100));
+    }
+
+    private Optional<Boolean> store(Long key, DeviceFrame frame) {
+        return deduplicator.once(DEVICE_ID, key, () -> stored.add(frame));
+    }
+
+    private static DeviceFrame frame(long timestampMillis, float value) {
+        return new DeviceFrame(DEVICE_ID, 5, timestampMillis, new int[]{1, 2}, new float[]{value, 60f});
+    }
+}
@@ -0,0 +1,345 @@
+package com.germogli.backend.monitoring.device.infrastructure.mqtt;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.germogli.backend.monitoring.device.domain.model.DeviceDomain;
+import com.germogli.backend.monitoring.device.domain.repository.DeviceDomainRepository;
+import com.germogli.backend.monitoring.device.domain.service.DeviceIngestionGuard;
+import com.germogli.backend.monitoring.device.infrastructure.dedup.IngestionDeduplicator;
+import com.germogli.backend.monitoring.device.infrastructure.ratelimit.IngestionRateLimiter;
+import com.germogli.backend.monitoring.device.infrastructure.security.DeviceApiKeys;
+import com.germogli.backend.monitoring.device.infrastructure.security.DeviceCredentialCache;
+import com.germogli.backend.monitoring.reading.domain.model.ReadingDomain;
+import com.germogli.backend.monitoring.reading.domain.service.ReadingDomainService;
+import com.germogli.backend.monitoring.reading.infrastructure.codec.DeviceFrameCodec;
+import com.germogli.backend.monitoring.reading.infrastructure.codec.DeviceFrameCodec.DeviceFrame;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Pruebas de la pasarela MQTT en el mismo proceso: el servidor escucha en un puerto libre y se usan las clases
+ * reales de autenticación, límite e idempotencia, con un repositorio de dispositivos en memoria y un gestor de
+ * transacciones que permite retener la confirmación del lote.
+ */
+class MqttGatewayServerTest {
+
+    private static final int DEVICE_ID = 1;
+    private static final int CROP_ID = 5;
+    private static final String API_KEY = DeviceApiKeys.generate();
+    private static final int MAX_PACKET_SIZE = 1024;
+    private static final String TOPIC = "crops/" + CROP_ID + "/devices/" + DEVICE_ID + "/readings";
+
+    private GatedTransactionManager transactionManager;
+    private RecordingReadingService readingService;
+    private MqttIngestionBatcher batcher;
+    private MqttGatewayServer server;
+    private Socket client;
+
+    @BeforeEach
+    void startServer() throws IOException {
+        InMemoryDeviceRepository devices = new InMemoryDeviceRepository();
+        devices.save(DeviceDomain.builder()
+                .id(DEVICE_ID)
+                .cropId(CROP_ID)
+                .apiKeyHash(DeviceApiKeys.hashHex(API_KEY))
+                .active(true)
+                .build());
+        DeviceIngestionGuard guard = new DeviceIngestionGuard(
+                new DeviceCredentialCache(devices, 300, 60, 100),
+                new IngestionRateLimiter(6_000, 100, 6_000, 100, 6_000, 100));
+
+        transactionManager = new GatedTransactionManager();
+        readingService = new RecordingReadingService();
+        batcher = new MqttIngestionBatcher(readingService, transactionManager, 10, 5, 100);
+        server = new MqttGatewayServer(guard, batcher, new IngestionDeduplicator(32, 10), new MqttSessionRegistry(),
+                new ObjectMapper(), 0, MAX_PACKET_SIZE, 5_000, 5_000);
+        server.start();
+    }
+
+    @AfterEach
+    void stopServer() throws Exception {
+        transactionManager.release();
+        if (client != null) {
+            client.close();
+        }
+        server.stop();
+        batcher.shutdown();
+    }
+
+    @Test
+    void rejectsBadCredentials() throws IOException {
+        for (String[] credentials : new String[][]{{"1", "gdk_incorrecta"}, {"99", API_KEY}, {"abc", API_KEY}}) {
+            try (Socket socket = open()) {
+                socket.getOutputStream().write(connect(credentials[0], credentials[1]));
+
+                assertArrayEquals(new byte[]{0x20, 0x02, 0x00, MqttCodec.CONNACK_BAD_CREDENTIALS}, readBytes(socket, 4));
+                assertEquals(-1, socket.getInputStream().read(), "la conexión se cierra tras rechazar el CONNECT");
+            }
+        }
+    }
+
+    @Test
+    void acceptsValidCredentialsAndAnswersPing() throws IOException {
+        client = connectDevice();
+
+        client.getOutputStream().write(new byte[]{(byte) 0xC0, 0x00});
+
+        assertArrayEquals(new byte[]{(byte) 0xD0, 0x00}, readBytes(client, 2));
+    }
+
+    @Test
+    void acknowledgesQos1OnlyAfterCommit() throws Exception {
+        transactionManager.hold();
+        client = connectDevice();
+
+        client.getOutputStream().write(publish(7, frame(1_740_000_000_000L)));
+
+        assertTrue(transactionManager.awaitCommitRequest(), "el lote no llegó a confirmarse");
+        client.setSoTimeout(300);
+        assertThrows(SocketTimeoutException.class, () -> client.getInputStream().read(),
+                "PUBACK enviado antes de confirmar la transacción");
+
+        transactionManager.release();
+        client.setSoTimeout(5_000);
+
+        assertArrayEquals(new byte[]{0x40, 0x02, 0x00, 0x07}, readBytes(client, 4));
+        assertEquals(1, transactionManager.commits.get());
+        assertEquals(1, readingService.stored.size());
+    }
+
+    @Test
+    void resentFrameIsAcknowledgedWithoutStoringAgain() throws IOException {
+        client = connectDevice();
+        byte[] frame = frame(1_740_000_000_000L);
+
+        client.getOutputStream().write(publish(8, frame));
+        assertArrayEquals(new byte[]{0x40, 0x02, 0x00, 0x08}, readBytes(client, 4));
+        client.getOutputStream().write(publish(9, frame));
+        assertArrayEquals(new byte[]{0x40, 0x02, 0x00, 0x09}, readBytes(client, 4));
+
+        assertEquals(1, readingService.stored.size());
+    }
+
+    @Test
+    void closesWithoutAcknowledgingWhenStoreFails() throws IOException {
+        readingService.failing = true;
+        client = connectDevice();
+
+        client.getOutputStream().write(publish(3, frame(1_740_000_000_000L)));
+
+        assertEquals(-1, client.getInputStream().read(), "una trama no guardada no debe confirmarse");
+        assertEquals(1, transactionManager.rollbacks.get());
+    }
+
+    @Test
+    void closesConnectionOnOversizedPacket() throws IOException {
+        client = connectDevice();
+
+        // PUBLISH QoS 1 que anuncia 2048 bytes; la pasarela corta antes de leer el cuerpo
+        client.getOutputStream().write(new byte[]{0x32, (byte) 0x80, 0x10});
+
+        assertEquals(-1, client.getInputStream().read());
+        assertTrue(readingService.stored.isEmpty());
+    }
+
+    private Socket connectDevice() throws IOException {
+        Socket socket = open();
+        socket.getOutputStream().write(connect(String.valueOf(DEVICE_ID), API_KEY));
+        assertArrayEquals(new byte[]{0x20, 0x02, 0x00, MqttCodec.CONNACK_ACCEPTED}, readBytes(socket, 4));
+        return socket;
+    }
+
+    private Socket open() throws IOException {
+        Socket socket = new Socket("localhost", server.getLocalPort());
+        socket.setSoTimeout(5_000);
+        return socket;
+    }
+
+    private static byte[] readBytes(Socket socket, int count) throws IOException {
+        byte[] bytes = new byte[count];
+        new DataInputStream(socket.getInputStream()).readFully(bytes);
+        return bytes;
+    }
+
+    private static byte[] frame(long timestampMillis) {
+        return DeviceFrameCodec.encode(new DeviceFrame(DEVICE_ID, CROP_ID, timestampMillis,
+                new int[]{11, 12}, new float[]{21.5f, 60f}));
+    }
+
+    private static byte[] connect(String username, String password) {
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        writeString(body, "MQTT");
+        body.write(4);
+        body.write(0xC2); // usuario, contraseña y sesión limpia
+        body.write(0);
+        body.write(60);
+        writeString(body, "dispositivo-" + username);
+        writeString(body, username);
+        writeString(body, password);
+        return packet(0x10, body.toByteArray());
+    }
+
+    private static byte[] publish(int packetId, byte[] payload) {
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        writeString(body, TOPIC);
+        body.write(packetId >> 8);
+        body.write(packetId);
+        body.writeBytes(payload);
+        return packet(0x32, body.toByteArray());
+    }
+
+    private static void writeString(ByteArrayOutputStream out, String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.write(bytes.length >> 8);
+        out.write(bytes.length);
+        out.writeBytes(bytes);
+    }
+
+    private static byte[] packet(int first, byte[] body) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(first);
+        int remaining = body.length;
+        do {
+            int digit = remaining % 128;
+            remaining /= 128;
+            out.write(remaining > 0 ? digit | 0x80 : digit);
+        } while (remaining > 0);
+        out.writeBytes(body);
+        return out.toByteArray();
+    }
+
+    /**
+     * Gestor de transacciones que puede retener la confirmación hasta que la prueba la libere.
+     */
+    private static final class GatedTransactionManager implements PlatformTransactionManager {
+
+        private final AtomicInteger commits = new AtomicInteger();
+        private final AtomicInteger rollbacks = new AtomicInteger();
+        private final CountDownLatch commitRequested = new CountDownLatch(1);
+        private volatile CountDownLatch gate = new CountDownLatch(0);
+
+        void hold() {
+            gate = new CountDownLatch(1);
+        }
+
+        void release() {
+            gate.countDown();
+        }
+
+        boolean awaitCommitRequest() throws InterruptedException {
+            return commitRequested.await(5, TimeUnit.SECONDS);
+        }
+
+        @Override
+        public TransactionStatus getTransaction(TransactionDefinition definition) {
+            return new SimpleTransactionStatus();
+        }
+
+        @Override
+        public void commit(TransactionStatus status) {
+            commitRequested.countDown();
+            try {
+                gate.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            commits.incrementAndGet();
+        }
+
+        @Override
+        public void rollback(TransactionStatus status) {
+            rollbacks.incrementAndGet();
+        }
+    }
+
+    /**
+     * Servicio de lecturas que solo registra las tramas guardadas.
+     */
+    private static final class RecordingReadingService extends ReadingDomainService {
+
+        private final List<DeviceFrame> stored = new CopyOnWriteArrayList<>();
+        private volatile boolean failing;
+
+        RecordingReadingService() {
+            super(null, null, null, null, null, null, null, null, null, null, null, null);
+        }
+
+        @Override
+        public List<ReadingDomain> storeDeviceFrame(DeviceFrame frame) {
+            if (failing) {
+                throw new IllegalStateException("Base de datos no disponible");
+            }
+            stored.add(frame);
+            return List.of();
+        }
+
+        @Override
+        public List<ReadingDomain> processDeviceFrame(DeviceFrame frame) {
+            return storeDeviceFrame(frame);
+        }
+
+        @Override
+        public void evaluateReadings(List<ReadingDomain> readings) {
+        }
+    }
+
+    /**
+     * Repositorio de dispositivos en memoria.
+     */
+    private static final class InMemoryDeviceRepository implements DeviceDomainRepository {
+
+        private final Map<Integer, DeviceDomain> devices = new HashMap<>();
+
+        @Override
+        public DeviceDomain save(DeviceDomain device) {
+            devices.put(device.getId(), device);
+            return device;
+        }
+
+        @Override
+        public Optional<DeviceDomain> findById(Integer id) {
+            return Optional.ofNullable(devices.get(id));
+        }
+
+        @Override
+        public List<DeviceDomain> findByCropId(Integer cropId) {
+            return devices.values().stream().filter(device -> device.getCropId().equals(cropId)).toList();
+        }
+
+        @Override
+        public void deleteById(Integer id) {
+            devices.remove(id);
+        }
+
+        @Override
+        public List<Integer> deleteByCropId(Integer cropId) {
+            List<Integer> ids = findByCropId(cropId).stream().map(DeviceDomain::getId).toList();
+            ids.forEach(devices::remove);
+            return ids;
+        }
+    }
+}
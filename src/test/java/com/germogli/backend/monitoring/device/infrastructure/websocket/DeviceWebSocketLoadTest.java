@@ -0,0 +1,276 @@
+package com.germogli.backend.monitoring.device.infrastructure.websocket;
+
+import com.germogli.backend.common.security.DeviceHandshakeInterceptor;
+import com.germogli.backend.monitoring.device.domain.model.DeviceDomain;
+import com.germogli.backend.monitoring.device.domain.repository.DeviceDomainRepository;
+import com.germogli.backend.monitoring.device.domain.service.DeviceIngestionGuard;
+import com.germogli.backend.monitoring.device.infrastructure.security.DeviceApiKeys;
+import com.germogli.backend.monitoring.reading.domain.model.ReadingDomain;
+import com.germogli.backend.monitoring.reading.domain.service.ReadingDomainService;
+import com.germogli.backend.monitoring.reading.infrastructure.codec.DeviceFrameCodec;
+import com.germogli.backend.monitoring.reading.infrastructure.codec.DeviceFrameCodec.DeviceFrame;
+import com.germogli.backend.monitoring.sensor.domain.repository.SensorDomainRepository;
+import com.sun.management.UnixOperatingSystemMXBean;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketHttpHeaders;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.handler.AbstractWebSocketHandler;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.OperatingSystemMXBean;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Prueba de carga en proceso de la conexión WebSocket de dispositivos (/device-ws).
+ * Levanta el servidor en un puerto aleatorio con el perfil de pruebas (H2 en memoria, sin servicios externos) y
+ * abre a la vez una conexión por dispositivo con StandardWebSocketClient. Cuando todas están abiertas, cada
+ * dispositivo envía sus tramas de una en una y espera el acuse, como el firmware.
+ * Los repositorios de dispositivos y sensores y el guardado de lecturas se simulan: se mide el handshake,
+ * la decodificación, la autorización, la deduplicación y el envío de acuses, no la base de datos.
+ * La escala se ajusta con -Ddevice-ws.load.devices y -Ddevice-ws.load.frames; cada conexión usa dos descriptores
+ * de archivo (cliente y servidor), por lo que la prueba se omite si el límite del proceso no alcanza.
+ */
+@Slf4j
+@ActiveProfiles("test")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "monitoring.devices.rate-limit.device.requests-per-minute=1000000",
+        "monitoring.devices.rate-limit.device.burst=100000",
+        "monitoring.devices.rate-limit.crop.requests-per-minute=100000000",
+        "monitoring.devices.rate-limit.crop.burst=10000000",
+        "monitoring.devices.rate-limit.unknown-lookup.requests-per-minute=1000000",
+        "monitoring.devices.rate-limit.unknown-lookup.burst=100000"
+})
+class DeviceWebSocketLoadTest {
+
+    private static final int CROP_ID = 5;
+    private static final int SENSORS_PER_FRAME = 3;
+    private static final String API_KEY = DeviceApiKeys.generate();
+    private static final int DEVICES = Integer.getInteger("device-ws.load.devices", 2_000);
+    private static final int FRAMES_PER_DEVICE = Integer.getInteger("device-ws.load.frames", 20);
+    private static final long TIMEOUT_SECONDS = 30;
+    // Descriptores de archivo que no son conexiones (JARs, registros, H2)
+    private static final long RESERVED_FILE_DESCRIPTORS = 512;
+
+    @LocalServerPort
+    private int port;
+
+    @MockitoBean
+    private DeviceDomainRepository deviceRepository;
+
+    @MockitoBean
+    private SensorDomainRepository sensorRepository;
+
+    @MockitoBean
+    private ReadingDomainService readingDomainService;
+
+    @BeforeEach
+    void stubRepositories() {
+        String apiKeyHash = DeviceApiKeys.hashHex(API_KEY);
+        when(deviceRepository.findById(anyInt())).thenAnswer(invocation -> Optional.of(DeviceDomain.builder()
+                .id(invocation.getArgument(0))
+                .cropId(CROP_ID)
+                .apiKeyHash(apiKeyHash)
+                .active(true)
+                .build()));
+        when(sensorRepository.getThresholdsByCropId(anyInt())).thenReturn(List.of());
+        when(readingDomainService.processDeviceFrame(any())).thenAnswer(invocation -> {
+            DeviceFrame frame = invocation.getArgument(0);
+            List<ReadingDomain> readings = new ArrayList<>(frame.size());
+            for (int i = 0; i < frame.size(); i++) {
+                readings.add(ReadingDomain.builder().build());
+            }
+            return readings;
+        });
+    }
+
+    @Test
+    void acknowledgesEveryFrameFromThousandsOfConcurrentDevices() throws Exception {
+        assumeTrue(maxFileDescriptors() >= 2L * DEVICES + RESERVED_FILE_DESCRIPTORS,
+                "límite de descriptores de archivo insuficiente para " + DEVICES + " conexiones");
+
+        StandardWebSocketClient client = new StandardWebSocketClient();
+        CountDownLatch connected = new CountDownLatch(DEVICES);
+        CountDownLatch start = new CountDownLatch(1);
+
+        long connectStarted = System.nanoTime();
+        long sendStarted;
+        List<long[]> latencies = new ArrayList<>(DEVICES);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<long[]>> devices = new ArrayList<>(DEVICES);
+            for (int deviceId = 1; deviceId <= DEVICES; deviceId++) {
+                int id = deviceId;
+                devices.add(executor.submit(() -> {
+                    Device device = connect(client, id);
+                    try {
+                        connected.countDown();
+                        start.await();
+                        return device.sendFrames(FRAMES_PER_DEVICE);
+                    } finally {
+                        device.session.close();
+                    }
+                }));
+            }
+            try {
+                assertTrue(connected.await(TIMEOUT_SECONDS, TimeUnit.SECONDS), "no se abrieron todas las conexiones");
+                sendStarted = System.nanoTime();
+                log.info("Carga /device-ws: {} conexiones abiertas en {} ms",
+                        DEVICES, TimeUnit.NANOSECONDS.toMillis(sendStarted - connectStarted));
+            } finally {
+                // Si falla la conexión, los dispositivos conectados no deben quedar esperando
+                start.countDown();
+            }
+            for (Future<long[]> device : devices) {
+                latencies.add(device.get(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+            }
+        }
+        long elapsedNanos = System.nanoTime() - sendStarted;
+
+        int frames = DEVICES * FRAMES_PER_DEVICE;
+        verify(readingDomainService, times(frames)).processDeviceFrame(any());
+
+        long[] all = latencies.stream().flatMapToLong(Arrays::stream).sorted().toArray();
+        assertEquals(frames, all.length);
+        log.info("Carga /device-ws: {} dispositivos x {} tramas en {} ms ({} tramas/s); latencia p50={} us, p99={} us, max={} us",
+                DEVICES, FRAMES_PER_DEVICE, TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+                frames * 1_000_000_000L / Math.max(1, elapsedNanos),
+                percentileMicros(all, 0.50), percentileMicros(all, 0.99), percentileMicros(all, 1.0));
+    }
+
+    @Test
+    void acknowledgesAFrameLargerThanTheContainerBuffer() throws Exception {
+        Device device = connect(new StandardWebSocketClient(), DEVICES + 1);
+        try {
+            // 10 000 lecturas ocupan unos 80 KB: el contenedor (búfer de 64 KB) la entrega en partes
+            int readings = 10_000;
+            int[] sensorIds = new int[readings];
+            float[] values = new float[readings];
+            for (int i = 0; i < readings; i++) {
+                sensorIds[i] = i + 1;
+                values[i] = i;
+            }
+            DeviceFrame frame = new DeviceFrame(DEVICES + 1, CROP_ID, 1_740_000_000_000L, sensorIds, values);
+
+            device.session.sendMessage(new BinaryMessage(DeviceFrameCodec.encode(frame)));
+
+            device.expectAck(frame.timestampMillis(), readings);
+            assertTrue(device.session.isOpen());
+        } finally {
+            device.session.close();
+        }
+    }
+
+    private Device connect(StandardWebSocketClient client, int deviceId) throws Exception {
+        WebSocketHttpHeaders headers = new WebSocketHttpHeaders();
+        headers.add(DeviceHandshakeInterceptor.DEVICE_ID_HEADER, String.valueOf(deviceId));
+        headers.add(DeviceIngestionGuard.API_KEY_HEADER, API_KEY);
+
+        AckCollector acks = new AckCollector();
+        URI uri = URI.create("ws://localhost:" + port + "/device-ws");
+        WebSocketSession session = client.execute(acks, headers, uri).get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        return new Device(deviceId, session, acks);
+    }
+
+    private static long percentileMicros(long[] sortedNanos, double percentile) {
+        int index = (int) Math.ceil(percentile * sortedNanos.length) - 1;
+        return TimeUnit.NANOSECONDS.toMicros(sortedNanos[Math.max(0, index)]);
+    }
+
+    private static long maxFileDescriptors() {
+        OperatingSystemMXBean os = ManagementFactory.getOperatingSystemMXBean();
+        return os instanceof UnixOperatingSystemMXBean unix ? unix.getMaxFileDescriptorCount() : Long.MAX_VALUE;
+    }
+
+    /**
+     * Dispositivo simulado con su conexión abierta.
+     */
+    private record Device(int deviceId, WebSocketSession session, AckCollector acks) {
+
+        /**
+         * Envía tramas esperando el acuse de cada una y devuelve las latencias en nanosegundos.
+         */
+        long[] sendFrames(int count) throws Exception {
+            long[] latencies = new long[count];
+            for (int i = 0; i < count; i++) {
+                // Timestamp distinto en cada trama para que el deduplicador no la descarte
+                long timestampMillis = 1_740_000_000_000L + i;
+                long sent = System.nanoTime();
+                session.sendMessage(new BinaryMessage(DeviceFrameCodec.encode(frame(timestampMillis))));
+                expectAck(timestampMillis, SENSORS_PER_FRAME);
+                latencies[i] = System.nanoTime() - sent;
+            }
+            return latencies;
+        }
+
+        void expectAck(long timestampMillis, int readings) throws InterruptedException {
+            byte[] ack = acks.received.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            assertNotNull(ack, "sin acuse para la trama " + timestampMillis + " del dispositivo " + deviceId);
+            ByteBuffer buffer = ByteBuffer.wrap(ack).order(ByteOrder.LITTLE_ENDIAN);
+            assertEquals(DeviceFrameCodec.ACK_OK, ack[2], "estado del acuse del dispositivo " + deviceId);
+            assertEquals(readings, Short.toUnsignedInt(buffer.getShort(3)));
+            assertEquals(timestampMillis, buffer.getLong(5));
+        }
+
+        private DeviceFrame frame(long timestampMillis) {
+            int[] sensorIds = new int[SENSORS_PER_FRAME];
+            float[] values = new float[SENSORS_PER_FRAME];
+            for (int i = 0; i < SENSORS_PER_FRAME; i++) {
+                sensorIds[i] = i + 1;
+                values[i] = 20f + i;
+            }
+            return new DeviceFrame(deviceId, CROP_ID, timestampMillis, sensorIds, values);
+        }
+    }
+
+    /**
+     * Recibe los acuses binarios del servidor; el mensaje de umbrales que llega al conectar se ignora.
+     */
+    private static final class AckCollector extends AbstractWebSocketHandler {
+
+        private final BlockingQueue<byte[]> received = new ArrayBlockingQueue<>(FRAMES_PER_DEVICE + 1);
+
+        @Override
+        protected void handleBinaryMessage(WebSocketSession session, BinaryMessage message) {
+            ByteBuffer payload = message.getPayload();
+            byte[] bytes = new byte[payload.remaining()];
+            payload.get(bytes);
+            received.offer(bytes);
+        }
+
+        @Override
+        protected void handleTextMessage(WebSocketSession session, TextMessage message) {
+            // Configuración de umbrales enviada al conectar
+        }
+    }
+}
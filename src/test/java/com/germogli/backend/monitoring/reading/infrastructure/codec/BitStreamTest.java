@@ -0,0 +1,62 @@
+package com.germogli.backend.monitoring.reading.infrastructure.codec;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.EOFException;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Pruebas de BitWriter y BitReader.
+ */
+class BitStreamTest {
+
+    @Test
+    void writesMostSignificantBitFirstAndPadsLastByte() {
+        BitWriter writer = new BitWriter();
+        writer.writeBit(true);
+        writer.writeBits(0b01, 2);
+        writer.writeBits(0b11111, 5);
+        writer.writeBit(true);
+
+        assertArrayEquals(new byte[]{(byte) 0b1011_1111, (byte) 0b1000_0000}, writer.toByteArray());
+    }
+
+    @Test
+    void roundTripsRandomWidthsAcrossBufferGrowth() {
+        Random random = new Random(43);
+        int count = 2_000;
+        long[] values = new long[count];
+        int[] widths = new int[count];
+        BitWriter writer = new BitWriter();
+        for (int i = 0; i < count; i++) {
+            widths[i] = 1 + random.nextInt(64);
+            values[i] = widths[i] == 64 ? random.nextLong() : random.nextLong() & ((1L << widths[i]) - 1);
+            writer.writeBits(values[i], widths[i]);
+        }
+
+        BitReader reader = new BitReader(writer.toByteArray());
+        for (int i = 0; i < count; i++) {
+            try {
+                assertEquals(values[i], reader.readBits(widths[i]), "valor " + i);
+            } catch (EOFException e) {
+                throw new AssertionError("Fin inesperado en el valor " + i, e);
+            }
+        }
+    }
+
+    @Test
+    void readerFailsPastTheEnd() throws EOFException {
+        BitReader reader = new BitReader(new byte[]{(byte) 0x80});
+        assertTrue(reader.readBit());
+        for (int i = 0; i < 7; i++) {
+            assertFalse(reader.readBit());
+        }
+        assertThrows(EOFException.class, reader::readBit);
+    }
+}
@@ -0,0 +1,121 @@
+package com.germogli.backend.monitoring.reading.infrastructure.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.germogli.backend.monitoring.reading.application.dto.ReadingBatchRequestDTO;
+import com.germogli.backend.monitoring.reading.infrastructure.codec.DeviceFrameCodec.DeviceFrame;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Medición de la trama binaria frente al JSON de ReadingBatchRequestDTO: tamaño y tiempo de decodificación
+ * de un mismo lote, que es lo que cada camino hace antes de guardar las lecturas.
+ * Cada variante se calienta antes de medir y se toma la mejor de varias rondas, para reducir el efecto del JIT y del GC.
+ */
+@Slf4j
+class DeviceFrameCodecBenchmarkTest {
+
+    private static final long TIMESTAMP = 1_740_000_000_123L;
+    private static final int ITERATIONS = 20_000;
+    private static final int WARMUP_ROUNDS = 3;
+    private static final int MEASURED_ROUNDS = 5;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    @Test
+    void binaryFrameIsSmallerAndFasterToDecodeThanJson() throws IOException {
+        Random random = new Random(46);
+        for (int readings : new int[]{3, 64}) {
+            DeviceFrame frame = randomFrame(random, readings);
+            byte[] binary = DeviceFrameCodec.encode(frame);
+            byte[] json = objectMapper.writeValueAsBytes(toRequest(frame));
+
+            // Los dos caminos deben leer las mismas lecturas
+            DeviceFrame decoded = DeviceFrameCodec.decode(binary);
+            ReadingBatchRequestDTO request = objectMapper.readValue(json, ReadingBatchRequestDTO.class);
+            for (int i = 0; i < readings; i++) {
+                assertEquals(decoded.sensorIds()[i], (int) request.getReadings().get(i).getSensorId());
+                assertEquals(decoded.values()[i], request.getReadings().get(i).getValue().floatValue());
+            }
+
+            long binaryNanos = best(() -> DeviceFrameCodec.decode(binary).size());
+            long jsonNanos = best(() -> readJson(json).getReadings().size());
+            log.info("Lote de {} lecturas: binario {} bytes y {} ns/trama, JSON {} bytes y {} ns/trama ({}x)",
+                    readings, binary.length, binaryNanos / ITERATIONS, json.length, jsonNanos / ITERATIONS,
+                    jsonNanos / Math.max(1, binaryNanos));
+
+            assertTrue(binary.length * 3 < json.length, "binario: " + binary.length + " bytes, JSON: " + json.length);
+            assertTrue(binaryNanos < jsonNanos, "la trama binaria no debe decodificarse más lento que el JSON");
+        }
+    }
+
+    /**
+     * Decodifica ITERATIONS veces en varias rondas y devuelve el menor tiempo de una ronda.
+     */
+    private static long best(Supplier<Integer> decode) {
+        long best = Long.MAX_VALUE;
+        long checksum = 0;
+        for (int round = 0; round < WARMUP_ROUNDS + MEASURED_ROUNDS; round++) {
+            long start = System.nanoTime();
+            for (int i = 0; i < ITERATIONS; i++) {
+                checksum += decode.get();
+            }
+            long elapsed = System.nanoTime() - start;
+            if (round >= WARMUP_ROUNDS) {
+                best = Math.min(best, elapsed);
+            }
+        }
+        // Usar el resultado evita que el JIT descarte la decodificación
+        assertTrue(checksum > 0);
+        return best;
+    }
+
+    private ReadingBatchRequestDTO readJson(byte[] json) {
+        try {
+            return objectMapper.readValue(json, ReadingBatchRequestDTO.class);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static DeviceFrame randomFrame(Random random, int readings) {
+        int[] sensorIds = new int[readings];
+        float[] values = new float[readings];
+        for (int i = 0; i < readings; i++) {
+            sensorIds[i] = 100 + i;
+            values[i] = Math.round(random.nextFloat() * 10_000) / 10f;
+        }
+        return new DeviceFrame(12, 34, TIMESTAMP, sensorIds, values);
+    }
+
+    /**
+     * Mismo lote con la forma de ReadingBatchRequestDTO, con los valores como decimales cortos (23.4).
+     */
+    private static ReadingBatchRequestDTO toRequest(DeviceFrame frame) {
+        ReadingBatchRequestDTO request = new ReadingBatchRequestDTO();
+        request.setDeviceId(frame.deviceId());
+        request.setCropId(frame.cropId());
+        request.setTimestamp(LocalDateTime.ofInstant(Instant.ofEpochMilli(frame.timestampMillis()), ZoneOffset.UTC));
+        List<ReadingBatchRequestDTO.ReadingSensorDTO> readings = new ArrayList<>(frame.size());
+        for (int i = 0; i < frame.size(); i++) {
+            ReadingBatchRequestDTO.ReadingSensorDTO reading = new ReadingBatchRequestDTO.ReadingSensorDTO();
+            reading.setSensorId(frame.sensorIds()[i]);
+            reading.setValue(Double.valueOf(Float.toString(frame.values()[i])));
+            readings.add(reading);
+        }
+        request.setReadings(readings);
+        return request;
+    }
+}
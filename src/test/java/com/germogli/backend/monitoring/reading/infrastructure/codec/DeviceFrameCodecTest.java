@@ -0,0 +1,145 @@
+package com.germogli.backend.monitoring.reading.infrastructure.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.germogli.backend.common.exception.InvalidPayloadException;
+import com.germogli.backend.monitoring.reading.infrastructure.codec.DeviceFrameCodec.DeviceFrame;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Pruebas de la trama binaria de lecturas de dispositivos.
+ */
+class DeviceFrameCodecTest {
+
+    private static final long TIMESTAMP = 1_740_000_000_123L;
+
+    @Test
+    void roundTripsAFrame() {
+        DeviceFrame frame = new DeviceFrame(12, 34, TIMESTAMP, new int[]{1, 2, 3}, new float[]{23.4f, 61.0f, -0.5f});
+
+        DeviceFrame decoded = DeviceFrameCodec.decode(DeviceFrameCodec.encode(frame));
+
+        assertEquals(12, decoded.deviceId());
+        assertEquals(34, decoded.cropId());
+        assertEquals(TIMESTAMP, decoded.timestampMillis());
+        assertArrayEquals(frame.sensorIds(), decoded.sensorIds());
+        assertArrayEquals(frame.values(), decoded.values());
+    }
+
+    @Test
+    void roundTripsRandomFramesUpToTheMaximumSize() {
+        Random random = new Random(46);
+        for (int size : new int[]{1, 2, 255, 256, DeviceFrameCodec.MAX_READINGS}) {
+            int[] sensorIds = new int[size];
+            float[] values = new float[size];
+            for (int i = 0; i < size; i++) {
+                sensorIds[i] = 1 + random.nextInt(Integer.MAX_VALUE);
+                values[i] = (random.nextFloat() - 0.5f) * 1e6f;
+            }
+            DeviceFrame frame = new DeviceFrame(1 + random.nextInt(1000), 1 + random.nextInt(1000), random.nextLong(), sensorIds, values);
+
+            byte[] encoded = DeviceFrameCodec.encode(frame);
+            DeviceFrame decoded = DeviceFrameCodec.decode(encoded);
+
+            assertEquals(DeviceFrameCodec.HEADER_SIZE + size * DeviceFrameCodec.READING_SIZE, encoded.length);
+            assertEquals(frame.timestampMillis(), decoded.timestampMillis());
+            assertArrayEquals(sensorIds, decoded.sensorIds());
+            assertArrayEquals(values, decoded.values());
+        }
+    }
+
+    @Test
+    void layoutIsLittleEndian() {
+        byte[] encoded = DeviceFrameCodec.encode(new DeviceFrame(0x01020304, 5, TIMESTAMP, new int[]{7}, new float[]{1.5f}));
+        ByteBuffer buffer = ByteBuffer.wrap(encoded).order(ByteOrder.LITTLE_ENDIAN);
+
+        assertEquals('G', encoded[0]);
+        assertEquals('F', encoded[1]);
+        assertEquals(1, encoded[2]);
+        assertEquals(0x04, encoded[4]);
+        assertEquals(0x01020304, buffer.getInt(4));
+        assertEquals(5, buffer.getInt(8));
+        assertEquals(TIMESTAMP, buffer.getLong(12));
+        assertEquals(1, buffer.getShort(20));
+        assertEquals(7, buffer.getInt(22));
+        assertEquals(1.5f, buffer.getFloat(26));
+    }
+
+    @Test
+    void isMuchSmallerThanTheEquivalentJsonBatch() throws Exception {
+        DeviceFrame frame = new DeviceFrame(12, 34, TIMESTAMP, new int[]{101, 102, 103}, new float[]{23.4f, 61.0f, 812.0f});
+        // Mismo lote con la forma de ReadingBatchRequestDTO
+        String json = new ObjectMapper().writeValueAsString(Map.of(
+                "deviceId", 12,
+                "cropId", 34,
+                "timestamp", "2025-02-19T21:20:00.123",
+                "readings", List.of(
+                        Map.of("sensorId", 101, "value", 23.4),
+                        Map.of("sensorId", 102, "value", 61.0),
+                        Map.of("sensorId", 103, "value", 812.0))));
+
+        byte[] encoded = DeviceFrameCodec.encode(frame);
+
+        assertEquals(46, encoded.length);
+        assertTrue(encoded.length * 3 < json.length(), "binario: " + encoded.length + " bytes, JSON: " + json.length());
+    }
+
+    @Test
+    void rejectsInvalidFrames() {
+        byte[] valid = DeviceFrameCodec.encode(new DeviceFrame(1, 2, TIMESTAMP, new int[]{3, 4}, new float[]{1f, 2f}));
+
+        assertInvalid(null);
+        assertInvalid(Arrays.copyOf(valid, DeviceFrameCodec.HEADER_SIZE - 1));
+        assertInvalid(Arrays.copyOf(valid, valid.length - 1));
+        assertInvalid(Arrays.copyOf(valid, valid.length + DeviceFrameCodec.READING_SIZE));
+        assertInvalid(with(valid, 0, (byte) 'X'));
+        assertInvalid(with(valid, 2, (byte) 2));
+        assertInvalid(with(with(valid, 20, (byte) 0), 21, (byte) 0));
+
+        byte[] nan = valid.clone();
+        ByteBuffer.wrap(nan).order(ByteOrder.LITTLE_ENDIAN).putFloat(DeviceFrameCodec.HEADER_SIZE + 4, Float.NaN);
+        assertInvalid(nan);
+
+        byte[] noDevice = valid.clone();
+        ByteBuffer.wrap(noDevice).order(ByteOrder.LITTLE_ENDIAN).putInt(4, 0);
+        assertInvalid(noDevice);
+    }
+
+    @Test
+    void encodesAcknowledgements() {
+        byte[] ack = DeviceFrameCodec.encodeAck(DeviceFrameCodec.ACK_RATE_LIMITED, 70_000, TIMESTAMP);
+        ByteBuffer buffer = ByteBuffer.wrap(ack).order(ByteOrder.LITTLE_ENDIAN);
+
+        assertEquals(DeviceFrameCodec.ACK_SIZE, ack.length);
+        assertEquals('G', ack[0]);
+        assertEquals('A', ack[1]);
+        assertEquals(DeviceFrameCodec.ACK_RATE_LIMITED, ack[2]);
+        // El valor se limita a uint16
+        assertEquals(DeviceFrameCodec.MAX_READINGS, Short.toUnsignedInt(buffer.getShort(3)));
+        assertEquals(TIMESTAMP, buffer.getLong(5));
+        // Un acuse no se confunde con una trama de lecturas
+        assertFalse(DeviceFrameCodec.hasMagic(ack));
+    }
+
+    private static void assertInvalid(byte[] frame) {
+        assertThrows(InvalidPayloadException.class, () -> DeviceFrameCodec.decode(frame));
+    }
+
+    private static byte[] with(byte[] bytes, int index, byte value) {
+        byte[] copy = bytes.clone();
+        copy[index] = value;
+        return copy;
+    }
+}
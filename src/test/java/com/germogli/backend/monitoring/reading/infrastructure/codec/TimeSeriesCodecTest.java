@@ -0,0 +1,222 @@
+package com.germogli.backend.monitoring.reading.infrastructure.codec;
+
+import com.germogli.backend.monitoring.reading.domain.model.ReadingDomain;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Pruebas de ida y vuelta de TimeSeriesCodec y del salto de bloques por sensor y rango de fechas.
+ */
+class TimeSeriesCodecTest {
+
+    private static final int CROP_ID = 7;
+    private static final LocalDateTime START = LocalDateTime.of(2025, 3, 1, 0, 0);
+
+    @Test
+    void regularSeriesUsesOneBitPerTimestamp() throws IOException {
+        List<ReadingDomain> readings = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            readings.add(reading(1, START.plusMinutes(i), "21.50"));
+        }
+
+        byte[] encoded = TimeSeriesCodec.encode(readings);
+
+        assertRoundTrip(readings, encoded);
+        // Fecha y valor sin cambios: 2 bits por punto más cabeceras
+        assertTrue(encoded.length < 300, "tamaño codificado: " + encoded.length);
+    }
+
+    @Test
+    void negativeDeltaOfDelta() throws IOException {
+        // Intervalos decrecientes: 600, 300, 60, 1 y de nuevo 60 segundos
+        LocalDateTime date = START;
+        List<ReadingDomain> readings = new ArrayList<>();
+        readings.add(reading(1, date, "10.00"));
+        for (int interval : new int[]{600, 300, 60, 1, 60, 59, 61}) {
+            date = date.plusSeconds(interval);
+            readings.add(reading(1, date, "10.25"));
+        }
+
+        assertRoundTrip(readings, TimeSeriesCodec.encode(readings));
+    }
+
+    @Test
+    void largeGapsUseTheSixtyFourBitEscape() throws IOException {
+        // Saltos cuyo delta de deltas no cabe en 12 bits, hacia adelante y de vuelta al intervalo normal
+        List<ReadingDomain> readings = new ArrayList<>();
+        readings.add(reading(1, START, "1.00"));
+        readings.add(reading(1, START.plusSeconds(60), "1.10"));
+        readings.add(reading(1, START.plusDays(30), "1.20"));
+        readings.add(reading(1, START.plusDays(30).plusSeconds(60), "1.30"));
+        readings.add(reading(1, START.plusYears(5), "1.40"));
+        readings.add(reading(1, START.plusYears(5).plusSeconds(1), "1.50"));
+
+        assertRoundTrip(readings, TimeSeriesCodec.encode(readings));
+    }
+
+    @Test
+    void xorWithMoreThanThirtyOneLeadingZerosIsClamped() throws IOException {
+        // Valores grandes que difieren en un centésimo: el XOR de sus bits tiene más de 31 ceros a la izquierda,
+        // más de lo que caben en los 5 bits del campo, y el codificador debe limitarlo a 31
+        BigDecimal base = new BigDecimal("1000000.01");
+        BigDecimal next = new BigDecimal("1000000.02");
+        long xor = Double.doubleToLongBits(base.doubleValue()) ^ Double.doubleToLongBits(next.doubleValue());
+        assertTrue(Long.numberOfLeadingZeros(xor) > 31, "la prueba requiere un XOR con más de 31 ceros a la izquierda");
+
+        List<ReadingDomain> readings = new ArrayList<>();
+        String[] values = {"1000000.01", "1000000.02", "1000000.03", "1000000.02", "-5.00", "1000000.01"};
+        for (int i = 0; i < values.length; i++) {
+            readings.add(reading(1, START.plusMinutes(i), values[i]));
+        }
+
+        assertRoundTrip(readings, TimeSeriesCodec.encode(readings));
+    }
+
+    @Test
+    void blocksSplitAtMaxPointsPerBlock() throws IOException {
+        int max = TimeSeriesCodec.MAX_POINTS_PER_BLOCK;
+        for (int size : new int[]{1, max - 1, max, max + 1, 2 * max, 2 * max + 1}) {
+            List<ReadingDomain> readings = new ArrayList<>();
+            for (int i = 0; i < size; i++) {
+                readings.add(reading(3, START.plusSeconds(30L * i), BigDecimal.valueOf(i % 97, 1).toPlainString()));
+            }
+
+            byte[] encoded = TimeSeriesCodec.encode(readings);
+
+            assertEquals((size + max - 1) / max, blockCount(encoded), "bloques para " + size + " puntos");
+            assertRoundTrip(readings, encoded);
+        }
+    }
+
+    @Test
+    void rangeReadsAcrossBlockBoundaries() throws IOException {
+        int max = TimeSeriesCodec.MAX_POINTS_PER_BLOCK;
+        List<ReadingDomain> readings = new ArrayList<>();
+        for (int i = 0; i < 3 * max; i++) {
+            readings.add(reading(1, START.plusMinutes(i), BigDecimal.valueOf(i, 2).toPlainString()));
+            readings.add(reading(2, START.plusMinutes(i), BigDecimal.valueOf(-i, 2).toPlainString()));
+        }
+        byte[] encoded = TimeSeriesCodec.encode(readings);
+
+        // Primer punto del segundo bloque, último del primero, un rango que cruza el límite y uno fuera de la serie
+        assertRange(readings, encoded, 1, START.plusMinutes(max), START.plusMinutes(max));
+        assertRange(readings, encoded, 1, START.plusMinutes(max - 1), START.plusMinutes(max - 1));
+        assertRange(readings, encoded, 2, START.plusMinutes(max - 10), START.plusMinutes(2L * max + 10));
+        assertRange(readings, encoded, 2, START.plusSeconds(30), START.plusSeconds(90));
+        assertRange(readings, encoded, 1, START.minusDays(1), START.minusSeconds(1));
+        assertRange(readings, encoded, 9, START, START.plusDays(10));
+    }
+
+    @Test
+    void randomSeriesRoundTrip() throws IOException {
+        Random random = new Random(20250301L);
+        for (int run = 0; run < 300; run++) {
+            List<ReadingDomain> readings = new ArrayList<>();
+            int sensors = 1 + random.nextInt(4);
+            for (int sensor = 1; sensor <= sensors; sensor++) {
+                LocalDateTime date = START.plusSeconds(random.nextInt(86_400));
+                long value = random.nextInt(200_000) - 100_000;
+                int points = 1 + random.nextInt(random.nextInt(10) == 0 ? 2_500 : 200);
+                for (int i = 0; i < points; i++) {
+                    readings.add(reading(sensor, date, BigDecimal.valueOf(value, 2).toPlainString()));
+                    date = date.plusSeconds(nextInterval(random));
+                    value = nextValue(random, value);
+                }
+            }
+            Collections.shuffle(readings, random);
+            byte[] encoded = TimeSeriesCodec.encode(readings);
+
+            assertRoundTrip(readings, encoded);
+
+            int sensorId = 1 + random.nextInt(sensors);
+            LocalDateTime from = START.plusSeconds(random.nextInt(200_000));
+            assertRange(readings, encoded, sensorId, from, from.plusSeconds(random.nextInt(50_000)));
+        }
+    }
+
+    @Test
+    void rejectsUnknownHeader() {
+        byte[] content = {'X', 'Y', 'Z', 1, 0, 0, 0, 0};
+        assertThrows(IOException.class, () -> TimeSeriesCodec.read(new ByteArrayInputStream(content), CROP_ID));
+    }
+
+    private static long nextInterval(Random random) {
+        return switch (random.nextInt(10)) {
+            case 0 -> 0;                                  // fecha repetida
+            case 1 -> 1 + random.nextInt(5_000);          // delta de deltas de 12 bits o más
+            case 2 -> 86_400L * (1 + random.nextInt(400)); // hueco que requiere 64 bits
+            default -> 60 + random.nextInt(3) - 1;        // intervalo regular con jitter
+        };
+    }
+
+    private static long nextValue(Random random, long value) {
+        return switch (random.nextInt(6)) {
+            case 0 -> value;
+            case 1 -> random.nextLong(-1_000_000_000L, 1_000_000_000L);
+            default -> value + random.nextInt(21) - 10;
+        };
+    }
+
+    private static ReadingDomain reading(int sensorId, LocalDateTime date, String value) {
+        return ReadingDomain.builder()
+                .cropId(CROP_ID)
+                .sensorId(sensorId)
+                .readingDate(date)
+                .readingValue(new BigDecimal(value).setScale(2, RoundingMode.HALF_UP))
+                .build();
+    }
+
+    private static void assertRoundTrip(List<ReadingDomain> expected, byte[] encoded) throws IOException {
+        List<ReadingDomain> decoded = TimeSeriesCodec.read(new ByteArrayInputStream(encoded), CROP_ID);
+        assertSameReadings(sorted(expected), decoded);
+    }
+
+    private static void assertRange(List<ReadingDomain> readings, byte[] encoded, int sensorId,
+                                    LocalDateTime from, LocalDateTime to) throws IOException {
+        List<ReadingDomain> expected = sorted(readings).stream()
+                .filter(reading -> reading.getSensorId() == sensorId)
+                .filter(reading -> !reading.getReadingDate().isBefore(from) && !reading.getReadingDate().isAfter(to))
+                .toList();
+        List<ReadingDomain> decoded = TimeSeriesCodec.read(new ByteArrayInputStream(encoded), CROP_ID, sensorId, from, to);
+        assertSameReadings(expected, decoded);
+    }
+
+    private static void assertSameReadings(List<ReadingDomain> expected, List<ReadingDomain> actual) {
+        assertEquals(expected.size(), actual.size(), "cantidad de lecturas");
+        for (int i = 0; i < expected.size(); i++) {
+            ReadingDomain e = expected.get(i);
+            ReadingDomain a = actual.get(i);
+            assertEquals(e.getSensorId(), a.getSensorId(), "sensor en " + i);
+            assertEquals(e.getReadingDate(), a.getReadingDate(), "fecha en " + i);
+            assertEquals(e.getReadingValue(), a.getReadingValue(), "valor en " + i);
+            assertEquals(CROP_ID, a.getCropId().intValue(), "cultivo en " + i);
+        }
+    }
+
+    // Mismo orden que el codificador: por sensor y, dentro de cada sensor, por fecha (orden estable)
+    private static List<ReadingDomain> sorted(List<ReadingDomain> readings) {
+        List<ReadingDomain> copy = new ArrayList<>(readings);
+        copy.sort(Comparator.comparing(ReadingDomain::getSensorId).thenComparing(ReadingDomain::getReadingDate));
+        return copy;
+    }
+
+    private static int blockCount(byte[] encoded) {
+        // Cabecera: "GTS", versión y cantidad de bloques
+        return ByteBuffer.wrap(encoded, 4, 4).getInt();
+    }
+}